@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.client;
+
+import io.gravitee.am.benchmarks.token.InMemoryClientSyncService;
+import io.gravitee.am.gateway.handler.vertx.auth.provider.ClientAuthenticationProvider;
+import io.gravitee.am.model.Client;
+import io.gravitee.am.service.authentication.crypto.password.ClientSecretEncoder;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoderScheduler;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the authentication of a client by its credentials, as done for a client_credentials token request,
+ * with a plain or a BCrypt stored secret, through the verification cache of {@link ClientAuthenticationProvider}
+ * or with a new provider (hence an empty cache) for each request.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ClientAuthenticationBenchmark {
+
+    private static final String CLIENT_ID = "benchmark-client";
+    private static final String CLIENT_SECRET = "benchmark-client-secret";
+
+    @Param({ClientSecretEncoder.NONE, ClientSecretEncoder.BCRYPT})
+    private String encoding;
+
+    @Param({"true", "false"})
+    private boolean cached;
+
+    private InMemoryClientSyncService clientSyncService;
+
+    private ClientSecretEncoder clientSecretEncoder;
+
+    private PasswordEncoderScheduler passwordEncoderScheduler;
+
+    private ClientAuthenticationProvider authProvider;
+
+    private JsonObject credentials;
+
+    private JsonObject wrongCredentials;
+
+    @Setup
+    public void setUp() {
+        clientSecretEncoder = new ClientSecretEncoder(encoding);
+        passwordEncoderScheduler = new PasswordEncoderScheduler(Runtime.getRuntime().availableProcessors(), PasswordEncoderScheduler.DEFAULT_QUEUE_SIZE);
+
+        Client client = new Client();
+        client.setId(CLIENT_ID);
+        client.setClientId(CLIENT_ID);
+        client.setClientSecret(clientSecretEncoder.encode(CLIENT_SECRET));
+        clientSyncService = new InMemoryClientSyncService();
+        clientSyncService.addDynamicClientRegistred(client);
+
+        authProvider = new ClientAuthenticationProvider(clientSyncService, clientSecretEncoder, passwordEncoderScheduler);
+        credentials = new JsonObject().put("username", CLIENT_ID).put("password", CLIENT_SECRET);
+        wrongCredentials = new JsonObject().put("username", CLIENT_ID).put("password", "wrong-" + CLIENT_SECRET);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordEncoderScheduler.shutdown();
+    }
+
+    @Benchmark
+    public boolean authenticate() throws Exception {
+        return authenticate(credentials);
+    }
+
+    @Benchmark
+    public boolean authenticateWrongSecret() throws Exception {
+        return authenticate(wrongCredentials);
+    }
+
+    private boolean authenticate(JsonObject credentials) throws Exception {
+        ClientAuthenticationProvider provider = cached ? authProvider :
+                new ClientAuthenticationProvider(clientSyncService, clientSecretEncoder, passwordEncoderScheduler);
+        CompletableFuture<Boolean> authenticated = new CompletableFuture<>();
+        provider.authenticate(credentials, authResult -> authenticated.complete(authResult.succeeded()));
+        return authenticated.get();
+    }
+}
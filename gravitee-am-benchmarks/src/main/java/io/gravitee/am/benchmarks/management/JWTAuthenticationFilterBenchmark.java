@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.management;
+
+import io.gravitee.am.management.handlers.management.api.spring.security.filter.JWTAuthenticationFilter;
+import io.gravitee.common.http.HttpHeaders;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Proxy;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the authentication of a management API call by its session JWT: verification of the token with a
+ * parser built per request (former behaviour), with a shared parser, and through {@link JWTAuthenticationFilter}
+ * which skips the verification of the tokens already seen.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JWTAuthenticationFilterBenchmark {
+
+    // default value of the jwt.secret property
+    private static final String SECRET = "s3cR3t4grAv1t3310AMS1g1ingDftK3y";
+
+    private AnnotationConfigApplicationContext context;
+
+    private JWTAuthenticationFilter filter;
+
+    private Key key;
+
+    private JwtParser jwtParser;
+
+    private String token;
+
+    private HttpServletRequest request;
+
+    private HttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(JWTAuthenticationFilter.class, () -> new JWTAuthenticationFilter(new AntPathRequestMatcher("/**")));
+        context.refresh();
+        filter = context.getBean(JWTAuthenticationFilter.class);
+
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        jwtParser = Jwts.parser().setSigningKey(key);
+        token = Jwts.builder()
+                .setSubject("admin")
+                .claim("firstname", "Administrator")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(key)
+                .compact();
+
+        String authorization = "Bearer " + token;
+        request = (HttpServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] { HttpServletRequest.class },
+                (proxy, method, args) -> "getHeader".equals(method.getName()) && HttpHeaders.AUTHORIZATION.equals(args[0]) ? authorization : null);
+        response = (HttpServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] { HttpServletResponse.class },
+                (proxy, method, args) -> null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Claims parserPerRequest() {
+        return Jwts.parser().setSigningKey(key).parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Authentication filter() {
+        return filter.attemptAuthentication(request, response);
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.password;
+
+import io.gravitee.am.identityprovider.ldap.authentication.encoding.Base64Encoder;
+import io.gravitee.am.identityprovider.ldap.authentication.encoding.MD5PasswordEncoder;
+import io.gravitee.am.identityprovider.ldap.authentication.encoding.PasswordEncoder;
+import io.gravitee.am.identityprovider.ldap.authentication.encoding.SHAMD5PasswordEncoder;
+import io.gravitee.am.identityprovider.ldap.authentication.encoding.SHAPasswordEncoder;
+import org.ldaptive.Credential;
+import org.ldaptive.LdapException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the message digest password encoders used by the LDAP identity provider for password comparison.
+ * The algorithms are the values of the LDAP identity provider <code>passwordAlgorithm</code> setting.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LdapPasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "Gr4v1t33-P@ssw0rd";
+
+    @Param({"MD5", "SHA", "SHA-256", "SHA-384", "SHA-512", "SHA+MD5", "SHA-256+MD5"})
+    private String passwordAlgorithm;
+
+    private PasswordEncoder passwordEncoder;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = passwordEncoder(passwordAlgorithm);
+    }
+
+    @Benchmark
+    public byte[] digestCredential() throws LdapException {
+        return passwordEncoder.digestCredential(new Credential(PASSWORD));
+    }
+
+    /**
+     * Same selection as the LDAP identity provider configuration.
+     */
+    private static PasswordEncoder passwordEncoder(String passwordAlgorithm) {
+        if ("MD5".equals(passwordAlgorithm)) {
+            return new MD5PasswordEncoder();
+        }
+        if ("SHA".equals(passwordAlgorithm)) {
+            return new SHAPasswordEncoder();
+        }
+        if (passwordAlgorithm.endsWith("+MD5")) {
+            SHAMD5PasswordEncoder passwordEncoder = new SHAMD5PasswordEncoder();
+            String[] strengthParts = passwordAlgorithm.split("\\+")[0].split("-");
+            if (strengthParts.length == 2) {
+                passwordEncoder.setStrength(Integer.valueOf(strengthParts[1]));
+            }
+            passwordEncoder.setBinaryToTextEncoder(new Base64Encoder());
+            return passwordEncoder;
+        }
+        return new SHAPasswordEncoder(Integer.valueOf(passwordAlgorithm.split("-")[1]));
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.token;
+
+import io.gravitee.am.common.oauth2.GrantType;
+import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
+import io.gravitee.am.gateway.handler.oauth2.request.OAuth2Request;
+import io.gravitee.am.gateway.handler.oauth2.request.TokenRequest;
+import io.gravitee.am.gateway.handler.oauth2.utils.OAuth2Constants;
+import io.gravitee.am.model.Client;
+import io.gravitee.am.model.User;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * Domain token services and the requests of the client_credentials, password and authorization_code grants, shared
+ * by the token benchmarks.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractTokenBenchmark {
+
+    private static final String DOMAIN = "benchmark-domain";
+    private static final String CLIENT_ID = "benchmark-client";
+    private static final String CERTIFICATE_ID = "benchmark-certificate";
+
+    @Param({InMemoryCertificateManager.HMAC, InMemoryCertificateManager.RSA})
+    protected String signature;
+
+    protected AnnotationConfigApplicationContext context;
+
+    protected Client client;
+
+    protected User user;
+
+    protected OAuth2Request clientCredentialsRequest;
+
+    protected OAuth2Request passwordRequest;
+
+    protected OAuth2Request authorizationCodeRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(
+                new MapPropertySource("benchmark", Collections.singletonMap(TokenServicesConfiguration.SIGNATURE_PROPERTY, signature)));
+        context.register(TokenServicesConfiguration.class);
+        context.refresh();
+
+        client = new Client();
+        client.setId(CLIENT_ID);
+        client.setClientId(CLIENT_ID);
+        client.setDomain(DOMAIN);
+        client.setCertificate(CERTIFICATE_ID);
+        client.setAuthorizedGrantTypes(Arrays.asList(GrantType.CLIENT_CREDENTIALS, GrantType.PASSWORD, GrantType.AUTHORIZATION_CODE, GrantType.REFRESH_TOKEN));
+        context.getBean(ClientSyncService.class).addDynamicClientRegistred(client);
+
+        Map<String, Object> additionalInformation = new HashMap<>();
+        additionalInformation.put("sub", "benchmark-user");
+        additionalInformation.put("name", "John Doe");
+        additionalInformation.put("given_name", "John");
+        additionalInformation.put("family_name", "Doe");
+        additionalInformation.put("preferred_username", "jdoe");
+        additionalInformation.put("email", "john.doe@gravitee.io");
+        additionalInformation.put("email_verified", true);
+
+        user = new User();
+        user.setId("benchmark-user");
+        user.setUsername("jdoe");
+        user.setDomain(DOMAIN);
+        user.setLoggedAt(new Date());
+        user.setAdditionalInformation(additionalInformation);
+
+        clientCredentialsRequest = createOAuth2Request(GrantType.CLIENT_CREDENTIALS, null, false, "read", "write");
+        passwordRequest = createOAuth2Request(GrantType.PASSWORD, user, true, "read", "write");
+        authorizationCodeRequest = createOAuth2Request(GrantType.AUTHORIZATION_CODE, user, true, "openid", "profile", "email");
+        authorizationCodeRequest.getRequestParameters().add(OAuth2Constants.CODE, "benchmark-code");
+        authorizationCodeRequest.getRequestParameters().add(OAuth2Constants.REDIRECT_URI, "https://app.gravitee.io/callback");
+
+        init();
+    }
+
+    /**
+     * Look up the benchmarked services once the domain context is started.
+     */
+    protected abstract void init();
+
+    @TearDown(Level.Iteration)
+    public void clearTokens() {
+        context.getBean(InMemoryAccessTokenRepository.class).clear();
+        context.getBean(InMemoryRefreshTokenRepository.class).clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Same request as the one built by the token granters.
+     */
+    private OAuth2Request createOAuth2Request(String grantType, User endUser, boolean supportRefreshToken, String... scopes) {
+        TokenRequest tokenRequest = new TokenRequest();
+        tokenRequest.setGrantType(grantType);
+        tokenRequest.setClientId(CLIENT_ID);
+        tokenRequest.setScopes(new HashSet<>(Arrays.asList(scopes)));
+        tokenRequest.setOrigin("https://am.gravitee.io");
+
+        OAuth2Request oAuth2Request = tokenRequest.createOAuth2Request();
+        if (endUser != null) {
+            oAuth2Request.setSubject(endUser.getId());
+        }
+        oAuth2Request.setSupportRefreshToken(supportRefreshToken);
+        return oAuth2Request;
+    }
+}
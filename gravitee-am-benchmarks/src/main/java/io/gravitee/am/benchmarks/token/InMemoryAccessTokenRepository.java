@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.token;
+
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.gravitee.am.repository.oauth2.model.ClientTokenCount;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * {@link AccessTokenRepository} backed by a map, so that token issuance can be measured without a database.
+ *
+ * @author GraviteeSource Team
+ */
+public class InMemoryAccessTokenRepository implements AccessTokenRepository {
+
+    private final ConcurrentMap<String, AccessToken> accessTokens = new ConcurrentHashMap<>();
+
+    @Override
+    public Maybe<AccessToken> findByToken(String token) {
+        AccessToken accessToken = accessTokens.get(token);
+        return accessToken == null ? Maybe.empty() : Maybe.just(accessToken);
+    }
+
+    @Override
+    public Single<AccessToken> create(AccessToken accessToken) {
+        accessTokens.put(accessToken.getToken(), accessToken);
+        return Single.just(accessToken);
+    }
+
+    @Override
+    public Completable delete(String token) {
+        accessTokens.remove(token);
+        return Completable.complete();
+    }
+
+    @Override
+    public Observable<AccessToken> findByClientIdAndSubject(String clientId, String subject) {
+        return Observable.fromIterable(accessTokens.values())
+                .filter(accessToken -> clientId.equals(accessToken.getClient()) && subject.equals(accessToken.getSubject()));
+    }
+
+    @Override
+    public Observable<AccessToken> findByClientId(String clientId) {
+        return Observable.fromIterable(accessTokens.values())
+                .filter(accessToken -> clientId.equals(accessToken.getClient()));
+    }
+
+    @Override
+    public Observable<AccessToken> findByAuthorizationCode(String authorizationCode) {
+        return Observable.fromIterable(accessTokens.values())
+                .filter(accessToken -> authorizationCode.equals(accessToken.getAuthorizationCode()));
+    }
+
+    @Override
+    public Single<Long> countByClientId(String clientId) {
+        return findByClientId(clientId).count();
+    }
+
+    @Override
+    public Single<Long> countByDomain(String domain) {
+        return Observable.fromIterable(accessTokens.values())
+                .filter(accessToken -> domain.equals(accessToken.getDomain()))
+                .count();
+    }
+
+    @Override
+    public Single<Long> count() {
+        return Single.just((long) accessTokens.size());
+    }
+
+    @Override
+    public Observable<ClientTokenCount> countGroupByClient(String domain, int limit) {
+        Map<List<String>, Long> countByClient = accessTokens.values()
+                .stream()
+                .filter(accessToken -> domain == null || domain.equals(accessToken.getDomain()))
+                .collect(Collectors.groupingBy(accessToken -> Arrays.asList(accessToken.getDomain(), accessToken.getClient()), Collectors.counting()));
+        return Observable.fromIterable(countByClient.entrySet())
+                .sorted(Map.Entry.<List<String>, Long>comparingByValue().reversed())
+                .take(limit)
+                .map(entry -> new ClientTokenCount(entry.getKey().get(0), entry.getKey().get(1), entry.getValue()));
+    }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        accessTokens.values().removeIf(accessToken -> domain.equals(accessToken.getDomain()));
+        return Completable.complete();
+    }
+
+    @Override
+    public Completable deleteByAuthorizationCode(String authorizationCode) {
+        accessTokens.values().removeIf(accessToken -> authorizationCode.equals(accessToken.getAuthorizationCode()));
+        return Completable.complete();
+    }
+
+    @Override
+    public Completable deleteByDomainAndSubject(String domain, String subject) {
+        accessTokens.values().removeIf(accessToken -> domain.equals(accessToken.getDomain()) && subject.equals(accessToken.getSubject()));
+        return Completable.complete();
+    }
+
+    @Override
+    public Completable deleteByDomainClientAndSubject(String domain, String clientId, String subject) {
+        accessTokens.values().removeIf(accessToken -> domain.equals(accessToken.getDomain()) && clientId.equals(accessToken.getClient()) && subject.equals(accessToken.getSubject()));
+        return Completable.complete();
+    }
+
+    @Override
+    public Single<Long> removeDuplicates() {
+        // tokens are keyed by their value
+        return Single.just(0L);
+    }
+
+    /**
+     * Forget all the stored tokens, to keep the memory footprint stable between measurement iterations.
+     */
+    public void clear() {
+        accessTokens.clear();
+    }
+}
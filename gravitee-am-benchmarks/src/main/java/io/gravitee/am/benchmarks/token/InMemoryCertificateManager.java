@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.token;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.certificate.api.CertificateMetadata;
+import io.gravitee.am.certificate.api.DefaultKey;
+import io.gravitee.am.certificate.api.Key;
+import io.gravitee.am.gateway.handler.certificate.CertificateManager;
+import io.gravitee.am.gateway.handler.certificate.CertificateProvider;
+import io.gravitee.am.gateway.handler.jwt.impl.JJwtBuilder;
+import io.gravitee.am.gateway.handler.jwt.impl.JJwtParser;
+import io.gravitee.am.model.jose.JWK;
+import io.gravitee.common.service.AbstractService;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.JacksonDeserializer;
+import io.jsonwebtoken.io.JacksonSerializer;
+import io.jsonwebtoken.security.Keys;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * {@link CertificateManager} holding a single certificate provider, signing with an HMAC secret (as the domain
+ * default certificate) or with a RSA key pair (as the RSA certificate plugins).
+ *
+ * @author GraviteeSource Team
+ */
+public class InMemoryCertificateManager extends AbstractService implements CertificateManager {
+
+    public static final String HMAC = "HMAC";
+    public static final String RSA = "RSA";
+
+    private static final String SIGNING_KEY_ID = "benchmark-key";
+    private static final String HMAC_SECRET = "s3cR3t4grAv1t3310AMS1g1ingDftK3y";
+    private static final int RSA_KEY_SIZE = 2048;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final CertificateProvider certificateProvider;
+
+    public InMemoryCertificateManager(String signature, ObjectMapper objectMapper) throws NoSuchAlgorithmException {
+        this.certificateProvider = create(createKey(signature), objectMapper);
+    }
+
+    @Override
+    public Maybe<CertificateProvider> get(String id) {
+        return id == null ? Maybe.empty() : Maybe.just(certificateProvider);
+    }
+
+    @Override
+    public Maybe<CertificateProvider> findByDomainAndId(String domain, String id) {
+        return get(id);
+    }
+
+    @Override
+    public Collection<CertificateProvider> providers() {
+        return Collections.singletonList(certificateProvider);
+    }
+
+    @Override
+    public CertificateProvider defaultCertificateProvider() {
+        return certificateProvider;
+    }
+
+    private static Key createKey(String signature) throws NoSuchAlgorithmException {
+        switch (signature) {
+            case HMAC:
+                return new DefaultKey(SIGNING_KEY_ID, Keys.hmacShaKeyFor(HMAC_SECRET.getBytes()));
+            case RSA:
+                KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+                keyPairGenerator.initialize(RSA_KEY_SIZE);
+                return new DefaultKey(SIGNING_KEY_ID, keyPairGenerator.generateKeyPair());
+            default:
+                throw new IllegalArgumentException("Unsupported signature: " + signature);
+        }
+    }
+
+    /**
+     * Same parser and builder as the ones created by the gateway certificate manager.
+     */
+    private static CertificateProvider create(Key key, ObjectMapper objectMapper) {
+        CertificateMetadata certificateMetadata = new CertificateMetadata();
+        certificateMetadata.setMetadata(Collections.singletonMap(CertificateMetadata.DIGEST_ALGORITHM_NAME, DIGEST_ALGORITHM));
+
+        CertificateProvider certificateProvider = new CertificateProvider(new io.gravitee.am.certificate.api.CertificateProvider() {
+
+            @Override
+            public Single<Key> key() {
+                return Single.just(key);
+            }
+
+            @Override
+            public Single<String> publicKey() {
+                return null;
+            }
+
+            @Override
+            public Flowable<JWK> keys() {
+                return null;
+            }
+
+            @Override
+            public CertificateMetadata certificateMetadata() {
+                return certificateMetadata;
+            }
+        });
+
+        java.security.Key signingKey = key.getValue() instanceof KeyPair ? ((KeyPair) key.getValue()).getPrivate() : (java.security.Key) key.getValue();
+        java.security.Key verifyingKey = key.getValue() instanceof KeyPair ? ((KeyPair) key.getValue()).getPublic() : (java.security.Key) key.getValue();
+
+        certificateProvider.setJwtParser(new JJwtParser(Jwts.parser().deserializeJsonWith(new JacksonDeserializer(objectMapper)).setSigningKey(verifyingKey)));
+        certificateProvider.setJwtBuilder(new JJwtBuilder(Jwts.builder().serializeToJsonWith(new JacksonSerializer(objectMapper)).signWith(signingKey).setHeaderParam(JwsHeader.KEY_ID, key.getKeyId())));
+
+        return certificateProvider;
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.token;
+
+import io.gravitee.am.gateway.handler.oauth2.approval.AutoApproveScopes;
+import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
+import io.gravitee.am.model.Client;
+import io.gravitee.common.service.AbstractService;
+import io.reactivex.Maybe;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ClientSyncService} serving the clients registered by the benchmarks.
+ *
+ * @author GraviteeSource Team
+ */
+public class InMemoryClientSyncService extends AbstractService implements ClientSyncService {
+
+    private final Map<String, Client> clients = new ConcurrentHashMap<>();
+
+    @Override
+    public Maybe<Client> findById(String id) {
+        return Maybe.fromCallable(() -> clients.values().stream().filter(client -> id.equals(client.getId())).findFirst().orElse(null));
+    }
+
+    @Override
+    public Maybe<Client> findByClientId(String clientId) {
+        Client client = clients.get(clientId);
+        return client == null ? Maybe.empty() : Maybe.just(client);
+    }
+
+    @Override
+    public Maybe<Client> findByDomainAndClientId(String domain, String clientId) {
+        return findByClientId(clientId).filter(client -> domain.equals(client.getDomain()));
+    }
+
+    @Override
+    public Client addDynamicClientRegistred(Client client) {
+        clients.put(client.getClientId(), client);
+        return client;
+    }
+
+    @Override
+    public Client removeDynamicClientRegistred(Client client) {
+        clients.remove(client.getClientId());
+        return client;
+    }
+
+    @Override
+    public AutoApproveScopes getAutoApproveScopes(Client client) {
+        return new AutoApproveScopes(client.getAutoApproveScopes());
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.token;
+
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
+import io.gravitee.am.repository.oauth2.model.RefreshToken;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link RefreshTokenRepository} backed by a map, so that token issuance can be measured without a database.
+ *
+ * @author GraviteeSource Team
+ */
+public class InMemoryRefreshTokenRepository implements RefreshTokenRepository {
+
+    private final ConcurrentMap<String, RefreshToken> refreshTokens = new ConcurrentHashMap<>();
+
+    @Override
+    public Maybe<RefreshToken> findByToken(String token) {
+        RefreshToken refreshToken = refreshTokens.get(token);
+        return refreshToken == null ? Maybe.empty() : Maybe.just(refreshToken);
+    }
+
+    @Override
+    public Single<RefreshToken> create(RefreshToken refreshToken) {
+        refreshTokens.put(refreshToken.getToken(), refreshToken);
+        return Single.just(refreshToken);
+    }
+
+    @Override
+    public Completable delete(String token) {
+        refreshTokens.remove(token);
+        return Completable.complete();
+    }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        refreshTokens.values().removeIf(refreshToken -> domain.equals(refreshToken.getDomain()));
+        return Completable.complete();
+    }
+
+    @Override
+    public Completable deleteByAuthorizationCode(String authorizationCode) {
+        refreshTokens.values().removeIf(refreshToken -> authorizationCode.equals(refreshToken.getAuthorizationCode()));
+        return Completable.complete();
+    }
+
+    @Override
+    public Completable deleteByDomainAndSubject(String domain, String subject) {
+        refreshTokens.values().removeIf(refreshToken -> domain.equals(refreshToken.getDomain()) && subject.equals(refreshToken.getSubject()));
+        return Completable.complete();
+    }
+
+    @Override
+    public Completable deleteByDomainClientAndSubject(String domain, String clientId, String subject) {
+        refreshTokens.values().removeIf(refreshToken -> domain.equals(refreshToken.getDomain()) && clientId.equals(refreshToken.getClient()) && subject.equals(refreshToken.getSubject()));
+        return Completable.complete();
+    }
+
+    @Override
+    public Single<Long> removeDuplicates() {
+        // tokens are keyed by their value
+        return Single.just(0L);
+    }
+
+    /**
+     * Forget all the stored tokens, to keep the memory footprint stable between measurement iterations.
+     */
+    public void clear() {
+        refreshTokens.clear();
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.token;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.gateway.handler.certificate.CertificateManager;
+import io.gravitee.am.gateway.handler.jwt.JwtService;
+import io.gravitee.am.gateway.handler.jwt.impl.JwtServiceImpl;
+import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
+import io.gravitee.am.gateway.handler.oauth2.token.TokenEnhancer;
+import io.gravitee.am.gateway.handler.oauth2.token.TokenService;
+import io.gravitee.am.gateway.handler.oauth2.token.impl.TokenEnhancerImpl;
+import io.gravitee.am.gateway.handler.oauth2.token.impl.TokenServiceImpl;
+import io.gravitee.am.gateway.handler.oidc.discovery.OpenIDDiscoveryService;
+import io.gravitee.am.gateway.handler.oidc.discovery.OpenIDProviderMetadata;
+import io.gravitee.am.gateway.handler.oidc.idtoken.IDTokenService;
+import io.gravitee.am.gateway.handler.oidc.idtoken.impl.IDTokenServiceImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Token issuance services of a domain, wired as in the gateway domain handler but with in-memory repositories and
+ * certificate.
+ *
+ * @author GraviteeSource Team
+ */
+@Configuration
+public class TokenServicesConfiguration {
+
+    public static final String SIGNATURE_PROPERTY = "benchmark.signature";
+    public static final String ISSUER = "https://am.gravitee.io/benchmark/oidc";
+
+    @Value("${" + SIGNATURE_PROPERTY + ":" + InMemoryCertificateManager.HMAC + "}")
+    private String signature;
+
+    @Bean
+    public ObjectMapper objectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        return mapper;
+    }
+
+    @Bean
+    public CertificateManager certificateManager() throws NoSuchAlgorithmException {
+        return new InMemoryCertificateManager(signature, objectMapper());
+    }
+
+    @Bean
+    public InMemoryAccessTokenRepository accessTokenRepository() {
+        return new InMemoryAccessTokenRepository();
+    }
+
+    @Bean
+    public InMemoryRefreshTokenRepository refreshTokenRepository() {
+        return new InMemoryRefreshTokenRepository();
+    }
+
+    @Bean
+    public ClientSyncService clientSyncService() {
+        return new InMemoryClientSyncService();
+    }
+
+    @Bean
+    public OpenIDDiscoveryService openIDDiscoveryService() {
+        return new OpenIDDiscoveryService() {
+            @Override
+            public OpenIDProviderMetadata getConfiguration(String basePath) {
+                OpenIDProviderMetadata openIDProviderMetadata = new OpenIDProviderMetadata();
+                openIDProviderMetadata.setIssuer(ISSUER);
+                return openIDProviderMetadata;
+            }
+
+            @Override
+            public String getIssuer(String basePath) {
+                return ISSUER;
+            }
+        };
+    }
+
+    @Bean
+    public JwtService jwtService() {
+        return new JwtServiceImpl();
+    }
+
+    @Bean
+    public IDTokenService idTokenService() {
+        return new IDTokenServiceImpl();
+    }
+
+    @Bean
+    public TokenEnhancer tokenEnhancer() {
+        return new TokenEnhancerImpl();
+    }
+
+    @Bean
+    public TokenService tokenService() {
+        return new TokenServiceImpl();
+    }
+}
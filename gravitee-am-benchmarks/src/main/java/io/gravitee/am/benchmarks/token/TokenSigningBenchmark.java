@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.token;
+
+import io.gravitee.am.common.jwt.JWT;
+import io.gravitee.am.common.utils.SecureRandomString;
+import io.gravitee.am.gateway.handler.jwt.JwtService;
+import io.gravitee.am.gateway.handler.oidc.idtoken.IDTokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the signing steps of the token issuance in isolation: {@link JwtService#encode} of an access token
+ * and {@link IDTokenService#create}, per signature algorithm.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TokenSigningBenchmark extends AbstractTokenBenchmark {
+
+    private JwtService jwtService;
+
+    private IDTokenService idTokenService;
+
+    private JWT accessToken;
+
+    @Override
+    protected void init() {
+        jwtService = context.getBean(JwtService.class);
+        idTokenService = context.getBean(IDTokenService.class);
+
+        long now = System.currentTimeMillis() / 1000L;
+        accessToken = new JWT();
+        accessToken.setIss(TokenServicesConfiguration.ISSUER);
+        accessToken.setSub(user.getId());
+        accessToken.setAud(client.getClientId());
+        accessToken.setDomain(client.getDomain());
+        accessToken.setIat(now);
+        accessToken.setExp(now + 7200);
+        accessToken.setJti(SecureRandomString.generate());
+        accessToken.setScope("read write");
+    }
+
+    @Benchmark
+    public String encodeJwt() {
+        return jwtService.encode(accessToken, client).blockingGet();
+    }
+
+    @Benchmark
+    public String createIdToken() {
+        return idTokenService.create(authorizationCodeRequest, client, user).blockingGet();
+    }
+}
@@ -25,6 +25,7 @@ import io.gravitee.am.model.Domain;
 import io.gravitee.am.model.User;
 import io.gravitee.am.service.RoleService;
 import io.gravitee.am.service.UserService;
+import io.gravitee.am.service.exception.ServiceUnavailableException;
 import io.gravitee.am.service.exception.UserNotFoundException;
 import io.gravitee.am.service.exception.authentication.AccountDisabledException;
 import io.gravitee.am.service.exception.authentication.BadCredentialsException;
@@ -91,6 +92,9 @@ public class UserAuthenticationManagerImpl implements UserAuthenticationManager
                         if (lastException != null) {
                             if (lastException instanceof BadCredentialsException) {
                                 return Single.error(new BadCredentialsException("The credentials you entered are invalid", lastException));
+                            } else if (lastException instanceof ServiceUnavailableException) {
+                                // password verifications are overloaded, let the caller retry later
+                                return Single.error(lastException);
                             } else if (lastException instanceof UsernameNotFoundException) {
                                 return Single.error(new InternalAuthenticationServiceException("Invalid or unknown user"));
                             } else {
@@ -0,0 +1,50 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.email;
+
+import freemarker.template.Template;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Email template compiled once and reused for every sent email until the template is updated.
+ * Local images have already been rewritten to <code>cid:</code> references, so only the model merge is left per email.
+ *
+ * @author GraviteeSource Team
+ */
+public final class CompiledTemplate {
+
+    private final Template template;
+
+    private final List<String> resources;
+
+    public CompiledTemplate(Template template, List<String> resources) {
+        this.template = template;
+        this.resources = Collections.unmodifiableList(resources);
+    }
+
+    public Template getTemplate() {
+        return template;
+    }
+
+    /**
+     * @return the names of the images to attach inline, relative to the templates path
+     */
+    public List<String> getResources() {
+        return resources;
+    }
+}
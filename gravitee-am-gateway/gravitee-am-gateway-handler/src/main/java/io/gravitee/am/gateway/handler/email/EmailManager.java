@@ -15,8 +15,12 @@
  */
 package io.gravitee.am.gateway.handler.email;
 
+import freemarker.template.Template;
 import io.gravitee.am.model.Email;
 import io.gravitee.common.service.Service;
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.IOException;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -27,4 +31,19 @@ public interface EmailManager extends Service {
     String TEMPLATE_NAME_SEPARATOR = "|";
 
     Email getEmail(String template, String defaultSubject, int defaultExpiresAfter);
+
+    /**
+     * Get the compiled email template, cached until the email template is updated.
+     */
+    CompiledTemplate getTemplate(String template) throws IOException;
+
+    /**
+     * Get the compiled subject template, cached until an email template is updated.
+     */
+    Template getSubjectTemplate(String subject) throws IOException;
+
+    /**
+     * Get the content of an image inlined by an email template, cached until an email template is updated.
+     */
+    InputStreamSource getResource(String resource) throws IOException;
 }
@@ -17,7 +17,10 @@ package io.gravitee.am.gateway.handler.email.impl;
 
 import freemarker.cache.TemplateLoader;
 import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateNotFoundException;
 import io.gravitee.am.gateway.core.event.EmailEvent;
+import io.gravitee.am.gateway.handler.email.CompiledTemplate;
 import io.gravitee.am.gateway.handler.email.EmailManager;
 import io.gravitee.am.gateway.handler.vertx.view.freemarker.DomainBasedEmailTemplateLoader;
 import io.gravitee.am.model.Domain;
@@ -33,11 +36,21 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.util.FileCopyUtils;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static java.lang.String.format;
@@ -50,8 +63,17 @@ public class EmailManagerImpl extends AbstractService implements EmailManager, I
 
     private static final Logger logger = LoggerFactory.getLogger(EmailManagerImpl.class);
     private static final String TEMPLATE_SUFFIX = ".html";
+    // an attribute of a tag, or a FreeMarker expression standing for attributes, values may contain a '>'
+    private static final String TAG_ATTRIBUTE =
+            "(?:\\$\\{[^}]*\\}|[^\\s=>\"'/]+(?:\\s*=\\s*(?:\"[^\"]*\"|'[^']*'|\\$\\{[^}]*\\}|[^\\s>\"']+))?)";
+    // src attribute of an <img> tag, matched as a whole attribute so that data-src and the like are ignored
+    private static final Pattern INLINE_IMAGE_PATTERN =
+            Pattern.compile("(<img(?:\\s+" + TAG_ATTRIBUTE + ")*?\\s+src\\s*=\\s*)([\"'])((?!http)[^\"'$<>]+)\\2", Pattern.CASE_INSENSITIVE);
     private ConcurrentMap<String, Email> emails = new ConcurrentHashMap<>();
     private ConcurrentMap<String, Email> emailTemplates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompiledTemplate> compiledTemplates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Template> subjectTemplates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, InputStreamSource> resources = new ConcurrentHashMap<>();
 
     @Autowired
     private EmailRepository emailRepository;
@@ -74,6 +96,9 @@ public class EmailManagerImpl extends AbstractService implements EmailManager, I
     @Value("${email.from}")
     private String defaultFrom;
 
+    @Value("${templates.path:${gravitee.home}/templates}")
+    private String templatesPath;
+
     @Override
     public void afterPropertiesSet() {
         logger.info("Initializing emails for domain {}", domain.getName());
@@ -129,6 +154,70 @@ public class EmailManagerImpl extends AbstractService implements EmailManager, I
         }
     }
 
+    @Override
+    public CompiledTemplate getTemplate(String template) throws IOException {
+        CompiledTemplate compiledTemplate = compiledTemplates.get(template);
+        if (compiledTemplate != null) {
+            return compiledTemplate;
+        }
+        // compile under the lock used for invalidation so that a template read before an update is never cached after it
+        synchronized (compiledTemplates) {
+            compiledTemplate = compiledTemplates.get(template);
+            if (compiledTemplate == null) {
+                compiledTemplate = compile(template);
+                compiledTemplates.put(template, compiledTemplate);
+            }
+            return compiledTemplate;
+        }
+    }
+
+    @Override
+    public Template getSubjectTemplate(String subject) throws IOException {
+        Template subjectTemplate = subjectTemplates.get(subject);
+        if (subjectTemplate == null) {
+            subjectTemplate = new Template("subject", new StringReader(subject), configuration);
+            subjectTemplates.put(subject, subjectTemplate);
+        }
+        return subjectTemplate;
+    }
+
+    @Override
+    public InputStreamSource getResource(String resource) throws IOException {
+        InputStreamSource inputStreamSource = resources.get(resource);
+        if (inputStreamSource == null) {
+            inputStreamSource = new ByteArrayResource(Files.readAllBytes(new File(templatesPath, resource).toPath()));
+            resources.put(resource, inputStreamSource);
+        }
+        return inputStreamSource;
+    }
+
+    private CompiledTemplate compile(String templateName) throws IOException {
+        final TemplateLoader loader = configuration.getTemplateLoader();
+        final Object templateSource = loader.findTemplateSource(templateName);
+        if (templateSource == null) {
+            throw new TemplateNotFoundException(templateName, null, "Email template " + templateName + " not found");
+        }
+
+        final String source;
+        try (Reader reader = loader.getReader(templateSource, configuration.getDefaultEncoding())) {
+            source = FileCopyUtils.copyToString(reader);
+        } finally {
+            loader.closeTemplateSource(templateSource);
+        }
+
+        // rewrite local images to inline attachments once, instead of parsing every rendered email
+        final List<String> inlineResources = new ArrayList<>();
+        final Matcher matcher = INLINE_IMAGE_PATTERN.matcher(source);
+        final StringBuffer content = new StringBuffer();
+        while (matcher.find()) {
+            inlineResources.add(matcher.group(3));
+            matcher.appendReplacement(content, Matcher.quoteReplacement(matcher.group(1) + matcher.group(2) + "cid:" + matcher.group(3) + matcher.group(2)));
+        }
+        matcher.appendTail(content);
+
+        return new CompiledTemplate(new Template(templateName, new StringReader(content.toString()), configuration), inlineResources);
+    }
+
     private Email create(String template, String from, String fromName, String subject, int expiresAt) {
         Email email = new Email();
         email.setTemplate(template);
@@ -162,6 +251,7 @@ public class EmailManagerImpl extends AbstractService implements EmailManager, I
         Email deletedEmail = emails.remove(emailId);
         emailTemplates.remove(getTemplateName(deletedEmail));
         ((DomainBasedEmailTemplateLoader) templateLoader).removeTemplate(getTemplateName(deletedEmail) + TEMPLATE_SUFFIX);
+        clearCompiledTemplates();
     }
 
     private void updateEmails(List<Email> emails) {
@@ -180,6 +270,15 @@ public class EmailManagerImpl extends AbstractService implements EmailManager, I
     private void reloadTemplate(String templateName, String content) {
         ((DomainBasedEmailTemplateLoader) templateLoader).putTemplate(templateName, content, System.currentTimeMillis());
         configuration.clearTemplateCache();
+        clearCompiledTemplates();
+    }
+
+    private void clearCompiledTemplates() {
+        synchronized (compiledTemplates) {
+            compiledTemplates.clear();
+            subjectTemplates.clear();
+            resources.clear();
+        }
     }
 
     private String getTemplateName(Email email) {
@@ -198,4 +297,16 @@ public class EmailManagerImpl extends AbstractService implements EmailManager, I
     public void setEmailTemplates(ConcurrentMap<String, Email> emailTemplates) {
         this.emailTemplates = emailTemplates;
     }
+
+    public void setConfiguration(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    public void setTemplateLoader(TemplateLoader templateLoader) {
+        this.templateLoader = templateLoader;
+    }
+
+    public void setTemplatesPath(String templatesPath) {
+        this.templatesPath = templatesPath;
+    }
 }
@@ -15,29 +15,27 @@
  */
 package io.gravitee.am.gateway.handler.email.impl;
 
-import freemarker.template.Configuration;
-import freemarker.template.Template;
 import io.gravitee.am.common.email.Email;
+import io.gravitee.am.gateway.handler.email.CompiledTemplate;
+import io.gravitee.am.gateway.handler.email.EmailManager;
 import io.gravitee.am.gateway.handler.email.EmailService;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.QueuedEmail;
+import io.gravitee.am.service.email.EmailQueueDispatcher;
 import io.gravitee.am.service.exception.TechnicalManagementException;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.select.Elements;
+import io.reactivex.Completable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 
 import javax.activation.MimetypesFileTypeMap;
-import java.io.File;
-import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Arrays;
 
 import static org.springframework.ui.freemarker.FreeMarkerTemplateUtils.processTemplateIntoString;
 
@@ -45,13 +43,10 @@ import static org.springframework.ui.freemarker.FreeMarkerTemplateUtils.processT
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class EmailServiceImpl implements EmailService {
+public class EmailServiceImpl implements EmailService, InitializingBean, DisposableBean {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EmailServiceImpl.class);
 
-    @Value("${templates.path:${gravitee.home}/templates}")
-    private String templatesPath;
-
     @Value("${email.enabled:false}")
     private boolean enabled;
 
@@ -59,67 +54,81 @@ public class EmailServiceImpl implements EmailService {
     private JavaMailSender mailSender;
 
     @Autowired
-    private Configuration freemarkerConfiguration;
+    private EmailManager emailManager;
+
+    @Autowired
+    private Domain domain;
+
+    /**
+     * Shared by all the security domains of the gateway
+     */
+    @Autowired
+    private EmailQueueDispatcher emailQueueDispatcher;
 
     @Override
-    public void send(Email email) {
-        if (enabled) {
-            try {
-                final MimeMessageHelper mailMessage = new MimeMessageHelper(mailSender.createMimeMessage(), true, StandardCharsets.UTF_8.name());
-                final Template template = freemarkerConfiguration.getTemplate(email.getTemplate());
-                final Template plainTextTemplate = new Template("subject", new StringReader(email.getSubject()), freemarkerConfiguration);
-
-                // compute email subject
-                final String subject = processTemplateIntoString(plainTextTemplate, email.getParams());
-                // compute email content
-                final String content = processTemplateIntoString(template, email.getParams());
-                final String from = email.getFrom();
-
-                String fromName = email.getFromName();
-                if (fromName == null || fromName.isEmpty()) {
-                    mailMessage.setFrom(from);
-                } else {
-                    mailMessage.setFrom(from, fromName);
-                }
-
-                mailMessage.setTo(email.getTo());
-                mailMessage.setSubject(subject);
-
-                final String html = addResourcesInMessage(mailMessage, content);
-                LOGGER.debug("Sending an email to: {}\nSubject: {}\nMessage: {}", email.getTo(), email.getSubject(), html);
-                mailSender.send(mailMessage.getMimeMessage());
-            } catch (final Exception ex) {
-                LOGGER.error("Error while sending email", ex);
-                new TechnicalManagementException("Error while sending email", ex);
-            }
+    public Completable send(Email email) {
+        if (!enabled) {
+            return Completable.complete();
         }
+        return Completable.defer(() -> emailQueueDispatcher.enqueue(render(email)))
+                .onErrorResumeNext(ex -> {
+                    LOGGER.error("Error while sending email", ex);
+                    return Completable.error(new TechnicalManagementException("Error while sending email", ex));
+                });
     }
 
-    private String addResourcesInMessage(final MimeMessageHelper mailMessage, final String htmlText) throws Exception {
-        final Document document = Jsoup.parse(htmlText);
+    @Override
+    public void afterPropertiesSet() {
+        emailQueueDispatcher.register(domain.getId(), this::deliver);
+    }
 
-        final List<String> resources = new ArrayList<>();
+    @Override
+    public void destroy() {
+        emailQueueDispatcher.unregister(domain.getId());
+    }
 
-        final Elements imageElements = document.getElementsByTag("img");
-        resources.addAll(imageElements.stream()
-                .filter(imageElement -> imageElement.hasAttr("src"))
-                .filter(imageElement -> !imageElement.attr("src").startsWith("http"))
-                .map(imageElement -> {
-                    final String src = imageElement.attr("src");
-                    imageElement.attr("src", "cid:" + src);
-                    return src;
-                })
-                .collect(Collectors.toList()));
+    private QueuedEmail render(Email email) throws Exception {
+        final CompiledTemplate template = emailManager.getTemplate(email.getTemplate());
+
+        // compute email subject
+        final String subject = processTemplateIntoString(emailManager.getSubjectTemplate(email.getSubject()), email.getParams());
+        // compute email content, local images are already rewritten to inline resources by the compiled template
+        final String content = processTemplateIntoString(template.getTemplate(), email.getParams());
+
+        final QueuedEmail queuedEmail = new QueuedEmail();
+        queuedEmail.setDomain(domain.getId());
+        queuedEmail.setFrom(email.getFrom());
+        queuedEmail.setFromName(email.getFromName());
+        queuedEmail.setTo(Arrays.asList(email.getTo()));
+        queuedEmail.setSubject(subject);
+        queuedEmail.setContent(content);
+        queuedEmail.setResources(template.getResources());
+        return queuedEmail;
+    }
 
-        final String html = document.html();
-        mailMessage.setText(html, true);
+    private void deliver(QueuedEmail email) throws Exception {
+        final MimeMessageHelper mailMessage = new MimeMessageHelper(mailSender.createMimeMessage(), true, StandardCharsets.UTF_8.name());
+        final String from = email.getFrom();
 
-        for (final String res : resources) {
-            final FileSystemResource templateResource = new FileSystemResource(new File(templatesPath, res));
-            mailMessage.addInline(res, templateResource, getContentTypeByFileName(res));
+        String fromName = email.getFromName();
+        if (fromName == null || fromName.isEmpty()) {
+            mailMessage.setFrom(from);
+        } else {
+            mailMessage.setFrom(from, fromName);
+        }
+
+        mailMessage.setTo(email.getTo().toArray(new String[0]));
+        mailMessage.setSubject(email.getSubject());
+        mailMessage.setText(email.getContent(), true);
+
+        if (email.getResources() != null) {
+            for (final String res : email.getResources()) {
+                mailMessage.addInline(res, emailManager.getResource(res), getContentTypeByFileName(res));
+            }
         }
 
-        return html;
+        LOGGER.debug("Sending an email to: {}\nSubject: {}\nMessage: {}", email.getTo(), email.getSubject(), email.getContent());
+        mailSender.send(mailMessage.getMimeMessage());
     }
 
     private String getContentTypeByFileName(final String fileName) {
@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.approval;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiled form of the client auto-approve scopes.
+ *
+ * Entries without any regular expression meta-character are matched by a simple set lookup, the other ones are
+ * compiled once instead of being compiled again for each requested scope.
+ *
+ * @author GraviteeSource Team
+ */
+public final class AutoApproveScopes {
+
+    public static final AutoApproveScopes NONE = new AutoApproveScopes(null);
+
+    private static final Logger logger = LoggerFactory.getLogger(AutoApproveScopes.class);
+    private static final String ALL_SCOPES = "true";
+    private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final boolean all;
+    private final Set<String> literals;
+    private final List<Pattern> patterns;
+
+    public AutoApproveScopes(List<String> autoApproveScopes) {
+        boolean all = false;
+        Set<String> literals = new HashSet<>();
+        List<Pattern> patterns = new ArrayList<>();
+        if (autoApproveScopes != null) {
+            for (String auto : autoApproveScopes) {
+                if (auto == null) {
+                    continue;
+                }
+                if (ALL_SCOPES.equals(auto)) {
+                    all = true;
+                } else if (isLiteral(auto)) {
+                    literals.add(auto);
+                } else {
+                    patterns.add(compile(auto));
+                }
+            }
+        }
+        this.all = all;
+        this.literals = Collections.unmodifiableSet(literals);
+        this.patterns = Collections.unmodifiableList(patterns);
+    }
+
+    public boolean isAutoApprove(String scope) {
+        if (all || literals.contains(scope)) {
+            return true;
+        }
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(scope).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLiteral(String auto) {
+        for (int i = 0; i < auto.length(); i++) {
+            if (REGEX_META_CHARACTERS.indexOf(auto.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Pattern compile(String auto) {
+        try {
+            return Pattern.compile(auto);
+        } catch (PatternSyntaxException e) {
+            logger.warn("Invalid auto-approve scope pattern {}, it will be matched as a plain scope", auto);
+            return Pattern.compile(Pattern.quote(auto));
+        }
+    }
+}
@@ -16,6 +16,8 @@
 package io.gravitee.am.gateway.handler.oauth2.approval.impl;
 
 import io.gravitee.am.gateway.handler.oauth2.approval.ApprovalService;
+import io.gravitee.am.gateway.handler.oauth2.approval.AutoApproveScopes;
+import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
 import io.gravitee.am.gateway.handler.oauth2.exception.AccessDeniedException;
 import io.gravitee.am.gateway.handler.oauth2.request.AuthorizationRequest;
 import io.gravitee.am.gateway.handler.oauth2.scope.ScopeManager;
@@ -26,7 +28,6 @@ import io.gravitee.am.model.User;
 import io.gravitee.am.model.oauth2.Scope;
 import io.gravitee.am.model.oauth2.ScopeApproval;
 import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -49,6 +50,9 @@ public class ApprovalServiceImpl implements ApprovalService {
     @Autowired
     private ScopeManager scopeManager;
 
+    @Autowired
+    private ClientSyncService clientSyncService;
+
     @Value("${oauth2.approval.expiry:-1}")
     private int approvalExpirySeconds;
 
@@ -90,10 +94,8 @@ public class ApprovalServiceImpl implements ApprovalService {
             }
         }
 
-        return Observable.fromIterable(approvals)
-                .flatMapSingle(approval -> scopeApprovalRepository.upsert(approval))
-                .toList()
-                .flatMap(savedApprovals -> {
+        return scopeApprovalRepository.upsertAll(approvals)
+                .andThen(Single.defer(() -> {
                     boolean approved;
                     authorizationRequest.setScopes(approvedScopes);
                     if (approvedScopes.isEmpty() && !requestedScopes.isEmpty()) {
@@ -104,7 +106,7 @@ public class ApprovalServiceImpl implements ApprovalService {
                     }
                     authorizationRequest.setApproved(approved);
                     return Single.just(authorizationRequest);
-                });
+                }));
     }
 
     private Single<AuthorizationRequest> checkUserApproval(AuthorizationRequest authorizationRequest, User user) {
@@ -141,27 +143,15 @@ public class ApprovalServiceImpl implements ApprovalService {
     }
 
     private Single<AuthorizationRequest> checkAutoApproval(AuthorizationRequest authorizationRequest, Client client) {
-        List<String> clientAutoApproveScopes = client.getAutoApproveScopes();
+        AutoApproveScopes clientAutoApproveScopes = clientSyncService.getAutoApproveScopes(client);
         Set<String> requestedScopes = authorizationRequest.getScopes();
-        Set<String> approvedScopes = requestedScopes.stream().filter(scope -> isAutoApprove(clientAutoApproveScopes, scope)).collect(Collectors.toSet());
+        Set<String> approvedScopes = requestedScopes.stream().filter(clientAutoApproveScopes::isAutoApprove).collect(Collectors.toSet());
         if (approvedScopes.containsAll(requestedScopes)) {
             authorizationRequest.setApproved(true);
         }
         return Single.just(authorizationRequest);
     }
 
-    private boolean isAutoApprove(List<String> autoApproveScopes, String scope) {
-        if (autoApproveScopes == null) {
-            return false;
-        }
-        for (String auto : autoApproveScopes) {
-            if (auto.equals("true") || scope.matches(auto)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private Date computeExpiry(Client client, String scope) {
         Calendar expiresAt = Calendar.getInstance();
 
@@ -0,0 +1,48 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.assertion;
+
+import io.reactivex.Single;
+
+import java.util.Date;
+
+/**
+ * Keep the identifiers (jti) of the JWT assertions already used until they expire, so that a captured assertion can
+ * not be replayed.
+ *
+ * See <a href="https://tools.ietf.org/html/rfc7523#section-3">JWT Format and Processing Requirements</a>
+ *
+ * @author GraviteeSource Team
+ */
+public interface JtiReplayCache {
+
+    String MEMORY_STORE = "memory";
+    String REPOSITORY_STORE = "repository";
+
+    /**
+     * Cheap check to reject a replayed assertion before its signature is verified.
+     *
+     * @return true if an assertion with the same issuer and identifier has already been used
+     */
+    Single<Boolean> isReplayed(String issuer, String jti);
+
+    /**
+     * Record a verified assertion as used until its expiration date.
+     *
+     * @return false if the assertion has been recorded in the meantime, i.e. it is replayed concurrently
+     */
+    Single<Boolean> register(String issuer, String jti, Date expireAt);
+}
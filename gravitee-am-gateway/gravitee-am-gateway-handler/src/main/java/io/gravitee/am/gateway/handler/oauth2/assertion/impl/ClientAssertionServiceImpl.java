@@ -21,6 +21,7 @@ import com.nimbusds.jwt.SignedJWT;
 import io.gravitee.am.gateway.handler.jwk.JwkService;
 import io.gravitee.am.gateway.handler.jws.JwsService;
 import io.gravitee.am.gateway.handler.oauth2.assertion.ClientAssertionService;
+import io.gravitee.am.gateway.handler.oauth2.assertion.JtiReplayCache;
 import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidClientException;
 import io.gravitee.am.gateway.handler.oauth2.exception.ServerErrorException;
@@ -51,6 +52,7 @@ public class ClientAssertionServiceImpl implements ClientAssertionService {
 
     private static final String JWT_BEARER = "urn:ietf:params:oauth:client-assertion-type:jwt-bearer";
     private static final InvalidClientException NOT_VALID = new InvalidClientException("assertion is not valid");
+    private static final InvalidClientException REPLAYED = new InvalidClientException("assertion has already been used");
 
     @Autowired
     private ClientSyncService clientSyncService;
@@ -64,6 +66,9 @@ public class ClientAssertionServiceImpl implements ClientAssertionService {
     @Autowired
     private OpenIDDiscoveryService openIDDiscoveryService;
 
+    @Autowired
+    private JtiReplayCache jtiReplayCache;
+
     @Override
     public Maybe<Client> assertClient(String assertionType, String assertion, String basePath) {
 
@@ -74,7 +79,9 @@ public class ClientAssertionServiceImpl implements ClientAssertionService {
         }
 
         switch (assertionType) {
-            case JWT_BEARER: return this.validateJWTPayload(assertion,basePath).flatMap(this::validateSignature);
+            case JWT_BEARER: return this.validateJWTPayload(assertion,basePath)
+                    .flatMap(this::checkReplay)
+                    .flatMap(jwt -> this.validateSignature(jwt).flatMap(client -> this.registerJti(jwt, client)));
             default: return Maybe.error(unsupportedAssertionType);
         }
     }
@@ -118,6 +125,32 @@ public class ClientAssertionServiceImpl implements ClientAssertionService {
         }
     }
 
+    /**
+     * Reject an assertion already used before its signature is verified, which is the more expensive step.
+     * Assertions without jti can not be tracked and are not checked.
+     */
+    private Maybe<JWT> checkReplay(JWT jwt) throws ParseException {
+        String jti = jwt.getJWTClaimsSet().getJWTID();
+        if (jti == null) {
+            return Maybe.just(jwt);
+        }
+        return jtiReplayCache.isReplayed(jwt.getJWTClaimsSet().getIssuer(), jti)
+                .flatMapMaybe(replayed -> replayed ? Maybe.error(REPLAYED) : Maybe.just(jwt));
+    }
+
+    /**
+     * Record the jti of a valid assertion until it expires, the registration fails if the same assertion has been
+     * accepted concurrently.
+     */
+    private Maybe<Client> registerJti(JWT jwt, Client client) throws ParseException {
+        String jti = jwt.getJWTClaimsSet().getJWTID();
+        if (jti == null) {
+            return Maybe.just(client);
+        }
+        return jtiReplayCache.register(jwt.getJWTClaimsSet().getIssuer(), jti, jwt.getJWTClaimsSet().getExpirationTime())
+                .flatMapMaybe(registered -> registered ? Maybe.just(client) : Maybe.error(REPLAYED));
+    }
+
     private Maybe<Client> validateSignature(JWT jwt) {
         try {
             String clientId = jwt.getJWTClaimsSet().getSubject();
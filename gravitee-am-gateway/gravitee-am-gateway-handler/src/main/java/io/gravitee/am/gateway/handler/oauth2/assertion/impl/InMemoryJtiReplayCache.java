@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.assertion.impl;
+
+import io.gravitee.am.gateway.handler.oauth2.assertion.JtiReplayCache;
+import io.reactivex.Single;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link JtiReplayCache} local to the gateway node, suitable for single node deployments.
+ *
+ * The number of recorded identifiers is bounded: expired identifiers are purged first, then the oldest ones are
+ * evicted.
+ *
+ * @author GraviteeSource Team
+ */
+public class InMemoryJtiReplayCache implements JtiReplayCache {
+
+    public static final int DEFAULT_MAX_SIZE = 100000;
+
+    private final int maxSize;
+
+    /**
+     * Expiration time of the recorded identifiers, in insertion order.
+     */
+    private final Map<String, Long> jtis = new LinkedHashMap<>();
+
+    public InMemoryJtiReplayCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public InMemoryJtiReplayCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public Single<Boolean> isReplayed(String issuer, String jti) {
+        return Single.fromCallable(() -> {
+            synchronized (jtis) {
+                return isRecorded(key(issuer, jti), System.currentTimeMillis());
+            }
+        });
+    }
+
+    @Override
+    public Single<Boolean> register(String issuer, String jti, Date expireAt) {
+        return Single.fromCallable(() -> {
+            final String key = key(issuer, jti);
+            final long now = System.currentTimeMillis();
+            synchronized (jtis) {
+                if (isRecorded(key, now)) {
+                    return false;
+                }
+                if (jtis.size() >= maxSize) {
+                    evict(now);
+                }
+                jtis.put(key, expireAt.getTime());
+                return true;
+            }
+        });
+    }
+
+    int size() {
+        synchronized (jtis) {
+            return jtis.size();
+        }
+    }
+
+    private boolean isRecorded(String key, long now) {
+        Long expireAt = jtis.get(key);
+        return expireAt != null && expireAt > now;
+    }
+
+    private void evict(long now) {
+        jtis.values().removeIf(expireAt -> expireAt <= now);
+        Iterator<String> oldest = jtis.keySet().iterator();
+        while (jtis.size() >= maxSize && oldest.hasNext()) {
+            oldest.next();
+            oldest.remove();
+        }
+    }
+
+    private static String key(String issuer, String jti) {
+        return issuer + ':' + jti;
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.assertion.impl;
+
+import io.gravitee.am.gateway.handler.oauth2.assertion.JtiReplayCache;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.repository.oauth2.api.JtiRepository;
+import io.reactivex.Single;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Date;
+
+/**
+ * {@link JtiReplayCache} shared by all the gateway nodes through the OAuth 2.0 repository, the identifiers are
+ * removed once expired by the repository (e.g. a MongoDB TTL index).
+ *
+ * @author GraviteeSource Team
+ */
+public class RepositoryJtiReplayCache implements JtiReplayCache {
+
+    @Autowired
+    private JtiRepository jtiRepository;
+
+    @Autowired
+    private Domain domain;
+
+    @Override
+    public Single<Boolean> isReplayed(String issuer, String jti) {
+        return jtiRepository.exists(key(issuer, jti));
+    }
+
+    @Override
+    public Single<Boolean> register(String issuer, String jti, Date expireAt) {
+        return jtiRepository.create(key(issuer, jti), expireAt);
+    }
+
+    private String key(String issuer, String jti) {
+        // the repository is shared by all the security domains
+        return domain.getId() + ':' + issuer + ':' + jti;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.gateway.handler.oauth2.client;
 
+import io.gravitee.am.gateway.handler.oauth2.approval.AutoApproveScopes;
 import io.gravitee.am.model.Client;
 import io.gravitee.common.service.Service;
 import io.reactivex.Maybe;
@@ -34,4 +35,12 @@ public interface ClientSyncService extends Service {
     Client addDynamicClientRegistred(Client client);
 
     Client removeDynamicClientRegistred(Client client);
+
+    /**
+     * Get the compiled auto-approve scopes of the client, kept up to date with the client events.
+     *
+     * @param client the client
+     * @return the client auto-approve scopes
+     */
+    AutoApproveScopes getAutoApproveScopes(Client client);
 }
@@ -16,6 +16,8 @@
 package io.gravitee.am.gateway.handler.oauth2.client.impl;
 
 import io.gravitee.am.gateway.core.event.ClientEvent;
+import io.gravitee.am.gateway.core.event.ScopeEvent;
+import io.gravitee.am.gateway.handler.oauth2.approval.AutoApproveScopes;
 import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.model.Domain;
@@ -48,6 +50,8 @@ public class ClientSyncServiceImpl extends AbstractService implements ClientSync
 
     private final Logger logger = LoggerFactory.getLogger(ClientSyncServiceImpl.class);
     private ConcurrentMap<String, Set<Client>> domainsClients = new ConcurrentHashMap<>();
+    private ConcurrentMap<String, AutoApproveScopes> clientsAutoApproveScopes = new ConcurrentHashMap<>();
+    private final EventListener<ScopeEvent, Payload> scopeEventListener = this::onScopeEvent;
 
     @Autowired
     private Domain domain;
@@ -89,6 +93,14 @@ public class ClientSyncServiceImpl extends AbstractService implements ClientSync
         return client;
     }
 
+    @Override
+    public AutoApproveScopes getAutoApproveScopes(Client client) {
+        if (client.getId() == null) {
+            return new AutoApproveScopes(client.getAutoApproveScopes());
+        }
+        return clientsAutoApproveScopes.computeIfAbsent(client.getId(), id -> new AutoApproveScopes(client.getAutoApproveScopes()));
+    }
+
     @Override
     public void afterPropertiesSet() {
         logger.info("Initializing clients for domain {}", domain.getName());
@@ -108,6 +120,9 @@ public class ClientSyncServiceImpl extends AbstractService implements ClientSync
 
         logger.info("Register event listener for client events");
         eventManager.subscribeForEvents(this, ClientEvent.class);
+
+        logger.info("Register event listener for scope events");
+        eventManager.subscribeForEvents(scopeEventListener, ScopeEvent.class);
     }
 
     @Override
@@ -123,6 +138,25 @@ public class ClientSyncServiceImpl extends AbstractService implements ClientSync
         }
     }
 
+    private void onScopeEvent(Event<ScopeEvent, Payload> event) {
+        // a deleted scope is removed from every client of its domain at once, refresh them in a single query
+        if (event.type() == ScopeEvent.UNDEPLOY && domain.getId().equals(event.content().getDomain())) {
+            reloadClients(event.content().getDomain());
+        }
+    }
+
+    private void reloadClients(String domainId) {
+        logger.info("Domain {} has received scope event, reload clients", domain.getName());
+        clientRepository.findByDomain(domainId)
+                .subscribe(
+                        clients -> {
+                            domainsClients.put(domainId, new HashSet<>(clients));
+                            clients.forEach(this::compileAutoApproveScopes);
+                            logger.info("Clients reloaded for domain {}", domain.getName());
+                        },
+                        error -> logger.error("Unable to reload clients for domain {}", domain.getName(), error));
+    }
+
     private void updateClient(String clientId, ClientEvent clientEvent) {
         final String eventType = clientEvent.toString().toLowerCase();
         logger.info("Domain {} has received {} client event for {}", domain.getName(), eventType, clientId);
@@ -139,6 +173,7 @@ public class ClientSyncServiceImpl extends AbstractService implements ClientSync
     private void removeClient(String idClient, String domainId) {
         logger.info("Domain {} has received client event, delete client {}", domain.getName(), idClient);
         domainsClients.get(domainId).removeIf(client -> client.getId().equals(idClient));
+        clientsAutoApproveScopes.remove(idClient);
     }
 
     private void updateClients(Set<Client> clients) {
@@ -154,6 +189,11 @@ public class ClientSyncServiceImpl extends AbstractService implements ClientSync
             } else {
                 domainsClients.put(client.getDomain(), Collections.singleton(client));
             }
+            compileAutoApproveScopes(client);
         });
     }
+
+    private void compileAutoApproveScopes(Client client) {
+        clientsAutoApproveScopes.put(client.getId(), new AutoApproveScopes(client.getAutoApproveScopes()));
+    }
 }
@@ -22,6 +22,7 @@ import io.gravitee.am.gateway.handler.oauth2.exception.InvalidGrantException;
 import io.gravitee.am.gateway.handler.oauth2.request.AuthorizationRequest;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.model.User;
+import io.gravitee.am.repository.exceptions.DuplicateKeyException;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
@@ -40,6 +41,8 @@ import java.util.Date;
  */
 public class AuthorizationCodeServiceImpl implements AuthorizationCodeService {
 
+    private static final int MAX_CREATE_ATTEMPTS = 3;
+
     @Value("${authorization.code.validity:60000}")
     private int authorizationCodeValidity;
 
@@ -54,46 +57,45 @@ public class AuthorizationCodeServiceImpl implements AuthorizationCodeService {
 
     @Override
     public Single<AuthorizationCode> create(AuthorizationRequest authorizationRequest, User user) {
-        AuthorizationCode authorizationCode = new AuthorizationCode();
-        authorizationCode.setId(RandomString.generate());
-        authorizationCode.setCode(SecureRandomString.generate());
-        authorizationCode.setClientId(authorizationRequest.getClientId());
-        authorizationCode.setSubject(user.getId());
-        authorizationCode.setScopes(authorizationRequest.getScopes());
-        authorizationCode.setRequestParameters(authorizationRequest.getRequestParameters());
-        authorizationCode.setExpireAt(new Date(System.currentTimeMillis() + authorizationCodeValidity));
-        authorizationCode.setCreatedAt(new Date());
+        // a new code is generated for each attempt, the stored codes must be unique
+        return Single.defer(() -> {
+            AuthorizationCode authorizationCode = new AuthorizationCode();
+            authorizationCode.setId(RandomString.generate());
+            authorizationCode.setCode(SecureRandomString.generate());
+            authorizationCode.setClientId(authorizationRequest.getClientId());
+            authorizationCode.setSubject(user.getId());
+            authorizationCode.setScopes(authorizationRequest.getScopes());
+            authorizationCode.setRequestParameters(authorizationRequest.getRequestParameters());
+            authorizationCode.setExpireAt(new Date(System.currentTimeMillis() + authorizationCodeValidity));
+            authorizationCode.setCreatedAt(new Date());
 
-        return authorizationCodeRepository.create(authorizationCode);
+            return authorizationCodeRepository.create(authorizationCode);
+        }).retry((attempts, error) -> error instanceof DuplicateKeyException && attempts < MAX_CREATE_ATTEMPTS);
     }
 
     @Override
     public Maybe<AuthorizationCode> remove(String code, Client client) {
-        return authorizationCodeRepository.findByCode(code)
-                .switchIfEmpty(handleInvalidCode(code))
-                .flatMap(authorizationCode -> {
-                    if (!authorizationCode.getClientId().equals(client.getClientId())) {
-                        return Maybe.error(new InvalidGrantException("The authorization code " + code + " does not belong to the client " + client.getClientId() + "."));
-                    }
-                    return Maybe.just(authorizationCode);
-                })
-                .flatMap(authorizationCode -> authorizationCodeRepository.delete(authorizationCode.getId()));
+        // consume the code in a single atomic operation so that concurrent redemptions of the same code
+        // cannot both succeed, the lookup is only made to report why the code could not be consumed
+        return authorizationCodeRepository.findAndDelete(code, client.getClientId())
+                .switchIfEmpty(Maybe.defer(() -> authorizationCodeRepository.findByCode(code)
+                        .switchIfEmpty(Maybe.defer(() -> handleInvalidCode(code)))
+                        .flatMap(authorizationCode -> {
+                            if (!authorizationCode.getClientId().equals(client.getClientId())) {
+                                return Maybe.error(new InvalidGrantException("The authorization code " + code + " does not belong to the client " + client.getClientId() + "."));
+                            }
+                            return handleInvalidCode(code);
+                        })));
     }
 
-
     private Maybe<AuthorizationCode> handleInvalidCode(String code) {
         // The client MUST NOT use the authorization code more than once.
         // If an authorization code is used more than once, the authorization server MUST deny the request and SHOULD
         // revoke (when possible) all tokens previously issued based on that authorization code.
         // https://tools.ietf.org/html/rfc6749#section-4.1.2
-        return accessTokenRepository.findByAuthorizationCode(code)
-                .flatMapCompletable(accessToken -> {
-                    Completable deleteAccessTokenAction = accessTokenRepository.delete(accessToken.getToken());
-                    if (accessToken.getRefreshToken() != null) {
-                        deleteAccessTokenAction.andThen(refreshTokenRepository.delete(accessToken.getRefreshToken()));
-                    }
-                    return deleteAccessTokenAction;
-                })
+        return Completable.mergeArray(
+                accessTokenRepository.deleteByAuthorizationCode(code),
+                refreshTokenRepository.deleteByAuthorizationCode(code))
                 .andThen(Maybe.error(new InvalidGrantException("The authorization code " + code + " is invalid.")));
     }
 }
@@ -15,9 +15,12 @@
  */
 package io.gravitee.am.gateway.handler.oauth2.granter.extensiongrant;
 
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
 import io.gravitee.am.extensiongrant.api.ExtensionGrantProvider;
 import io.gravitee.am.gateway.handler.auth.UserAuthenticationManager;
 import io.gravitee.am.gateway.handler.auth.idp.IdentityProviderManager;
+import io.gravitee.am.gateway.handler.oauth2.assertion.JtiReplayCache;
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidGrantException;
 import io.gravitee.am.gateway.handler.oauth2.granter.AbstractTokenGranter;
 import io.gravitee.am.gateway.handler.oauth2.request.TokenRequest;
@@ -32,6 +35,7 @@ import io.reactivex.Maybe;
 import io.reactivex.MaybeSource;
 import io.reactivex.functions.Function;
 
+import java.text.ParseException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -44,17 +48,22 @@ import java.util.Map;
  */
 public class ExtensionGrantGranter extends AbstractTokenGranter {
 
+    private static final String JWT_BEARER_EXTENSION_GRANT = "jwtbearer-am-extension-grant";
+    private static final String ASSERTION_PARAMETER = "assertion";
+
     private final ExtensionGrantProvider extensionGrantProvider;
     private final ExtensionGrant extensionGrant;
     private final UserAuthenticationManager userAuthenticationManager;
     private final IdentityProviderManager identityProviderManager;
+    private final JtiReplayCache jtiReplayCache;
 
     public ExtensionGrantGranter(ExtensionGrantProvider extensionGrantProvider,
                                  ExtensionGrant extensionGrant,
                                  UserAuthenticationManager userAuthenticationManager,
                                  TokenService tokenService,
                                  TokenRequestResolver tokenRequestResolver,
-                                 IdentityProviderManager identityProviderManager) {
+                                 IdentityProviderManager identityProviderManager,
+                                 JtiReplayCache jtiReplayCache) {
         super(extensionGrant.getGrantType());
         setTokenService(tokenService);
         setTokenRequestResolver(tokenRequestResolver);
@@ -63,11 +72,12 @@ public class ExtensionGrantGranter extends AbstractTokenGranter {
         this.extensionGrant = extensionGrant;
         this.userAuthenticationManager = userAuthenticationManager;
         this.identityProviderManager = identityProviderManager;
+        this.jtiReplayCache = jtiReplayCache;
     }
 
     @Override
     protected Maybe<User> resolveResourceOwner(TokenRequest tokenRequest, Client client) {
-        return extensionGrantProvider.grant(convert(tokenRequest))
+        return grant(tokenRequest)
                 .flatMap(endUser -> {
                     if (extensionGrant.isCreateUser()) {
                         Map<String, Object> additionalInformation = endUser.getAdditionalInformation() == null ? new HashMap<>() : new HashMap<>(endUser.getAdditionalInformation());
@@ -111,6 +121,47 @@ public class ExtensionGrantGranter extends AbstractTokenGranter {
                 });
     }
 
+    private Maybe<io.gravitee.am.identityprovider.api.User> grant(TokenRequest tokenRequest) {
+        final JWTClaimsSet assertionClaims = getTrackedAssertionClaims(tokenRequest);
+        if (assertionClaims == null) {
+            return extensionGrantProvider.grant(convert(tokenRequest));
+        }
+
+        // reject a replayed assertion before the extension grant verifies its signature
+        final String issuer = assertionClaims.getIssuer();
+        final String jti = assertionClaims.getJWTID();
+        return jtiReplayCache.isReplayed(issuer, jti)
+                .flatMapMaybe(replayed -> {
+                    if (replayed) {
+                        return Maybe.error(new InvalidGrantException("Assertion has already been used"));
+                    }
+                    return extensionGrantProvider.grant(convert(tokenRequest))
+                            .flatMap(endUser -> jtiReplayCache.register(issuer, jti, assertionClaims.getExpirationTime())
+                                    .flatMapMaybe(registered -> registered ? Maybe.just(endUser) : Maybe.error(new InvalidGrantException("Assertion has already been used"))));
+                });
+    }
+
+    /**
+     * @return the claims of the JWT bearer assertion if its jti can be tracked until it expires, null otherwise
+     */
+    private JWTClaimsSet getTrackedAssertionClaims(TokenRequest tokenRequest) {
+        if (!JWT_BEARER_EXTENSION_GRANT.equals(extensionGrant.getType())) {
+            return null;
+        }
+        String assertion = tokenRequest.getRequestParameters().getFirst(ASSERTION_PARAMETER);
+        if (assertion == null) {
+            return null;
+        }
+        try {
+            // claims are only read here, the signature is verified by the extension grant
+            JWTClaimsSet claims = JWTParser.parse(assertion).getJWTClaimsSet();
+            return claims.getJWTID() != null && claims.getExpirationTime() != null ? claims : null;
+        } catch (ParseException ex) {
+            // let the extension grant reject the malformed assertion
+            return null;
+        }
+    }
+
     private io.gravitee.am.repository.oauth2.model.request.TokenRequest convert(TokenRequest _tokenRequest) {
         io.gravitee.am.repository.oauth2.model.request.TokenRequest tokenRequest = new io.gravitee.am.repository.oauth2.model.request.TokenRequest();
         tokenRequest.setClientId(_tokenRequest.getClientId());
@@ -19,6 +19,7 @@ import io.gravitee.am.extensiongrant.api.ExtensionGrantProvider;
 import io.gravitee.am.gateway.core.event.ExtensionGrantEvent;
 import io.gravitee.am.gateway.handler.auth.UserAuthenticationManager;
 import io.gravitee.am.gateway.handler.auth.idp.IdentityProviderManager;
+import io.gravitee.am.gateway.handler.oauth2.assertion.JtiReplayCache;
 import io.gravitee.am.gateway.handler.oauth2.granter.CompositeTokenGranter;
 import io.gravitee.am.gateway.handler.oauth2.granter.TokenGranter;
 import io.gravitee.am.gateway.handler.oauth2.granter.extensiongrant.ExtensionGrantGranter;
@@ -73,6 +74,9 @@ public class ExtensionGrantManagerImpl extends AbstractService implements Extens
     @Autowired
     private EventManager eventManager;
 
+    @Autowired
+    private JtiReplayCache jtiReplayCache;
+
     @Override
     public void afterPropertiesSet() {
         logger.info("Initializing extension grants for domain {}", domain.getName());
@@ -138,7 +142,7 @@ public class ExtensionGrantManagerImpl extends AbstractService implements Extens
 
         ExtensionGrantProvider extensionGrantProvider = extensionGrantPluginManager.create(extensionGrant.getType(), extensionGrant.getConfiguration(), authenticationProvider);
         ExtensionGrantGranter extensionGrantGranter = new ExtensionGrantGranter(extensionGrantProvider, extensionGrant,
-                userAuthenticationManager, tokenService, tokenRequestResolver, identityProviderManager);
+                userAuthenticationManager, tokenService, tokenRequestResolver, identityProviderManager, jtiReplayCache);
         ((CompositeTokenGranter) tokenGranter).addTokenGranter(extensionGrant.getId(), extensionGrantGranter);
     }
 }
@@ -19,12 +19,14 @@ import io.gravitee.am.gateway.handler.auth.EndUserAuthentication;
 import io.gravitee.am.gateway.handler.auth.UserAuthenticationManager;
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidGrantException;
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidRequestException;
+import io.gravitee.am.gateway.handler.oauth2.exception.TemporarilyUnavailableException;
 import io.gravitee.am.gateway.handler.oauth2.granter.AbstractTokenGranter;
 import io.gravitee.am.gateway.handler.oauth2.request.TokenRequest;
 import io.gravitee.am.gateway.handler.oauth2.request.TokenRequestResolver;
 import io.gravitee.am.gateway.handler.oauth2.token.TokenService;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.model.User;
+import io.gravitee.am.service.exception.ServiceUnavailableException;
 import io.gravitee.common.util.MultiValueMap;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
@@ -83,7 +85,12 @@ public class ResourceOwnerPasswordCredentialsTokenGranter extends AbstractTokenG
         String password = tokenRequest.getPassword();
 
         return userAuthenticationManager.authenticate(client, new EndUserAuthentication(username, password))
-                .onErrorResumeNext(ex -> Single.error(new InvalidGrantException(ex.getMessage())))
+                .onErrorResumeNext(ex -> {
+                    if (ex instanceof ServiceUnavailableException) {
+                        return Single.error(new TemporarilyUnavailableException(ex.getMessage()));
+                    }
+                    return Single.error(new InvalidGrantException(ex.getMessage()));
+                })
                 .toMaybe();
     }
 
@@ -20,7 +20,10 @@ import io.gravitee.am.gateway.handler.certificate.impl.CertificateManagerImpl;
 import io.gravitee.am.gateway.handler.oauth2.approval.ApprovalService;
 import io.gravitee.am.gateway.handler.oauth2.approval.impl.ApprovalServiceImpl;
 import io.gravitee.am.gateway.handler.oauth2.assertion.ClientAssertionService;
+import io.gravitee.am.gateway.handler.oauth2.assertion.JtiReplayCache;
 import io.gravitee.am.gateway.handler.oauth2.assertion.impl.ClientAssertionServiceImpl;
+import io.gravitee.am.gateway.handler.oauth2.assertion.impl.InMemoryJtiReplayCache;
+import io.gravitee.am.gateway.handler.oauth2.assertion.impl.RepositoryJtiReplayCache;
 import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
 import io.gravitee.am.gateway.handler.oauth2.client.impl.ClientSyncServiceImpl;
 import io.gravitee.am.gateway.handler.oauth2.code.AuthorizationCodeService;
@@ -41,6 +44,7 @@ import io.gravitee.am.gateway.handler.oauth2.token.TokenEnhancer;
 import io.gravitee.am.gateway.handler.oauth2.token.TokenService;
 import io.gravitee.am.gateway.handler.oauth2.token.impl.TokenEnhancerImpl;
 import io.gravitee.am.gateway.handler.oauth2.token.impl.TokenServiceImpl;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -51,6 +55,9 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class OAuth2Configuration {
 
+    @Value("${oauth2.assertion.replayStore:" + JtiReplayCache.MEMORY_STORE + "}")
+    private String assertionReplayStore;
+
     @Bean
     public TokenGranter tokenGranter() {
         return new CompositeTokenGranter();
@@ -109,6 +116,14 @@ public class OAuth2Configuration {
         return new ClientAssertionServiceImpl();
     }
 
+    @Bean
+    public JtiReplayCache jtiReplayCache() {
+        if (JtiReplayCache.REPOSITORY_STORE.equals(assertionReplayStore)) {
+            return new RepositoryJtiReplayCache();
+        }
+        return new InMemoryJtiReplayCache();
+    }
+
     @Bean
     public ScopeManager scopeManager() {
         return new ScopeManagerImpl();
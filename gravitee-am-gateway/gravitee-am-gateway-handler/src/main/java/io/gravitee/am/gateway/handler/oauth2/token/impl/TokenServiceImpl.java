@@ -34,6 +34,7 @@ import io.gravitee.am.gateway.handler.oauth2.utils.OIDCParameters;
 import io.gravitee.am.gateway.handler.oidc.discovery.OpenIDDiscoveryService;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.model.User;
+import io.gravitee.am.repository.exceptions.DuplicateKeyException;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.common.util.MultiValueMap;
@@ -55,6 +56,7 @@ public class TokenServiceImpl implements TokenService {
 
     private int accessTokenValiditySeconds = 60 * 60 * 12; // default 12 hours.
     private int refreshTokenValiditySeconds = 60 * 60 * 24 * 30; // default 30 days.
+    private static final int MAX_STORE_ATTEMPTS = 3;
 
     @Autowired
     private AccessTokenRepository accessTokenRepository;
@@ -115,7 +117,7 @@ public class TokenServiceImpl implements TokenService {
         return Single.just(oAuth2Request.isSupportRefreshToken())
                 .flatMap(supportRefreshToken -> {
                     if (supportRefreshToken) {
-                        return storeRefreshToken(client, endUser)
+                        return storeRefreshToken(oAuth2Request, client, endUser)
                                 .flatMap(refreshToken -> storeAccessToken(oAuth2Request, client, endUser, refreshToken.getToken())
                                         .flatMap(accessToken -> convert(accessToken, refreshToken, client, oAuth2Request)));
                     } else {
@@ -165,46 +167,69 @@ public class TokenServiceImpl implements TokenService {
      * @return access token
      */
     private Single<io.gravitee.am.repository.oauth2.model.AccessToken> storeAccessToken(OAuth2Request oAuth2Request, Client client, User endUser, String refreshToken) {
-        io.gravitee.am.repository.oauth2.model.AccessToken accessToken = new io.gravitee.am.repository.oauth2.model.AccessToken();
-        accessToken.setId(RandomString.generate());
-        accessToken.setToken(SecureRandomString.generate());
-        accessToken.setDomain(client.getDomain());
-        accessToken.setClient(client.getClientId());
-        accessToken.setSubject(endUser != null ? endUser.getId() : null);
-        accessToken.setCreatedAt(new Date());
-        accessToken.setExpireAt(new Date(System.currentTimeMillis() + (getAccessTokenValiditySeconds(client) * 1000L)));
-        // set authorization code
-        if (oAuth2Request.getRequestParameters() != null) {
-            MultiValueMap<String, String> requestParameters = oAuth2Request.getRequestParameters();
-            String authorizationCode = requestParameters.getFirst(OAuth2Constants.CODE);
-            if (authorizationCode != null) {
-                accessToken.setAuthorizationCode(authorizationCode);
+        // a new token value is generated for each attempt
+        return Single.defer(() -> {
+            io.gravitee.am.repository.oauth2.model.AccessToken accessToken = new io.gravitee.am.repository.oauth2.model.AccessToken();
+            accessToken.setId(RandomString.generate());
+            accessToken.setToken(SecureRandomString.generate());
+            accessToken.setDomain(client.getDomain());
+            accessToken.setClient(client.getClientId());
+            accessToken.setSubject(endUser != null ? endUser.getId() : null);
+            accessToken.setCreatedAt(new Date());
+            accessToken.setExpireAt(new Date(System.currentTimeMillis() + (getAccessTokenValiditySeconds(client) * 1000L)));
+            // set authorization code
+            accessToken.setAuthorizationCode(getAuthorizationCode(oAuth2Request));
+            // set refresh token
+            if (refreshToken != null) {
+                accessToken.setRefreshToken(refreshToken);
             }
-        }
-        // set refresh token
-        if (refreshToken != null) {
-            accessToken.setRefreshToken(refreshToken);
-        }
-        return accessTokenRepository.create(accessToken);
+            return accessTokenRepository.create(accessToken);
+        }).retry(this::isRetryable);
     }
 
     /**
      * Store refresh token
+     * @param oAuth2Request oauth2 token or authorization request
      * @param client oauth2 client
      * @param endUser oauth2 resource owner
      * @return refresh token
      */
-    private Single<io.gravitee.am.repository.oauth2.model.RefreshToken> storeRefreshToken(Client client, User endUser) {
-        io.gravitee.am.repository.oauth2.model.RefreshToken refreshToken = new io.gravitee.am.repository.oauth2.model.RefreshToken();
-        refreshToken.setId(RandomString.generate());
-        refreshToken.setToken(SecureRandomString.generate());
-        refreshToken.setDomain(client.getDomain());
-        refreshToken.setClient(client.getClientId());
-        refreshToken.setSubject(endUser != null ? endUser.getId() : null);
-        refreshToken.setCreatedAt(new Date());
-        refreshToken.setExpireAt(new Date(System.currentTimeMillis() + (getRefreshTokenValiditySeconds(client) * 1000L)));
-
-        return refreshTokenRepository.create(refreshToken);
+    private Single<io.gravitee.am.repository.oauth2.model.RefreshToken> storeRefreshToken(OAuth2Request oAuth2Request, Client client, User endUser) {
+        // a new token value is generated for each attempt
+        return Single.defer(() -> {
+            io.gravitee.am.repository.oauth2.model.RefreshToken refreshToken = new io.gravitee.am.repository.oauth2.model.RefreshToken();
+            refreshToken.setId(RandomString.generate());
+            refreshToken.setToken(SecureRandomString.generate());
+            refreshToken.setDomain(client.getDomain());
+            refreshToken.setClient(client.getClientId());
+            refreshToken.setSubject(endUser != null ? endUser.getId() : null);
+            refreshToken.setCreatedAt(new Date());
+            refreshToken.setExpireAt(new Date(System.currentTimeMillis() + (getRefreshTokenValiditySeconds(client) * 1000L)));
+            // set authorization code
+            refreshToken.setAuthorizationCode(getAuthorizationCode(oAuth2Request));
+
+            return refreshTokenRepository.create(refreshToken);
+        }).retry(this::isRetryable);
+    }
+
+    /**
+     * A token can be stored again with a new value if its value is already used by another token
+     * @param attempts number of failed attempts
+     * @param error storage error
+     * @return <code>true</code> to retry the operation
+     */
+    private boolean isRetryable(Integer attempts, Throwable error) {
+        return error instanceof DuplicateKeyException && attempts < MAX_STORE_ATTEMPTS;
+    }
+
+    /**
+     * Get the authorization code used to obtain the tokens, if any
+     * @param oAuth2Request oauth2 token or authorization request
+     * @return authorization code or <code>null</code>
+     */
+    private String getAuthorizationCode(OAuth2Request oAuth2Request) {
+        MultiValueMap<String, String> requestParameters = oAuth2Request.getRequestParameters();
+        return requestParameters != null ? requestParameters.getFirst(OAuth2Constants.CODE) : null;
     }
 
     /**
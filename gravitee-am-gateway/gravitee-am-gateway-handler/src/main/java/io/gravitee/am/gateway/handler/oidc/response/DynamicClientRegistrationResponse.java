@@ -569,6 +569,18 @@ public class DynamicClientRegistrationResponse {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Response to the registration of a client, the only one carrying the client secret since it is only stored hashed.
+     */
+    public static DynamicClientRegistrationResponse fromCreatedClient(Client client) {
+        DynamicClientRegistrationResponse response = fromClient(client);
+        response.setClientSecret(client.getClientSecret());
+        return response;
+    }
+
+    /**
+     * Response to the read or the update of a client, the stored client secret is never returned.
+     */
     public static DynamicClientRegistrationResponse fromClient(Client client) {
         DynamicClientRegistrationResponse response = new DynamicClientRegistrationResponse();
 
@@ -607,7 +619,6 @@ public class DynamicClientRegistrationResponse {
         response.setSoftwareVersion(client.getSoftwareVersion());
         response.setSoftwareStatement(client.getSoftwareStatement());
         response.setClientId(client.getClientId());
-        response.setClientSecret(client.getClientSecret());
         response.setRegistrationAccessToken(client.getRegistrationAccessToken());
         response.setRegistrationClientUri(client.getRegistrationClientUri());
         response.setClientIdIssuedAt(client.getClientIdIssuedAt());
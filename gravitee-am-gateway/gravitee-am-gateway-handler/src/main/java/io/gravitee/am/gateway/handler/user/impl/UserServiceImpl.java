@@ -176,9 +176,7 @@ public class UserServiceImpl implements UserService {
                 .map(users -> users.stream().filter(user -> user.isInternal()).findFirst())
                 .flatMapMaybe(optionalUser -> optionalUser.isPresent() ? Maybe.just(optionalUser.get()) : Maybe.empty())
                 .switchIfEmpty(Maybe.error(new UserNotFoundException(email)))
-                .toSingle()
-                .doOnSuccess(user -> new Thread(() -> completeForgotPassword(user, client)).start())
-                .toCompletable();
+                .flatMapCompletable(user -> completeForgotPassword(user, client));
 
     }
 
@@ -213,10 +211,12 @@ public class UserServiceImpl implements UserService {
         return scopeApprovalService.revoke(domain.getId(), userId, clientId);
     }
 
-    private void completeForgotPassword(User user, Client client) {
-        io.gravitee.am.model.Email email = emailManager.getEmail(getTemplateName(client), resetPasswordSubject, expireAfter);
-        Email email1 = convert(user, client, email, "/resetPassword", "resetPasswordUrl");
-        emailService.send(email1);
+    private Completable completeForgotPassword(User user, Client client) {
+        return Completable.defer(() -> {
+            io.gravitee.am.model.Email email = emailManager.getEmail(getTemplateName(client), resetPasswordSubject, expireAfter);
+            Email email1 = convert(user, client, email, "/resetPassword", "resetPasswordUrl");
+            return emailService.send(email1);
+        }).onErrorComplete();
     }
 
     private Email convert(User user, Client client, io.gravitee.am.model.Email email, String redirectUri, String redirectUriName) {
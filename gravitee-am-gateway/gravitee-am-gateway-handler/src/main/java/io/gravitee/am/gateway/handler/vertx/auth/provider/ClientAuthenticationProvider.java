@@ -17,7 +17,12 @@ package io.gravitee.am.gateway.handler.vertx.auth.provider;
 
 import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
 import io.gravitee.am.gateway.handler.oauth2.exception.BadClientCredentialsException;
+import io.gravitee.am.gateway.handler.oauth2.exception.TemporarilyUnavailableException;
 import io.gravitee.am.gateway.handler.vertx.auth.user.Client;
+import io.gravitee.am.service.authentication.crypto.password.ClientSecretEncoder;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoderScheduler;
+import io.gravitee.am.service.exception.ServiceUnavailableException;
+import io.reactivex.Single;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -27,6 +32,15 @@ import io.vertx.ext.auth.User;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
@@ -36,15 +50,40 @@ public class ClientAuthenticationProvider implements AuthProvider {
     private final Logger logger = LoggerFactory.getLogger(ClientAuthenticationProvider.class);
     private static final String USERNAME_FIELD = "username";
     private static final String PASSWORD_FIELD = "password";
+    private static final int VERIFICATION_CACHE_SIZE = 10000;
+    private static final long REJECTION_TTL = TimeUnit.SECONDS.toMillis(60);
 
     private ClientSyncService clientSyncService;
 
+    private ClientSecretEncoder clientSecretEncoder = new ClientSecretEncoder();
+
+    private PasswordEncoderScheduler passwordEncoderScheduler;
+
+    /**
+     * Successful verifications, keyed by client and digest of the submitted secret, with the stored secret they have
+     * been verified against. An entry is only used while the stored secret is unchanged so that renewing a client
+     * secret invalidates it.
+     */
+    private final Map<String, String> verifiedSecrets = verificationCache();
+
+    /**
+     * Failed verifications, keyed like the successful ones, so that replaying a wrong secret does not cost a new hash
+     * computation until the rejection expires or the stored secret changes.
+     */
+    private final Map<String, RejectedSecret> rejectedSecrets = verificationCache();
+
     public ClientAuthenticationProvider() {}
 
     public ClientAuthenticationProvider(ClientSyncService clientSyncService) {
         this.clientSyncService = clientSyncService;
     }
 
+    public ClientAuthenticationProvider(ClientSyncService clientSyncService, ClientSecretEncoder clientSecretEncoder, PasswordEncoderScheduler passwordEncoderScheduler) {
+        this.clientSyncService = clientSyncService;
+        this.clientSecretEncoder = clientSecretEncoder;
+        this.passwordEncoderScheduler = passwordEncoderScheduler;
+    }
+
     @Override
     public void authenticate(JsonObject credentials, Handler<AsyncResult<User>> authHandler) {
         String clientId = credentials.getString(USERNAME_FIELD);
@@ -55,13 +94,23 @@ public class ClientAuthenticationProvider implements AuthProvider {
         clientSyncService
                 .findByClientId(clientId)
                 .subscribe(
-                        client -> {
-                            if (client.getClientSecret().equals(clientSecret)) {
-                                authHandler.handle(Future.succeededFuture(new Client(client)));
-                            } else {
-                                authHandler.handle(Future.failedFuture(new BadClientCredentialsException()));
-                            }
-                        },
+                        client -> verify(client, clientSecret).subscribe(
+                                verified -> {
+                                    if (verified) {
+                                        authHandler.handle(Future.succeededFuture(new Client(client)));
+                                    } else {
+                                        authHandler.handle(Future.failedFuture(new BadClientCredentialsException()));
+                                    }
+                                },
+                                error -> {
+                                    if (error instanceof ServiceUnavailableException) {
+                                        // secret verifications are overloaded, let the client retry later
+                                        authHandler.handle(Future.failedFuture(new TemporarilyUnavailableException(error.getMessage())));
+                                    } else {
+                                        logger.error("Unexpected error while verifying a client secret: clientId[{}]", clientId, error);
+                                        authHandler.handle(Future.failedFuture(error));
+                                    }
+                                }),
                         error -> {
                             logger.error("Unexpected error while looking for a client: clientId[{}]", clientId, error);
                             authHandler.handle(Future.failedFuture(error));
@@ -73,4 +122,74 @@ public class ClientAuthenticationProvider implements AuthProvider {
     public void setClientSyncService(ClientSyncService clientSyncService) {
         this.clientSyncService = clientSyncService;
     }
+
+    public void setClientSecretEncoder(ClientSecretEncoder clientSecretEncoder) {
+        this.clientSecretEncoder = clientSecretEncoder;
+    }
+
+    public void setPasswordEncoderScheduler(PasswordEncoderScheduler passwordEncoderScheduler) {
+        this.passwordEncoderScheduler = passwordEncoderScheduler;
+    }
+
+    /**
+     * Verify the submitted secret against the stored one. Hashing may be CPU-heavy (BCrypt), so a secret which has
+     * not been verified yet is checked on the {@link PasswordEncoderScheduler} workers instead of the event loop.
+     */
+    private Single<Boolean> verify(io.gravitee.am.model.Client client, String clientSecret) {
+        String storedSecret = client.getClientSecret();
+        if (clientSecret == null || storedSecret == null) {
+            return Single.just(false);
+        }
+
+        String cacheKey = client.getClientId() + ':' + digest(clientSecret);
+        if (storedSecret.equals(verifiedSecrets.get(cacheKey))) {
+            return Single.just(true);
+        }
+        RejectedSecret rejectedSecret = rejectedSecrets.get(cacheKey);
+        if (rejectedSecret != null && rejectedSecret.rejects(storedSecret)) {
+            return Single.just(false);
+        }
+
+        return passwordEncoderScheduler.submit(() -> clientSecretEncoder.matches(clientSecret, storedSecret))
+                .doOnSuccess(matches -> {
+                    if (matches) {
+                        verifiedSecrets.put(cacheKey, storedSecret);
+                    } else {
+                        rejectedSecrets.put(cacheKey, new RejectedSecret(storedSecret, System.currentTimeMillis() + REJECTION_TTL));
+                    }
+                });
+    }
+
+    private static <V> Map<String, V> verificationCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<String, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > VERIFICATION_CACHE_SIZE;
+            }
+        });
+    }
+
+    private static String digest(String clientSecret) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(clientSecret.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static class RejectedSecret {
+
+        private final String storedSecret;
+        private final long expireAt;
+
+        RejectedSecret(String storedSecret, long expireAt) {
+            this.storedSecret = storedSecret;
+            this.expireAt = expireAt;
+        }
+
+        boolean rejects(String storedSecret) {
+            return this.storedSecret.equals(storedSecret) && System.currentTimeMillis() < expireAt;
+        }
+    }
 }
@@ -46,6 +46,8 @@ import io.gravitee.am.gateway.handler.vertx.handler.oauth2.endpoint.revocation.R
 import io.gravitee.am.gateway.handler.vertx.handler.oauth2.endpoint.token.TokenEndpointHandler;
 import io.gravitee.am.gateway.handler.vertx.handler.oauth2.endpoint.token.TokenRequestParseHandler;
 import io.gravitee.am.model.Domain;
+import io.gravitee.am.service.authentication.crypto.password.ClientSecretEncoder;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoderScheduler;
 import io.gravitee.common.http.MediaType;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpMethod;
@@ -94,6 +96,12 @@ public class OAuth2Router {
     @Autowired
     private ClientAssertionService clientAssertionService;
 
+    @Autowired
+    private ClientSecretEncoder clientSecretEncoder;
+
+    @Autowired
+    private PasswordEncoderScheduler passwordEncoderScheduler;
+
     @Autowired
     private ThymeleafTemplateEngine thymeleafTemplateEngine;
 
@@ -108,7 +116,7 @@ public class OAuth2Router {
         final Router router = Router.router(vertx);
 
         // create client authentication handlers
-        final AuthProvider clientAuthProvider = new AuthProvider(new ClientAuthenticationProvider(clientSyncService));
+        final AuthProvider clientAuthProvider = new AuthProvider(new ClientAuthenticationProvider(clientSyncService, clientSecretEncoder, passwordEncoderScheduler));
         final AuthProvider clientAssertionAuthProvider = new AuthProvider(new ClientAssertionAuthenticationProvider(clientAssertionService));
 
         final AuthHandler clientAuthHandler = ChainAuthHandler.newInstance(new ClientChainAuthHandler())
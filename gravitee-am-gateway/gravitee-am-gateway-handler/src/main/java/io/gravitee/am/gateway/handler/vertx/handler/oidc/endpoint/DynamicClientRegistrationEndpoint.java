@@ -20,6 +20,7 @@ import io.gravitee.am.gateway.handler.oidc.clientregistration.DynamicClientRegis
 import io.gravitee.am.gateway.handler.oidc.request.DynamicClientRegistrationRequest;
 import io.gravitee.am.gateway.handler.oidc.response.DynamicClientRegistrationResponse;
 import io.gravitee.am.gateway.handler.vertx.utils.UriBuilderRequest;
+import io.gravitee.am.model.Client;
 import io.gravitee.am.service.ClientService;
 import io.gravitee.am.service.exception.InvalidClientMetadataException;
 import io.gravitee.common.http.HttpHeaders;
@@ -77,18 +78,29 @@ public class DynamicClientRegistrationEndpoint implements Handler<RoutingContext
                 .flatMap(dcrService::applyDefaultCertificateProvider)
                 .flatMap(client -> dcrService.applyRegistrationAccessToken(extractBasePath(context), client))
                 .flatMap(clientService::create)
-                .map(clientSyncService::addDynamicClientRegistred)
+                .flatMap(this::cacheStoredClient)
                 .subscribe(
                         client -> context.response()
                                 .putHeader(HttpHeaders.CACHE_CONTROL, "no-store")
                                 .putHeader(HttpHeaders.PRAGMA, "no-cache")
                                 .putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
                                 .setStatusCode(HttpStatusCode.CREATED_201)
-                                .end(Json.encodePrettily(DynamicClientRegistrationResponse.fromClient(client)))
+                                .end(Json.encodePrettily(DynamicClientRegistrationResponse.fromCreatedClient(client)))
                         , error -> context.fail(error)
                 );
     }
 
+    /**
+     * The created client carries the plain client secret to return to the registering client,
+     * only the stored client, carrying its hash, is added to the gateway client cache.
+     */
+    private Single<Client> cacheStoredClient(Client createdClient) {
+        return clientService.findById(createdClient.getId())
+                .map(clientSyncService::addDynamicClientRegistred)
+                .map(storedClient -> createdClient)
+                .toSingle(createdClient);
+    }
+
     protected Single<DynamicClientRegistrationRequest> extractRequest(RoutingContext context) {
         try{
             if(context.getBodyAsJson()==null) {
@@ -15,28 +15,79 @@
  */
 package io.gravitee.am.gateway.handler.email;
 
+import freemarker.cache.FileTemplateLoader;
+import freemarker.cache.MultiTemplateLoader;
+import freemarker.cache.TemplateLoader;
+import freemarker.template.Configuration;
+import io.gravitee.am.gateway.core.event.EmailEvent;
 import io.gravitee.am.gateway.handler.email.impl.EmailManagerImpl;
+import io.gravitee.am.gateway.handler.vertx.view.freemarker.DomainBasedEmailTemplateLoader;
+import io.gravitee.am.model.Domain;
 import io.gravitee.am.model.Email;
 import io.gravitee.am.model.Template;
+import io.gravitee.am.model.common.event.Action;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.repository.management.api.EmailRepository;
+import io.gravitee.common.event.impl.SimpleEvent;
+import io.reactivex.Maybe;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
-
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.util.FileCopyUtils;
+
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import static org.mockito.Mockito.when;
+import static org.springframework.ui.freemarker.FreeMarkerTemplateUtils.processTemplateIntoString;
+
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
+@RunWith(MockitoJUnitRunner.class)
 public class EmailManagerTest {
 
+    @InjectMocks
     private EmailManager emailManager = new EmailManagerImpl();
 
+    @Mock
+    private EmailRepository emailRepository;
+
+    @Mock
+    private Domain domain;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Before
-    public void setUp() {
+    public void setUp() throws Exception {
         ((EmailManagerImpl) emailManager).setSubject("defaultSubject");
         ((EmailManagerImpl) emailManager).setDefaultFrom("defaultFrom");
+
+        // same template loaders as the gateway freemarker configuration
+        TemplateLoader overrideTemplateLoader = new DomainBasedEmailTemplateLoader();
+        Configuration configuration = new Configuration(Configuration.VERSION_2_3_22);
+        configuration.setLocalizedLookup(false);
+        configuration.setTemplateLoader(new MultiTemplateLoader(new TemplateLoader[] { overrideTemplateLoader, new FileTemplateLoader(folder.getRoot()) }));
+        ((EmailManagerImpl) emailManager).setConfiguration(configuration);
+        ((EmailManagerImpl) emailManager).setTemplateLoader(overrideTemplateLoader);
+        ((EmailManagerImpl) emailManager).setTemplatesPath(folder.getRoot().getAbsolutePath());
+
+        when(domain.getId()).thenReturn("domain1");
+        when(domain.getName()).thenReturn("domain1");
     }
 
     @Test
@@ -106,4 +157,84 @@ public class EmailManagerTest {
         Assert.assertEquals("Client subject", email.getSubject());
         Assert.assertEquals(10001, email.getExpiresAfter());
     }
+
+    @Test
+    public void shouldCompileTemplate_inlineLocalImages() throws Exception {
+        write("reset_password.html", "<html><body><img src=\"images/logo.png\"/><IMG alt='remote' src='https://gravitee.io/logo.png'>${user}</body></html>");
+
+        CompiledTemplate compiledTemplate = emailManager.getTemplate("reset_password.html");
+
+        Assert.assertEquals(Collections.singletonList("images/logo.png"), compiledTemplate.getResources());
+        Assert.assertEquals("<html><body><img src=\"cid:images/logo.png\"/><IMG alt='remote' src='https://gravitee.io/logo.png'>john</body></html>",
+                processTemplateIntoString(compiledTemplate.getTemplate(), Collections.singletonMap("user", "john")));
+        // compiled only once
+        Assert.assertSame(compiledTemplate, emailManager.getTemplate("reset_password.html"));
+    }
+
+    @Test
+    public void shouldCompileTemplate_ignoreOtherSrcAttributes() throws Exception {
+        write("reset_password.html", "<img data-src=\"images/lazy.png\" src=\"images/logo.png\"><img data-src=\"images/other.png\">");
+
+        CompiledTemplate compiledTemplate = emailManager.getTemplate("reset_password.html");
+
+        Assert.assertEquals(Collections.singletonList("images/logo.png"), compiledTemplate.getResources());
+        Assert.assertEquals("<img data-src=\"images/lazy.png\" src=\"cid:images/logo.png\"><img data-src=\"images/other.png\">",
+                processTemplateIntoString(compiledTemplate.getTemplate(), new HashMap<>()));
+    }
+
+    @Test
+    public void shouldCompileTemplate_expressionInImageTag() throws Exception {
+        write("reset_password.html", "<img alt=\"${(count > 1)?string('logos', 'logo')}\" ${(count > 1)?string('', '')} src=\"images/logo.png\">");
+
+        CompiledTemplate compiledTemplate = emailManager.getTemplate("reset_password.html");
+
+        Assert.assertEquals(Collections.singletonList("images/logo.png"), compiledTemplate.getResources());
+        Assert.assertEquals("<img alt=\"logos\"  src=\"cid:images/logo.png\">",
+                processTemplateIntoString(compiledTemplate.getTemplate(), Collections.singletonMap("count", 2)));
+    }
+
+    @Test
+    public void shouldCompileTemplate_emailUpdated() throws Exception {
+        write("reset_password.html", "default");
+        CompiledTemplate compiledTemplate = emailManager.getTemplate("reset_password.html");
+        Assert.assertEquals("default", processTemplateIntoString(compiledTemplate.getTemplate(), new HashMap<>()));
+
+        Email domainEmail = new Email();
+        domainEmail.setId("email1");
+        domainEmail.setEnabled(true);
+        domainEmail.setTemplate(Template.RESET_PASSWORD.template());
+        domainEmail.setDomain("domain1");
+        domainEmail.setContent("custom <img src=\"images/custom.png\">");
+        when(emailRepository.findById("email1")).thenReturn(Maybe.just(domainEmail));
+
+        ((EmailManagerImpl) emailManager).onEvent(new SimpleEvent<>(EmailEvent.UPDATE, new Payload("email1", "domain1", Action.UPDATE)));
+
+        CompiledTemplate updatedTemplate = emailManager.getTemplate("reset_password.html");
+        Assert.assertNotSame(compiledTemplate, updatedTemplate);
+        Assert.assertEquals("custom <img src=\"cid:images/custom.png\">", processTemplateIntoString(updatedTemplate.getTemplate(), new HashMap<>()));
+        Assert.assertEquals(Collections.singletonList("images/custom.png"), updatedTemplate.getResources());
+    }
+
+    @Test(expected = freemarker.template.TemplateNotFoundException.class)
+    public void shouldNotCompileTemplate_notFound() throws Exception {
+        emailManager.getTemplate("unknown.html");
+    }
+
+    @Test
+    public void shouldGetResource() throws Exception {
+        write("logo.png", "image");
+
+        Assert.assertEquals("image", FileCopyUtils.copyToString(new InputStreamReader(emailManager.getResource("logo.png").getInputStream(), StandardCharsets.UTF_8)));
+        Assert.assertSame(emailManager.getResource("logo.png"), emailManager.getResource("logo.png"));
+    }
+
+    @Test
+    public void shouldGetSubjectTemplate() throws Exception {
+        Assert.assertEquals("Hello john", processTemplateIntoString(emailManager.getSubjectTemplate("Hello ${user}"), Collections.singletonMap("user", "john")));
+        Assert.assertSame(emailManager.getSubjectTemplate("Hello ${user}"), emailManager.getSubjectTemplate("Hello ${user}"));
+    }
+
+    private void write(String name, String content) throws Exception {
+        Files.write(new File(folder.getRoot(), name).toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -26,11 +26,14 @@ import io.gravitee.am.model.Domain;
 import io.gravitee.am.model.User;
 import io.gravitee.am.model.oauth2.ScopeApproval;
 import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
+import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -39,7 +42,8 @@ import java.util.*;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
-import static org.mockito.Mockito.when;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Mockito.*;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -63,6 +67,11 @@ public class ApprovalServiceTest {
     @Mock
     private ScopeManager scopeManager;
 
+    @Before
+    public void setUp() {
+        when(clientSyncService.getAutoApproveScopes(any())).thenAnswer(invocation -> new AutoApproveScopes(((Client) invocation.getArguments()[0]).getAutoApproveScopes()));
+    }
+
     @Test
     public void shouldApproveRequest_clientAutoApproval() {
         final String clientId = "client_id";
@@ -202,7 +211,7 @@ public class ApprovalServiceTest {
         approvalParameters.put(OAuth2Constants.SCOPE_PREFIX + writeScope, "false");
         authorizationRequest.setApprovalParameters(approvalParameters);
 
-        when(scopeApprovalRepository.upsert(any())).thenReturn(Single.just(new ScopeApproval()));
+        when(scopeApprovalRepository.upsertAll(any())).thenReturn(Completable.complete());
 
         TestObserver<AuthorizationRequest> testObserver = approvalService.saveApproval(authorizationRequest, client, user).test();
         testObserver.awaitTerminalEvent();
@@ -212,6 +221,15 @@ public class ApprovalServiceTest {
         testObserver.assertValue(request -> request.isApproved());
         testObserver.assertValue(request -> request.getScopes().size() == 1);
         testObserver.assertValue(request -> request.getScopes().iterator().next().equals("read"));
+
+        // all the approvals are saved at once
+        verify(scopeApprovalRepository, times(1)).upsertAll(argThat(new ArgumentMatcher<Collection<ScopeApproval>>() {
+            @Override
+            public boolean matches(Object argument) {
+                return ((Collection<ScopeApproval>) argument).size() == 2;
+            }
+        }));
+        verify(scopeApprovalRepository, never()).upsert(any());
     }
 
     @Test
@@ -236,7 +254,7 @@ public class ApprovalServiceTest {
         approvalParameters.put(OAuth2Constants.SCOPE_PREFIX + writeScope, "false");
         authorizationRequest.setApprovalParameters(approvalParameters);
 
-        when(scopeApprovalRepository.upsert(any())).thenReturn(Single.just(new ScopeApproval()));
+        when(scopeApprovalRepository.upsertAll(any())).thenReturn(Completable.complete());
 
         TestObserver<AuthorizationRequest> testObserver = approvalService.saveApproval(authorizationRequest, client, user).test();
         testObserver.awaitTerminalEvent();
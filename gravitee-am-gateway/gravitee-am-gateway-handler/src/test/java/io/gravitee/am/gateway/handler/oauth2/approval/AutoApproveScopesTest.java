@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.approval;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class AutoApproveScopesTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(AutoApproveScopesTest.class);
+
+    @Test
+    public void shouldNotAutoApprove_noScopes() {
+        assertFalse(AutoApproveScopes.NONE.isAutoApprove("read"));
+        assertFalse(new AutoApproveScopes(Collections.emptyList()).isAutoApprove("read"));
+    }
+
+    @Test
+    public void shouldAutoApprove_allScopes() {
+        AutoApproveScopes autoApproveScopes = new AutoApproveScopes(Collections.singletonList("true"));
+        assertTrue(autoApproveScopes.isAutoApprove("read"));
+        assertTrue(autoApproveScopes.isAutoApprove("write"));
+    }
+
+    @Test
+    public void shouldAutoApprove_literalAndPatterns() {
+        AutoApproveScopes autoApproveScopes = new AutoApproveScopes(Arrays.asList("read", "write.*", "profile|email"));
+        assertTrue(autoApproveScopes.isAutoApprove("read"));
+        assertFalse(autoApproveScopes.isAutoApprove("reader"));
+        assertTrue(autoApproveScopes.isAutoApprove("write"));
+        assertTrue(autoApproveScopes.isAutoApprove("write:all"));
+        assertTrue(autoApproveScopes.isAutoApprove("email"));
+        assertFalse(autoApproveScopes.isAutoApprove("address"));
+    }
+
+    @Test
+    public void shouldAutoApprove_invalidPatternAsPlainScope() {
+        AutoApproveScopes autoApproveScopes = new AutoApproveScopes(Collections.singletonList("read("));
+        assertTrue(autoApproveScopes.isAutoApprove("read("));
+        assertFalse(autoApproveScopes.isAutoApprove("read"));
+    }
+
+    @Test
+    public void shouldMatchLikeStringMatches_microBenchmark() {
+        List<String> autoApproveScopes = Arrays.asList("openid", "profile", "email", "read:.*", "write:(users|groups)");
+        List<String> requestedScopes = Arrays.asList("openid", "email", "address", "read:users", "write:users", "write:clients");
+        AutoApproveScopes compiled = new AutoApproveScopes(autoApproveScopes);
+
+        // same decision as the previous String#matches based implementation
+        for (String scope : requestedScopes) {
+            assertEquals(scope, matches(autoApproveScopes, scope), compiled.isAutoApprove(scope));
+        }
+
+        int iterations = 20000;
+        int approved = 0;
+        for (int i = 0; i < iterations; i++) {
+            approved += run(autoApproveScopes, requestedScopes) + run(compiled, requestedScopes);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            approved += run(autoApproveScopes, requestedScopes);
+        }
+        long matchesTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            approved += run(compiled, requestedScopes);
+        }
+        long compiledTime = System.nanoTime() - start;
+
+        logger.info("Auto-approve of {} scopes, String#matches: {} ns/op, compiled: {} ns/op ({} approved)",
+                requestedScopes.size(), matchesTime / iterations, compiledTime / iterations, approved);
+    }
+
+    private static int run(List<String> autoApproveScopes, List<String> requestedScopes) {
+        int approved = 0;
+        for (String scope : requestedScopes) {
+            if (matches(autoApproveScopes, scope)) {
+                approved++;
+            }
+        }
+        return approved;
+    }
+
+    private static int run(AutoApproveScopes autoApproveScopes, List<String> requestedScopes) {
+        int approved = 0;
+        for (String scope : requestedScopes) {
+            if (autoApproveScopes.isAutoApprove(scope)) {
+                approved++;
+            }
+        }
+        return approved;
+    }
+
+    private static boolean matches(List<String> autoApproveScopes, String scope) {
+        for (String auto : autoApproveScopes) {
+            if (auto.equals("true") || scope.matches(auto)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -35,6 +35,7 @@ import io.gravitee.am.model.jose.JWK;
 import io.gravitee.am.model.jose.RSAKey;
 import io.gravitee.am.model.oidc.JWKSet;
 import io.reactivex.Maybe;
+import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -55,6 +56,9 @@ import java.util.Base64;
 import java.util.Date;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -82,6 +86,9 @@ public class ClientAssertionServiceTest {
     @Mock
     private OpenIDDiscoveryService openIDDiscoveryService;
 
+    @Mock
+    private JtiReplayCache jtiReplayCache;
+
     @InjectMocks
     private ClientAssertionService clientAssertionService = new ClientAssertionServiceImpl();
 
@@ -369,13 +376,95 @@ public class ClientAssertionServiceTest {
         testObserver.assertValue(client);
     }
 
+    @Test
+    public void testRsaJwt_withJti() throws NoSuchAlgorithmException, JOSEException{
+        KeyPair rsaKey = generareRsaKeyPair();
+        RSAKey key = generateRsaKey((RSAPublicKey) rsaKey.getPublic());
+
+        Client client = generateClient(key);
+        String assertion = generateJWT((RSAPrivateKey) rsaKey.getPrivate(), "jti-1");
+        OpenIDProviderMetadata openIDProviderMetadata = Mockito.mock(OpenIDProviderMetadata.class);
+        String basePath="/";
+
+        when(clientSyncService.findByClientId(any())).thenReturn(Maybe.just(client));
+        when(openIDProviderMetadata.getTokenEndpoint()).thenReturn(AUDIENCE);
+        when(openIDDiscoveryService.getConfiguration(basePath)).thenReturn(openIDProviderMetadata);
+        when(jwkService.getKey(any(),any())).thenReturn(Maybe.just(key));
+        when(jwsService.isValidSignature(any(),any())).thenReturn(true);
+        when(jtiReplayCache.isReplayed(ISSUER, "jti-1")).thenReturn(Single.just(false));
+        when(jtiReplayCache.register(eq(ISSUER), eq("jti-1"), any())).thenReturn(Single.just(true));
+
+        TestObserver testObserver = clientAssertionService.assertClient(JWT_BEARER_TYPE,assertion,basePath).test();
+
+        testObserver.assertNoErrors();
+        testObserver.assertValue(client);
+        verify(jtiReplayCache).register(eq(ISSUER), eq("jti-1"), any());
+    }
+
+    @Test
+    public void testRsaJwt_replayedJti() throws NoSuchAlgorithmException, JOSEException{
+        KeyPair rsaKey = generareRsaKeyPair();
+
+        String assertion = generateJWT((RSAPrivateKey) rsaKey.getPrivate(), "jti-1");
+        OpenIDProviderMetadata openIDProviderMetadata = Mockito.mock(OpenIDProviderMetadata.class);
+        String basePath="/";
+
+        when(openIDProviderMetadata.getTokenEndpoint()).thenReturn(AUDIENCE);
+        when(openIDDiscoveryService.getConfiguration(basePath)).thenReturn(openIDProviderMetadata);
+        when(jtiReplayCache.isReplayed(ISSUER, "jti-1")).thenReturn(Single.just(true));
+
+        TestObserver testObserver = clientAssertionService.assertClient(JWT_BEARER_TYPE,assertion,basePath).test();
+
+        testObserver.assertError(InvalidClientException.class);
+        testObserver.assertNotComplete();
+        verify(clientSyncService, never()).findByClientId(any());
+        verify(jtiReplayCache, never()).register(any(), any(), any());
+    }
+
+    @Test
+    public void testRsaJwt_concurrentlyReplayedJti() throws NoSuchAlgorithmException, JOSEException{
+        KeyPair rsaKey = generareRsaKeyPair();
+        RSAKey key = generateRsaKey((RSAPublicKey) rsaKey.getPublic());
+
+        Client client = generateClient(key);
+        String assertion = generateJWT((RSAPrivateKey) rsaKey.getPrivate(), "jti-1");
+        OpenIDProviderMetadata openIDProviderMetadata = Mockito.mock(OpenIDProviderMetadata.class);
+        String basePath="/";
+
+        when(clientSyncService.findByClientId(any())).thenReturn(Maybe.just(client));
+        when(openIDProviderMetadata.getTokenEndpoint()).thenReturn(AUDIENCE);
+        when(openIDDiscoveryService.getConfiguration(basePath)).thenReturn(openIDProviderMetadata);
+        when(jwkService.getKey(any(),any())).thenReturn(Maybe.just(key));
+        when(jwsService.isValidSignature(any(),any())).thenReturn(true);
+        when(jtiReplayCache.isReplayed(ISSUER, "jti-1")).thenReturn(Single.just(false));
+        when(jtiReplayCache.register(eq(ISSUER), eq("jti-1"), any())).thenReturn(Single.just(false));
+
+        TestObserver testObserver = clientAssertionService.assertClient(JWT_BEARER_TYPE,assertion,basePath).test();
+
+        testObserver.assertError(InvalidClientException.class);
+        testObserver.assertNotComplete();
+    }
+
     private KeyPair generareRsaKeyPair() throws NoSuchAlgorithmException{
         KeyPairGenerator kpg = KeyPairGenerator.getInstance("RSA");
         kpg.initialize(512);
         return kpg.generateKeyPair();
     }
 
+    private RSAKey generateRsaKey(RSAPublicKey publicKey) {
+        RSAKey key = new RSAKey();
+        key.setKty("RSA");
+        key.setKid(KID);
+        key.setE(Base64.getUrlEncoder().encodeToString(publicKey.getPublicExponent().toByteArray()));
+        key.setN(Base64.getUrlEncoder().encodeToString(publicKey.getModulus().toByteArray()));
+        return key;
+    }
+
     private String generateJWT(RSAPrivateKey privateKey) throws JOSEException {
+        return generateJWT(privateKey, null);
+    }
+
+    private String generateJWT(RSAPrivateKey privateKey, String jti) throws JOSEException {
         SignedJWT signedJWT = new SignedJWT(
                 new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(KID).build(),
                 new JWTClaimsSet.Builder()
@@ -383,6 +472,7 @@ public class ClientAssertionServiceTest {
                         .subject(CLIENT_ID)
                         .audience(AUDIENCE)
                         .expirationTime(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+                        .jwtID(jti)
                         .build()
         );
 
@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.assertion.impl;
+
+import io.reactivex.observers.TestObserver;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Date;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class InMemoryJtiReplayCacheTest {
+
+    private static final String ISSUER = "https://gravitee.io/test/oidc";
+
+    @Test
+    public void shouldRegisterJti() {
+        InMemoryJtiReplayCache cache = new InMemoryJtiReplayCache();
+
+        cache.isReplayed(ISSUER, "jti").test().assertValue(false);
+        cache.register(ISSUER, "jti", inOneHour()).test().assertValue(true);
+        cache.isReplayed(ISSUER, "jti").test().assertValue(true);
+    }
+
+    @Test
+    public void shouldNotRegisterJtiTwice() {
+        InMemoryJtiReplayCache cache = new InMemoryJtiReplayCache();
+
+        cache.register(ISSUER, "jti", inOneHour()).test().assertValue(true);
+        TestObserver<Boolean> testObserver = cache.register(ISSUER, "jti", inOneHour()).test();
+
+        testObserver.assertComplete();
+        testObserver.assertValue(false);
+    }
+
+    @Test
+    public void shouldScopeJtiByIssuer() {
+        InMemoryJtiReplayCache cache = new InMemoryJtiReplayCache();
+
+        cache.register(ISSUER, "jti", inOneHour()).test().assertValue(true);
+
+        cache.isReplayed("other-issuer", "jti").test().assertValue(false);
+        cache.register("other-issuer", "jti", inOneHour()).test().assertValue(true);
+    }
+
+    @Test
+    public void shouldIgnoreExpiredJti() {
+        InMemoryJtiReplayCache cache = new InMemoryJtiReplayCache();
+
+        cache.register(ISSUER, "jti", new Date(System.currentTimeMillis() - 1000)).test().assertValue(true);
+
+        cache.isReplayed(ISSUER, "jti").test().assertValue(false);
+        cache.register(ISSUER, "jti", inOneHour()).test().assertValue(true);
+    }
+
+    @Test
+    public void shouldPurgeExpiredJtiFirst() {
+        InMemoryJtiReplayCache cache = new InMemoryJtiReplayCache(2);
+
+        cache.register(ISSUER, "valid", inOneHour()).test().assertValue(true);
+        cache.register(ISSUER, "expired", new Date(System.currentTimeMillis() - 1000)).test().assertValue(true);
+        cache.register(ISSUER, "new", inOneHour()).test().assertValue(true);
+
+        Assert.assertEquals(2, cache.size());
+        cache.isReplayed(ISSUER, "valid").test().assertValue(true);
+        cache.isReplayed(ISSUER, "new").test().assertValue(true);
+    }
+
+    @Test
+    public void shouldEvictOldestJti() {
+        InMemoryJtiReplayCache cache = new InMemoryJtiReplayCache(2);
+
+        cache.register(ISSUER, "first", inOneHour()).test().assertValue(true);
+        cache.register(ISSUER, "second", inOneHour()).test().assertValue(true);
+        cache.register(ISSUER, "third", inOneHour()).test().assertValue(true);
+
+        Assert.assertEquals(2, cache.size());
+        cache.isReplayed(ISSUER, "first").test().assertValue(false);
+        cache.isReplayed(ISSUER, "second").test().assertValue(true);
+        cache.isReplayed(ISSUER, "third").test().assertValue(true);
+    }
+
+    private static Date inOneHour() {
+        return new Date(System.currentTimeMillis() + 3600 * 1000);
+    }
+}
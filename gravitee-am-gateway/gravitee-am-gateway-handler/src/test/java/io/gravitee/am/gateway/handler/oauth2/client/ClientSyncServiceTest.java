@@ -15,9 +15,122 @@
  */
 package io.gravitee.am.gateway.handler.oauth2.client;
 
+import io.gravitee.am.gateway.core.event.ClientEvent;
+import io.gravitee.am.gateway.core.event.ScopeEvent;
+import io.gravitee.am.gateway.handler.oauth2.approval.AutoApproveScopes;
+import io.gravitee.am.gateway.handler.oauth2.client.impl.ClientSyncServiceImpl;
+import io.gravitee.am.model.Client;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.common.event.Action;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.repository.management.api.ClientRepository;
+import io.gravitee.common.event.EventManager;
+import io.gravitee.common.event.impl.EventManagerImpl;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
+@RunWith(MockitoJUnitRunner.class)
 public class ClientSyncServiceTest {
+
+    private static final String DOMAIN = "domain1";
+
+    @InjectMocks
+    private ClientSyncService clientSyncService = new ClientSyncServiceImpl();
+
+    @Mock
+    private Domain domain;
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Spy
+    private EventManager eventManager = new EventManagerImpl();
+
+    @Before
+    public void setUp() throws Exception {
+        when(domain.getId()).thenReturn(DOMAIN);
+
+        Client client = new Client();
+        client.setId("client-1");
+        client.setClientId("client-id");
+        client.setDomain(DOMAIN);
+        client.setScopes(Arrays.asList("read", "write"));
+        client.setAutoApproveScopes(Collections.singletonList("read"));
+        when(clientRepository.findAll()).thenReturn(Single.just(Collections.singleton(client)));
+
+        ((ClientSyncServiceImpl) clientSyncService).afterPropertiesSet();
+        ((ClientSyncServiceImpl) clientSyncService).start();
+    }
+
+    @Test
+    public void shouldReloadClients_scopeDeleted() {
+        Client client = new Client();
+        client.setId("client-1");
+        client.setClientId("client-id");
+        client.setDomain(DOMAIN);
+        client.setScopes(Collections.singletonList("read"));
+        when(clientRepository.findByDomain(DOMAIN)).thenReturn(Single.just(new HashSet<>(Collections.singleton(client))));
+
+        eventManager.publishEvent(ScopeEvent.UNDEPLOY, new Payload("scope-write", DOMAIN, Action.DELETE));
+
+        TestObserver<Client> testObserver = clientSyncService.findByClientId("client-id").test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertValue(c -> c.getScopes().equals(Collections.singletonList("read")));
+        verify(clientRepository, times(1)).findByDomain(DOMAIN);
+    }
+
+    @Test
+    public void shouldNotReloadClients_otherDomain() {
+        eventManager.publishEvent(ScopeEvent.UNDEPLOY, new Payload("scope-write", "domain2", Action.DELETE));
+
+        verify(clientRepository, never()).findByDomain(anyString());
+    }
+
+    @Test
+    public void shouldNotReloadClients_scopeUpdated() {
+        eventManager.publishEvent(ScopeEvent.UPDATE, new Payload("scope-write", DOMAIN, Action.UPDATE));
+
+        verify(clientRepository, never()).findByDomain(anyString());
+    }
+
+    @Test
+    public void shouldCompileAutoApproveScopes_clientUpdated() {
+        Client client = new Client();
+        client.setId("client-1");
+        client.setClientId("client-id");
+        client.setDomain(DOMAIN);
+        client.setAutoApproveScopes(Collections.singletonList("write.*"));
+        when(clientRepository.findById("client-1")).thenReturn(Maybe.just(client));
+
+        AutoApproveScopes autoApproveScopes = clientSyncService.getAutoApproveScopes(client);
+        assertTrue(autoApproveScopes.isAutoApprove("read"));
+        assertFalse(autoApproveScopes.isAutoApprove("write:all"));
+        // compiled once per client
+        assertSame(autoApproveScopes, clientSyncService.getAutoApproveScopes(client));
+
+        eventManager.publishEvent(ClientEvent.UPDATE, new Payload("client-1", DOMAIN, Action.UPDATE));
+
+        autoApproveScopes = clientSyncService.getAutoApproveScopes(client);
+        assertFalse(autoApproveScopes.isAutoApprove("read"));
+        assertTrue(autoApproveScopes.isAutoApprove("write:all"));
+    }
 }
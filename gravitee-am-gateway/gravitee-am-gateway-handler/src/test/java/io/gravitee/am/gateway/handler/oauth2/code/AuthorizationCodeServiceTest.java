@@ -20,24 +20,23 @@ import io.gravitee.am.gateway.handler.oauth2.exception.InvalidGrantException;
 import io.gravitee.am.gateway.handler.oauth2.request.AuthorizationRequest;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.model.User;
+import io.gravitee.am.repository.exceptions.DuplicateKeyException;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
-import io.gravitee.am.repository.oauth2.model.AccessToken;
 import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
-import java.util.Arrays;
-import java.util.List;
+import static org.junit.Assert.assertNotEquals;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
@@ -78,36 +77,46 @@ public class AuthorizationCodeServiceTest {
         verify(authorizationCodeRepository, times(1)).create(any());
     }
 
-
     @Test
-    public void shouldRemove_existingCode() {
+    public void shouldCreate_retryOnDuplicateCode() {
         AuthorizationRequest authorizationRequest = new AuthorizationRequest();
         authorizationRequest.setClientId("my-client-id");
 
-        Client client = new Client();
-        client.setClientId("my-client-id");
-
-        AuthorizationCode authorizationCode = new AuthorizationCode();
-        authorizationCode.setCode("my-code");
-        authorizationCode.setClientId("my-client-id");
+        User user = new User();
+        user.setUsername("my-username-id");
 
-        when(authorizationCodeRepository.findByCode(any())).thenReturn(Maybe.just(authorizationCode));
-        when(authorizationCodeRepository.delete(anyString())).thenReturn(Maybe.just(authorizationCode));
-        when(accessTokenRepository.findByAuthorizationCode(anyString())).thenReturn(Observable.empty());
+        ArgumentCaptor<AuthorizationCode> authorizationCodeCaptor = ArgumentCaptor.forClass(AuthorizationCode.class);
+        when(authorizationCodeRepository.create(authorizationCodeCaptor.capture()))
+                .thenReturn(Single.error(new DuplicateKeyException("duplicate code")))
+                .thenReturn(Single.just(new AuthorizationCode()));
 
-        TestObserver<AuthorizationCode> testObserver = authorizationCodeService.remove(authorizationCode.getCode(), client).test();
+        TestObserver<AuthorizationCode> testObserver = authorizationCodeService.create(authorizationRequest, user).test();
         testObserver.assertComplete();
         testObserver.assertNoErrors();
 
-        verify(authorizationCodeRepository, times(1)).findByCode(any());
-        verify(authorizationCodeRepository, times(1)).delete(any());
-        verify(accessTokenRepository, times(1)).findByAuthorizationCode(anyString());
-        verify(accessTokenRepository, never()).delete(anyString());
-        verify(refreshTokenRepository, never()).delete(anyString());
+        verify(authorizationCodeRepository, times(2)).create(any());
+        assertNotEquals(authorizationCodeCaptor.getAllValues().get(0).getCode(), authorizationCodeCaptor.getAllValues().get(1).getCode());
     }
 
     @Test
-    public void shouldRemove_invalidCode_existingTokens_noRefreshToken() {
+    public void shouldNotCreate_duplicateCodeRetriesExhausted() {
+        AuthorizationRequest authorizationRequest = new AuthorizationRequest();
+        authorizationRequest.setClientId("my-client-id");
+
+        User user = new User();
+        user.setUsername("my-username-id");
+
+        when(authorizationCodeRepository.create(any())).thenReturn(Single.error(new DuplicateKeyException("duplicate code")));
+
+        TestObserver<AuthorizationCode> testObserver = authorizationCodeService.create(authorizationRequest, user).test();
+        testObserver.assertError(DuplicateKeyException.class);
+
+        verify(authorizationCodeRepository, times(3)).create(any());
+    }
+
+
+    @Test
+    public void shouldRemove_existingCode() {
         AuthorizationRequest authorizationRequest = new AuthorizationRequest();
         authorizationRequest.setClientId("my-client-id");
 
@@ -118,66 +127,72 @@ public class AuthorizationCodeServiceTest {
         authorizationCode.setCode("my-code");
         authorizationCode.setClientId("my-client-id");
 
-        AccessToken accessToken = new AccessToken();
-        accessToken.setToken("my-access-token-1");
-        accessToken.setAuthorizationCode("my-code");
+        when(authorizationCodeRepository.findAndDelete(authorizationCode.getCode(), client.getClientId())).thenReturn(Maybe.just(authorizationCode));
 
-        AccessToken accessToken2 = new AccessToken();
-        accessToken2.setToken("my-access-token-2");
-        accessToken2.setAuthorizationCode("my-code");
+        TestObserver<AuthorizationCode> testObserver = authorizationCodeService.remove(authorizationCode.getCode(), client).test();
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
 
-        List<AccessToken> tokens = Arrays.asList(accessToken, accessToken2);
+        verify(authorizationCodeRepository, times(1)).findAndDelete(authorizationCode.getCode(), client.getClientId());
+        verify(authorizationCodeRepository, never()).findByCode(any());
+        verify(accessTokenRepository, never()).deleteByAuthorizationCode(anyString());
+        verify(refreshTokenRepository, never()).deleteByAuthorizationCode(anyString());
+    }
+
+    @Test
+    public void shouldRemove_invalidCode_revokeTokens() {
+        Client client = new Client();
+        client.setClientId("my-client-id");
 
+        when(authorizationCodeRepository.findAndDelete(anyString(), anyString())).thenReturn(Maybe.empty());
         when(authorizationCodeRepository.findByCode(any())).thenReturn(Maybe.empty());
-        when(accessTokenRepository.findByAuthorizationCode(anyString())).thenReturn(Observable.fromIterable(tokens));
-        when(accessTokenRepository.delete(anyString())).thenReturn(Completable.complete());
+        when(accessTokenRepository.deleteByAuthorizationCode("my-code")).thenReturn(Completable.complete());
+        when(refreshTokenRepository.deleteByAuthorizationCode("my-code")).thenReturn(Completable.complete());
 
-        TestObserver<AuthorizationCode> testObserver = authorizationCodeService.remove(authorizationCode.getCode(), client).test();
+        TestObserver<AuthorizationCode> testObserver = authorizationCodeService.remove("my-code", client).test();
         testObserver.assertError(InvalidGrantException.class);
 
+        verify(authorizationCodeRepository, times(1)).findAndDelete(anyString(), anyString());
         verify(authorizationCodeRepository, times(1)).findByCode(any());
-        verify(accessTokenRepository, times(1)).findByAuthorizationCode(anyString());
-        verify(accessTokenRepository, times(2)).delete(anyString());
-        verify(authorizationCodeRepository, never()).delete(any());
+        verify(accessTokenRepository, times(1)).deleteByAuthorizationCode("my-code");
+        verify(refreshTokenRepository, times(1)).deleteByAuthorizationCode("my-code");
+        verify(accessTokenRepository, never()).delete(anyString());
         verify(refreshTokenRepository, never()).delete(anyString());
     }
 
     @Test
-    public void shouldRemove_invalidCode_existingTokens_refreshTokens() {
-        AuthorizationRequest authorizationRequest = new AuthorizationRequest();
-        authorizationRequest.setClientId("my-client-id");
-
+    public void shouldRemove_invalidCode_revokeTokensError() {
         Client client = new Client();
         client.setClientId("my-client-id");
 
-        AuthorizationCode authorizationCode = new AuthorizationCode();
-        authorizationCode.setCode("my-code");
-        authorizationCode.setClientId("my-client-id");
+        when(authorizationCodeRepository.findAndDelete(anyString(), anyString())).thenReturn(Maybe.empty());
+        when(authorizationCodeRepository.findByCode(any())).thenReturn(Maybe.empty());
+        when(accessTokenRepository.deleteByAuthorizationCode("my-code")).thenReturn(Completable.complete());
+        when(refreshTokenRepository.deleteByAuthorizationCode("my-code")).thenReturn(Completable.error(new IllegalStateException()));
 
-        AccessToken accessToken = new AccessToken();
-        accessToken.setToken("my-access-token-1");
-        accessToken.setAuthorizationCode("my-code");
-        accessToken.setRefreshToken("my-refresh-token-1");
+        TestObserver<AuthorizationCode> testObserver = authorizationCodeService.remove("my-code", client).test();
+        testObserver.assertError(IllegalStateException.class);
 
-        AccessToken accessToken2 = new AccessToken();
-        accessToken2.setToken("my-access-token-2");
-        accessToken2.setAuthorizationCode("my-code");
-        accessToken2.setRefreshToken("my-refresh-token-2");
+        verify(accessTokenRepository, times(1)).deleteByAuthorizationCode("my-code");
+        verify(refreshTokenRepository, times(1)).deleteByAuthorizationCode("my-code");
+    }
 
-        List<AccessToken> tokens = Arrays.asList(accessToken, accessToken2);
+    @Test
+    public void shouldNotRemove_codeOfAnotherClient() {
+        Client client = new Client();
+        client.setClientId("my-client-id");
 
-        when(authorizationCodeRepository.findByCode(any())).thenReturn(Maybe.empty());
-        when(accessTokenRepository.findByAuthorizationCode(anyString())).thenReturn(Observable.fromIterable(tokens));
-        when(accessTokenRepository.delete(anyString())).thenReturn(Completable.complete());
-        when(refreshTokenRepository.delete(anyString())).thenReturn(Completable.complete());
+        AuthorizationCode authorizationCode = new AuthorizationCode();
+        authorizationCode.setCode("my-code");
+        authorizationCode.setClientId("other-client-id");
+
+        when(authorizationCodeRepository.findAndDelete(authorizationCode.getCode(), client.getClientId())).thenReturn(Maybe.empty());
+        when(authorizationCodeRepository.findByCode(authorizationCode.getCode())).thenReturn(Maybe.just(authorizationCode));
 
         TestObserver<AuthorizationCode> testObserver = authorizationCodeService.remove(authorizationCode.getCode(), client).test();
         testObserver.assertError(InvalidGrantException.class);
 
-        verify(authorizationCodeRepository, times(1)).findByCode(any());
-        verify(accessTokenRepository, times(1)).findByAuthorizationCode(anyString());
-        verify(accessTokenRepository, times(2)).delete(anyString());
-        verify(refreshTokenRepository, times(2)).delete(anyString());
-        verify(authorizationCodeRepository, never()).delete(any());
+        verify(accessTokenRepository, never()).deleteByAuthorizationCode(anyString());
+        verify(refreshTokenRepository, never()).deleteByAuthorizationCode(anyString());
     }
 }
@@ -16,6 +16,8 @@
 package io.gravitee.am.gateway.handler.oauth2.granter.password;
 
 import io.gravitee.am.gateway.handler.auth.UserAuthenticationManager;
+import io.gravitee.am.gateway.handler.oauth2.exception.InvalidGrantException;
+import io.gravitee.am.gateway.handler.oauth2.exception.TemporarilyUnavailableException;
 import io.gravitee.am.gateway.handler.oauth2.request.OAuth2Request;
 import io.gravitee.am.gateway.handler.oauth2.request.TokenRequest;
 import io.gravitee.am.gateway.handler.oauth2.request.TokenRequestResolver;
@@ -25,9 +27,14 @@ import io.gravitee.am.gateway.handler.oauth2.token.impl.AccessToken;
 import io.gravitee.am.identityprovider.api.Authentication;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.model.User;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoderScheduler;
+import io.gravitee.am.service.authentication.crypto.password.bcrypt.BCryptPasswordEncoder;
+import io.gravitee.am.service.exception.authentication.BadCredentialsException;
 import io.gravitee.common.util.LinkedMultiValueMap;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -35,7 +42,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.when;
@@ -95,4 +112,118 @@ public class ResourceOwnerPasswordCredentialsTokenGranterTest {
 
     }
 
+    @Test
+    public void shouldNotGenerateAnAccessToken_badCredentials() {
+        Client client = passwordClient();
+
+        when(userAuthenticationManager.authenticate(any(Client.class), any(Authentication.class))).thenReturn(Single.error(new BadCredentialsException("Bad credentials")));
+
+        TestObserver<Token> testObserver = granter.grant(tokenRequest, client).test();
+        testObserver.assertNotComplete();
+        testObserver.assertError(InvalidGrantException.class);
+    }
+
+    @Test
+    public void shouldKeepEventLoopResponsive_concurrentPasswordGrants() throws Exception {
+        final int grants = 500;
+        final long tickPeriod = 5;
+        final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+        final String encodedPassword = passwordEncoder.encode("my-password");
+        final PasswordEncoderScheduler scheduler = new PasswordEncoderScheduler(2, grants);
+        final Set<Thread> verifyingThreads = ConcurrentHashMap.newKeySet();
+        Client client = passwordClient();
+
+        when(tokenRequest.createOAuth2Request()).thenReturn(new OAuth2Request());
+        when(tokenService.create(any(), any(), any())).thenReturn(Single.just(new AccessToken("test-token")));
+        // the identity provider verifies the password on the scheduler, as the Mongo identity provider does
+        when(userAuthenticationManager.authenticate(any(Client.class), any(Authentication.class))).thenReturn(
+                scheduler.submit(() -> {
+                    verifyingThreads.add(Thread.currentThread());
+                    return passwordEncoder.matches("my-password", encodedPassword);
+                }).map(matches -> {
+                    if (!matches) {
+                        throw new BadCredentialsException("Bad credentials");
+                    }
+                    return new User();
+                }));
+
+        // a single thread stands for the Vert.x event loop and issues all the grants
+        ScheduledExecutorService eventLoop = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "vert.x-eventloop-thread-0"));
+        try {
+            Thread eventLoopThread = eventLoop.submit(Thread::currentThread).get();
+
+            // a periodic task on the event loop measures how late it runs
+            AtomicLong lastTick = new AtomicLong(System.nanoTime());
+            AtomicLong maxLag = new AtomicLong();
+            eventLoop.scheduleAtFixedRate(() -> {
+                long now = System.nanoTime();
+                long lag = TimeUnit.NANOSECONDS.toMillis(now - lastTick.getAndSet(now)) - tickPeriod;
+                maxLag.accumulateAndGet(lag, Math::max);
+            }, tickPeriod, tickPeriod, TimeUnit.MILLISECONDS);
+
+            List<TestObserver<Token>> testObservers = Collections.synchronizedList(new ArrayList<>());
+            for (int i = 0; i < grants; i++) {
+                eventLoop.execute(() -> testObservers.add(granter.grant(tokenRequest, client).test()));
+            }
+            // wait for the event loop to have issued all the grants
+            eventLoop.submit(() -> null).get();
+
+            Assert.assertEquals(grants, testObservers.size());
+            for (TestObserver<Token> testObserver : testObservers) {
+                testObserver.awaitTerminalEvent(30, TimeUnit.SECONDS);
+                testObserver.assertValue(token -> token.getValue().equals("test-token"));
+            }
+            Assert.assertFalse(verifyingThreads.isEmpty());
+            Assert.assertFalse(verifyingThreads.contains(eventLoopThread));
+            // verifying the passwords on the event loop would delay the ticks for the whole run
+            Assert.assertTrue("Event loop lag " + maxLag.get() + " ms", maxLag.get() < 250);
+        } finally {
+            eventLoop.shutdownNow();
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldNotGenerateAnAccessToken_passwordVerificationsQueueFull() {
+        final PasswordEncoderScheduler scheduler = new PasswordEncoderScheduler(1, 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Client client = passwordClient();
+
+        when(tokenRequest.createOAuth2Request()).thenReturn(new OAuth2Request());
+        when(tokenService.create(any(), any(), any())).thenReturn(Single.just(new AccessToken("test-token")));
+        when(userAuthenticationManager.authenticate(any(Client.class), any(Authentication.class))).thenReturn(
+                scheduler.submit(() -> release.await(10, TimeUnit.SECONDS)).map(verified -> new User()));
+
+        try {
+            // the first grant occupies the single worker, the second one the single queue slot
+            granter.grant(tokenRequest, client).test();
+            granter.grant(tokenRequest, client).test();
+
+            TestObserver<Token> testObserver = granter.grant(tokenRequest, client).test();
+            testObserver.awaitTerminalEvent(10, TimeUnit.SECONDS);
+            testObserver.assertNotComplete();
+            testObserver.assertError(error -> error instanceof TemporarilyUnavailableException
+                    && ((TemporarilyUnavailableException) error).getHttpStatusCode() == 503
+                    && ((TemporarilyUnavailableException) error).getOAuth2ErrorCode().equals("temporarily_unavailable"));
+        } finally {
+            release.countDown();
+            scheduler.shutdown();
+        }
+    }
+
+    private Client passwordClient() {
+        LinkedMultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
+        parameters.set(ResourceOwnerPasswordCredentialsTokenGranter.USERNAME_PARAMETER, "my-username");
+        parameters.set(ResourceOwnerPasswordCredentialsTokenGranter.PASSWORD_PARAMETER, "my-password");
+
+        Client client = new Client();
+        client.setClientId("my-client-id");
+        client.setAuthorizedGrantTypes(Arrays.asList(new String[]{"password"}));
+
+        when(tokenRequest.getClientId()).thenReturn("my-client-id");
+        when(tokenRequest.getGrantType()).thenReturn("password");
+        when(tokenRequest.getRequestParameters()).thenReturn(parameters);
+        when(tokenRequestResolver.resolve(any(), any(), any())).thenReturn(Single.just(tokenRequest));
+        return client;
+    }
 }
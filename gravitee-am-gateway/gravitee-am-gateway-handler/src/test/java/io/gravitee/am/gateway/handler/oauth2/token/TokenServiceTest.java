@@ -25,6 +25,7 @@ import io.gravitee.am.gateway.handler.oauth2.token.impl.AccessToken;
 import io.gravitee.am.gateway.handler.oauth2.token.impl.TokenServiceImpl;
 import io.gravitee.am.gateway.handler.oidc.discovery.OpenIDDiscoveryService;
 import io.gravitee.am.model.Client;
+import io.gravitee.am.repository.exceptions.DuplicateKeyException;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.model.RefreshToken;
@@ -97,6 +98,46 @@ public class TokenServiceTest {
         Assert.assertTrue("client should be client_id", client.getClientId().equals(accessTokenCaptor.getValue().getClient()));
     }
 
+    @Test
+    public void shouldCreate_retryOnDuplicateToken() {
+        OAuth2Request oAuth2Request = new OAuth2Request();
+
+        Client client = new Client();
+        client.setClientId("my-client-id");
+
+        ArgumentCaptor<io.gravitee.am.repository.oauth2.model.AccessToken> accessTokenCaptor = ArgumentCaptor.forClass(io.gravitee.am.repository.oauth2.model.AccessToken.class);
+
+        when(jwtService.encode(any(), any(Client.class))).thenReturn(Single.just(""));
+        when(accessTokenRepository.create(accessTokenCaptor.capture()))
+                .thenReturn(Single.error(new DuplicateKeyException("duplicate token")))
+                .thenReturn(Single.just(new io.gravitee.am.repository.oauth2.model.AccessToken()));
+        when(tokenEnhancer.enhance(any(), any(), any(), any())).thenReturn(Single.just(new AccessToken("token-id")));
+
+        TestObserver<Token> testObserver = tokenService.create(oAuth2Request, client, null).test();
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+
+        verify(accessTokenRepository, times(2)).create(any());
+        Assert.assertNotEquals("a new token value should be generated",
+                accessTokenCaptor.getAllValues().get(0).getToken(), accessTokenCaptor.getAllValues().get(1).getToken());
+    }
+
+    @Test
+    public void shouldNotCreate_duplicateTokenRetriesExhausted() {
+        OAuth2Request oAuth2Request = new OAuth2Request();
+
+        Client client = new Client();
+        client.setClientId("my-client-id");
+
+        when(accessTokenRepository.create(any())).thenReturn(Single.error(new DuplicateKeyException("duplicate token")));
+
+        TestObserver<Token> testObserver = tokenService.create(oAuth2Request, client, null).test();
+        testObserver.assertError(DuplicateKeyException.class);
+
+        verify(accessTokenRepository, times(3)).create(any());
+        verify(tokenEnhancer, never()).enhance(any(), any(), any(), any());
+    }
+
     @Test
     public void shouldRefresh() {
         String clientId = "client-id";
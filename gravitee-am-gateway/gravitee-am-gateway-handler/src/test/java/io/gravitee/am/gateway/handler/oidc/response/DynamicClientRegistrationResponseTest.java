@@ -63,4 +63,14 @@ public class DynamicClientRegistrationResponseTest {
         assertEquals(response.getClientName(),"clientName");
         assertTrue(response.getJwks().getKeys().size()==2);
     }
+
+    @Test
+    public void clientSecretOnlyReturnedOnCreation() {
+        Client client = new Client();
+        client.setClientId("clientId");
+        client.setClientSecret("clientSecret");
+
+        assertNull(DynamicClientRegistrationResponse.fromClient(client).getClientSecret());
+        assertEquals("clientSecret", DynamicClientRegistrationResponse.fromCreatedClient(client).getClientSecret());
+    }
 }
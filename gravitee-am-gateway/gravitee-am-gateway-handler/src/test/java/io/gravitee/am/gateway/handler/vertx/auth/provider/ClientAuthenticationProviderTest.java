@@ -17,10 +17,14 @@ package io.gravitee.am.gateway.handler.vertx.auth.provider;
 
 import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
 import io.gravitee.am.gateway.handler.oauth2.exception.BadClientCredentialsException;
+import io.gravitee.am.gateway.handler.oauth2.exception.TemporarilyUnavailableException;
 import io.gravitee.am.gateway.handler.oauth2.utils.OAuth2Constants;
 import io.gravitee.am.model.Client;
+import io.gravitee.am.service.authentication.crypto.password.ClientSecretEncoder;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoderScheduler;
 import io.reactivex.Maybe;
 import io.vertx.core.json.JsonObject;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -30,10 +34,15 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -49,10 +58,18 @@ public class ClientAuthenticationProviderTest {
     @Mock
     private ClientSyncService clientSyncService;
 
+    private PasswordEncoderScheduler passwordEncoderScheduler = new PasswordEncoderScheduler(1, 10);
+
     @Before
     public void init() {
         initMocks(this);
         authProvider.setClientSyncService(clientSyncService);
+        authProvider.setPasswordEncoderScheduler(passwordEncoderScheduler);
+    }
+
+    @After
+    public void tearDown() {
+        passwordEncoderScheduler.shutdown();
     }
 
     @Test
@@ -130,4 +147,134 @@ public class ClientAuthenticationProviderTest {
 
         assertTrue(latch.await(10, TimeUnit.SECONDS));
     }
+
+    @Test
+    public void shouldAuthenticateClient_hashedSecretVerifiedOnce() throws Exception {
+        ClientSecretEncoder clientSecretEncoder = spy(new ClientSecretEncoder(ClientSecretEncoder.BCRYPT));
+        authProvider.setClientSecretEncoder(clientSecretEncoder);
+        String encodedSecret = clientSecretEncoder.encode("my-client-secret");
+
+        Client client = mock(Client.class);
+        when(client.getClientId()).thenReturn("my-client-id");
+        when(client.getClientSecret()).thenReturn(encodedSecret);
+        when(clientSyncService.findByClientId("my-client-id")).thenReturn(Maybe.just(client));
+
+        for (int i = 0; i < 100; i++) {
+            assertAuthenticated("my-client-id", "my-client-secret", true);
+        }
+
+        // the hash is computed once, next requests use the verification cache
+        verify(clientSecretEncoder, times(1)).matches("my-client-secret", encodedSecret);
+    }
+
+    @Test
+    public void shouldNotAuthenticateClient_rejectedSecretVerifiedOnce() throws Exception {
+        ClientSecretEncoder clientSecretEncoder = spy(new ClientSecretEncoder(ClientSecretEncoder.BCRYPT));
+        authProvider.setClientSecretEncoder(clientSecretEncoder);
+        String encodedSecret = clientSecretEncoder.encode("my-client-secret");
+
+        Client client = mock(Client.class);
+        when(client.getClientId()).thenReturn("my-client-id");
+        when(client.getClientSecret()).thenReturn(encodedSecret);
+        when(clientSyncService.findByClientId("my-client-id")).thenReturn(Maybe.just(client));
+
+        for (int i = 0; i < 100; i++) {
+            assertAuthenticated("my-client-id", "my-wrong-client-secret", false);
+        }
+
+        // the hash is computed once, next requests use the rejection cache
+        verify(clientSecretEncoder, times(1)).matches("my-wrong-client-secret", encodedSecret);
+
+        // renew client secret, the rejection no longer applies
+        String renewedSecret = clientSecretEncoder.encode("my-wrong-client-secret");
+        when(client.getClientSecret()).thenReturn(renewedSecret);
+        assertAuthenticated("my-client-id", "my-wrong-client-secret", true);
+    }
+
+    @Test
+    public void shouldNotAuthenticateClient_secretRenewed() throws Exception {
+        ClientSecretEncoder clientSecretEncoder = new ClientSecretEncoder(ClientSecretEncoder.HMAC_SHA256);
+        authProvider.setClientSecretEncoder(clientSecretEncoder);
+
+        Client client = mock(Client.class);
+        when(client.getClientId()).thenReturn("my-client-id");
+        when(client.getClientSecret()).thenReturn(clientSecretEncoder.encode("my-client-secret"));
+        when(clientSyncService.findByClientId("my-client-id")).thenReturn(Maybe.just(client));
+        assertAuthenticated("my-client-id", "my-client-secret", true);
+
+        // renew client secret
+        when(client.getClientSecret()).thenReturn(clientSecretEncoder.encode("my-new-client-secret"));
+        assertAuthenticated("my-client-id", "my-client-secret", false);
+        assertAuthenticated("my-client-id", "my-new-client-secret", true);
+    }
+
+    @Test
+    public void shouldAuthenticateClient_secretVerifiedOffCallingThread() throws Exception {
+        ClientSecretEncoder clientSecretEncoder = spy(new ClientSecretEncoder(ClientSecretEncoder.BCRYPT));
+        authProvider.setClientSecretEncoder(clientSecretEncoder);
+        String encodedSecret = clientSecretEncoder.encode("my-client-secret");
+        AtomicReference<Thread> verifyingThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            verifyingThread.set(Thread.currentThread());
+            return invocation.callRealMethod();
+        }).when(clientSecretEncoder).matches(anyString(), anyString());
+
+        Client client = mock(Client.class);
+        when(client.getClientId()).thenReturn("my-client-id");
+        when(client.getClientSecret()).thenReturn(encodedSecret);
+        when(clientSyncService.findByClientId("my-client-id")).thenReturn(Maybe.just(client));
+
+        assertAuthenticated("my-client-id", "my-client-secret", true);
+
+        Assert.assertNotEquals(Thread.currentThread(), verifyingThread.get());
+        Assert.assertTrue(verifyingThread.get().getName().startsWith("gio-am-password-"));
+    }
+
+    @Test
+    public void shouldNotAuthenticateClient_secretVerificationsOverloaded() throws Exception {
+        PasswordEncoderScheduler overloadedScheduler = new PasswordEncoderScheduler(1, 1);
+        authProvider.setPasswordEncoderScheduler(overloadedScheduler);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // occupy the single worker then the single queue slot
+            overloadedScheduler.submit(() -> release.await(10, TimeUnit.SECONDS)).subscribe();
+            overloadedScheduler.submit(() -> true).subscribe();
+
+            Client client = mock(Client.class);
+            when(client.getClientId()).thenReturn("my-client-id");
+            when(client.getClientSecret()).thenReturn("my-client-secret");
+            when(clientSyncService.findByClientId("my-client-id")).thenReturn(Maybe.just(client));
+            JsonObject credentials = new JsonObject();
+            credentials.put("username", "my-client-id");
+            credentials.put("password", "my-client-secret");
+
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicReference<Throwable> cause = new AtomicReference<>();
+            authProvider.authenticate(credentials, userAsyncResult -> {
+                cause.set(userAsyncResult.cause());
+                latch.countDown();
+            });
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertTrue(cause.get() instanceof TemporarilyUnavailableException);
+            Assert.assertEquals("temporarily_unavailable", ((TemporarilyUnavailableException) cause.get()).getOAuth2ErrorCode());
+        } finally {
+            release.countDown();
+            overloadedScheduler.shutdown();
+        }
+    }
+
+    private void assertAuthenticated(String clientId, String clientSecret, boolean authenticated) throws Exception {
+        JsonObject credentials = new JsonObject();
+        credentials.put("username", clientId);
+        credentials.put("password", clientSecret);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        authProvider.authenticate(credentials, userAsyncResult -> {
+            Assert.assertEquals(authenticated, userAsyncResult.succeeded());
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
 }
@@ -20,6 +20,7 @@ import io.gravitee.am.gateway.handler.oidc.clientregistration.DynamicClientRegis
 import io.gravitee.am.gateway.handler.oidc.request.DynamicClientRegistrationRequest;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.service.ClientService;
+import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonObject;
@@ -29,11 +30,14 @@ import io.vertx.reactivex.ext.web.RoutingContext;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
 /**
@@ -139,8 +143,15 @@ public class DynamicClientRegistrationEndpointTest {
         when(dcrService.applyDefaultIdentityProvider(any())).thenReturn(Single.just(new Client()));
         when(dcrService.applyDefaultCertificateProvider(any())).thenReturn(Single.just(new Client()));
         when(dcrService.applyRegistrationAccessToken(any(),any())).thenReturn(Single.just(new Client()));
-        when(clientService.create(any())).thenReturn(Single.just(new Client()));
-        when(clientSyncService.addDynamicClientRegistred(any())).thenReturn(new Client());
+        Client createdClient = new Client();
+        createdClient.setId("client-id");
+        createdClient.setClientSecret("plain-client-secret");
+        Client storedClient = new Client();
+        storedClient.setId("client-id");
+        storedClient.setClientSecret("{bcrypt}hashed-client-secret");
+        when(clientService.create(any())).thenReturn(Single.just(createdClient));
+        when(clientService.findById("client-id")).thenReturn(Maybe.just(storedClient));
+        when(clientSyncService.addDynamicClientRegistred(any())).thenAnswer(invocation -> invocation.getArguments()[0]);
 
         //Test
         endpoint.handle(routingContext);
@@ -148,6 +159,10 @@ public class DynamicClientRegistrationEndpointTest {
         //Assertions
         verify(routingContext, times(1)).response();
         verify(serverResponse,times(3)).putHeader(anyString(),anyString());
-        verify(serverResponse,times(1)).end(anyString());
+        verify(clientSyncService, times(1)).addDynamicClientRegistred(storedClient);
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(serverResponse,times(1)).end(body.capture());
+        assertTrue(body.getValue().contains("plain-client-secret"));
+        assertFalse(body.getValue().contains("hashed-client-secret"));
     }
 }
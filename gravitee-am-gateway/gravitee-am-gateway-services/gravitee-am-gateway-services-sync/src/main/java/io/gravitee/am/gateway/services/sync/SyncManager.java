@@ -20,6 +20,7 @@ import io.gravitee.am.model.Domain;
 import io.gravitee.am.model.common.event.Event;
 import io.gravitee.am.model.common.event.Type;
 import io.gravitee.am.repository.management.api.DomainRepository;
+import io.gravitee.am.repository.management.api.EventRepository;
 import io.gravitee.common.event.EventManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,17 +37,36 @@ public class SyncManager {
 
     private final Logger logger = LoggerFactory.getLogger(SyncManager.class);
 
+    private static final int EVENTS_BATCH_SIZE = 1000;
+
+    /**
+     * Delay after which a hole in the event sequence is considered as an event that will never be written.
+     */
+    private static final long EVENTS_GAP_TIMEOUT = 30000;
+
     @Autowired
     private DomainRepository domainRepository;
 
+    @Autowired
+    private EventRepository eventRepository;
+
     @Autowired
     private EventManager eventManager;
 
     private Map<String, Domain> deployedDomains = new HashMap<>();
 
+    private Long lastSequence;
+
     public void refresh() {
         logger.debug("Refreshing sync state...");
 
+        // Management events stored since the last refresh, domains deployed by this refresh load their latest state
+        readEvents().forEach(event -> {
+            if (!Type.DOMAIN.equals(event.getType()) && deployedDomains.containsKey(event.getPayload().getDomain())) {
+                eventManager.publishEvent(io.gravitee.am.gateway.core.event.Event.valueOf(event), event.getPayload());
+            }
+        });
+
         // Registered domains
         Set<Domain> domains = domainRepository.findAll()
                 // remove master domains
@@ -110,4 +130,30 @@ public class SyncManager {
                     }
                 });
     }
+
+    private List<Event> readEvents() {
+        if (lastSequence == null) {
+            lastSequence = eventRepository.lastSequence().blockingGet();
+            logger.debug("Start reading events after sequence {}", lastSequence);
+            return Collections.emptyList();
+        }
+
+        List<Event> events = new ArrayList<>();
+        List<Event> page;
+        do {
+            page = eventRepository.findBySequenceGreaterThan(lastSequence, EVENTS_BATCH_SIZE).blockingGet();
+            for (Event event : page) {
+                if (event.getSequence() != lastSequence + 1
+                        && event.getCreatedAt().getTime() > System.currentTimeMillis() - EVENTS_GAP_TIMEOUT) {
+                    // a previous event may still be being written, wait for the next refresh
+                    logger.debug("Missing event after sequence {}, waiting for the next refresh", lastSequence);
+                    return events;
+                }
+                events.add(event);
+                lastSequence = event.getSequence();
+            }
+        } while (page.size() == EVENTS_BATCH_SIZE);
+
+        return events;
+    }
 }
@@ -25,6 +25,9 @@ import io.gravitee.am.gateway.vertx.VertxServerConfiguration;
 import io.gravitee.am.plugins.certificate.spring.CertificateConfiguration;
 import io.gravitee.am.plugins.extensiongrant.spring.ExtensionGrantConfiguration;
 import io.gravitee.am.plugins.idp.spring.IdentityProviderConfiguration;
+import io.gravitee.am.repository.management.api.EmailQueueRepository;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoderScheduler;
+import io.gravitee.am.service.email.EmailQueueDispatcher;
 import io.gravitee.common.event.EventManager;
 import io.gravitee.node.api.Node;
 import io.gravitee.node.vertx.spring.VertxConfiguration;
@@ -32,9 +35,11 @@ import io.gravitee.plugin.core.spring.PluginConfiguration;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.Json;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Lazy;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -52,6 +57,27 @@ import org.springframework.context.annotation.Import;
 })
 public class StandaloneConfiguration {
 
+    @Value("${password.encoder.workers:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int passwordEncoderWorkers;
+
+    @Value("${password.encoder.queueSize:" + PasswordEncoderScheduler.DEFAULT_QUEUE_SIZE + "}")
+    private int passwordEncoderQueueSize;
+
+    @Value("${email.enabled:false}")
+    private boolean emailEnabled;
+
+    @Value("${email.queue.workers:" + EmailQueueDispatcher.DEFAULT_WORKERS + "}")
+    private int emailQueueWorkers;
+
+    @Value("${email.queue.pollInterval:" + EmailQueueDispatcher.DEFAULT_POLL_INTERVAL + "}")
+    private long emailQueuePollInterval;
+
+    @Value("${email.queue.maxAttempts:" + EmailQueueDispatcher.DEFAULT_MAX_ATTEMPTS + "}")
+    private int emailQueueMaxAttempts;
+
+    @Value("${email.queue.retryDelay:" + EmailQueueDispatcher.DEFAULT_RETRY_DELAY + "}")
+    private long emailQueueRetryDelay;
+
     @Bean
     public Node node() {
         return new GatewayNode();
@@ -67,6 +93,32 @@ public class StandaloneConfiguration {
         return io.vertx.reactivex.core.Vertx.newInstance(vertx);
     }
 
+    /**
+     * Shared by the security domains and the identity providers of the gateway.
+     */
+    @Bean
+    public PasswordEncoderScheduler passwordEncoderScheduler() {
+        return new PasswordEncoderScheduler(passwordEncoderWorkers, passwordEncoderQueueSize);
+    }
+
+    /**
+     * Shared by the security domains of the gateway, each one registers the delivery of its emails when deployed.
+     * Lazy since the repositories are only registered once the repository plugin is loaded.
+     */
+    @Bean(destroyMethod = "stop")
+    @Lazy
+    public EmailQueueDispatcher emailQueueDispatcher(EmailQueueRepository emailQueueRepository) {
+        EmailQueueDispatcher emailQueueDispatcher = new EmailQueueDispatcher(emailQueueRepository);
+        emailQueueDispatcher.setWorkers(emailQueueWorkers);
+        emailQueueDispatcher.setPollInterval(emailQueuePollInterval);
+        emailQueueDispatcher.setMaxAttempts(emailQueueMaxAttempts);
+        emailQueueDispatcher.setRetryDelay(emailQueueRetryDelay);
+        if (emailEnabled) {
+            emailQueueDispatcher.start("gio-am-email");
+        }
+        return emailQueueDispatcher;
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
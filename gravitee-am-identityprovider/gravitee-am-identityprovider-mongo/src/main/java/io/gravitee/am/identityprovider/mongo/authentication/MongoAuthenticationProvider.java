@@ -27,6 +27,7 @@ import io.gravitee.am.identityprovider.mongo.MongoIdentityProviderMapper;
 import io.gravitee.am.identityprovider.mongo.MongoIdentityProviderRoleMapper;
 import io.gravitee.am.identityprovider.mongo.authentication.spring.MongoAuthenticationProviderConfiguration;
 import io.gravitee.am.service.authentication.crypto.password.PasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoderScheduler;
 import io.gravitee.am.service.exception.authentication.BadCredentialsException;
 import io.gravitee.am.service.exception.authentication.UsernameNotFoundException;
 import io.reactivex.Maybe;
@@ -64,6 +65,9 @@ public class MongoAuthenticationProvider implements AuthenticationProvider {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private PasswordEncoderScheduler passwordEncoderScheduler;
+
     @Autowired
     private MongoIdentityProviderConfiguration configuration;
 
@@ -74,14 +78,19 @@ public class MongoAuthenticationProvider implements AuthenticationProvider {
         String username = (String)authentication.getPrincipal();
         return findUserByUsername(username)
                 .switchIfEmpty(Maybe.error(new UsernameNotFoundException(username)))
-                .map(user -> {
+                .flatMap(user -> {
                     String password = user.getString(this.configuration.getPasswordField());
                     String presentedPassword = authentication.getCredentials().toString();
-                    if (!passwordEncoder.matches(presentedPassword, password)) {
-                        LOGGER.debug("Authentication failed: password does not match stored value");
-                        throw new BadCredentialsException("Bad credentials");
-                    }
-                    return createUser(username, user);
+                    // verify the password out of the calling thread, hashing may be CPU-heavy
+                    return passwordEncoderScheduler.submit(() -> passwordEncoder.matches(presentedPassword, password))
+                            .map(matches -> {
+                                if (!matches) {
+                                    LOGGER.debug("Authentication failed: password does not match stored value");
+                                    throw new BadCredentialsException("Bad credentials");
+                                }
+                                return createUser(username, user);
+                            })
+                            .toMaybe();
                 });
     }
 
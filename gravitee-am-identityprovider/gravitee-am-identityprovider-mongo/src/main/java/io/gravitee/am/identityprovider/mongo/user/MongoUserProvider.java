@@ -25,6 +25,7 @@ import io.gravitee.am.identityprovider.api.UserProvider;
 import io.gravitee.am.identityprovider.mongo.MongoIdentityProviderConfiguration;
 import io.gravitee.am.identityprovider.mongo.authentication.spring.MongoAuthenticationProviderConfiguration;
 import io.gravitee.am.service.authentication.crypto.password.PasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoderScheduler;
 import io.gravitee.am.service.exception.UserAlreadyExistsException;
 import io.gravitee.am.service.exception.UserNotFoundException;
 import io.gravitee.common.utils.UUID;
@@ -41,6 +42,7 @@ import org.springframework.context.annotation.Import;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import static com.mongodb.client.model.Filters.eq;
 
@@ -58,6 +60,9 @@ public class MongoUserProvider implements UserProvider, InitializingBean {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private PasswordEncoderScheduler passwordEncoderScheduler;
+
     @Autowired
     private MongoClient mongoClient;
 
@@ -82,23 +87,26 @@ public class MongoUserProvider implements UserProvider, InitializingBean {
                     if (!isEmpty) {
                         return Single.error(new UserAlreadyExistsException(user.getUsername()));
                     } else {
-                        Document document = new Document();
-                        // set technical id
-                        document.put(FIELD_ID, user.getId() != null ? user.getId() : RandomString.generate());
-                        // set username
-                        document.put(configuration.getUsernameField(), user.getUsername());
-                        // set password
-                        if (user.getCredentials() != null) {
-                            document.put(configuration.getPasswordField(), passwordEncoder.encode(user.getCredentials()));
-                        }
-                        // set additional information
-                        if (user.getAdditionalInformation() != null) {
-                            document.putAll(user.getAdditionalInformation());
-                        }
-                        // set date fields
-                        document.put(FIELD_CREATED_AT, new Date());
-                        document.put(FIELD_UPDATED_AT, document.get(FIELD_CREATED_AT));
-                        return Single.fromPublisher(usersCollection.insertOne(document)).flatMap(success -> findById(document.getString(FIELD_ID)).toSingle());
+                        return encodePassword(user.getCredentials())
+                                .flatMap(password -> {
+                                    Document document = new Document();
+                                    // set technical id
+                                    document.put(FIELD_ID, user.getId() != null ? user.getId() : RandomString.generate());
+                                    // set username
+                                    document.put(configuration.getUsernameField(), user.getUsername());
+                                    // set password
+                                    if (password.isPresent()) {
+                                        document.put(configuration.getPasswordField(), password.get());
+                                    }
+                                    // set additional information
+                                    if (user.getAdditionalInformation() != null) {
+                                        document.putAll(user.getAdditionalInformation());
+                                    }
+                                    // set date fields
+                                    document.put(FIELD_CREATED_AT, new Date());
+                                    document.put(FIELD_UPDATED_AT, document.get(FIELD_CREATED_AT));
+                                    return Single.fromPublisher(usersCollection.insertOne(document)).flatMap(success -> findById(document.getString(FIELD_ID)).toSingle());
+                                });
                     }
                 });
     }
@@ -107,22 +115,23 @@ public class MongoUserProvider implements UserProvider, InitializingBean {
     public Single<User> update(String id, User updateUser) {
         return findById(id)
                 .switchIfEmpty(Maybe.error(new UserNotFoundException(id)))
-                .flatMapSingle(oldUser -> {
-                    Document document = new Document();
-                    // set username (keep the original value)
-                    document.put(configuration.getUsernameField(), oldUser.getUsername());
-                    // set password
-                    String password = (updateUser.getCredentials() == null) ? oldUser.getCredentials() : passwordEncoder.encode(updateUser.getCredentials());
-                    document.put(configuration.getPasswordField(), password);
-                    // set additional information
-                    if (updateUser.getAdditionalInformation() != null) {
-                        document.putAll(updateUser.getAdditionalInformation());
-                    }
-                    // set date fields
-                    document.put(FIELD_CREATED_AT, oldUser.getCreatedAt());
-                    document.put(FIELD_UPDATED_AT, new Date());
-                    return Single.fromPublisher(usersCollection.replaceOne(eq(FIELD_ID, oldUser.getId()), document)).flatMap(updateResult -> findById(oldUser.getId()).toSingle());
-                });
+                .flatMapSingle(oldUser -> encodePassword(updateUser.getCredentials())
+                        .flatMap(encodedPassword -> {
+                            Document document = new Document();
+                            // set username (keep the original value)
+                            document.put(configuration.getUsernameField(), oldUser.getUsername());
+                            // set password
+                            String password = encodedPassword.orElse(oldUser.getCredentials());
+                            document.put(configuration.getPasswordField(), password);
+                            // set additional information
+                            if (updateUser.getAdditionalInformation() != null) {
+                                document.putAll(updateUser.getAdditionalInformation());
+                            }
+                            // set date fields
+                            document.put(FIELD_CREATED_AT, oldUser.getCreatedAt());
+                            document.put(FIELD_UPDATED_AT, new Date());
+                            return Single.fromPublisher(usersCollection.replaceOne(eq(FIELD_ID, oldUser.getId()), document)).flatMap(updateResult -> findById(oldUser.getId()).toSingle());
+                        }));
     }
 
     @Override
@@ -164,6 +173,14 @@ public class MongoUserProvider implements UserProvider, InitializingBean {
         return user;
     }
 
+    private Single<Optional<String>> encodePassword(String rawPassword) {
+        if (rawPassword == null) {
+            return Single.just(Optional.empty());
+        }
+        // hash the password out of the calling thread, hashing may be CPU-heavy
+        return passwordEncoderScheduler.submit(() -> Optional.of(passwordEncoder.encode(rawPassword)));
+    }
+
     private String convertToJsonString(String rawString) {
         rawString = rawString.replaceAll("[^\\{\\}\\[\\],:]+", "\"$0\"").replaceAll("\\s+","");
         return rawString;
@@ -22,6 +22,7 @@ import io.gravitee.am.identityprovider.mongo.MongoIdentityProviderConfiguration;
 import io.gravitee.am.identityprovider.mongo.MongoIdentityProviderMapper;
 import io.gravitee.am.identityprovider.mongo.MongoIdentityProviderRoleMapper;
 import io.gravitee.am.identityprovider.mongo.utils.PasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoderScheduler;
 import io.reactivex.Observable;
 import org.bson.Document;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -78,6 +79,11 @@ public class MongoAuthenticationProviderTestConfiguration {
         return new MongoIdentityProviderRoleMapper();
     }
 
+    @Bean
+    public PasswordEncoderScheduler passwordEncoderScheduler() {
+        return new PasswordEncoderScheduler(1, PasswordEncoderScheduler.DEFAULT_QUEUE_SIZE);
+    }
+
     @Bean
     public EmbeddedClient embeddedClient() {
         return new EmbeddedClient("test-idp-mongo");
@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.handlers.management.api.provider;
+
+import io.gravitee.am.model.Certificate;
+import io.gravitee.am.model.Client;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.ExtensionGrant;
+import io.gravitee.am.model.IdentityProvider;
+import io.gravitee.am.model.Role;
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * Tag the entities read from the management API with a weak ETag built from their id and last update date, and answer
+ * a conditional GET whose If-None-Match matches the tag with a 304 Not Modified, the entity is then not serialized.
+ *
+ * @author GraviteeSource Team
+ */
+@Provider
+public class EntityTagResponseFilter implements ContainerResponseFilter {
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+        if (!HttpMethod.GET.equals(requestContext.getMethod()) || responseContext.getStatus() != HttpStatusCode.OK_200) {
+            return;
+        }
+
+        EntityTag entityTag = entityTag(responseContext.getEntity());
+        if (entityTag == null) {
+            return;
+        }
+
+        responseContext.getHeaders().putSingle(HttpHeaders.ETAG, entityTag);
+
+        // If-None-Match is compared weakly for a GET, only a 304 can be returned here
+        Response.ResponseBuilder notModified = requestContext.getRequest().evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            responseContext.setStatus(HttpStatusCode.NOT_MODIFIED_304);
+            responseContext.setEntity(null);
+            responseContext.getHeaders().remove(HttpHeaders.CONTENT_TYPE);
+        }
+    }
+
+    private static EntityTag entityTag(Object entity) {
+        if (entity instanceof Domain) {
+            return entityTag(((Domain) entity).getId(), ((Domain) entity).getUpdatedAt());
+        } else if (entity instanceof Client) {
+            return entityTag(((Client) entity).getId(), ((Client) entity).getUpdatedAt());
+        } else if (entity instanceof IdentityProvider) {
+            return entityTag(((IdentityProvider) entity).getId(), ((IdentityProvider) entity).getUpdatedAt());
+        } else if (entity instanceof Certificate) {
+            return entityTag(((Certificate) entity).getId(), ((Certificate) entity).getUpdatedAt());
+        } else if (entity instanceof ExtensionGrant) {
+            return entityTag(((ExtensionGrant) entity).getId(), ((ExtensionGrant) entity).getUpdatedAt());
+        } else if (entity instanceof Role) {
+            return entityTag(((Role) entity).getId(), ((Role) entity).getUpdatedAt());
+        }
+        return null;
+    }
+
+    private static EntityTag entityTag(String id, Date updatedAt) {
+        if (id == null || updatedAt == null) {
+            return null;
+        }
+        return new EntityTag(id + '-' + Long.toHexString(updatedAt.getTime()), true);
+    }
+}
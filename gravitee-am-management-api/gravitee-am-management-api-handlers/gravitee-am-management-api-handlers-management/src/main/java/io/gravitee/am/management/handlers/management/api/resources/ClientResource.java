@@ -77,7 +77,7 @@ public class ClientResource extends AbstractResource {
                     if (!client1.getDomain().equalsIgnoreCase(domain)) {
                         throw new BadRequestException("Client does not belong to domain");
                     }
-                    return Response.ok(client1).build();
+                    return Response.ok(withoutClientSecret(client1)).build();
                 })
                 .subscribe(
                         result -> response.resume(result),
@@ -99,7 +99,7 @@ public class ClientResource extends AbstractResource {
         domainService.findById(domain)
                 .switchIfEmpty(Maybe.error(new DomainNotFoundException(domain)))
                 .flatMapSingle(irrelevant -> clientService.patch(domain, client, patchClient))
-                .map(client1 -> Response.ok(client1).build())
+                .map(client1 -> Response.ok(withoutClientSecret(client1)).build())
                 .subscribe(
                         result -> response.resume(result),
                         error -> response.resume(error));
@@ -121,7 +121,7 @@ public class ClientResource extends AbstractResource {
                 .switchIfEmpty(Maybe.error(new DomainNotFoundException(domain)))
                 .flatMapSingle(irrelevant -> this.applyDefaultResponseType(patchClient))
                 .flatMap(patch -> clientService.patch(domain, client, patch, true))
-                .map(updatedClient -> Response.ok(updatedClient).build())
+                .map(updatedClient -> Response.ok(withoutClientSecret(updatedClient)).build())
                 .subscribe(
                         result -> response.resume(result),
                         error -> response.resume(error));
@@ -170,6 +170,14 @@ public class ClientResource extends AbstractResource {
         return resourceContext.getResource(ClientFormsResource.class);
     }
 
+    /**
+     * Only the hash of the client secret is stored, the plain secret is returned by the creation and the renewal of the secret only.
+     */
+    private static Client withoutClientSecret(Client client) {
+        client.setClientSecret(null);
+        return client;
+    }
+
     /**
      * Before dynamic client registration feature, response_type field was not managed.
      * In order to protect those who were using the PUT API without this new field, we'll add default value.
@@ -18,6 +18,7 @@ package io.gravitee.am.management.handlers.management.api.resources;
 import io.gravitee.am.management.handlers.management.api.resources.enhancer.ClientEnhancer;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.model.ClientListItem;
+import io.gravitee.am.model.common.Page;
 import io.gravitee.am.service.ClientService;
 import io.gravitee.am.service.DomainService;
 import io.gravitee.am.service.exception.DomainNotFoundException;
@@ -50,6 +51,9 @@ import java.util.stream.Collectors;
 @Api(tags = {"client"})
 public class ClientsResource extends AbstractResource {
 
+    private static final int MAX_CLIENTS_SIZE_PER_PAGE = 50;
+    private static final String MAX_CLIENTS_SIZE_PER_PAGE_STRING = "50";
+
     @Context
     private ResourceContext resourceContext;
 
@@ -64,25 +68,39 @@ public class ClientsResource extends AbstractResource {
 
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    @ApiOperation(value = "List registered clients for a security domain")
+    @ApiOperation(value = "List registered clients for a security domain",
+            notes = "When the page parameter is set, a page of clients sorted by client_id is returned instead of the whole list")
     @ApiResponses({
             @ApiResponse(code = 200, message = "List registered clients for a security domain",
                     response = ClientListItem.class, responseContainer = "Set"),
             @ApiResponse(code = 500, message = "Internal server error")})
     public void list(@PathParam("domain") String _domain,
                      @QueryParam("q") String query,
+                     @QueryParam("page") Integer page,
+                     @QueryParam("size") @DefaultValue(MAX_CLIENTS_SIZE_PER_PAGE_STRING) int size,
                      @Suspended final AsyncResponse response) {
         domainService.findById(_domain)
                 .switchIfEmpty(Maybe.error(new DomainNotFoundException(_domain)))
-                .flatMapSingle(domain -> getDomains(_domain, query)
-                        .map(clients -> {
-                            List<ClientListItem> sortedClients = clients.stream()
-                                    .map(clientEnhancer.enhanceClient(Collections.singletonMap(_domain, domain)))
-                                    .sorted((o1, o2) -> String.CASE_INSENSITIVE_ORDER.compare(o1.getClientId(), o2.getClientId()))
-                                    .collect(Collectors.toList());
-                            return Response.ok(sortedClients).build();
-                        })
-                )
+                .flatMapSingle(domain -> {
+                    if (query == null && page != null) {
+                        return clientService.findByDomain(_domain, page, Integer.min(size, MAX_CLIENTS_SIZE_PER_PAGE))
+                                .map(pagedClients -> {
+                                    List<ClientListItem> clients = pagedClients.getData()
+                                            .stream()
+                                            .map(clientEnhancer.enhanceClient(Collections.singletonMap(_domain, domain)))
+                                            .collect(Collectors.toList());
+                                    return Response.ok(new Page<>(clients, pagedClients.getCurrentPage(), pagedClients.getTotalCount())).build();
+                                });
+                    }
+                    return getDomains(_domain, query)
+                            .map(clients -> {
+                                List<ClientListItem> sortedClients = clients.stream()
+                                        .map(clientEnhancer.enhanceClient(Collections.singletonMap(_domain, domain)))
+                                        .sorted((o1, o2) -> String.CASE_INSENSITIVE_ORDER.compare(o1.getClientId(), o2.getClientId()))
+                                        .collect(Collectors.toList());
+                                return Response.ok(sortedClients).build();
+                            });
+                })
                 .subscribe(
                         result -> response.resume(result),
                         error -> response.resume(error));
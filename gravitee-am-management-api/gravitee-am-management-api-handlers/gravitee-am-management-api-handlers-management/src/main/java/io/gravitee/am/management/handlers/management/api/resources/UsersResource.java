@@ -26,7 +26,6 @@ import io.gravitee.am.service.exception.UserInvalidException;
 import io.gravitee.am.service.model.NewUser;
 import io.gravitee.common.http.MediaType;
 import io.reactivex.Maybe;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.swagger.annotations.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,7 +39,15 @@ import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -77,32 +84,33 @@ public class UsersResource extends AbstractResource {
                                 @QueryParam("q") String query,
                                 @QueryParam("page") @DefaultValue("0") int page,
                                 @QueryParam("size") @DefaultValue(MAX_USERS_SIZE_PER_PAGE_STRING) int size,
+                                @ApiParam(value = "nextCursor of the previous page, an empty value starts from the first user. Takes precedence over the page parameter")
+                                @QueryParam("cursor") String cursor,
                                 @Suspended final AsyncResponse response) {
         domainService.findById(domain)
                 .switchIfEmpty(Maybe.error(new DomainNotFoundException(domain)))
                 .flatMapSingle(irrelevant -> {
                     if (query != null) {
                         return userService.search(domain, query, Integer.min(size, MAX_USERS_SIZE_PER_PAGE));
+                    } else if (cursor != null) {
+                        return userService.findByDomain(domain, cursor, Integer.min(size, MAX_USERS_SIZE_PER_PAGE));
                     } else {
                         return userService.findByDomain(domain, page, Integer.min(size, MAX_USERS_SIZE_PER_PAGE));
                     }
                 })
-                .flatMap(pagedUsers ->
-                        Observable.fromIterable(pagedUsers.getData())
-                            .flatMapSingle(user -> {
-                                if (user.getSource() != null) {
-                                    return identityProviderService.findById(user.getSource())
-                                            .map(idP -> {
-                                                user.setSource(idP.getName());
-                                                return user;
-                                            })
-                                            .defaultIfEmpty(user)
-                                            .toSingle();
-                                }
-                                return Single.just(user);
-                            })
-                            .toSortedList(Comparator.comparing(User::getUsername))
-                            .map(users -> new Page(users, pagedUsers.getCurrentPage(), pagedUsers.getTotalCount()))
+                .flatMap(pagedUsers -> getIdentityProviderNames(pagedUsers.getData())
+                        .map(identityProviderNames -> {
+                            List<User> users = pagedUsers.getData()
+                                    .stream()
+                                    .peek(user -> {
+                                        if (user.getSource() != null && identityProviderNames.containsKey(user.getSource())) {
+                                            user.setSource(identityProviderNames.get(user.getSource()));
+                                        }
+                                    })
+                                    .sorted(Comparator.comparing(User::getUsername))
+                                    .collect(Collectors.toList());
+                            return new Page(users, pagedUsers.getCurrentPage(), pagedUsers.getTotalCount(), pagedUsers.getNextCursor());
+                        })
                 )
                 .map(users -> Response.ok(users).build())
                 .subscribe(
@@ -148,6 +156,22 @@ public class UsersResource extends AbstractResource {
                         error -> response.resume(error));
     }
 
+    /**
+     * Resolve the names of the identity providers of a page of users with a single lookup.
+     */
+    private Single<Map<String, String>> getIdentityProviderNames(Collection<User> users) {
+        Set<String> sources = users.stream().map(User::getSource).filter(Objects::nonNull).collect(Collectors.toSet());
+        if (sources.isEmpty()) {
+            return Single.just(Collections.emptyMap());
+        }
+        return identityProviderService.findByIdIn(sources)
+                .map(identityProviders -> {
+                    Map<String, String> identityProviderNames = new HashMap<>();
+                    identityProviders.forEach(identityProvider -> identityProviderNames.put(identityProvider.getId(), identityProvider.getName()));
+                    return identityProviderNames;
+                });
+    }
+
     @Path("{user}")
     public UserResource getUserResource() {
         return resourceContext.getResource(UserResource.class);
@@ -127,11 +127,11 @@ public class DashboardClientsResource extends AbstractResource {
                     .flatMapSingle(domain -> {
                         Map<String, Domain> domains = new HashMap<>();
                         domains.put(domainId, domain);
-                        return clientService.findTopClientsByDomain(domainId)
+                        return clientService.findTopClientsByDomain(domainId, selectedSize)
                                 .map(topClients -> new AbstractMap.SimpleEntry<>(topClients, domains));
                     });
         } else {
-            singleDashboardTopClients = clientService.findTopClients()
+            singleDashboardTopClients = clientService.findTopClients(selectedSize)
                     .flatMap(topClients -> {
                         Set<String> domainIds = topClients.stream().map(c -> c.getClient().getDomain()).collect(Collectors.toSet());
                         return domainService.findByIdIn(domainIds)
@@ -39,12 +39,20 @@ import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class JWTAuthenticationFilter extends AbstractAuthenticationProcessingFilter implements InitializingBean {
 
+    private static final int MAX_CACHED_TOKENS = 1000;
+
     @Value("${jwt.secret:s3cR3t4grAv1t3310AMS1g1ingDftK3y}")
     private String jwtSecret;
     @Value("${jwt.cookie-path:/}")
@@ -52,6 +60,13 @@ public class JWTAuthenticationFilter extends AbstractAuthenticationProcessingFil
     @Value("${jwt.cookie-name:Auth-Graviteeio-AM}")
     private String authCookieName;
     private Key key;
+    private JwtParser jwtParser;
+
+    /**
+     * Claims of the tokens already verified, by token hash. The UI polls the API with the same token, there is no need
+     * to verify its signature again until it expires.
+     */
+    private final ConcurrentMap<String, CachedClaims> claimsCache = new ConcurrentHashMap<>();
 
     public JWTAuthenticationFilter(RequestMatcher requiresAuthenticationRequestMatcher) {
         super(requiresAuthenticationRequestMatcher);
@@ -86,8 +101,7 @@ public class JWTAuthenticationFilter extends AbstractAuthenticationProcessingFil
         }
 
         try {
-            JwtParser jwtParser = Jwts.parser().setSigningKey(key);
-            Claims claims = jwtParser.parseClaimsJws(authToken).getBody();
+            Claims claims = parseClaims(authToken);
             DefaultUser user = new DefaultUser(claims.getSubject());
             user.setAdditionalInformation(claims);
             return new UsernamePasswordAuthenticationToken(user, null, AuthorityUtils.NO_AUTHORITIES);
@@ -112,6 +126,39 @@ public class JWTAuthenticationFilter extends AbstractAuthenticationProcessingFil
 
         // init JWT signing key
         key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parser().setSigningKey(key);
+    }
+
+    private Claims parseClaims(String authToken) throws NoSuchAlgorithmException {
+        final long now = System.currentTimeMillis();
+        final String tokenHash = hash(authToken);
+
+        CachedClaims cachedClaims = claimsCache.get(tokenHash);
+        if (cachedClaims != null) {
+            if (cachedClaims.expireAt > now) {
+                // copy the claims, they are exposed as the user additional information
+                return Jwts.claims(cachedClaims.claims);
+            }
+            claimsCache.remove(tokenHash, cachedClaims);
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(authToken).getBody();
+
+        // tokens without expiration are not cached, the cache must not outlive the token
+        if (claims.getExpiration() != null) {
+            if (claimsCache.size() >= MAX_CACHED_TOKENS) {
+                claimsCache.values().removeIf(cached -> cached.expireAt <= now);
+            }
+            if (claimsCache.size() < MAX_CACHED_TOKENS) {
+                claimsCache.put(tokenHash, new CachedClaims(Jwts.claims(claims), claims.getExpiration().getTime()));
+            }
+        }
+        return claims;
+    }
+
+    private static String hash(String authToken) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return Base64.getEncoder().encodeToString(digest.digest(authToken.getBytes(StandardCharsets.UTF_8)));
     }
 
     private void removeJWTAuthenticationCookie(HttpServletResponse response) {
@@ -121,6 +168,16 @@ public class JWTAuthenticationFilter extends AbstractAuthenticationProcessingFil
         response.addCookie(cookie);
     }
 
+    private static class CachedClaims {
+        private final Claims claims;
+        private final long expireAt;
+
+        private CachedClaims(Claims claims, long expireAt) {
+            this.claims = claims;
+            this.expireAt = expireAt;
+        }
+    }
+
     private static class NoopAuthenticationManager implements AuthenticationManager {
 
         @Override
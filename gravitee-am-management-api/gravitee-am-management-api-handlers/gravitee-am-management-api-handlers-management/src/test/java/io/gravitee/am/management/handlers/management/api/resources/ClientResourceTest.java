@@ -19,14 +19,18 @@ import io.gravitee.am.management.handlers.management.api.JerseySpringTest;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.model.Domain;
 import io.gravitee.am.service.exception.ClientNotFoundException;
+import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.HttpStatusCode;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import org.junit.Test;
 
 import javax.ws.rs.core.Response;
+import java.util.Date;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.doReturn;
 
 /**
@@ -46,6 +50,7 @@ public class ClientResourceTest extends JerseySpringTest {
         mockClient.setId(clientId);
         mockClient.setClientId("client-name");
         mockClient.setDomain(domainId);
+        mockClient.setClientSecret("{bcrypt}$2a$10$hashed-client-secret");
 
         doReturn(Maybe.just(mockDomain)).when(domainService).findById(domainId);
         doReturn(Maybe.just(mockClient)).when(clientService).findById(clientId);
@@ -56,6 +61,30 @@ public class ClientResourceTest extends JerseySpringTest {
         final Client client = response.readEntity(Client.class);
         assertEquals(domainId, client.getDomain());
         assertEquals(clientId, client.getId());
+        assertNull(client.getClientSecret());
+    }
+
+    @Test
+    public void shouldGetClient_notModified() {
+        final String domainId = "domain-id";
+        final Domain mockDomain = new Domain();
+        mockDomain.setId(domainId);
+
+        final String clientId = "client-id";
+        final Client mockClient = new Client();
+        mockClient.setId(clientId);
+        mockClient.setClientId("client-name");
+        mockClient.setDomain(domainId);
+        mockClient.setUpdatedAt(new Date(1000L));
+
+        doReturn(Maybe.just(mockDomain)).when(domainService).findById(domainId);
+        doReturn(Maybe.just(mockClient)).when(clientService).findById(clientId);
+
+        final Response response = target("domains").path(domainId).path("clients").path(clientId).request()
+                .header(HttpHeaders.IF_NONE_MATCH, "\"client-id-3e8\"")
+                .get();
+        assertEquals(HttpStatusCode.NOT_MODIFIED_304, response.getStatus());
+        assertFalse(response.hasEntity());
     }
 
     @Test
@@ -115,6 +144,7 @@ public class ClientResourceTest extends JerseySpringTest {
         mockClient.setId(clientId);
         mockClient.setClientId("client-name");
         mockClient.setDomain(domainId);
+        mockClient.setClientSecret("new-client-secret");
 
         doReturn(Maybe.just(mockDomain)).when(domainService).findById(domainId);
         doReturn(Single.just(mockClient)).when(clientService).renewClientSecret(domainId, clientId);
@@ -127,6 +157,7 @@ public class ClientResourceTest extends JerseySpringTest {
                 .request()
                 .post(null);
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        assertEquals("new-client-secret", response.readEntity(Client.class).getClientSecret());
     }
 
     @Test
@@ -18,6 +18,7 @@ package io.gravitee.am.management.handlers.management.api.resources;
 import io.gravitee.am.management.handlers.management.api.JerseySpringTest;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.common.Page;
 import io.gravitee.am.service.exception.TechnicalManagementException;
 import io.gravitee.am.service.model.NewClient;
 import io.gravitee.common.http.HttpStatusCode;
@@ -30,6 +31,7 @@ import javax.ws.rs.core.Response;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
@@ -72,6 +74,35 @@ public class ClientsResourceTest extends JerseySpringTest {
         assertTrue(responseEntity.size() == 2);
     }
 
+    @Test
+    public void shouldGetClients_paged() {
+        final String domainId = "domain-1";
+        final Domain mockDomain = new Domain();
+        mockDomain.setId(domainId);
+
+        final Client mockClient = new Client();
+        mockClient.setId("client-1-id");
+        mockClient.setClientId("client-1-name");
+        mockClient.setDomain(domainId);
+
+        final Page<Client> pagedClients = new Page<>(Arrays.asList(mockClient), 1, 11);
+
+        doReturn(Maybe.just(mockDomain)).when(domainService).findById(domainId);
+        doReturn(Single.just(pagedClients)).when(clientService).findByDomain(domainId, 1, 10);
+
+        final Response response = target("domains").path(domainId).path("clients")
+                .queryParam("page", 1)
+                .queryParam("size", 10)
+                .request()
+                .get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+
+        final Map<String, Object> responseEntity = response.readEntity(Map.class);
+        assertEquals(1, responseEntity.get("currentPage"));
+        assertEquals(11, responseEntity.get("totalCount"));
+        assertEquals(1, ((List) responseEntity.get("data")).size());
+    }
+
     @Test
     public void shouldGetClients_technicalManagementException() {
         final String domainId = "domain-1";
@@ -18,13 +18,17 @@ package io.gravitee.am.management.handlers.management.api.resources;
 import io.gravitee.am.management.handlers.management.api.JerseySpringTest;
 import io.gravitee.am.model.Domain;
 import io.gravitee.am.service.exception.TechnicalManagementException;
+import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.HttpStatusCode;
 import io.reactivex.Maybe;
 import org.junit.Test;
 
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.Response;
+import java.util.Date;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.doReturn;
 
 /**
@@ -49,6 +53,58 @@ public class DomainResourceTest extends JerseySpringTest {
         assertEquals("domain-name", domain.getName());
     }
 
+    @Test
+    public void shouldGetDomain_entityTag() {
+        final String domainId = "domain-id";
+        final Domain mockDomain = new Domain();
+        mockDomain.setId(domainId);
+        mockDomain.setName("domain-name");
+        mockDomain.setUpdatedAt(new Date(1000L));
+
+        doReturn(Maybe.just(mockDomain)).when(domainService).findById(domainId);
+
+        final Response response = target("domains").path(domainId).request().get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        assertEquals(new EntityTag("domain-id-3e8", true), response.getEntityTag());
+    }
+
+    @Test
+    public void shouldGetDomain_notModified() {
+        final String domainId = "domain-id";
+        final Domain mockDomain = new Domain();
+        mockDomain.setId(domainId);
+        mockDomain.setName("domain-name");
+        mockDomain.setUpdatedAt(new Date(1000L));
+
+        doReturn(Maybe.just(mockDomain)).when(domainService).findById(domainId);
+
+        final Response response = target("domains").path(domainId).request()
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"domain-id-3e8\"")
+                .get();
+        assertEquals(HttpStatusCode.NOT_MODIFIED_304, response.getStatus());
+        assertEquals(new EntityTag("domain-id-3e8", true), response.getEntityTag());
+        assertFalse(response.hasEntity());
+    }
+
+    @Test
+    public void shouldGetDomain_modified() {
+        final String domainId = "domain-id";
+        final Domain mockDomain = new Domain();
+        mockDomain.setId(domainId);
+        mockDomain.setName("domain-name");
+        mockDomain.setUpdatedAt(new Date(2000L));
+
+        doReturn(Maybe.just(mockDomain)).when(domainService).findById(domainId);
+
+        final Response response = target("domains").path(domainId).request()
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"domain-id-3e8\"")
+                .get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+
+        final Domain domain = response.readEntity(Domain.class);
+        assertEquals("domain-name", domain.getName());
+    }
+
     @Test
     public void shouldGetDomain_notFound() {
         final String domainId = "domain-id";
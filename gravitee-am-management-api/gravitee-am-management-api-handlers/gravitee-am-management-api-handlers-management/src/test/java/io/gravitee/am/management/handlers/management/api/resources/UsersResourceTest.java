@@ -17,6 +17,7 @@ package io.gravitee.am.management.handlers.management.api.resources;
 
 import io.gravitee.am.management.handlers.management.api.JerseySpringTest;
 import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.IdentityProvider;
 import io.gravitee.am.model.User;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.service.exception.TechnicalManagementException;
@@ -29,14 +30,22 @@ import org.junit.Test;
 
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Response;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -77,6 +86,85 @@ public class UsersResourceTest extends JerseySpringTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
     }
 
+    @Test
+    public void shouldGetUsers_resolveIdentityProvidersOncePerPage() {
+        final String domainId = "domain-1";
+        final Domain mockDomain = new Domain();
+        mockDomain.setId(domainId);
+
+        final IdentityProvider identityProvider = new IdentityProvider();
+        identityProvider.setId("idp-1");
+        identityProvider.setName("Identity provider 1");
+
+        final IdentityProvider identityProvider2 = new IdentityProvider();
+        identityProvider2.setId("idp-2");
+        identityProvider2.setName("Identity provider 2");
+
+        final List<User> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            User user = new User();
+            user.setId("user-id-" + i);
+            user.setUsername("username-" + i);
+            user.setDomain(domainId);
+            user.setSource(i % 2 == 0 ? "idp-1" : "idp-2");
+            users.add(user);
+        }
+        final Page<User> pagedUsers = new Page<>(users, 0, 10);
+
+        reset(identityProviderService);
+        doReturn(Maybe.just(mockDomain)).when(domainService).findById(domainId);
+        doReturn(Single.just(pagedUsers)).when(userService).findByDomain(domainId, 0, 10);
+        doReturn(Single.just(new HashSet<>(Arrays.asList(identityProvider, identityProvider2)))).when(identityProviderService).findByIdIn(any());
+
+        final Response response = target("domains")
+                .path(domainId)
+                .path("users")
+                .queryParam("page", 0)
+                .queryParam("size", 10)
+                .request()
+                .get();
+
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        final String entity = response.readEntity(String.class);
+        assertTrue(entity.contains("Identity provider 1"));
+        assertTrue(entity.contains("Identity provider 2"));
+        verify(identityProviderService, times(1)).findByIdIn(new HashSet<>(Arrays.asList("idp-1", "idp-2")));
+        verify(identityProviderService, never()).findById(anyString());
+    }
+
+    @Test
+    public void shouldGetUsers_withCursor() {
+        final String domainId = "domain-1";
+        final Domain mockDomain = new Domain();
+        mockDomain.setId(domainId);
+
+        final User mockUser = new User();
+        mockUser.setId("user-id-3");
+        mockUser.setUsername("username-3");
+        mockUser.setDomain(domainId);
+
+        final Page<User> pagedUsers = new Page<>(Arrays.asList(mockUser), 0, 3, "next-cursor");
+
+        reset(userService);
+        doReturn(Maybe.just(mockDomain)).when(domainService).findById(domainId);
+        doReturn(Single.just(pagedUsers)).when(userService).findByDomain(domainId, "cursor-2", 10);
+
+        final Response response = target("domains")
+                .path(domainId)
+                .path("users")
+                .queryParam("cursor", "cursor-2")
+                .queryParam("size", 10)
+                .request()
+                .get();
+
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        String entity = response.readEntity(String.class);
+        assertTrue(entity.contains("username-3"));
+        assertTrue(entity.contains("\"nextCursor\":\"next-cursor\""));
+        verify(userService, times(1)).findByDomain(domainId, "cursor-2", 10);
+        verify(userService, never()).findByDomain(anyString(), anyInt(), anyInt());
+    }
+
     @Test
     public void shouldGetUsers_technicalManagementException() {
         final String domainId = "domain-1";
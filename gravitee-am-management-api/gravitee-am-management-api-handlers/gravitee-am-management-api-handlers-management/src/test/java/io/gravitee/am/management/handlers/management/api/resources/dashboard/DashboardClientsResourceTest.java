@@ -151,7 +151,7 @@ public class DashboardClientsResourceTest extends JerseySpringTest {
 
         final Set<TopClient> topClients = new HashSet<>(Arrays.asList(mockTopClient, mockTopClient2));
 
-        doReturn(Single.just(topClients)).when(clientService).findTopClients();
+        doReturn(Single.just(topClients)).when(clientService).findTopClients(10);
         doReturn(Single.just(new HashSet<>(Arrays.asList(mockDomain)))).when(domainService).findByIdIn(new HashSet(Arrays.asList(domainId)));
 
         final Response response = target("dashboard")
@@ -193,7 +193,7 @@ public class DashboardClientsResourceTest extends JerseySpringTest {
         final Set<TopClient> topClients = new HashSet<>(Arrays.asList(mockTopClient, mockTopClient2));
 
         doReturn(Maybe.just(mockDomain)).when(domainService).findById(domainId);
-        doReturn(Single.just(topClients)).when(clientService).findTopClientsByDomain(domainId);
+        doReturn(Single.just(topClients)).when(clientService).findTopClientsByDomain(domainId, 10);
 
         final Response response = target("dashboard")
                 .path("clients")
@@ -208,7 +208,7 @@ public class DashboardClientsResourceTest extends JerseySpringTest {
 
     @Test
     public void shouldListTopClients_technicalManagementException() {
-        doReturn(Single.error(new TechnicalManagementException("Error occurs"))).when(clientService).findTopClients();
+        doReturn(Single.error(new TechnicalManagementException("Error occurs"))).when(clientService).findTopClients(10);
         final Response response = target("dashboard")
                 .path("clients")
                 .path("top")
@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.handlers.management.api.spring.security.filter;
+
+import io.gravitee.am.identityprovider.api.DefaultUser;
+import io.gravitee.common.http.HttpHeaders;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class JWTAuthenticationFilterTest {
+
+    private static final String SECRET = "s3cR3t4grAv1t3310AMS1g1ingDftK3y";
+
+    private JWTAuthenticationFilter filter;
+
+    @Before
+    public void setUp() {
+        filter = new JWTAuthenticationFilter(new AntPathRequestMatcher("/**"));
+        ReflectionTestUtils.setField(filter, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(filter, "jwtCookiePath", "/");
+        ReflectionTestUtils.setField(filter, "authCookieName", "Auth-Graviteeio-AM");
+        filter.afterPropertiesSet();
+    }
+
+    @Test
+    public void shouldAuthenticate() {
+        String token = token("admin", SECRET, new Date(System.currentTimeMillis() + 60_000));
+
+        Authentication authentication = filter.attemptAuthentication(request(token), new MockHttpServletResponse());
+
+        assertEquals("admin", ((DefaultUser) authentication.getPrincipal()).getUsername());
+    }
+
+    @Test
+    public void shouldAuthenticate_sameTokenTwice() {
+        String token = token("admin", SECRET, new Date(System.currentTimeMillis() + 60_000));
+
+        Authentication authentication = filter.attemptAuthentication(request(token), new MockHttpServletResponse());
+        // the claims exposed to a request must not leak into the next ones
+        ((DefaultUser) authentication.getPrincipal()).getAdditionalInformation().put("custom", "value");
+
+        Authentication authentication2 = filter.attemptAuthentication(request(token), new MockHttpServletResponse());
+
+        assertEquals("admin", ((DefaultUser) authentication2.getPrincipal()).getUsername());
+        assertNull(((DefaultUser) authentication2.getPrincipal()).getAdditionalInformation().get("custom"));
+    }
+
+    @Test(expected = BadCredentialsException.class)
+    public void shouldNotAuthenticate_expiredToken() {
+        String token = token("admin", SECRET, new Date(System.currentTimeMillis() - 60_000));
+
+        filter.attemptAuthentication(request(token), new MockHttpServletResponse());
+    }
+
+    @Test(expected = BadCredentialsException.class)
+    public void shouldNotAuthenticate_invalidSignature() {
+        String token = token("admin", "an0th3rS3cR3tW1thTh3R1ghtL3ngth!", new Date(System.currentTimeMillis() + 60_000));
+
+        filter.attemptAuthentication(request(token), new MockHttpServletResponse());
+    }
+
+    @Test(expected = BadCredentialsException.class)
+    public void shouldNotAuthenticate_noToken() {
+        filter.attemptAuthentication(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        return request;
+    }
+
+    private static String token(String subject, String secret, Date expiration) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes()))
+                .compact();
+    }
+}
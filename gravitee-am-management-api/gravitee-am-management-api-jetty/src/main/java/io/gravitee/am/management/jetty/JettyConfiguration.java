@@ -50,6 +50,18 @@ public class JettyConfiguration {
     @Value("${jetty.pool.queueSize:6000}")
     private int poolQueueSize;
 
+    @Value("${jetty.http2.enabled:false}")
+    private boolean http2Enabled;
+
+    @Value("${jetty.gzip.enabled:true}")
+    private boolean gzipEnabled;
+
+    @Value("${jetty.gzip.minSize:1024}")
+    private int gzipMinSize;
+
+    @Value("${jetty.gzip.mimeTypes:application/json,text/html,text/plain,text/css,application/javascript}")
+    private String gzipMimeTypes;
+
     @Value("${jetty.jmx:false}")
     private boolean jmxEnabled;
 
@@ -220,4 +232,36 @@ public class JettyConfiguration {
     public void setTrustStorePassword(String trustStorePassword) {
         this.trustStorePassword = trustStorePassword;
     }
+
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    public void setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+    }
+
+    public boolean isGzipEnabled() {
+        return gzipEnabled;
+    }
+
+    public void setGzipEnabled(boolean gzipEnabled) {
+        this.gzipEnabled = gzipEnabled;
+    }
+
+    public int getGzipMinSize() {
+        return gzipMinSize;
+    }
+
+    public void setGzipMinSize(int gzipMinSize) {
+        this.gzipMinSize = gzipMinSize;
+    }
+
+    public String getGzipMimeTypes() {
+        return gzipMimeTypes;
+    }
+
+    public void setGzipMimeTypes(String gzipMimeTypes) {
+        this.gzipMimeTypes = gzipMimeTypes;
+    }
 }
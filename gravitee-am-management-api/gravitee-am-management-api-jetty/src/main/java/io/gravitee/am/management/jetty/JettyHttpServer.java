@@ -20,12 +20,14 @@ import io.gravitee.am.management.core.context.ContextFactoryRegistry;
 import io.gravitee.am.management.core.context.servlet.ServletContext;
 import io.gravitee.am.management.core.http.AbstractHttpServer;
 import io.gravitee.am.management.jetty.handler.ManagementContextHandler;
+import io.gravitee.am.management.jetty.handler.ManagementGzipHandler;
 import io.gravitee.am.management.jetty.handler.NoContentOutputErrorHandler;
 import io.gravitee.am.management.jetty.handler.security.SecurityDomainHandlerCollection;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.handler.AbstractHandler;
 import org.eclipse.jetty.server.handler.ContextHandlerCollection;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,6 +46,9 @@ public final class JettyHttpServer extends AbstractHttpServer<JettyHttpServer, S
     @Autowired
     private Server server;
 
+    @Autowired
+    private JettyConfiguration jettyConfiguration;
+
     @Autowired
     private SecurityDomainHandlerCollection domainHandlerCollection;
 
@@ -87,7 +92,13 @@ public final class JettyHttpServer extends AbstractHttpServer<JettyHttpServer, S
             ((ContextHandlerCollection)domainHandlerCollection.getHandler()).manage(managementContextHandler);
         }
 
-        server.setHandler(domainHandlerCollection);
+        if (jettyConfiguration.isGzipEnabled()) {
+            GzipHandler gzipHandler = new ManagementGzipHandler(jettyConfiguration);
+            gzipHandler.setHandler(domainHandlerCollection);
+            server.setHandler(gzipHandler);
+        } else {
+            server.setHandler(domainHandlerCollection);
+        }
     }
 
     @Override
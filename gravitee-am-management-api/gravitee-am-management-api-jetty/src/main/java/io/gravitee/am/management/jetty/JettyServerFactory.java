@@ -15,12 +15,18 @@
  */
 package io.gravitee.am.management.jetty;
 
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
 import org.eclipse.jetty.jmx.MBeanContainer;
 import org.eclipse.jetty.server.*;
 import org.eclipse.jetty.server.handler.StatisticsHandler;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -33,6 +39,8 @@ import java.util.concurrent.ArrayBlockingQueue;
  */
 public class JettyServerFactory implements FactoryBean<Server> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(JettyServerFactory.class);
+
     @Autowired
     private JettyConfiguration jettyConfiguration;
 
@@ -91,22 +99,23 @@ public class JettyServerFactory implements FactoryBean<Server> {
             HttpConfiguration httpsConfig = new HttpConfiguration(httpConfig);
             httpsConfig.addCustomizer(new SecureRequestCustomizer());
 
-            ServerConnector https = new ServerConnector(server,
-                    new SslConnectionFactory(sslContextFactory, HttpVersion.HTTP_1_1.asString()),
-                    new HttpConnectionFactory(httpsConfig));
-            https.setHost(jettyConfiguration.getHttpHost());
-            https.setPort(jettyConfiguration.getHttpPort());
-            server.addConnector(https);
+            ConnectionFactory[] connectionFactories = null;
+            if (jettyConfiguration.isHttp2Enabled()) {
+                connectionFactories = createHttp2ConnectionFactories(sslContextFactory, httpsConfig);
+            }
+            if (connectionFactories == null) {
+                connectionFactories = new ConnectionFactory[] {
+                        new SslConnectionFactory(sslContextFactory, HttpVersion.HTTP_1_1.asString()),
+                        new HttpConnectionFactory(httpsConfig) };
+            }
+
+            server.addConnector(createConnector(server, connectionFactories));
         } else {
-            ServerConnector http = new ServerConnector(server,
-                    jettyConfiguration.getAcceptors(),
-                    jettyConfiguration.getSelectors(),
-                    new HttpConnectionFactory(httpConfig));
-            http.setHost(jettyConfiguration.getHttpHost());
-            http.setPort(jettyConfiguration.getHttpPort());
-            http.setIdleTimeout(jettyConfiguration.getIdleTimeout());
-
-            server.addConnector(http);
+            ConnectionFactory[] connectionFactories = jettyConfiguration.isHttp2Enabled() ?
+                    new ConnectionFactory[] { new HttpConnectionFactory(httpConfig), new HTTP2CServerConnectionFactory(httpConfig) } :
+                    new ConnectionFactory[] { new HttpConnectionFactory(httpConfig) };
+
+            server.addConnector(createConnector(server, connectionFactories));
         }
 
         // Setup Jetty statistics
@@ -130,6 +139,46 @@ public class JettyServerFactory implements FactoryBean<Server> {
         return server;
     }
 
+    private ServerConnector createConnector(Server server, ConnectionFactory... connectionFactories) {
+        ServerConnector connector = new ServerConnector(server,
+                jettyConfiguration.getAcceptors(),
+                jettyConfiguration.getSelectors(),
+                connectionFactories);
+        connector.setHost(jettyConfiguration.getHttpHost());
+        connector.setPort(jettyConfiguration.getHttpPort());
+        connector.setIdleTimeout(jettyConfiguration.getIdleTimeout());
+
+        return connector;
+    }
+
+    /**
+     * HTTP/2 over TLS is negotiated with ALPN, HTTP/1.1 remaining the protocol of the clients which do not support it.
+     * On Java 8, ALPN requires the alpn-boot library matching the JVM version on the boot classpath, when it is missing
+     * the connector falls back to HTTP/1.1 only.
+     */
+    private ConnectionFactory[] createHttp2ConnectionFactories(SslContextFactory sslContextFactory, HttpConfiguration httpsConfig) {
+        HttpConnectionFactory http = new HttpConnectionFactory(httpsConfig);
+        ALPNServerConnectionFactory alpn;
+        try {
+            // negotiates among the protocols of the next connection factories
+            alpn = new ALPNServerConnectionFactory();
+        } catch (IllegalStateException | NoClassDefFoundError e) {
+            LOGGER.warn("ALPN is not available, HTTP/2 is disabled on the secured connector", e);
+            return null;
+        }
+        alpn.setDefaultProtocol(http.getProtocol());
+
+        // HTTP/2 forbids a number of cipher suites, let the compliant ones be negotiated first
+        sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+        sslContextFactory.setUseCipherSuitesOrder(true);
+
+        return new ConnectionFactory[] {
+                new SslConnectionFactory(sslContextFactory, alpn.getProtocol()),
+                alpn,
+                new HTTP2ServerConnectionFactory(httpsConfig),
+                http };
+    }
+
     @Override
     public Class<?> getObjectType() {
         return Server.class;
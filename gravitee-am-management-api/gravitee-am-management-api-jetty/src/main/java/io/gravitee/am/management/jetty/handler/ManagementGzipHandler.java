@@ -0,0 +1,34 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.jetty.handler;
+
+import io.gravitee.am.management.jetty.JettyConfiguration;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
+
+/**
+ * Compress the responses of the configured mime types once they exceed the configured minimum size,
+ * for the clients accepting the gzip encoding.
+ *
+ * @author GraviteeSource Team
+ */
+public class ManagementGzipHandler extends GzipHandler {
+
+    public ManagementGzipHandler(JettyConfiguration jettyConfiguration) {
+        super();
+        setMinGzipSize(jettyConfiguration.getGzipMinSize());
+        setIncludedMimeTypes(jettyConfiguration.getGzipMimeTypes().replaceAll("\\s+", "").split(","));
+    }
+}
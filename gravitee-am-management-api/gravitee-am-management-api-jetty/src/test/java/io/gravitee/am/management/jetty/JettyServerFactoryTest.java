@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.jetty;
+
+import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class JettyServerFactoryTest {
+
+    @InjectMocks
+    private JettyServerFactory jettyServerFactory = new JettyServerFactory();
+
+    @Spy
+    private JettyConfiguration jettyConfiguration = new JettyConfiguration();
+
+    @Before
+    public void setUp() {
+        jettyConfiguration.setHttpHost("localhost");
+        jettyConfiguration.setHttpPort(8093);
+        jettyConfiguration.setAcceptors(1);
+        jettyConfiguration.setSelectors(2);
+        jettyConfiguration.setIdleTimeout(10000);
+        jettyConfiguration.setPoolMinThreads(10);
+        jettyConfiguration.setPoolMaxThreads(200);
+        jettyConfiguration.setPoolIdleTimeout(60000);
+        jettyConfiguration.setPoolQueueSize(6000);
+    }
+
+    @Test
+    public void shouldCreateHttpConnector() throws Exception {
+        ServerConnector connector = getConnector(jettyServerFactory.getObject());
+
+        assertEquals(Arrays.asList("http/1.1"), connector.getProtocols());
+        assertConnectorSettings(connector);
+    }
+
+    @Test
+    public void shouldCreateHttpConnector_h2c() throws Exception {
+        jettyConfiguration.setHttp2Enabled(true);
+
+        ServerConnector connector = getConnector(jettyServerFactory.getObject());
+
+        assertEquals(HttpVersion.HTTP_1_1.asString(), connector.getDefaultProtocol());
+        assertTrue(connector.getProtocols().contains("h2c"));
+        assertConnectorSettings(connector);
+    }
+
+    @Test
+    public void shouldCreateHttpsConnector() throws Exception {
+        jettyConfiguration.setSecured(true);
+
+        ServerConnector connector = getConnector(jettyServerFactory.getObject());
+
+        assertEquals(Arrays.asList("ssl", "http/1.1"), connector.getProtocols());
+        assertConnectorSettings(connector);
+    }
+
+    @Test
+    public void shouldCreateHttpsConnector_http2WithoutAlpn() throws Exception {
+        // ALPN is not on the boot classpath of the tests, HTTP/2 can not be negotiated
+        jettyConfiguration.setSecured(true);
+        jettyConfiguration.setHttp2Enabled(true);
+
+        ServerConnector connector = getConnector(jettyServerFactory.getObject());
+
+        assertEquals(Arrays.asList("ssl", "http/1.1"), connector.getProtocols());
+        assertConnectorSettings(connector);
+    }
+
+    private ServerConnector getConnector(Server server) {
+        assertEquals(1, server.getConnectors().length);
+        return (ServerConnector) server.getConnectors()[0];
+    }
+
+    private void assertConnectorSettings(ServerConnector connector) {
+        assertEquals("localhost", connector.getHost());
+        assertEquals(8093, connector.getPort());
+        assertEquals(1, connector.getAcceptors());
+        assertEquals(2, connector.getSelectorManager().getSelectorCount());
+        assertEquals(10000, connector.getIdleTimeout());
+    }
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.jetty.handler;
+
+import io.gravitee.am.management.handlers.management.api.ManagementApplication;
+import io.gravitee.am.management.handlers.management.api.resources.enhancer.ClientEnhancer;
+import io.gravitee.am.management.handlers.management.context.ManagementContextLoaderListener;
+import io.gravitee.am.management.jetty.JettyConfiguration;
+import io.gravitee.am.management.service.IdentityProviderManager;
+import io.gravitee.am.model.Client;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.service.ClientService;
+import io.gravitee.am.service.DomainService;
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.glassfish.jersey.servlet.ServletContainer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Serve the management REST API behind the gzip handler and check the encoding of the client listing of a domain.
+ *
+ * @author GraviteeSource Team
+ */
+public class ManagementGzipHandlerTest {
+
+    private static final String DOMAIN_ID = "domain-1";
+
+    private AnnotationConfigWebApplicationContext context;
+
+    private Server server;
+
+    @Before
+    public void setUp() throws Exception {
+        context = new AnnotationConfigWebApplicationContext();
+        context.register(TestConfiguration.class);
+
+        ServletContextHandler managementContextHandler = new ServletContextHandler();
+        managementContextHandler.setContextPath("/management");
+        managementContextHandler.addServlet(new ServletHolder(new ServletContainer(new ManagementApplication())), "/*");
+        managementContextHandler.addEventListener(new ManagementContextLoaderListener(context));
+
+        JettyConfiguration jettyConfiguration = new JettyConfiguration();
+        jettyConfiguration.setGzipMinSize(1024);
+        jettyConfiguration.setGzipMimeTypes("application/json, text/plain");
+
+        ManagementGzipHandler gzipHandler = new ManagementGzipHandler(jettyConfiguration);
+        gzipHandler.setHandler(managementContextHandler);
+
+        server = new Server(0);
+        server.setHandler(gzipHandler);
+        server.start();
+
+        Domain domain = new Domain();
+        domain.setId(DOMAIN_ID);
+        domain.setName("Domain 1");
+        doReturn(Maybe.just(domain)).when(context.getBean(DomainService.class)).findById(DOMAIN_ID);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+    @Test
+    public void shouldCompressClients() throws Exception {
+        Set<Client> clients = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            Client client = new Client();
+            client.setId("client-" + i + "-id");
+            client.setClientId("client-" + i + "-name");
+            client.setClientName("Client " + i);
+            client.setDomain(DOMAIN_ID);
+            client.setEnabled(true);
+            clients.add(client);
+        }
+        doReturn(Single.just(clients)).when(context.getBean(ClientService.class)).findByDomain(DOMAIN_ID);
+
+        HttpURLConnection plainConnection = openClientsConnection(false);
+        assertEquals(HttpStatusCode.OK_200, plainConnection.getResponseCode());
+        assertNull(plainConnection.getHeaderField(HttpHeaders.CONTENT_ENCODING));
+        byte[] plainBody = read(plainConnection.getInputStream());
+
+        HttpURLConnection gzipConnection = openClientsConnection(true);
+        assertEquals(HttpStatusCode.OK_200, gzipConnection.getResponseCode());
+        assertEquals("gzip", gzipConnection.getHeaderField(HttpHeaders.CONTENT_ENCODING));
+        byte[] gzipBody = read(gzipConnection.getInputStream());
+
+        assertTrue(gzipBody.length * 4 < plainBody.length);
+        assertArrayEquals(plainBody, read(new GZIPInputStream(new ByteArrayInputStream(gzipBody))));
+    }
+
+    @Test
+    public void shouldNotCompressSmallResponse() throws Exception {
+        doReturn(Single.just(Collections.emptySet())).when(context.getBean(ClientService.class)).findByDomain(DOMAIN_ID);
+
+        HttpURLConnection gzipConnection = openClientsConnection(true);
+        assertEquals(HttpStatusCode.OK_200, gzipConnection.getResponseCode());
+        assertNull(gzipConnection.getHeaderField(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("[]", new String(read(gzipConnection.getInputStream())));
+    }
+
+    private HttpURLConnection openClientsConnection(boolean acceptGzip) throws IOException {
+        int port = ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+        HttpURLConnection connection = (HttpURLConnection)
+                new URL("http://localhost:" + port + "/management/domains/" + DOMAIN_ID + "/clients").openConnection();
+        if (acceptGzip) {
+            connection.setRequestProperty(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        }
+        return connection;
+    }
+
+    private static byte[] read(InputStream inputStream) throws IOException {
+        try (InputStream in = inputStream) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        public DomainService domainService() {
+            return mock(DomainService.class);
+        }
+
+        @Bean
+        public ClientService clientService() {
+            return mock(ClientService.class);
+        }
+
+        @Bean
+        public IdentityProviderManager identityProviderManager() {
+            return mock(IdentityProviderManager.class);
+        }
+
+        @Bean
+        public ClientEnhancer clientEnhancer() {
+            return new ClientEnhancer();
+        }
+    }
+}
@@ -17,6 +17,7 @@ package io.gravitee.am.management.repository.proxy;
 
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.gravitee.am.repository.oauth2.model.ClientTokenCount;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
@@ -65,4 +66,43 @@ public class AccessTokenRepositoryProxy extends AbstractProxy<AccessTokenReposit
         return target.countByClientId(clientId);
     }
 
+    @Override
+    public Single<Long> countByDomain(String domain) {
+        return target.countByDomain(domain);
+    }
+
+    @Override
+    public Single<Long> count() {
+        return target.count();
+    }
+
+    @Override
+    public Observable<ClientTokenCount> countGroupByClient(String domain, int limit) {
+        return target.countGroupByClient(domain, limit);
+    }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return target.deleteByDomain(domain);
+    }
+
+    @Override
+    public Completable deleteByAuthorizationCode(String authorizationCode) {
+        return target.deleteByAuthorizationCode(authorizationCode);
+    }
+
+    @Override
+    public Completable deleteByDomainAndSubject(String domain, String subject) {
+        return target.deleteByDomainAndSubject(domain, subject);
+    }
+
+    @Override
+    public Completable deleteByDomainClientAndSubject(String domain, String clientId, String subject) {
+        return target.deleteByDomainClientAndSubject(domain, clientId, subject);
+    }
+
+    @Override
+    public Single<Long> removeDuplicates() {
+        return target.removeDuplicates();
+    }
 }
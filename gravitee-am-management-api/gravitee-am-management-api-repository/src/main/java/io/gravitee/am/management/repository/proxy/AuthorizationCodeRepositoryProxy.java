@@ -42,4 +42,14 @@ public class AuthorizationCodeRepositoryProxy extends AbstractProxy<Authorizatio
     public Maybe<AuthorizationCode> findByCode(String code) {
         return target.findByCode(code);
     }
+
+    @Override
+    public Maybe<AuthorizationCode> findAndDelete(String code, String clientId) {
+        return target.findAndDelete(code, clientId);
+    }
+
+    @Override
+    public Single<Long> removeDuplicates() {
+        return target.removeDuplicates();
+    }
 }
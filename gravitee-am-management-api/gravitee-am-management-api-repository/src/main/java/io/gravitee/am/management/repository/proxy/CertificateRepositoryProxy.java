@@ -60,4 +60,9 @@ public class CertificateRepositoryProxy extends AbstractProxy<CertificateReposit
     public Completable delete(String id) {
         return target.delete(id);
     }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return target.deleteByDomain(domain);
+    }
 }
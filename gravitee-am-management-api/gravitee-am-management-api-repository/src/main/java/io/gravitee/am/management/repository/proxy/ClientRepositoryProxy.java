@@ -97,6 +97,16 @@ public class ClientRepositoryProxy extends AbstractProxy<ClientRepository> imple
         return target.delete(id);
     }
 
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return target.deleteByDomain(domain);
+    }
+
+    @Override
+    public Completable removeScope(String domain, String scope) {
+        return target.removeScope(domain, scope);
+    }
+
     @Override
     public Single<Long> countByDomain(String domain) {
         return target.countByDomain(domain);
@@ -106,4 +116,9 @@ public class ClientRepositoryProxy extends AbstractProxy<ClientRepository> imple
     public Single<Long> count() {
         return target.count();
     }
+
+    @Override
+    public Single<Long> upgradeSearchFields() {
+        return target.upgradeSearchFields();
+    }
 }
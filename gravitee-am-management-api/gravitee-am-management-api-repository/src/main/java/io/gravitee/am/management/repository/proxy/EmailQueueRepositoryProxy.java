@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.repository.proxy;
+
+import io.gravitee.am.model.QueuedEmail;
+import io.gravitee.am.repository.management.api.EmailQueueRepository;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class EmailQueueRepositoryProxy extends AbstractProxy<EmailQueueRepository> implements EmailQueueRepository {
+
+    @Override
+    public Single<QueuedEmail> create(QueuedEmail email) {
+        return target.create(email);
+    }
+
+    @Override
+    public Maybe<QueuedEmail> acquire(Collection<String> domains, Date leaseUntil) {
+        return target.acquire(domains, leaseUntil);
+    }
+
+    @Override
+    public Completable reschedule(String id, Date nextAttemptAt) {
+        return target.reschedule(id, nextAttemptAt);
+    }
+
+    @Override
+    public Completable delete(String id) {
+        return target.delete(id);
+    }
+}
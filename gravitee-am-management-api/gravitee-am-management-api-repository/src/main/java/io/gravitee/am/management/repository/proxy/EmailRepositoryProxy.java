@@ -75,4 +75,9 @@ public class EmailRepositoryProxy extends AbstractProxy<EmailRepository> impleme
     public Completable delete(String id) {
         return target.delete(id);
     }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return target.deleteByDomain(domain);
+    }
 }
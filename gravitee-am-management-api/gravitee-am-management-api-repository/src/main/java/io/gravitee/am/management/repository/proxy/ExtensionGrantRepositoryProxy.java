@@ -59,4 +59,9 @@ public class ExtensionGrantRepositoryProxy extends AbstractProxy<ExtensionGrantR
     public Completable delete(String id) {
         return target.delete(id);
     }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return target.deleteByDomain(domain);
+    }
 }
@@ -70,4 +70,9 @@ public class FormRepositoryProxy extends AbstractProxy<FormRepository> implement
     public Completable delete(String id) {
         return target.delete(id);
     }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return target.deleteByDomain(domain);
+    }
 }
@@ -76,4 +76,9 @@ public class GroupRepositoryProxy extends AbstractProxy<GroupRepository> impleme
     public Completable delete(String id) {
         return target.delete(id);
     }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return target.deleteByDomain(domain);
+    }
 }
@@ -22,6 +22,7 @@ import io.reactivex.Maybe;
 import io.reactivex.Single;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -41,6 +42,11 @@ public class IdentityProviderRepositoryProxy extends AbstractProxy<IdentityProvi
         return target.findByDomain(domain);
     }
 
+    @Override
+    public Single<Set<IdentityProvider>> findByIdIn(Collection<String> ids) {
+        return target.findByIdIn(ids);
+    }
+
     @Override
     public Maybe<IdentityProvider> findById(String id) {
         return target.findById(id);
@@ -60,4 +66,9 @@ public class IdentityProviderRepositoryProxy extends AbstractProxy<IdentityProvi
     public Completable delete(String id) {
         return target.delete(id);
     }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return target.deleteByDomain(domain);
+    }
 }
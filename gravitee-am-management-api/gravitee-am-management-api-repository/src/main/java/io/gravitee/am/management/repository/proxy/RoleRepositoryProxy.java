@@ -61,4 +61,14 @@ public class RoleRepositoryProxy extends AbstractProxy<RoleRepository> implement
     public Completable delete(String id) {
         return target.delete(id);
     }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return target.deleteByDomain(domain);
+    }
+
+    @Override
+    public Completable removePermission(String domain, String permission) {
+        return target.removePermission(domain, permission);
+    }
 }
@@ -22,6 +22,7 @@ import io.reactivex.Maybe;
 import io.reactivex.Single;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -56,6 +57,11 @@ public class ScopeApprovalRepositoryProxy extends AbstractProxy<ScopeApprovalRep
         return target.upsert(scopeApproval);
     }
 
+    @Override
+    public Completable upsertAll(Collection<ScopeApproval> scopeApprovals) {
+        return target.upsertAll(scopeApprovals);
+    }
+
     public Completable delete(String id) {
         return target.delete(id);
     }
@@ -71,4 +77,9 @@ public class ScopeApprovalRepositoryProxy extends AbstractProxy<ScopeApprovalRep
     public Completable deleteByDomainAndUser(String domain, String user) {
         return target.deleteByDomainAndUser(domain, user);
     }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return target.deleteByDomain(domain);
+    }
 }
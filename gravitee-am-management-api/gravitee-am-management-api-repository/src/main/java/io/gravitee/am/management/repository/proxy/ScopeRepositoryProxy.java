@@ -54,4 +54,9 @@ public class ScopeRepositoryProxy extends AbstractProxy<ScopeRepository> impleme
     public Completable delete(String s) {
         return target.delete(s);
     }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return target.deleteByDomain(domain);
+    }
 }
@@ -43,6 +43,16 @@ public class UserRepositoryProxy extends AbstractProxy<UserRepository> implement
         return target.findByDomain(domain, page, size);
     }
 
+    @Override
+    public Single<List<User>> findByDomain(String domain, String afterUsername, String afterId, int size) {
+        return target.findByDomain(domain, afterUsername, afterId, size);
+    }
+
+    @Override
+    public Single<Long> countByDomain(String domain) {
+        return target.countByDomain(domain);
+    }
+
     @Override
     public Single<Page<User>> search(String domain, String query, int limit) {
         return target.search(domain, query, limit);
@@ -87,4 +97,14 @@ public class UserRepositoryProxy extends AbstractProxy<UserRepository> implement
     public Completable delete(String id) {
         return target.delete(id);
     }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return target.deleteByDomain(domain);
+    }
+
+    @Override
+    public Single<Long> upgradeSearchFields() {
+        return target.upgradeSearchFields();
+    }
 }
@@ -16,6 +16,7 @@
 package io.gravitee.am.management.service;
 
 import io.gravitee.am.common.email.Email;
+import io.reactivex.Completable;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -23,5 +24,11 @@ import io.gravitee.am.common.email.Email;
  */
 public interface EmailService {
 
-    void send(Email email);
+    /**
+     * Render the email and store it in the outbox, it is then delivered asynchronously.
+     *
+     * @param email the email to send
+     * @return acknowledge of the operation
+     */
+    Completable send(Email email);
 }
@@ -33,6 +33,8 @@ public interface UserService {
 
     Single<Page<User>> findByDomain(String domain, int page, int size);
 
+    Single<Page<User>> findByDomain(String domain, String cursor, int size);
+
     Maybe<User> findById(String id);
 
     Single<User> create(String domain, NewUser newUser);
@@ -19,12 +19,18 @@ import freemarker.template.Configuration;
 import freemarker.template.Template;
 import io.gravitee.am.common.email.Email;
 import io.gravitee.am.management.service.EmailService;
+import io.gravitee.am.model.QueuedEmail;
+import io.gravitee.am.repository.management.api.EmailQueueRepository;
+import io.gravitee.am.service.email.EmailQueueDispatcher;
 import io.gravitee.am.service.exception.TechnicalManagementException;
+import io.reactivex.Completable;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.select.Elements;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.FileSystemResource;
@@ -37,6 +43,7 @@ import java.io.File;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -47,7 +54,7 @@ import static org.springframework.ui.freemarker.FreeMarkerTemplateUtils.processT
  * @author GraviteeSource Team
  */
 @Component
-public class EmailServiceImpl implements EmailService {
+public class EmailServiceImpl implements EmailService, InitializingBean, DisposableBean {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EmailServiceImpl.class);
 
@@ -57,49 +64,104 @@ public class EmailServiceImpl implements EmailService {
     @Value("${email.enabled:false}")
     private boolean enabled;
 
+    @Value("${email.queue.workers:" + EmailQueueDispatcher.DEFAULT_WORKERS + "}")
+    private int workers;
+
+    @Value("${email.queue.pollInterval:" + EmailQueueDispatcher.DEFAULT_POLL_INTERVAL + "}")
+    private long pollInterval;
+
+    @Value("${email.queue.maxAttempts:" + EmailQueueDispatcher.DEFAULT_MAX_ATTEMPTS + "}")
+    private int maxAttempts;
+
+    @Value("${email.queue.retryDelay:" + EmailQueueDispatcher.DEFAULT_RETRY_DELAY + "}")
+    private long retryDelay;
+
     @Autowired
     private JavaMailSender mailSender;
 
     @Autowired
     private Configuration freemarkerConfiguration;
 
+    @Autowired
+    private EmailQueueRepository emailQueueRepository;
+
+    private EmailQueueDispatcher emailQueueDispatcher;
+
     @Override
-    public void send(Email email) {
+    public Completable send(Email email) {
+        if (!enabled) {
+            return Completable.complete();
+        }
+        return Completable.defer(() -> emailQueueDispatcher.enqueue(render(email)))
+                .onErrorResumeNext(ex -> {
+                    LOGGER.error("Error while sending email", ex);
+                    return Completable.error(new TechnicalManagementException("Error while sending email", ex));
+                });
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // emails of the management API are not bound to a security domain
+        emailQueueDispatcher = new EmailQueueDispatcher(emailQueueRepository, null, this::deliver);
+        emailQueueDispatcher.setWorkers(workers);
+        emailQueueDispatcher.setPollInterval(pollInterval);
+        emailQueueDispatcher.setMaxAttempts(maxAttempts);
+        emailQueueDispatcher.setRetryDelay(retryDelay);
         if (enabled) {
-            try {
-                final MimeMessageHelper mailMessage = new MimeMessageHelper(mailSender.createMimeMessage(), true, StandardCharsets.UTF_8.name());
-                final Template template = freemarkerConfiguration.getTemplate(email.getTemplate());
-                final Template plainTextTemplate = new Template("subject", new StringReader(email.getSubject()), freemarkerConfiguration);
-
-                // compute email subject
-                final String subject = processTemplateIntoString(plainTextTemplate, email.getParams());
-                // compute email content
-                final String content = processTemplateIntoString(template, email.getParams());
-                final String from = email.getFrom();
-
-                String fromName = email.getFromName();
-                if (fromName == null || fromName.isEmpty()) {
-                    mailMessage.setFrom(from);
-                } else {
-                    mailMessage.setFrom(from, fromName);
-                }
-
-                mailMessage.setTo(email.getTo());
-                mailMessage.setSubject(subject);
-
-                final String html = addResourcesInMessage(mailMessage, content);
-
-                LOGGER.debug("Sending an email to: {}\nSubject: {}\nMessage: {}", email.getTo(), email.getSubject(), html);
-
-                mailSender.send(mailMessage.getMimeMessage());
-            } catch (final Exception ex) {
-                LOGGER.error("Error while sending email", ex);
-                throw new TechnicalManagementException("Error while sending email", ex);
+            emailQueueDispatcher.start("gio-am-email");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        emailQueueDispatcher.stop();
+    }
+
+    private QueuedEmail render(Email email) throws Exception {
+        final Template template = freemarkerConfiguration.getTemplate(email.getTemplate());
+        final Template plainTextTemplate = new Template("subject", new StringReader(email.getSubject()), freemarkerConfiguration);
+
+        // compute email subject
+        final String subject = processTemplateIntoString(plainTextTemplate, email.getParams());
+        // compute email content
+        final String content = processTemplateIntoString(template, email.getParams());
+
+        final QueuedEmail queuedEmail = new QueuedEmail();
+        queuedEmail.setFrom(email.getFrom());
+        queuedEmail.setFromName(email.getFromName());
+        queuedEmail.setTo(Arrays.asList(email.getTo()));
+        queuedEmail.setSubject(subject);
+        addResourcesInMessage(queuedEmail, content);
+        return queuedEmail;
+    }
+
+    private void deliver(QueuedEmail email) throws Exception {
+        final MimeMessageHelper mailMessage = new MimeMessageHelper(mailSender.createMimeMessage(), true, StandardCharsets.UTF_8.name());
+        final String from = email.getFrom();
+
+        String fromName = email.getFromName();
+        if (fromName == null || fromName.isEmpty()) {
+            mailMessage.setFrom(from);
+        } else {
+            mailMessage.setFrom(from, fromName);
+        }
+
+        mailMessage.setTo(email.getTo().toArray(new String[0]));
+        mailMessage.setSubject(email.getSubject());
+        mailMessage.setText(email.getContent(), true);
+
+        if (email.getResources() != null) {
+            for (final String res : email.getResources()) {
+                final FileSystemResource templateResource = new FileSystemResource(new File(templatesPath, res));
+                mailMessage.addInline(res, templateResource, getContentTypeByFileName(res));
             }
         }
+
+        LOGGER.debug("Sending an email to: {}\nSubject: {}\nMessage: {}", email.getTo(), email.getSubject(), email.getContent());
+        mailSender.send(mailMessage.getMimeMessage());
     }
 
-    private String addResourcesInMessage(final MimeMessageHelper mailMessage, final String htmlText) throws Exception {
+    private void addResourcesInMessage(final QueuedEmail email, final String htmlText) {
         final Document document = Jsoup.parse(htmlText);
 
         final List<String> resources = new ArrayList<>();
@@ -115,15 +177,8 @@ public class EmailServiceImpl implements EmailService {
                 })
                 .collect(Collectors.toList()));
 
-        final String html = document.html();
-        mailMessage.setText(html, true);
-
-        for (final String res : resources) {
-            final FileSystemResource templateResource = new FileSystemResource(new File(templatesPath, res));
-            mailMessage.addInline(res, templateResource, getContentTypeByFileName(res));
-        }
-
-        return html;
+        email.setContent(document.html());
+        email.setResources(resources);
     }
 
     private String getContentTypeByFileName(final String fileName) {
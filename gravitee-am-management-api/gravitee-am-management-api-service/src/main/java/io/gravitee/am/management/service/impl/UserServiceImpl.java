@@ -92,6 +92,11 @@ public class UserServiceImpl implements UserService {
         return userService.findByDomain(domain, page, size);
     }
 
+    @Override
+    public Single<Page<User>> findByDomain(String domain, String cursor, int size) {
+        return userService.findByDomain(domain, cursor, size);
+    }
+
     @Override
     public Maybe<User> findById(String id) {
         return userService.findById(id);
@@ -116,7 +121,7 @@ public class UserServiceImpl implements UserService {
                         newUser.setRegistrationCompleted(false);
                         newUser.setEnabled(false);
                         return userService.create(domain, newUser)
-                                .doOnSuccess(user -> new Thread(() -> completeUserRegistration(user)).start());
+                                .flatMap(user -> completeUserRegistration(user).andThen(Single.just(user)));
                     } else {
                         newUser.setRegistrationCompleted(true);
                         newUser.setEnabled(true);
@@ -218,16 +223,16 @@ public class UserServiceImpl implements UserService {
                     }
                     return user;
                 })
-                .doOnSuccess(user -> new Thread(() -> completeUserRegistration(user)).start())
-                .toSingle()
-                .toCompletable();
+                .flatMapCompletable(this::completeUserRegistration);
     }
 
-    private void completeUserRegistration(User user) {
-        final String templateName = getTemplateName(user);
-        io.gravitee.am.model.Email email = emailManager.getEmail(templateName, registrationSubject, expireAfter);
-        Email email1 = convert(user, email, "/confirmRegistration", "registrationUrl");
-        emailService.send(email1);
+    private Completable completeUserRegistration(User user) {
+        return Completable.defer(() -> {
+            final String templateName = getTemplateName(user);
+            io.gravitee.am.model.Email email = emailManager.getEmail(templateName, registrationSubject, expireAfter);
+            Email email1 = convert(user, email, "/confirmRegistration", "registrationUrl");
+            return emailService.send(email1);
+        }).onErrorComplete();
     }
 
     private Email convert(User user, io.gravitee.am.model.Email email, String redirectUri, String redirectUriName) {
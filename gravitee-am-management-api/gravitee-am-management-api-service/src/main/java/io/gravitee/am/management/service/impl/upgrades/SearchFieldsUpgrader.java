@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.service.impl.upgrades;
+
+import io.gravitee.am.repository.management.api.ClientRepository;
+import io.gravitee.am.repository.management.api.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfill the case-insensitive search fields of the users and clients stored before they were introduced.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class SearchFieldsUpgrader implements Upgrader, Ordered {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchFieldsUpgrader.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Override
+    public boolean upgrade() {
+        LOGGER.info("Applying search fields upgrade");
+
+        userRepository.upgradeSearchFields()
+                .subscribe(
+                        count -> LOGGER.info("Search fields upgraded for {} user(s)", count),
+                        error -> LOGGER.error("An error occurs while upgrading users search fields", error));
+
+        clientRepository.upgradeSearchFields()
+                .subscribe(
+                        count -> LOGGER.info("Search fields upgraded for {} client(s)", count),
+                        error -> LOGGER.error("An error occurs while upgrading clients search fields", error));
+
+        return true;
+    }
+
+    @Override
+    public int getOrder() {
+        return 165;
+    }
+}
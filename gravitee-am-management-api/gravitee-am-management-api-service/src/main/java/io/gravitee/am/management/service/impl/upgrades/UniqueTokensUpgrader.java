@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.service.impl.upgrades;
+
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Revoke the access tokens, refresh tokens and authorization codes sharing their value, so that the values can be
+ * uniquely indexed.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class UniqueTokensUpgrader implements Upgrader, Ordered {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(UniqueTokensUpgrader.class);
+
+    @Autowired
+    private AccessTokenRepository accessTokenRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private AuthorizationCodeRepository authorizationCodeRepository;
+
+    @Override
+    public boolean upgrade() {
+        LOGGER.info("Applying unique tokens upgrade");
+
+        accessTokenRepository.removeDuplicates()
+                .subscribe(
+                        count -> LOGGER.info("{} duplicated access token(s) removed", count),
+                        error -> LOGGER.error("An error occurs while removing duplicated access tokens", error));
+
+        refreshTokenRepository.removeDuplicates()
+                .subscribe(
+                        count -> LOGGER.info("{} duplicated refresh token(s) removed", count),
+                        error -> LOGGER.error("An error occurs while removing duplicated refresh tokens", error));
+
+        authorizationCodeRepository.removeDuplicates()
+                .subscribe(
+                        count -> LOGGER.info("{} duplicated authorization code(s) removed", count),
+                        error -> LOGGER.error("An error occurs while removing duplicated authorization codes", error));
+
+        return true;
+    }
+
+    @Override
+    public int getOrder() {
+        return 166;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.management.service.spring;
 
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoderScheduler;
 import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
@@ -46,6 +47,12 @@ public class ServiceConfiguration {
     @Value("${jwt.kid:default-gravitee-AM-key}")
     private String kid;
 
+    @Value("${password.encoder.workers:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int passwordEncoderWorkers;
+
+    @Value("${password.encoder.queueSize:" + PasswordEncoderScheduler.DEFAULT_QUEUE_SIZE + "}")
+    private int passwordEncoderQueueSize;
+
     @Bean
     public JwtBuilder jwtBuilder() {
         // JWT signing key
@@ -53,4 +60,9 @@ public class ServiceConfiguration {
         return Jwts.builder().setHeaderParam(JwsHeader.KEY_ID, kid).setIssuer(issuer).signWith(key);
     }
 
+    @Bean
+    public PasswordEncoderScheduler passwordEncoderScheduler() {
+        return new PasswordEncoderScheduler(passwordEncoderWorkers, passwordEncoderQueueSize);
+    }
+
 }
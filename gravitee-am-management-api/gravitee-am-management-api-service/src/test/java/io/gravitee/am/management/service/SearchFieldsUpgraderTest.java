@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.service;
+
+import io.gravitee.am.management.service.impl.upgrades.SearchFieldsUpgrader;
+import io.gravitee.am.repository.management.api.ClientRepository;
+import io.gravitee.am.repository.management.api.UserRepository;
+import io.reactivex.Single;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SearchFieldsUpgraderTest {
+
+    @InjectMocks
+    private SearchFieldsUpgrader searchFieldsUpgrader = new SearchFieldsUpgrader();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Test
+    public void shouldUpgradeUsersAndClients() {
+        when(userRepository.upgradeSearchFields()).thenReturn(Single.just(10L));
+        when(clientRepository.upgradeSearchFields()).thenReturn(Single.just(2L));
+
+        Assert.assertTrue(searchFieldsUpgrader.upgrade());
+
+        verify(userRepository, times(1)).upgradeSearchFields();
+        verify(clientRepository, times(1)).upgradeSearchFields();
+    }
+
+    @Test
+    public void shouldUpgradeClients_usersUpgradeError() {
+        when(userRepository.upgradeSearchFields()).thenReturn(Single.error(new IllegalStateException()));
+        when(clientRepository.upgradeSearchFields()).thenReturn(Single.just(0L));
+
+        Assert.assertTrue(searchFieldsUpgrader.upgrade());
+
+        verify(clientRepository, times(1)).upgradeSearchFields();
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.service;
+
+import io.gravitee.am.management.service.impl.upgrades.UniqueTokensUpgrader;
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
+import io.reactivex.Single;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class UniqueTokensUpgraderTest {
+
+    @InjectMocks
+    private UniqueTokensUpgrader uniqueTokensUpgrader = new UniqueTokensUpgrader();
+
+    @Mock
+    private AccessTokenRepository accessTokenRepository;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private AuthorizationCodeRepository authorizationCodeRepository;
+
+    @Test
+    public void shouldRemoveDuplicates() {
+        when(accessTokenRepository.removeDuplicates()).thenReturn(Single.just(2L));
+        when(refreshTokenRepository.removeDuplicates()).thenReturn(Single.just(0L));
+        when(authorizationCodeRepository.removeDuplicates()).thenReturn(Single.just(0L));
+
+        Assert.assertTrue(uniqueTokensUpgrader.upgrade());
+
+        verify(accessTokenRepository, times(1)).removeDuplicates();
+        verify(refreshTokenRepository, times(1)).removeDuplicates();
+        verify(authorizationCodeRepository, times(1)).removeDuplicates();
+    }
+
+    @Test
+    public void shouldRemoveDuplicates_accessTokensError() {
+        when(accessTokenRepository.removeDuplicates()).thenReturn(Single.error(new IllegalStateException()));
+        when(refreshTokenRepository.removeDuplicates()).thenReturn(Single.just(0L));
+        when(authorizationCodeRepository.removeDuplicates()).thenReturn(Single.just(0L));
+
+        Assert.assertTrue(uniqueTokensUpgrader.upgrade());
+
+        verify(refreshTokenRepository, times(1)).removeDuplicates();
+        verify(authorizationCodeRepository, times(1)).removeDuplicates();
+    }
+}
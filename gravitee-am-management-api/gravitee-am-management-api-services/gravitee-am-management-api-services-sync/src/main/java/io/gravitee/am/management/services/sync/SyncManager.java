@@ -17,12 +17,16 @@ package io.gravitee.am.management.services.sync;
 
 import io.gravitee.am.management.core.event.DomainEvent;
 import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.repository.management.api.EventRepository;
 import io.gravitee.am.service.DomainService;
 import io.gravitee.common.event.EventManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.List;
+
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
@@ -31,15 +35,21 @@ public class SyncManager {
 
     private final Logger logger = LoggerFactory.getLogger(SyncManager.class);
     private final static String ADMIN_DOMAIN = "admin";
+    private final static int EVENTS_BATCH_SIZE = 1000;
 
     @Autowired
     private DomainService domainService;
 
+    @Autowired
+    private EventRepository eventRepository;
+
     @Autowired
     private EventManager eventManager;
 
     private Domain deployedAdminDomain;
 
+    private long lastSequence;
+
     public void refresh() {
         logger.debug("Refreshing sync state...");
 
@@ -49,15 +59,30 @@ public class SyncManager {
         if (adminDomain != null) {
             // Deploy admin domain
             if (deployedAdminDomain == null) {
+                lastSequence = eventRepository.lastSequence().blockingGet();
                 eventManager.publishEvent(DomainEvent.DEPLOY, adminDomain);
                 deployedAdminDomain = adminDomain;
             } else {
-                // Check last update date
-                if (adminDomain.getUpdatedAt().after(deployedAdminDomain.getUpdatedAt())) {
+                // Check last update date and changes made to the admin domain components
+                boolean adminDomainEvents = readAdminDomainEvents();
+                if (adminDomainEvents || adminDomain.getUpdatedAt().after(deployedAdminDomain.getUpdatedAt())) {
                     eventManager.publishEvent(DomainEvent.UPDATE, adminDomain);
                     deployedAdminDomain = adminDomain;
                 }
             }
         }
     }
+
+    private boolean readAdminDomainEvents() {
+        boolean adminDomainEvents = false;
+        List<Event> events;
+        do {
+            events = eventRepository.findBySequenceGreaterThan(lastSequence, EVENTS_BATCH_SIZE).blockingGet();
+            for (Event event : events) {
+                adminDomainEvents |= ADMIN_DOMAIN.equals(event.getPayload().getDomain());
+                lastSequence = event.getSequence();
+            }
+        } while (events.size() == EVENTS_BATCH_SIZE);
+        return adminDomainEvents;
+    }
 }
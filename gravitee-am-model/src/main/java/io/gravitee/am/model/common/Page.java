@@ -25,17 +25,26 @@ public class Page<T> {
     private final Collection<T> data;
     private final int currentPage;
     private final long totalCount;
+    private final String nextCursor;
 
     public Page(Collection<T> data, int currentPage, long totalCount) {
+        this(data, currentPage, totalCount, null);
+    }
+
+    public Page(Collection<T> data, int currentPage, long totalCount, String nextCursor) {
         this.data = data;
         this.currentPage = currentPage;
         this.totalCount = totalCount;
+        this.nextCursor = nextCursor;
     }
 
     public Collection<T> getData() {
         return data;
     }
 
+    /**
+     * @return the index of the page, always 0 for a page read with a cursor or from a search, which are not numbered
+     */
     public int getCurrentPage() {
         return currentPage;
     }
@@ -43,4 +52,12 @@ public class Page<T> {
     public long getTotalCount() {
         return totalCount;
     }
+
+    /**
+     * @return the opaque cursor to pass to read the following page of a page read with a cursor, <code>null</code>
+     * when this page is the last one or has not been read with a cursor
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
 }
\ No newline at end of file
@@ -15,20 +15,44 @@
  */
 package io.gravitee.am.model.common.event;
 
+import java.util.Date;
+
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
 public class Event {
 
+    private String id;
+    private long sequence;
     private Type type;
     private Payload payload;
+    private Date createdAt;
 
     public Event(Type type, Payload payload) {
         this.type = type;
         this.payload = payload;
     }
 
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Position of the event in the management event log, assigned by the repository when the event is stored.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
     public Type getType() {
         return type;
     }
@@ -36,4 +60,12 @@ public class Event {
     public Payload getPayload() {
         return payload;
     }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
 }
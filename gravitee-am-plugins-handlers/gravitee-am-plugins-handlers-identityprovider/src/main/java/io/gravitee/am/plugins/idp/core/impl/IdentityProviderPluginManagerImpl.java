@@ -18,6 +18,7 @@ package io.gravitee.am.plugins.idp.core.impl;
 import io.gravitee.am.identityprovider.api.*;
 import io.gravitee.am.identityprovider.api.oauth2.OAuth2IdentityProvider;
 import io.gravitee.am.plugins.idp.core.*;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoderScheduler;
 import io.gravitee.plugin.core.api.Plugin;
 import io.gravitee.plugin.core.api.PluginContextFactory;
 import io.gravitee.plugin.core.internal.AnnotationBasedPluginContextConfigurer;
@@ -71,6 +72,9 @@ public class IdentityProviderPluginManagerImpl implements IdentityProviderPlugin
     @Autowired
     private Vertx vertx;
 
+    @Autowired
+    private PasswordEncoderScheduler passwordEncoderScheduler;
+
     @Override
     public void register(IdentityProviderDefinition identityProviderPluginDefinition, boolean oauth2Provider) {
         identityProviders.putIfAbsent(identityProviderPluginDefinition.getPlugin().id(),
@@ -204,6 +208,10 @@ public class IdentityProviderPluginManagerImpl implements IdentityProviderPlugin
                     configurableApplicationContext.addBeanFactoryPostProcessor(
                             new VertxBeanFactoryPostProcessor(vertx));
 
+                    // Add password encoder scheduler, shared by all the identity providers of the node
+                    configurableApplicationContext.addBeanFactoryPostProcessor(
+                            new PasswordEncoderSchedulerBeanFactoryPostProcessor(passwordEncoderScheduler));
+
                     // Add identity provider configuration bean
                     configurableApplicationContext.addBeanFactoryPostProcessor(
                             new IdentityProviderConfigurationBeanFactoryPostProcessor(identityProviderConfiguration));
@@ -258,6 +266,10 @@ public class IdentityProviderPluginManagerImpl implements IdentityProviderPlugin
                     configurableApplicationContext.addBeanFactoryPostProcessor(
                             new VertxBeanFactoryPostProcessor(vertx));
 
+                    // Add password encoder scheduler, shared by all the identity providers of the node
+                    configurableApplicationContext.addBeanFactoryPostProcessor(
+                            new PasswordEncoderSchedulerBeanFactoryPostProcessor(passwordEncoderScheduler));
+
                     // Add identity provider configuration bean
                     configurableApplicationContext.addBeanFactoryPostProcessor(
                             new IdentityProviderConfigurationBeanFactoryPostProcessor(identityProviderConfiguration));
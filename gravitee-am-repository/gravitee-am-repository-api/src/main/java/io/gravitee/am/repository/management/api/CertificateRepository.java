@@ -17,6 +17,7 @@ package io.gravitee.am.repository.management.api;
 
 import io.gravitee.am.model.Certificate;
 import io.gravitee.am.repository.common.CrudRepository;
+import io.reactivex.Completable;
 import io.reactivex.Single;
 
 import java.util.Set;
@@ -30,4 +31,6 @@ public interface CertificateRepository extends CrudRepository<Certificate, Strin
     Single<Set<Certificate>> findAll();
 
     Single<Set<Certificate>> findByDomain(String domain);
+
+    Completable deleteByDomain(String domain);
 }
@@ -18,6 +18,7 @@ package io.gravitee.am.repository.management.api;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.repository.common.CrudRepository;
+import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 
@@ -33,6 +34,15 @@ public interface ClientRepository extends CrudRepository<Client, String> {
 
     Single<Set<Client>> search(String domain, String query);
 
+    /**
+     * Find a page of the clients of a domain sorted by client_id, for listing purpose only the identifiers, name, status
+     * and dates of the clients are retrieved.
+     *
+     * @param domain the security domain
+     * @param page the page number, starting from 0
+     * @param size the page size
+     * @return a page of partially loaded clients
+     */
     Single<Page<Client>> findByDomain(String domain, int page, int size);
 
     Maybe<Client> findByClientIdAndDomain(String clientId, String domain);
@@ -50,4 +60,15 @@ public interface ClientRepository extends CrudRepository<Client, String> {
     Single<Long> countByDomain(String domain);
 
     Single<Long> count();
+
+    Completable deleteByDomain(String domain);
+
+    Completable removeScope(String domain, String scope);
+
+    /**
+     * Compute the case-insensitive search fields of the clients stored before they were introduced.
+     *
+     * @return the number of upgraded clients
+     */
+    Single<Long> upgradeSearchFields();
 }
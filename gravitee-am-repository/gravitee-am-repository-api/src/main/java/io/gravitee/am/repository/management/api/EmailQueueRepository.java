@@ -0,0 +1,51 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.management.api;
+
+import io.gravitee.am.model.QueuedEmail;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Outbox of the emails waiting to be delivered.
+ *
+ * @author GraviteeSource Team
+ */
+public interface EmailQueueRepository {
+
+    Single<QueuedEmail> create(QueuedEmail email);
+
+    /**
+     * Atomically take the oldest email ready to be sent and lease it until the given date, so no other worker can
+     * take it meanwhile. The number of attempts of the returned email is incremented.
+     *
+     * @param domains the security domains of the email, a <code>null</code> domain for the emails of the management API
+     * @param leaseUntil date until which the email is reserved
+     * @return the email to send
+     */
+    Maybe<QueuedEmail> acquire(Collection<String> domains, Date leaseUntil);
+
+    /**
+     * Release a leased email so it is sent again from the given date.
+     */
+    Completable reschedule(String id, Date nextAttemptAt);
+
+    Completable delete(String id);
+}
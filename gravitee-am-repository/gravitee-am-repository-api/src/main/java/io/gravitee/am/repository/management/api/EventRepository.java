@@ -0,0 +1,41 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.management.api;
+
+import io.gravitee.am.model.common.event.Event;
+import io.reactivex.Single;
+
+import java.util.List;
+
+/**
+ * Append-only log of the management events consumed by the gateways.
+ *
+ * @author GraviteeSource Team
+ */
+public interface EventRepository {
+
+    /**
+     * Store the events in the given order, each one receiving the next sequence number of the log.
+     */
+    Single<List<Event>> create(List<Event> events);
+
+    Single<List<Event>> findBySequenceGreaterThan(long sequence, int limit);
+
+    /**
+     * @return the sequence number of the most recent stored event, 0 if the log is empty
+     */
+    Single<Long> lastSequence();
+}
@@ -17,6 +17,7 @@ package io.gravitee.am.repository.management.api;
 
 import io.gravitee.am.model.ExtensionGrant;
 import io.gravitee.am.repository.common.CrudRepository;
+import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 
@@ -31,4 +32,6 @@ public interface ExtensionGrantRepository extends CrudRepository<ExtensionGrant,
     Single<Set<ExtensionGrant>> findByDomain(String domain);
 
     Maybe<ExtensionGrant> findByDomainAndGrantType(String domain, String grantType);
+
+    Completable deleteByDomain(String domain);
 }
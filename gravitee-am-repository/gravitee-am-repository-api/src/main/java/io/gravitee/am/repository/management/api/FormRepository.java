@@ -17,6 +17,7 @@ package io.gravitee.am.repository.management.api;
 
 import io.gravitee.am.model.Form;
 import io.gravitee.am.repository.common.CrudRepository;
+import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 
@@ -36,4 +37,5 @@ public interface FormRepository extends CrudRepository<Form, String> {
 
     Maybe<Form> findByDomainAndClientAndTemplate(String domain, String client, String template);
 
+    Completable deleteByDomain(String domain);
 }
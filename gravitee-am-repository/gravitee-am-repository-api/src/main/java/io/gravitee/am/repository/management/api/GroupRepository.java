@@ -18,6 +18,7 @@ package io.gravitee.am.repository.management.api;
 import io.gravitee.am.model.Group;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.repository.common.CrudRepository;
+import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 
@@ -38,4 +39,6 @@ public interface GroupRepository extends CrudRepository<Group, String> {
     Single<List<Group>> findByIdIn(List<String> ids);
 
     Maybe<Group> findByDomainAndName(String domain, String groupName);
+
+    Completable deleteByDomain(String domain);
 }
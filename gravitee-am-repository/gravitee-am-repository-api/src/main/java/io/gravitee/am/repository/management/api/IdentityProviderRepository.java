@@ -17,8 +17,10 @@ package io.gravitee.am.repository.management.api;
 
 import io.gravitee.am.model.IdentityProvider;
 import io.gravitee.am.repository.common.CrudRepository;
+import io.reactivex.Completable;
 import io.reactivex.Single;
 
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -30,4 +32,8 @@ public interface IdentityProviderRepository extends CrudRepository<IdentityProvi
     Single<Set<IdentityProvider>> findAll();
 
     Single<Set<IdentityProvider>> findByDomain(String domain);
+
+    Single<Set<IdentityProvider>> findByIdIn(Collection<String> ids);
+
+    Completable deleteByDomain(String domain);
 }
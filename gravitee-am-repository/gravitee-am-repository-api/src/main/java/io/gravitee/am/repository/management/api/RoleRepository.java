@@ -18,6 +18,7 @@ package io.gravitee.am.repository.management.api;
 import io.gravitee.am.model.Role;
 import io.gravitee.am.repository.common.CrudRepository;
 import io.gravitee.am.repository.exceptions.TechnicalException;
+import io.reactivex.Completable;
 import io.reactivex.Single;
 
 import java.util.List;
@@ -32,4 +33,8 @@ public interface RoleRepository extends CrudRepository<Role, String> {
     Single<Set<Role>> findByDomain(String domain);
 
     Single<Set<Role>> findByIdIn(List<String> ids);
+
+    Completable deleteByDomain(String domain);
+
+    Completable removePermission(String domain, String permission);
 }
@@ -17,6 +17,7 @@ package io.gravitee.am.repository.management.api;
 
 import io.gravitee.am.model.oauth2.Scope;
 import io.gravitee.am.repository.common.CrudRepository;
+import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 
@@ -31,4 +32,6 @@ public interface ScopeRepository extends CrudRepository<Scope, String> {
     Single<Set<Scope>> findByDomain(String domain);
 
     Maybe<Scope> findByDomainAndKey(String domain, String key);
+
+    Completable deleteByDomain(String domain);
 }
@@ -18,6 +18,7 @@ package io.gravitee.am.repository.management.api;
 import io.gravitee.am.model.User;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.repository.common.CrudRepository;
+import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 
@@ -34,6 +35,20 @@ public interface UserRepository extends CrudRepository<User, String> {
 
     Single<Page<User>> findByDomain(String domain, int page, int size);
 
+    /**
+     * Find the users of a domain sorted by username then id, starting right after the given user.
+     * Several users of a domain may share the same username (one per identity provider), the id settles their order.
+     *
+     * @param domain the security domain
+     * @param afterUsername the username of the last user of the previous page, <code>null</code> to start from the first user
+     * @param afterId the id of the last user of the previous page, ignored when <code>afterUsername</code> is <code>null</code>
+     * @param size the maximum number of users to return
+     * @return the users following the given one
+     */
+    Single<List<User>> findByDomain(String domain, String afterUsername, String afterId, int size);
+
+    Single<Long> countByDomain(String domain);
+
     Single<Page<User>> search(String domain, String query, int limit);
 
     Single<List<User>> findByDomainAndEmail(String domain, String email);
@@ -44,5 +59,12 @@ public interface UserRepository extends CrudRepository<User, String> {
 
     Single<List<User>> findByIdIn(List<String> ids);
 
+    Completable deleteByDomain(String domain);
 
+    /**
+     * Compute the case-insensitive search fields of the users stored before they were introduced.
+     *
+     * @return the number of upgraded users
+     */
+    Single<Long> upgradeSearchFields();
 }
@@ -16,6 +16,7 @@
 package io.gravitee.am.repository.oauth2.api;
 
 import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.gravitee.am.repository.oauth2.model.ClientTokenCount;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
@@ -29,6 +30,13 @@ public interface AccessTokenRepository {
 
     Maybe<AccessToken> findByToken(String token);
 
+    /**
+     * Store an access token.
+     *
+     * @param accessToken the access token
+     * @return the stored access token, or a {@link io.gravitee.am.repository.exceptions.DuplicateKeyException} error
+     * if its value is already used by another access token
+     */
     Single<AccessToken> create(AccessToken accessToken);
 
     Completable delete(String token);
@@ -65,4 +73,71 @@ public interface AccessTokenRepository {
      * @return the number of access tokens
      */
     Single<Long> countByClientId(String clientId);
+
+    /**
+     * Count access tokens stored against the provided security domain.
+     *
+     * @param domain the security domain to search
+     * @return the number of access tokens
+     */
+    Single<Long> countByDomain(String domain);
+
+    /**
+     * Count all the access tokens.
+     *
+     * @return the number of access tokens
+     */
+    Single<Long> count();
+
+    /**
+     * Count access tokens grouped by client, most used clients first.
+     *
+     * @param domain the security domain to search, <code>null</code> to search across all the domains
+     * @param limit the maximum number of clients to return
+     * @return the number of access tokens per client
+     */
+    Observable<ClientTokenCount> countGroupByClient(String domain, int limit);
+
+    /**
+     * Delete access tokens stored against the provided security domain.
+     *
+     * @param domain the security domain
+     * @return acknowledge of the operation
+     */
+    Completable deleteByDomain(String domain);
+
+    /**
+     * Delete access tokens stored against the provided authorization code.
+     *
+     * @param authorizationCode the authorization code
+     * @return acknowledge of the operation
+     */
+    Completable deleteByAuthorizationCode(String authorizationCode);
+
+    /**
+     * Delete access tokens issued to the provided end-user in the provided security domain.
+     *
+     * @param domain the security domain
+     * @param subject the end-user technical identifier
+     * @return acknowledge of the operation
+     */
+    Completable deleteByDomainAndSubject(String domain, String subject);
+
+    /**
+     * Delete access tokens issued to the provided client for the provided end-user in the provided security domain.
+     *
+     * @param domain the security domain
+     * @param clientId the client id
+     * @param subject the end-user technical identifier
+     * @return acknowledge of the operation
+     */
+    Completable deleteByDomainClientAndSubject(String domain, String clientId, String subject);
+
+    /**
+     * Delete the access tokens sharing their value with another access token, such tokens can not be told apart and
+     * are all revoked. The storage can then enforce the uniqueness of the token values.
+     *
+     * @return the number of deleted access tokens
+     */
+    Single<Long> removeDuplicates();
 }
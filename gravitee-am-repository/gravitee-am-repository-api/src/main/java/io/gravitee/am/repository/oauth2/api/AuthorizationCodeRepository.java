@@ -30,7 +30,8 @@ public interface AuthorizationCodeRepository {
      * Store an authorization code.
      *
      * @param authorizationCode The authorization code.
-     * @return
+     * @return the stored authorization code, or a {@link io.gravitee.am.repository.exceptions.DuplicateKeyException}
+     * error if its code is already used by another authorization code
      */
     Single<AuthorizationCode> create(AuthorizationCode authorizationCode);
 
@@ -48,4 +49,22 @@ public interface AuthorizationCodeRepository {
      * @return
      */
     Maybe<AuthorizationCode> findByCode(String code);
+
+    /**
+     * Atomically look for an {@link AuthorizationCode} by its code and client and delete it.
+     * Only one caller can consume a given code, concurrent callers get an empty result.
+     *
+     * @param code The authorization code.
+     * @param clientId The client which the code has been issued to.
+     * @return the consumed authorization code
+     */
+    Maybe<AuthorizationCode> findAndDelete(String code, String clientId);
+
+    /**
+     * Delete the authorization codes sharing their code with another authorization code, such codes can not be told
+     * apart and are all revoked. The storage can then enforce the uniqueness of the codes.
+     *
+     * @return the number of deleted authorization codes
+     */
+    Single<Long> removeDuplicates();
 }
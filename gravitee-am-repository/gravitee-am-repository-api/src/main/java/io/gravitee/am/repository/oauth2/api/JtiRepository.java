@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.oauth2.api;
+
+import io.reactivex.Single;
+
+import java.util.Date;
+
+/**
+ * Identifiers (jti) of the JWT assertions already used, kept until the assertions expire to prevent their replay.
+ *
+ * @author GraviteeSource Team
+ */
+public interface JtiRepository {
+
+    /**
+     * @return true if the assertion identifier has already been used
+     */
+    Single<Boolean> exists(String jti);
+
+    /**
+     * Store an assertion identifier until its expiration date.
+     *
+     * @return false if the identifier was already stored, i.e. the assertion is replayed
+     */
+    Single<Boolean> create(String jti, Date expireAt);
+}
@@ -28,7 +28,57 @@ public interface RefreshTokenRepository {
 
     Maybe<RefreshToken> findByToken(String token);
 
+    /**
+     * Store a refresh token.
+     *
+     * @param refreshToken the refresh token
+     * @return the stored refresh token, or a {@link io.gravitee.am.repository.exceptions.DuplicateKeyException} error
+     * if its value is already used by another refresh token
+     */
     Single<RefreshToken> create(RefreshToken refreshToken);
 
     Completable delete(String token);
+
+    /**
+     * Delete refresh tokens stored against the provided security domain.
+     *
+     * @param domain the security domain
+     * @return acknowledge of the operation
+     */
+    Completable deleteByDomain(String domain);
+
+    /**
+     * Delete refresh tokens stored against the provided authorization code.
+     *
+     * @param authorizationCode the authorization code
+     * @return acknowledge of the operation
+     */
+    Completable deleteByAuthorizationCode(String authorizationCode);
+
+    /**
+     * Delete refresh tokens issued to the provided end-user in the provided security domain.
+     *
+     * @param domain the security domain
+     * @param subject the end-user technical identifier
+     * @return acknowledge of the operation
+     */
+    Completable deleteByDomainAndSubject(String domain, String subject);
+
+    /**
+     * Delete refresh tokens issued to the provided client for the provided end-user in the provided security domain.
+     *
+     * @param domain the security domain
+     * @param clientId the client id
+     * @param subject the end-user technical identifier
+     * @return acknowledge of the operation
+     */
+    Completable deleteByDomainClientAndSubject(String domain, String clientId, String subject);
+
+    /**
+     * Delete the refresh tokens sharing their value with another refresh token, such tokens can not be told apart and
+     * are all revoked. The storage can then enforce the uniqueness of the token values.
+     *
+     * @return the number of deleted refresh tokens
+     */
+    Single<Long> removeDuplicates();
 }
@@ -20,6 +20,7 @@ import io.gravitee.am.repository.common.CrudRepository;
 import io.reactivex.Completable;
 import io.reactivex.Single;
 
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -35,10 +36,21 @@ public interface ScopeApprovalRepository extends CrudRepository<ScopeApproval, S
 
     Single<ScopeApproval> upsert(ScopeApproval scopeApproval);
 
+    /**
+     * Create or update the given scope approvals in a single operation.
+     * Approvals are matched on their domain, client, user and scope.
+     *
+     * @param scopeApprovals the scope approvals to save
+     * @return acknowledge of the operation
+     */
+    Completable upsertAll(Collection<ScopeApproval> scopeApprovals);
+
     Completable deleteByDomainAndScopeKey(String domain, String scope);
 
     Completable deleteByDomainAndUserAndClient(String domain, String user, String client);
 
     Completable deleteByDomainAndUser(String domain, String user);
 
+    Completable deleteByDomain(String domain);
+
 }
@@ -21,4 +21,18 @@ package io.gravitee.am.repository.oauth2.model;
  */
 public class RefreshToken extends Token {
 
+    /**
+     * The authorization code used to obtain the refresh token
+     * Needed for token revocation if authorization code has been used more than once
+     * https://tools.ietf.org/html/rfc6749#section-4.1.2
+     */
+    private String authorizationCode;
+
+    public String getAuthorizationCode() {
+        return authorizationCode;
+    }
+
+    public void setAuthorizationCode(String authorizationCode) {
+        this.authorizationCode = authorizationCode;
+    }
 }
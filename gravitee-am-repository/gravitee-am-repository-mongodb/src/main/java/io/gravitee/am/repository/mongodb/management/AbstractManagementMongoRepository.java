@@ -16,9 +16,16 @@
 package io.gravitee.am.repository.mongodb.management;
 
 import com.mongodb.reactivestreams.client.MongoDatabase;
+import org.bson.conversions.Bson;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 
+import java.util.Locale;
+
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.gte;
+import static com.mongodb.client.model.Filters.lt;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -26,7 +33,39 @@ import org.springframework.beans.factory.annotation.Qualifier;
  */
 public abstract class AbstractManagementMongoRepository {
 
+    /**
+     * Maximum number of concurrent writes while upgrading the stored documents.
+     */
+    protected static final int UPGRADE_CONCURRENCY = 16;
+
     @Autowired
     @Qualifier("managementMongoTemplate")
     protected MongoDatabase mongoOperations;
+
+    /**
+     * Normalize a value stored in a lower-case search field.
+     */
+    protected static String toLowerCase(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Values of a field starting with the given prefix, as a range query which can use an index on the field
+     * (unlike a case-insensitive regular expression).
+     */
+    protected static Bson startsWith(String field, String prefix) {
+        if (prefix.isEmpty()) {
+            return gte(field, prefix);
+        }
+        // the strings starting with the prefix are lower than the prefix with its last code point incremented
+        int lastCodePoint = prefix.codePointBefore(prefix.length());
+        if (lastCodePoint == Character.MAX_CODE_POINT) {
+            return gte(field, prefix);
+        }
+        int nextCodePoint = lastCodePoint + 1 == Character.MIN_SURROGATE ? Character.MAX_SURROGATE + 1 : lastCodePoint + 1;
+        String upperBound = new StringBuilder(prefix.substring(0, prefix.length() - Character.charCount(lastCodePoint)))
+                .appendCodePoint(nextCodePoint)
+                .toString();
+        return and(gte(field, prefix), lt(field, upperBound));
+    }
 }
@@ -15,6 +15,9 @@
  */
 package io.gravitee.am.repository.mongodb.management;
 
+import com.mongodb.BasicDBObject;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Updates;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.model.Client;
@@ -38,7 +41,6 @@ import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import java.util.*;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.mongodb.client.model.Filters.*;
@@ -54,10 +56,19 @@ public class MongoClientRepository extends AbstractManagementMongoRepository imp
     private static final String FIELD_ID = "_id";
     private static final String FIELD_DOMAIN = "domain";
     private static final String FIELD_CLIENT_ID = "clientId";
+    private static final String FIELD_CLIENT_ID_LOWER = "clientIdLower";
     private static final String FIELD_IDENTITIES = "identities";
     private static final String FIELD_OAUTH2_IDENTITIES = "oauth2Identities";
     private static final String FIELD_CERTIFICATE = "certificate";
+    private static final String FIELD_SCOPES = "scopes";
+    private static final String FIELD_AUTO_APPROVE_SCOPES = "autoApproveScopes";
+    private static final String FIELD_SCOPE_APPROVALS = "scopeApprovals";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
     private static final String FIELD_GRANT_TYPES= "authorizedGrantTypes";
+    private static final String FIELD_CLIENT_NAME = "clientName";
+    private static final String FIELD_ENABLED = "enabled";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final Bson LIST_ITEM_PROJECTION = Projections.include(FIELD_ID, FIELD_CLIENT_ID, FIELD_CLIENT_NAME, FIELD_DOMAIN, FIELD_ENABLED, FIELD_CREATED_AT, FIELD_UPDATED_AT);
     private MongoCollection<ClientMongo> clientsCollection;
 
     @PostConstruct
@@ -65,6 +76,7 @@ public class MongoClientRepository extends AbstractManagementMongoRepository imp
         clientsCollection = mongoOperations.getCollection("clients", ClientMongo.class);
         clientsCollection.createIndex(new Document(FIELD_DOMAIN, 1)).subscribe(new LoggableIndexSubscriber());
         clientsCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_CLIENT_ID, 1)).subscribe(new LoggableIndexSubscriber());
+        clientsCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_CLIENT_ID_LOWER, 1)).subscribe(new LoggableIndexSubscriber());
         clientsCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_GRANT_TYPES, 1)).subscribe(new LoggableIndexSubscriber());
         clientsCollection.createIndex(new Document(FIELD_IDENTITIES, 1)).subscribe(new LoggableIndexSubscriber());
         clientsCollection.createIndex(new Document(FIELD_CERTIFICATE, 1)).subscribe(new LoggableIndexSubscriber());
@@ -81,15 +93,15 @@ public class MongoClientRepository extends AbstractManagementMongoRepository imp
         // currently search on client_id field
         Bson mongoQuery = and(
                 eq(FIELD_DOMAIN, domain),
-                regex(FIELD_CLIENT_ID, "^(?)" + Pattern.quote(query), "i"));
+                startsWith(FIELD_CLIENT_ID_LOWER, toLowerCase(query)));
 
         return Observable.fromPublisher(clientsCollection.find(mongoQuery)).map(this::convert).collect(HashSet::new, Set::add);
     }
 
     @Override
     public Single<Page<Client>> findByDomain(String domain, int page, int size) {
-        Single<Long> countOperation = Observable.fromPublisher(clientsCollection.count(eq(FIELD_DOMAIN, domain))).first(0l);
-        Single<Set<Client>> clientsOperation = Observable.fromPublisher(clientsCollection.find(eq(FIELD_DOMAIN, domain)).skip(size * (page - 1)).limit(size)).map(this::convert).collect(HashSet::new, Set::add);
+        Single<Long> countOperation = Observable.fromPublisher(clientsCollection.countDocuments(eq(FIELD_DOMAIN, domain))).first(0l);
+        Single<Set<Client>> clientsOperation = Observable.fromPublisher(clientsCollection.find(eq(FIELD_DOMAIN, domain)).projection(LIST_ITEM_PROJECTION).sort(new BasicDBObject(FIELD_CLIENT_ID_LOWER, 1)).skip(size * page).limit(size)).map(this::convert).collect(LinkedHashSet::new, Set::add);
         return Single.zip(countOperation, clientsOperation, (count, clients) -> new Page<>(clients, page, count));
     }
 
@@ -121,7 +133,7 @@ public class MongoClientRepository extends AbstractManagementMongoRepository imp
     @Override
     public Single<Page<Client>> findAll(int page, int size) {
         Single<Long> countOperation = Observable.fromPublisher(clientsCollection.count()).first(0l);
-        Single<Set<Client>> clientsOperation = Observable.fromPublisher(clientsCollection.find().skip(size * (page - 1)).limit(size)).map(this::convert).collect(HashSet::new, Set::add);
+        Single<Set<Client>> clientsOperation = Observable.fromPublisher(clientsCollection.find().skip(size * page).limit(size)).map(this::convert).collect(HashSet::new, Set::add);
         return Single.zip(countOperation, clientsOperation, (count, clients) -> new Page<>(clients, page, count));
     }
 
@@ -148,6 +160,29 @@ public class MongoClientRepository extends AbstractManagementMongoRepository imp
         return Completable.fromPublisher(clientsCollection.deleteOne(eq(FIELD_ID, id)));
     }
 
+    @Override
+    public Single<Long> upgradeSearchFields() {
+        return Observable.fromPublisher(clientsCollection.find(and(exists(FIELD_CLIENT_ID_LOWER, false), ne(FIELD_CLIENT_ID, null))).projection(Projections.include(FIELD_CLIENT_ID)))
+                .flatMap(clientMongo -> Observable.fromPublisher(clientsCollection.updateOne(eq(FIELD_ID, clientMongo.getId()), Updates.set(FIELD_CLIENT_ID_LOWER, toLowerCase(clientMongo.getClientId())))), UPGRADE_CONCURRENCY)
+                .count();
+    }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return Completable.fromPublisher(clientsCollection.deleteMany(eq(FIELD_DOMAIN, domain)));
+    }
+
+    @Override
+    public Completable removeScope(String domain, String scope) {
+        return Completable.fromPublisher(clientsCollection.updateMany(
+                and(eq(FIELD_DOMAIN, domain), eq(FIELD_SCOPES, scope)),
+                Updates.combine(
+                        Updates.pull(FIELD_SCOPES, scope),
+                        Updates.pull(FIELD_AUTO_APPROVE_SCOPES, scope),
+                        Updates.unset(FIELD_SCOPE_APPROVALS + "." + scope),
+                        Updates.set(FIELD_UPDATED_AT, new Date()))));
+    }
+
     @Override
     public Single<Long> countByDomain(String domain) {
         return Observable.fromPublisher(clientsCollection.count(eq(FIELD_DOMAIN, domain))).first(0l);
@@ -230,6 +265,7 @@ public class MongoClientRepository extends AbstractManagementMongoRepository imp
         ClientMongo clientMongo = new ClientMongo();
         clientMongo.setId(client.getId());
         clientMongo.setClientId(client.getClientId());
+        clientMongo.setClientIdLower(toLowerCase(client.getClientId()));
         clientMongo.setClientSecret(client.getClientSecret());
         clientMongo.setAccessTokenValiditySeconds(client.getAccessTokenValiditySeconds());
         clientMongo.setRefreshTokenValiditySeconds(client.getRefreshTokenValiditySeconds());
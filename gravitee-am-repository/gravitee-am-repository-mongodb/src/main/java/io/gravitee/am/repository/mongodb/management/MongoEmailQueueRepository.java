@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.management;
+
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import io.gravitee.am.common.utils.RandomString;
+import io.gravitee.am.model.QueuedEmail;
+import io.gravitee.am.repository.management.api.EmailQueueRepository;
+import io.gravitee.am.repository.mongodb.common.LoggableIndexSubscriber;
+import io.gravitee.am.repository.mongodb.management.internal.model.QueuedEmailMongo;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import org.bson.Document;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.Date;
+
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.in;
+import static com.mongodb.client.model.Filters.lte;
+import static com.mongodb.client.model.Updates.combine;
+import static com.mongodb.client.model.Updates.inc;
+import static com.mongodb.client.model.Updates.set;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class MongoEmailQueueRepository extends AbstractManagementMongoRepository implements EmailQueueRepository {
+
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_DOMAIN = "domain";
+    private static final String FIELD_ATTEMPTS = "attempts";
+    private static final String FIELD_NEXT_ATTEMPT_AT = "nextAttemptAt";
+    private MongoCollection<QueuedEmailMongo> emailQueueCollection;
+
+    @PostConstruct
+    public void init() {
+        emailQueueCollection = mongoOperations.getCollection("email_queue", QueuedEmailMongo.class);
+        emailQueueCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_NEXT_ATTEMPT_AT, 1)).subscribe(new LoggableIndexSubscriber());
+    }
+
+    @Override
+    public Single<QueuedEmail> create(QueuedEmail email) {
+        QueuedEmailMongo emailMongo = convert(email);
+        emailMongo.setId(emailMongo.getId() == null ? RandomString.generate() : emailMongo.getId());
+        return Single.fromPublisher(emailQueueCollection.insertOne(emailMongo)).map(success -> convert(emailMongo));
+    }
+
+    @Override
+    public Maybe<QueuedEmail> acquire(Collection<String> domains, Date leaseUntil) {
+        return Observable.fromPublisher(emailQueueCollection.findOneAndUpdate(
+                and(in(FIELD_DOMAIN, domains), lte(FIELD_NEXT_ATTEMPT_AT, new Date())),
+                combine(set(FIELD_NEXT_ATTEMPT_AT, leaseUntil), inc(FIELD_ATTEMPTS, 1)),
+                new FindOneAndUpdateOptions().sort(new Document(FIELD_NEXT_ATTEMPT_AT, 1)).returnDocument(ReturnDocument.AFTER)))
+                .firstElement()
+                .map(this::convert);
+    }
+
+    @Override
+    public Completable reschedule(String id, Date nextAttemptAt) {
+        return Completable.fromPublisher(emailQueueCollection.updateOne(eq(FIELD_ID, id), set(FIELD_NEXT_ATTEMPT_AT, nextAttemptAt)));
+    }
+
+    @Override
+    public Completable delete(String id) {
+        return Completable.fromPublisher(emailQueueCollection.deleteOne(eq(FIELD_ID, id)));
+    }
+
+    private QueuedEmail convert(QueuedEmailMongo emailMongo) {
+        QueuedEmail email = new QueuedEmail();
+        email.setId(emailMongo.getId());
+        email.setDomain(emailMongo.getDomain());
+        email.setFrom(emailMongo.getFrom());
+        email.setFromName(emailMongo.getFromName());
+        email.setTo(emailMongo.getTo());
+        email.setSubject(emailMongo.getSubject());
+        email.setContent(emailMongo.getContent());
+        email.setResources(emailMongo.getResources());
+        email.setAttempts(emailMongo.getAttempts());
+        email.setNextAttemptAt(emailMongo.getNextAttemptAt());
+        email.setCreatedAt(emailMongo.getCreatedAt());
+        return email;
+    }
+
+    private QueuedEmailMongo convert(QueuedEmail email) {
+        QueuedEmailMongo emailMongo = new QueuedEmailMongo();
+        emailMongo.setId(email.getId());
+        emailMongo.setDomain(email.getDomain());
+        emailMongo.setFrom(email.getFrom());
+        emailMongo.setFromName(email.getFromName());
+        emailMongo.setTo(email.getTo());
+        emailMongo.setSubject(email.getSubject());
+        emailMongo.setContent(email.getContent());
+        emailMongo.setResources(email.getResources());
+        emailMongo.setAttempts(email.getAttempts());
+        emailMongo.setNextAttemptAt(email.getNextAttemptAt());
+        emailMongo.setCreatedAt(email.getCreatedAt());
+        return emailMongo;
+    }
+}
@@ -122,6 +122,11 @@ public class MongoEmailRepository extends AbstractManagementMongoRepository impl
         return Completable.fromPublisher(emailsCollection.deleteOne(eq(FIELD_ID, id)));
     }
 
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return Completable.fromPublisher(emailsCollection.deleteMany(eq(FIELD_DOMAIN, domain)));
+    }
+
     private Email convert(EmailMongo emailMongo) {
         if (emailMongo == null) {
             return null;
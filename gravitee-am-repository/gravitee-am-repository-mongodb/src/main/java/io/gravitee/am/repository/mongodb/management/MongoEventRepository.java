@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.management;
+
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import io.gravitee.am.common.utils.RandomString;
+import io.gravitee.am.model.common.event.Action;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.model.common.event.Type;
+import io.gravitee.am.repository.management.api.EventRepository;
+import io.gravitee.am.repository.mongodb.common.LoggableIndexSubscriber;
+import io.gravitee.am.repository.mongodb.management.internal.model.EventMongo;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import org.bson.Document;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Updates.inc;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class MongoEventRepository extends AbstractManagementMongoRepository implements EventRepository {
+
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_SEQUENCE = "sequence";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_VALUE = "value";
+    private static final String FIELD_ACTION = "action";
+    private static final String EVENTS_SEQUENCE = "events";
+    private static final long EVENTS_RETENTION_DAYS = 7;
+    private MongoCollection<EventMongo> eventsCollection;
+    private MongoCollection<Document> sequencesCollection;
+
+    @PostConstruct
+    public void init() {
+        eventsCollection = mongoOperations.getCollection("events", EventMongo.class);
+        eventsCollection.createIndex(new Document(FIELD_SEQUENCE, 1), new IndexOptions().unique(true)).subscribe(new LoggableIndexSubscriber());
+        eventsCollection.createIndex(new Document(FIELD_CREATED_AT, 1), new IndexOptions().expireAfter(EVENTS_RETENTION_DAYS, TimeUnit.DAYS)).subscribe(new LoggableIndexSubscriber());
+        sequencesCollection = mongoOperations.getCollection("sequences");
+    }
+
+    @Override
+    public Single<List<Event>> create(List<Event> events) {
+        if (events.isEmpty()) {
+            return Single.just(events);
+        }
+
+        // reserve a range of sequence numbers for the whole batch with a single update
+        return Single.fromPublisher(sequencesCollection.findOneAndUpdate(
+                eq(FIELD_ID, EVENTS_SEQUENCE),
+                inc(FIELD_VALUE, (long) events.size()),
+                new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER)))
+                .flatMap(counter -> {
+                    long sequence = counter.getLong(FIELD_VALUE) - events.size();
+                    Date now = new Date();
+                    List<EventMongo> eventsMongo = new ArrayList<>(events.size());
+                    for (Event event : events) {
+                        event.setId(event.getId() == null ? RandomString.generate() : event.getId());
+                        event.setSequence(++sequence);
+                        event.setCreatedAt(now);
+                        eventsMongo.add(convert(event));
+                    }
+                    return Single.fromPublisher(eventsCollection.insertMany(eventsMongo)).map(success -> events);
+                });
+    }
+
+    @Override
+    public Single<List<Event>> findBySequenceGreaterThan(long sequence, int limit) {
+        return Observable.fromPublisher(eventsCollection.find(gt(FIELD_SEQUENCE, sequence)).sort(new Document(FIELD_SEQUENCE, 1)).limit(limit))
+                .map(this::convert)
+                .toList();
+    }
+
+    @Override
+    public Single<Long> lastSequence() {
+        return Observable.fromPublisher(eventsCollection.find().sort(new Document(FIELD_SEQUENCE, -1)).limit(1).first())
+                .firstElement()
+                .map(EventMongo::getSequence)
+                .toSingle(0L);
+    }
+
+    private Event convert(EventMongo eventMongo) {
+        Payload payload = new Payload(eventMongo.getPayload());
+        payload.put(FIELD_ACTION, Action.valueOf(eventMongo.getPayload().getString(FIELD_ACTION)));
+
+        Event event = new Event(Type.valueOf(eventMongo.getType()), payload);
+        event.setId(eventMongo.getId());
+        event.setSequence(eventMongo.getSequence());
+        event.setCreatedAt(eventMongo.getCreatedAt());
+        return event;
+    }
+
+    private EventMongo convert(Event event) {
+        Document payload = new Document(event.getPayload());
+        payload.put(FIELD_ACTION, event.getPayload().getAction().toString());
+
+        EventMongo eventMongo = new EventMongo();
+        eventMongo.setId(event.getId());
+        eventMongo.setSequence(event.getSequence());
+        eventMongo.setType(event.getType().toString());
+        eventMongo.setDomain(event.getPayload().getDomain());
+        eventMongo.setPayload(payload);
+        eventMongo.setCreatedAt(event.getCreatedAt());
+        return eventMongo;
+    }
+}
@@ -118,6 +118,11 @@ public class MongoFormRepository extends AbstractManagementMongoRepository imple
         return Completable.fromPublisher(formsCollection.deleteOne(eq(FIELD_ID, id)));
     }
 
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return Completable.fromPublisher(formsCollection.deleteMany(eq(FIELD_DOMAIN, domain)));
+    }
+
     private Form convert(FormMongo pageMongo) {
         if (pageMongo == null) {
             return null;
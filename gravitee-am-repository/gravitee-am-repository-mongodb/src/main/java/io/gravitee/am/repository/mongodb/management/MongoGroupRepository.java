@@ -113,6 +113,11 @@ public class MongoGroupRepository extends AbstractManagementMongoRepository impl
         return Completable.fromPublisher(groupsCollection.deleteOne(eq(FIELD_ID, id)));
     }
 
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return Completable.fromPublisher(groupsCollection.deleteMany(eq(FIELD_DOMAIN, domain)));
+    }
+
     private Group convert(GroupMongo groupMongo) {
         if (groupMongo == null) {
             return null;
@@ -32,6 +32,7 @@ import javax.annotation.PostConstruct;
 import java.util.*;
 
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.in;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -61,6 +62,11 @@ public class MongoIdentityProviderRepository extends AbstractManagementMongoRepo
         return Observable.fromPublisher(identitiesCollection.find(eq(FIELD_DOMAIN, domain))).map(this::convert).collect(HashSet::new, Set::add);
     }
 
+    @Override
+    public Single<Set<IdentityProvider>> findByIdIn(Collection<String> ids) {
+        return Observable.fromPublisher(identitiesCollection.find(in(FIELD_ID, ids))).map(this::convert).collect(HashSet::new, Set::add);
+    }
+
     @Override
     public Maybe<IdentityProvider> findById(String identityProviderId) {
         return Observable.fromPublisher(identitiesCollection.find(eq(FIELD_ID, identityProviderId)).first()).firstElement().map(this::convert);
@@ -84,6 +90,11 @@ public class MongoIdentityProviderRepository extends AbstractManagementMongoRepo
         return Completable.fromPublisher(identitiesCollection.deleteOne(eq(FIELD_ID, id)));
     }
 
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return Completable.fromPublisher(identitiesCollection.deleteMany(eq(FIELD_DOMAIN, domain)));
+    }
+
     private IdentityProvider convert(IdentityProviderMongo identityProviderMongo) {
         if (identityProviderMongo == null) {
             return null;
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.repository.mongodb.management;
 
+import com.mongodb.client.model.Updates;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.model.Role;
@@ -29,10 +30,12 @@ import org.bson.Document;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
 import static com.mongodb.client.model.Filters.in;
 
@@ -45,6 +48,8 @@ public class MongoRoleRepository extends AbstractManagementMongoRepository imple
 
     private static final String FIELD_ID = "_id";
     private static final String FIELD_DOMAIN = "domain";
+    private static final String FIELD_PERMISSIONS = "permissions";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
     private MongoCollection<RoleMongo> rolesCollection;
 
     @PostConstruct
@@ -86,6 +91,20 @@ public class MongoRoleRepository extends AbstractManagementMongoRepository imple
         return Completable.fromPublisher(rolesCollection.deleteOne(eq(FIELD_ID, id)));
     }
 
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return Completable.fromPublisher(rolesCollection.deleteMany(eq(FIELD_DOMAIN, domain)));
+    }
+
+    @Override
+    public Completable removePermission(String domain, String permission) {
+        return Completable.fromPublisher(rolesCollection.updateMany(
+                and(eq(FIELD_DOMAIN, domain), eq(FIELD_PERMISSIONS, permission)),
+                Updates.combine(
+                        Updates.pull(FIELD_PERMISSIONS, permission),
+                        Updates.set(FIELD_UPDATED_AT, new Date()))));
+    }
+
     private Role convert(RoleMongo roleMongo) {
         if (roleMongo == null) {
             return null;
@@ -78,6 +78,11 @@ public class MongoScopeRepository extends AbstractManagementMongoRepository impl
         return Completable.fromPublisher(scopesCollection.deleteOne(eq(FIELD_ID, id)));
     }
 
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return Completable.fromPublisher(scopesCollection.deleteMany(eq(FIELD_DOMAIN, domain)));
+    }
+
     @Override
     public Single<Set<Scope>> findByDomain(String domain) {
         return Observable.fromPublisher(scopesCollection.find(eq(FIELD_DOMAIN, domain))).map(this::convert).collect(HashSet::new, Set::add);
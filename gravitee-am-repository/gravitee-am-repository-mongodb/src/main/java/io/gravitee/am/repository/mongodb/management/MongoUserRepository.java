@@ -16,6 +16,8 @@
 package io.gravitee.am.repository.mongodb.management;
 
 import com.mongodb.BasicDBObject;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Updates;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.model.User;
@@ -39,7 +41,6 @@ import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import java.util.*;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.mongodb.client.model.Filters.*;
@@ -54,6 +55,7 @@ public class MongoUserRepository extends AbstractManagementMongoRepository imple
     private static final String FIELD_ID = "_id";
     private static final String FIELD_DOMAIN = "domain";
     private static final String FIELD_USERNAME = "username";
+    private static final String FIELD_USERNAME_LOWER = "usernameLower";
     private static final String FIELD_SOURCE = "source";
     private static final String FIELD_EMAIL = "email";
 
@@ -66,6 +68,8 @@ public class MongoUserRepository extends AbstractManagementMongoRepository imple
         usersCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_EMAIL, 1)).subscribe(new LoggableIndexSubscriber());
         usersCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_USERNAME, 1)).subscribe(new LoggableIndexSubscriber());
         usersCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_USERNAME, 1).append(FIELD_SOURCE, 1)).subscribe(new LoggableIndexSubscriber());
+        usersCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_USERNAME, 1).append(FIELD_ID, 1)).subscribe(new LoggableIndexSubscriber());
+        usersCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_USERNAME_LOWER, 1)).subscribe(new LoggableIndexSubscriber());
     }
 
     @Override
@@ -80,12 +84,29 @@ public class MongoUserRepository extends AbstractManagementMongoRepository imple
         return Single.zip(countOperation, usersOperation, (count, users) -> new Page<>(users, page, count));
     }
 
+    @Override
+    public Single<List<User>> findByDomain(String domain, String afterUsername, String afterId, int size) {
+        // range on the (domain, username, _id) index instead of skipping the previous pages
+        Bson mongoQuery = afterUsername == null ?
+                eq(FIELD_DOMAIN, domain) :
+                and(eq(FIELD_DOMAIN, domain), or(
+                        gt(FIELD_USERNAME, afterUsername),
+                        and(eq(FIELD_USERNAME, afterUsername), gt(FIELD_ID, afterId))));
+
+        return Observable.fromPublisher(usersCollection.find(mongoQuery).sort(new BasicDBObject(FIELD_USERNAME, 1).append(FIELD_ID, 1)).limit(size)).map(this::convert).collect(ArrayList::new, List::add);
+    }
+
+    @Override
+    public Single<Long> countByDomain(String domain) {
+        return Observable.fromPublisher(usersCollection.countDocuments(eq(FIELD_DOMAIN, domain))).first(0l);
+    }
+
     @Override
     public Single<Page<User>> search(String domain, String query, int limit) {
         // currently search on username field
         Bson mongoQuery = and(
                 eq(FIELD_DOMAIN, domain),
-                regex(FIELD_USERNAME, "^(?)" + Pattern.quote(query), "i"));
+                startsWith(FIELD_USERNAME_LOWER, toLowerCase(query)));
 
         Single<Long> countOperation = Observable.fromPublisher(usersCollection.countDocuments(mongoQuery)).first(0l);
         Single<Set<User>> usersOperation = Observable.fromPublisher(usersCollection.find(mongoQuery).limit(limit)).map(this::convert).collect(LinkedHashSet::new, Set::add);
@@ -147,6 +168,18 @@ public class MongoUserRepository extends AbstractManagementMongoRepository imple
         return Completable.fromPublisher(usersCollection.deleteOne(eq(FIELD_ID, id)));
     }
 
+    @Override
+    public Single<Long> upgradeSearchFields() {
+        return Observable.fromPublisher(usersCollection.find(and(exists(FIELD_USERNAME_LOWER, false), ne(FIELD_USERNAME, null))).projection(Projections.include(FIELD_USERNAME)))
+                .flatMap(userMongo -> Observable.fromPublisher(usersCollection.updateOne(eq(FIELD_ID, userMongo.getId()), Updates.set(FIELD_USERNAME_LOWER, toLowerCase(userMongo.getUsername())))), UPGRADE_CONCURRENCY)
+                .count();
+    }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return Completable.fromPublisher(usersCollection.deleteMany(eq(FIELD_DOMAIN, domain)));
+    }
+
     private User convert(UserMongo userMongo) {
         if (userMongo == null) {
             return null;
@@ -196,6 +229,7 @@ public class MongoUserRepository extends AbstractManagementMongoRepository imple
         userMongo.setId(user.getId());
         userMongo.setExternalId(user.getExternalId());
         userMongo.setUsername(user.getUsername());
+        userMongo.setUsernameLower(toLowerCase(user.getUsername()));
         userMongo.setEmail(user.getEmail());
         userMongo.setDisplayName(user.getDisplayName());
         userMongo.setNickName(user.getNickName());
@@ -34,6 +34,10 @@ public class ClientMongo extends Auditable {
     private String id;
 
     private String clientId;
+    /**
+     * Lower-case client_id, for case-insensitive searches using an index
+     */
+    private String clientIdLower;
 
     private String clientSecret;
 
@@ -173,6 +177,14 @@ public class ClientMongo extends Auditable {
         this.clientId = clientId;
     }
 
+    public String getClientIdLower() {
+        return clientIdLower;
+    }
+
+    public void setClientIdLower(String clientIdLower) {
+        this.clientIdLower = clientIdLower;
+    }
+
     public String getClientSecret() {
         return clientSecret;
     }
@@ -35,6 +35,10 @@ public class UserMongo extends Auditable {
     private String id;
     private String externalId;
     private String username;
+    /**
+     * Lower-case username, for case-insensitive searches using an index
+     */
+    private String usernameLower;
     private String email;
     private String displayName;
     private String nickName;
@@ -92,6 +96,14 @@ public class UserMongo extends Auditable {
         this.username = username;
     }
 
+    public String getUsernameLower() {
+        return usernameLower;
+    }
+
+    public void setUsernameLower(String usernameLower) {
+        this.usernameLower = usernameLower;
+    }
+
     public String getEmail() {
         return email;
     }
@@ -15,10 +15,29 @@
  */
 package io.gravitee.am.repository.mongodb.oauth2;
 
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
+import io.gravitee.am.repository.exceptions.DuplicateKeyException;
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 
+import java.util.Arrays;
+import java.util.List;
+
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Filters.in;
+import static com.mongodb.client.model.Filters.ne;
+
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
@@ -28,4 +47,59 @@ public abstract class AbstractOAuth2MongoRepository {
     @Autowired
     @Qualifier("oauth2MongoTemplate")
     protected MongoDatabase mongoOperations;
+
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_COUNT = "count";
+    private static final int DUPLICATES_BATCH_SIZE = 100;
+
+    protected static boolean isDuplicateKey(Throwable ex) {
+        return ex instanceof MongoWriteException && ((MongoWriteException) ex).getError().getCategory() == ErrorCategory.DUPLICATE_KEY;
+    }
+
+    /**
+     * Report a duplicate key error as a {@link DuplicateKeyException} so that callers can retry with a new key.
+     */
+    protected static <T> Single<T> convertError(Throwable ex) {
+        if (isDuplicateKey(ex)) {
+            return Single.error(new DuplicateKeyException(ex.getMessage(), ex));
+        }
+        return Single.error(ex);
+    }
+
+    /**
+     * Delete every document sharing the value of the given field with another document, then replace the plain index
+     * on that field by a unique one (an index can not be made unique in place). Nothing is done once the unique index
+     * exists.
+     *
+     * @return the number of deleted documents
+     */
+    protected static <T> Single<Long> removeDuplicates(MongoCollection<T> collection, String field) {
+        Document keys = new Document(field, 1);
+        return Observable.fromPublisher(collection.listIndexes())
+                .filter(index -> ((Document) index.get("key")).keySet().equals(keys.keySet()))
+                .toList()
+                .flatMap(indexes -> {
+                    if (indexes.stream().anyMatch(index -> index.getBoolean("unique", false))) {
+                        return Single.just(0L);
+                    }
+                    return deleteDuplicates(collection, field)
+                            .flatMap(count -> Observable.fromIterable(indexes)
+                                    .flatMapCompletable(index -> Completable.fromPublisher(collection.dropIndex(index.getString("name"))))
+                                    .andThen(Completable.fromPublisher(collection.createIndex(keys, new IndexOptions().unique(true))))
+                                    .toSingleDefault(count));
+                });
+    }
+
+    private static <T> Single<Long> deleteDuplicates(MongoCollection<T> collection, String field) {
+        List<Bson> pipeline = Arrays.asList(
+                Aggregates.match(ne(field, null)),
+                Aggregates.group("$" + field, Accumulators.sum(FIELD_COUNT, 1)),
+                Aggregates.match(gt(FIELD_COUNT, 1)));
+
+        return Observable.fromPublisher(collection.aggregate(pipeline, Document.class).allowDiskUse(true))
+                .map(document -> document.get(FIELD_ID))
+                .buffer(DUPLICATES_BATCH_SIZE)
+                .concatMap(values -> Observable.fromPublisher(collection.deleteMany(in(field, values))))
+                .reduce(0L, (count, result) -> count + result.getDeletedCount());
+    }
 }
@@ -15,20 +15,27 @@
  */
 package io.gravitee.am.repository.mongodb.oauth2;
 
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Sorts;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.repository.mongodb.common.LoggableIndexSubscriber;
 import io.gravitee.am.repository.mongodb.oauth2.internal.model.AccessTokenMongo;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.gravitee.am.repository.oauth2.model.ClientTokenCount;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.client.model.Filters.and;
@@ -47,6 +54,8 @@ public class MongoAccessTokenRepository extends AbstractOAuth2MongoRepository im
     private static final String FIELD_TOKEN = "token";
     private static final String FIELD_RESET_TIME = "expire_at";
     private static final String FIELD_CLIENT_ID = "client";
+    private static final String FIELD_DOMAIN = "domain";
+    private static final String FIELD_COUNT = "count";
     private static final String FIELD_SUBJECT = "subject";
     private static final String FIELD_AUTHORIZATION_CODE = "authorization_code";
 
@@ -55,12 +64,16 @@ public class MongoAccessTokenRepository extends AbstractOAuth2MongoRepository im
         accessTokenCollection = mongoOperations.getCollection("access_tokens", AccessTokenMongo.class);
 
         // one field index
-        accessTokenCollection.createIndex(new Document(FIELD_TOKEN, 1)).subscribe(new LoggableIndexSubscriber());
+        accessTokenCollection.createIndex(new Document(FIELD_TOKEN, 1), new IndexOptions().unique(true)).subscribe(new LoggableIndexSubscriber());
         accessTokenCollection.createIndex(new Document(FIELD_CLIENT_ID, 1)).subscribe(new LoggableIndexSubscriber());
         accessTokenCollection.createIndex(new Document(FIELD_AUTHORIZATION_CODE, 1)).subscribe(new LoggableIndexSubscriber());
 
         // two fields index
         accessTokenCollection.createIndex(new Document(FIELD_CLIENT_ID, 1).append(FIELD_SUBJECT, 1)).subscribe(new LoggableIndexSubscriber());
+        accessTokenCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_CLIENT_ID, 1)).subscribe(new LoggableIndexSubscriber());
+
+        // three fields index
+        accessTokenCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_SUBJECT, 1).append(FIELD_CLIENT_ID, 1)).subscribe(new LoggableIndexSubscriber());
 
         // expire after index
         accessTokenCollection.createIndex(new Document(FIELD_RESET_TIME, 1), new IndexOptions().expireAfter(0L, TimeUnit.SECONDS)).subscribe(new LoggableIndexSubscriber());
@@ -85,6 +98,7 @@ public class MongoAccessTokenRepository extends AbstractOAuth2MongoRepository im
     public Single<AccessToken> create(AccessToken accessToken) {
         return Single
                 .fromPublisher(accessTokenCollection.insertOne(convert(accessToken)))
+                .onErrorResumeNext(AbstractOAuth2MongoRepository::convertError)
                 .flatMap(success -> findById(accessToken.getId()).toSingle());
     }
 
@@ -119,6 +133,60 @@ public class MongoAccessTokenRepository extends AbstractOAuth2MongoRepository im
         return Single.fromPublisher(accessTokenCollection.count(eq(FIELD_CLIENT_ID, clientId)));
     }
 
+    @Override
+    public Single<Long> countByDomain(String domain) {
+        return Single.fromPublisher(accessTokenCollection.count(eq(FIELD_DOMAIN, domain)));
+    }
+
+    @Override
+    public Single<Long> count() {
+        return Single.fromPublisher(accessTokenCollection.count());
+    }
+
+    @Override
+    public Observable<ClientTokenCount> countGroupByClient(String domain, int limit) {
+        // a client id is only unique inside its domain, group by both fields
+        List<Bson> pipeline = new ArrayList<>();
+        if (domain != null) {
+            pipeline.add(Aggregates.match(eq(FIELD_DOMAIN, domain)));
+        }
+        pipeline.add(Aggregates.group(new Document(FIELD_DOMAIN, "$" + FIELD_DOMAIN).append(FIELD_CLIENT_ID, "$" + FIELD_CLIENT_ID), Accumulators.sum(FIELD_COUNT, 1L)));
+        pipeline.add(Aggregates.sort(Sorts.descending(FIELD_COUNT)));
+        pipeline.add(Aggregates.limit(limit));
+
+        return Observable
+                .fromPublisher(accessTokenCollection.aggregate(pipeline, Document.class))
+                .map(document -> {
+                    Document group = (Document) document.get(FIELD_ID);
+                    return new ClientTokenCount(group.getString(FIELD_DOMAIN), group.getString(FIELD_CLIENT_ID), ((Number) document.get(FIELD_COUNT)).longValue());
+                });
+    }
+
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return Completable.fromPublisher(accessTokenCollection.deleteMany(eq(FIELD_DOMAIN, domain)));
+    }
+
+    @Override
+    public Completable deleteByAuthorizationCode(String authorizationCode) {
+        return Completable.fromPublisher(accessTokenCollection.deleteMany(eq(FIELD_AUTHORIZATION_CODE, authorizationCode)));
+    }
+
+    @Override
+    public Completable deleteByDomainAndSubject(String domain, String subject) {
+        return Completable.fromPublisher(accessTokenCollection.deleteMany(and(eq(FIELD_DOMAIN, domain), eq(FIELD_SUBJECT, subject))));
+    }
+
+    @Override
+    public Completable deleteByDomainClientAndSubject(String domain, String clientId, String subject) {
+        return Completable.fromPublisher(accessTokenCollection.deleteMany(and(eq(FIELD_DOMAIN, domain), eq(FIELD_SUBJECT, subject), eq(FIELD_CLIENT_ID, clientId))));
+    }
+
+    @Override
+    public Single<Long> removeDuplicates() {
+        return removeDuplicates(accessTokenCollection, FIELD_TOKEN);
+    }
+
     private AccessTokenMongo convert(AccessToken accessToken) {
         if (accessToken == null) {
             return null;
@@ -34,6 +34,7 @@ import javax.annotation.PostConstruct;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
 
 /**
@@ -45,13 +46,14 @@ public class MongoAuthorizationCodeRepository extends AbstractOAuth2MongoReposit
 
     private static final String FIELD_ID = "_id";
     private static final String FIELD_CODE = "code";
+    private static final String FIELD_CLIENT_ID = "client_id";
     private static final String FIELD_RESET_TIME = "expire_at";
     private MongoCollection<AuthorizationCodeMongo> authorizationCodeCollection;
 
     @PostConstruct
     public void init() {
         authorizationCodeCollection = mongoOperations.getCollection("authorization_codes", AuthorizationCodeMongo.class);
-        authorizationCodeCollection.createIndex(new Document(FIELD_CODE, 1)).subscribe(new LoggableIndexSubscriber());
+        authorizationCodeCollection.createIndex(new Document(FIELD_CODE, 1), new IndexOptions().unique(true)).subscribe(new LoggableIndexSubscriber());
         authorizationCodeCollection.createIndex(new Document(FIELD_RESET_TIME, 1), new IndexOptions().expireAfter(0l, TimeUnit.SECONDS)).subscribe(new LoggableIndexSubscriber());
     }
 
@@ -70,6 +72,7 @@ public class MongoAuthorizationCodeRepository extends AbstractOAuth2MongoReposit
 
         return Single
                 .fromPublisher(authorizationCodeCollection.insertOne(convert(authorizationCode)))
+                .onErrorResumeNext(AbstractOAuth2MongoRepository::convertError)
                 .flatMap(success -> findById(authorizationCode.getId()).toSingle());
     }
 
@@ -83,6 +86,16 @@ public class MongoAuthorizationCodeRepository extends AbstractOAuth2MongoReposit
         return Observable.fromPublisher(authorizationCodeCollection.find(eq(FIELD_CODE, code)).first()).firstElement().map(this::convert);
     }
 
+    @Override
+    public Maybe<AuthorizationCode> findAndDelete(String code, String clientId) {
+        return Observable.fromPublisher(authorizationCodeCollection.findOneAndDelete(and(eq(FIELD_CODE, code), eq(FIELD_CLIENT_ID, clientId)))).firstElement().map(this::convert);
+    }
+
+    @Override
+    public Single<Long> removeDuplicates() {
+        return removeDuplicates(authorizationCodeCollection, FIELD_CODE);
+    }
+
     private AuthorizationCode convert(AuthorizationCodeMongo authorizationCodeMongo) {
         if (authorizationCodeMongo == null) {
             return null;
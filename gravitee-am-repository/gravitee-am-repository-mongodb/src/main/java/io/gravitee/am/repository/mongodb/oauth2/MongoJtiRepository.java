@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.oauth2;
+
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import io.gravitee.am.repository.mongodb.common.LoggableIndexSubscriber;
+import io.gravitee.am.repository.mongodb.oauth2.internal.model.JtiMongo;
+import io.gravitee.am.repository.oauth2.api.JtiRepository;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import org.bson.Document;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.client.model.Filters.eq;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class MongoJtiRepository extends AbstractOAuth2MongoRepository implements JtiRepository {
+
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_EXPIRE_AT = "expire_at";
+
+    private MongoCollection<JtiMongo> jtiCollection;
+
+    @PostConstruct
+    public void init() {
+        jtiCollection = mongoOperations.getCollection("assertion_jtis", JtiMongo.class);
+
+        // expire after index
+        jtiCollection.createIndex(new Document(FIELD_EXPIRE_AT, 1), new IndexOptions().expireAfter(0L, TimeUnit.SECONDS)).subscribe(new LoggableIndexSubscriber());
+    }
+
+    @Override
+    public Single<Boolean> exists(String jti) {
+        return Observable
+                .fromPublisher(jtiCollection.find(eq(FIELD_ID, jti)).limit(1).first())
+                .firstElement()
+                .isEmpty()
+                .map(isEmpty -> !isEmpty);
+    }
+
+    @Override
+    public Single<Boolean> create(String jti, Date expireAt) {
+        JtiMongo jtiMongo = new JtiMongo();
+        jtiMongo.setId(jti);
+        jtiMongo.setExpireAt(expireAt);
+
+        // the identifier is the primary key, a concurrent replay fails on the unique _id index
+        return Single.fromPublisher(jtiCollection.insertOne(jtiMongo))
+                .map(success -> true)
+                .onErrorResumeNext(ex -> {
+                    if (isDuplicateKey(ex)) {
+                        return Single.just(false);
+                    }
+                    return Single.error(ex);
+                });
+    }
+}
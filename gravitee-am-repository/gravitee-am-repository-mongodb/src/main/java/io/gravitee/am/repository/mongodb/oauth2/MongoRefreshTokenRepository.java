@@ -32,6 +32,7 @@ import org.springframework.stereotype.Component;
 import javax.annotation.PostConstruct;
 import java.util.concurrent.TimeUnit;
 
+import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
 
 /**
@@ -45,11 +46,18 @@ public class MongoRefreshTokenRepository extends AbstractOAuth2MongoRepository i
     private static final String FIELD_ID = "_id";
     private static final String FIELD_RESET_TIME = "expire_at";
     private static final String FIELD_TOKEN = "token";
+    private static final String FIELD_DOMAIN = "domain";
+    private static final String FIELD_AUTHORIZATION_CODE = "authorization_code";
+    private static final String FIELD_CLIENT_ID = "client";
+    private static final String FIELD_SUBJECT = "subject";
 
     @PostConstruct
     public void init() {
         refreshTokenCollection = mongoOperations.getCollection("refresh_tokens", RefreshTokenMongo.class);
-        refreshTokenCollection.createIndex(new Document(FIELD_TOKEN, 1)).subscribe(new LoggableIndexSubscriber());
+        refreshTokenCollection.createIndex(new Document(FIELD_TOKEN, 1), new IndexOptions().unique(true)).subscribe(new LoggableIndexSubscriber());
+        refreshTokenCollection.createIndex(new Document(FIELD_DOMAIN, 1)).subscribe(new LoggableIndexSubscriber());
+        refreshTokenCollection.createIndex(new Document(FIELD_AUTHORIZATION_CODE, 1)).subscribe(new LoggableIndexSubscriber());
+        refreshTokenCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_SUBJECT, 1).append(FIELD_CLIENT_ID, 1)).subscribe(new LoggableIndexSubscriber());
         refreshTokenCollection.createIndex(new Document(FIELD_RESET_TIME, 1), new IndexOptions().expireAfter(0L, TimeUnit.SECONDS)).subscribe(new LoggableIndexSubscriber());
     }
 
@@ -77,6 +85,7 @@ public class MongoRefreshTokenRepository extends AbstractOAuth2MongoRepository i
 
         return Single
                 .fromPublisher(refreshTokenCollection.insertOne(convert(refreshToken)))
+                .onErrorResumeNext(AbstractOAuth2MongoRepository::convertError)
                 .flatMap(success -> findById(refreshToken.getId()).toSingle());
     }
 
@@ -85,6 +94,31 @@ public class MongoRefreshTokenRepository extends AbstractOAuth2MongoRepository i
         return Completable.fromPublisher(refreshTokenCollection.deleteOne(eq(FIELD_TOKEN, token)));
     }
 
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return Completable.fromPublisher(refreshTokenCollection.deleteMany(eq(FIELD_DOMAIN, domain)));
+    }
+
+    @Override
+    public Completable deleteByAuthorizationCode(String authorizationCode) {
+        return Completable.fromPublisher(refreshTokenCollection.deleteMany(eq(FIELD_AUTHORIZATION_CODE, authorizationCode)));
+    }
+
+    @Override
+    public Completable deleteByDomainAndSubject(String domain, String subject) {
+        return Completable.fromPublisher(refreshTokenCollection.deleteMany(and(eq(FIELD_DOMAIN, domain), eq(FIELD_SUBJECT, subject))));
+    }
+
+    @Override
+    public Completable deleteByDomainClientAndSubject(String domain, String clientId, String subject) {
+        return Completable.fromPublisher(refreshTokenCollection.deleteMany(and(eq(FIELD_DOMAIN, domain), eq(FIELD_SUBJECT, subject), eq(FIELD_CLIENT_ID, clientId))));
+    }
+
+    @Override
+    public Single<Long> removeDuplicates() {
+        return removeDuplicates(refreshTokenCollection, FIELD_TOKEN);
+    }
+
     private RefreshTokenMongo convert(RefreshToken refreshToken) {
         if (refreshToken == null) {
             return null;
@@ -98,6 +132,7 @@ public class MongoRefreshTokenRepository extends AbstractOAuth2MongoRepository i
         refreshTokenMongo.setSubject(refreshToken.getSubject());
         refreshTokenMongo.setCreatedAt(refreshToken.getCreatedAt());
         refreshTokenMongo.setExpireAt(refreshToken.getExpireAt());
+        refreshTokenMongo.setAuthorizationCode(refreshToken.getAuthorizationCode());
 
         return refreshTokenMongo;
     }
@@ -115,6 +150,7 @@ public class MongoRefreshTokenRepository extends AbstractOAuth2MongoRepository i
         refreshToken.setSubject(refreshTokenMongo.getSubject());
         refreshToken.setCreatedAt(refreshTokenMongo.getCreatedAt());
         refreshToken.setExpireAt(refreshTokenMongo.getExpireAt());
+        refreshToken.setAuthorizationCode(refreshTokenMongo.getAuthorizationCode());
 
         return refreshToken;
     }
@@ -15,7 +15,11 @@
  */
 package io.gravitee.am.repository.mongodb.oauth2;
 
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.model.oauth2.ScopeApproval;
@@ -32,13 +36,19 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Updates.combine;
+import static com.mongodb.client.model.Updates.set;
+import static com.mongodb.client.model.Updates.setOnInsert;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -55,6 +65,9 @@ public class MongoScopeApprovalRepository extends AbstractOAuth2MongoRepository
     private static final String FIELD_CLIENT_ID = "clientId";
     private static final String FIELD_EXPIRES_AT = "expiresAt";
     private static final String FIELD_SCOPE = "scope";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
     private MongoCollection<ScopeApprovalMongo> scopeApprovalsCollection;
 
     @PostConstruct
@@ -121,6 +134,32 @@ public class MongoScopeApprovalRepository extends AbstractOAuth2MongoRepository
                 });
     }
 
+    @Override
+    public Completable upsertAll(Collection<ScopeApproval> scopeApprovals) {
+        if (scopeApprovals == null || scopeApprovals.isEmpty()) {
+            return Completable.complete();
+        }
+
+        // matched documents keep their id and creation date, only the approval itself is replaced
+        Date now = new Date();
+        List<WriteModel<ScopeApprovalMongo>> writes = scopeApprovals.stream()
+                .map(scopeApproval -> new UpdateOneModel<ScopeApprovalMongo>(
+                        and(eq(FIELD_DOMAIN, scopeApproval.getDomain()),
+                                eq(FIELD_CLIENT_ID, scopeApproval.getClientId()),
+                                eq(FIELD_USER_ID, scopeApproval.getUserId()),
+                                eq(FIELD_SCOPE, scopeApproval.getScope())),
+                        combine(
+                                set(FIELD_STATUS, scopeApproval.getStatus().name().toUpperCase()),
+                                set(FIELD_EXPIRES_AT, scopeApproval.getExpiresAt()),
+                                set(FIELD_UPDATED_AT, now),
+                                setOnInsert(FIELD_ID, scopeApproval.getId() == null ? RandomString.generate() : scopeApproval.getId()),
+                                setOnInsert(FIELD_CREATED_AT, now)),
+                        new UpdateOptions().upsert(true)))
+                .collect(Collectors.toList());
+
+        return Completable.fromPublisher(scopeApprovalsCollection.bulkWrite(writes, new BulkWriteOptions().ordered(false)));
+    }
+
     @Override
     public Completable deleteByDomainAndScopeKey(String domain, String scope) {
         return Completable.fromPublisher(scopeApprovalsCollection.deleteMany(
@@ -144,6 +183,11 @@ public class MongoScopeApprovalRepository extends AbstractOAuth2MongoRepository
                 and(eq(FIELD_DOMAIN, domain), eq(FIELD_USER_ID, user))));
     }
 
+    @Override
+    public Completable deleteByDomain(String domain) {
+        return Completable.fromPublisher(scopeApprovalsCollection.deleteMany(eq(FIELD_DOMAIN, domain)));
+    }
+
     private Single<ScopeApproval> _findById(String id) {
         return Single.fromPublisher(scopeApprovalsCollection.find(eq(FIELD_ID, id)).first()).map(this::convert);
     }
@@ -44,6 +44,9 @@ public class RefreshTokenMongo {
     @BsonProperty("expire_at")
     private Date expireAt;
 
+    @BsonProperty("authorization_code")
+    private String authorizationCode;
+
     public String getId() {
         return id;
     }
@@ -99,4 +102,12 @@ public class RefreshTokenMongo {
     public void setExpireAt(Date expireAt) {
         this.expireAt = expireAt;
     }
+
+    public String getAuthorizationCode() {
+        return authorizationCode;
+    }
+
+    public void setAuthorizationCode(String authorizationCode) {
+        this.authorizationCode = authorizationCode;
+    }
 }
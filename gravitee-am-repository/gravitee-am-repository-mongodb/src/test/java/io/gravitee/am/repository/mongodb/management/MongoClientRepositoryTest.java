@@ -23,9 +23,16 @@ import io.reactivex.observers.TestObserver;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import static org.junit.Assert.*;
+
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
@@ -79,6 +86,59 @@ public class MongoClientRepositoryTest extends AbstractManagementRepositoryTest
         testObserver.assertValue(pageClients -> pageClients.getTotalCount() == 2 && pageClients.getData().size() == 1);
     }
 
+    @Test
+    public void testFindByDomainPagination_listItems() throws TechnicalException {
+        // create clients
+        for (String clientId : new String[] { "client-b", "Client-C", "client-a" }) {
+            Client client = new Client();
+            client.setClientId(clientId);
+            client.setClientName(clientId + "-name");
+            client.setDomain("testDomainListItems");
+            client.setRedirectUris(Collections.singletonList("https://callback"));
+            clientRepository.create(client).blockingGet();
+        }
+
+        TestObserver<Page<Client>> testObserver = clientRepository.findByDomain("testDomainListItems", 0, 2).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(pageClients -> {
+            List<Client> clients = new ArrayList<>(pageClients.getData());
+            return pageClients.getTotalCount() == 3 && clients.size() == 2
+                    && clients.get(0).getClientId().equals("client-a") && clients.get(0).getClientName().equals("client-a-name")
+                    && clients.get(1).getClientId().equals("client-b")
+                    && clients.get(0).getRedirectUris() == null;
+        });
+
+        TestObserver<Page<Client>> testObserver2 = clientRepository.findByDomain("testDomainListItems", 1, 2).test();
+        testObserver2.awaitTerminalEvent();
+        testObserver2.assertValue(pageClients -> pageClients.getData().size() == 1 && pageClients.getData().iterator().next().getClientId().equals("Client-C"));
+    }
+
+    @Test
+    public void testSearch_caseInsensitivePrefix() throws TechnicalException {
+        // create clients
+        for (String clientId : new String[] { "My-Client", "my-other-client", "client" }) {
+            Client client = new Client();
+            client.setClientId(clientId);
+            client.setDomain("testDomain");
+            clientRepository.create(client).blockingGet();
+        }
+
+        // search clients
+        TestObserver<Set<Client>> testObserver = clientRepository.search("testDomain", "MY-").test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(clients -> clients.size() == 2);
+
+        TestObserver<Set<Client>> testObserver2 = clientRepository.search("testDomain", "my-c").test();
+        testObserver2.awaitTerminalEvent();
+        testObserver2.assertValue(clients -> clients.size() == 1 && clients.iterator().next().getClientId().equals("My-Client"));
+    }
+
     @Test
     public void testFindById() throws TechnicalException {
         // create client
@@ -156,4 +216,30 @@ public class MongoClientRepositoryTest extends AbstractManagementRepositoryTest
         clientRepository.findById(clientCreated.getId()).test().assertEmpty();
     }
 
+
+    @Test
+    public void testRemoveScope() throws TechnicalException {
+        // create client
+        Map<String, Integer> scopeApprovals = new HashMap<>();
+        scopeApprovals.put("read", 3600);
+        scopeApprovals.put("write", 3600);
+        Client client = new Client();
+        client.setClientId("testClientId");
+        client.setDomain("testDomain");
+        client.setScopes(Arrays.asList("read", "write"));
+        client.setAutoApproveScopes(Arrays.asList("read", "write"));
+        client.setScopeApprovals(scopeApprovals);
+        Client clientCreated = clientRepository.create(client).blockingGet();
+
+        // remove scope
+        TestObserver testObserver = clientRepository.removeScope("testDomain", "write").test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+
+        Client clientUpdated = clientRepository.findById(clientCreated.getId()).blockingGet();
+        assertEquals(Collections.singletonList("read"), clientUpdated.getScopes());
+        assertEquals(Collections.singletonList("read"), clientUpdated.getAutoApproveScopes());
+        assertFalse(clientUpdated.getScopeApprovals().containsKey("write"));
+    }
 }
@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.management;
+
+import io.gravitee.am.model.QueuedEmail;
+import io.gravitee.am.repository.exceptions.TechnicalException;
+import io.gravitee.am.repository.management.api.EmailQueueRepository;
+import io.reactivex.observers.TestObserver;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class MongoEmailQueueRepositoryTest extends AbstractManagementRepositoryTest {
+
+    @Autowired
+    private EmailQueueRepository emailQueueRepository;
+
+    @Override
+    public String collectionName() {
+        return "email_queue";
+    }
+
+    @Test
+    public void testAcquire() throws TechnicalException {
+        QueuedEmail email = email("domain-id", new Date(System.currentTimeMillis() - 1000));
+        QueuedEmail otherDomainEmail = email("other-domain-id", new Date(System.currentTimeMillis() - 1000));
+        QueuedEmail futureEmail = email("domain-id", new Date(System.currentTimeMillis() + 60000));
+        emailQueueRepository.create(email).blockingGet();
+        emailQueueRepository.create(otherDomainEmail).blockingGet();
+        emailQueueRepository.create(futureEmail).blockingGet();
+
+        Date leaseUntil = new Date(System.currentTimeMillis() + 60000);
+        TestObserver<QueuedEmail> testObserver = emailQueueRepository.acquire(Collections.singletonList("domain-id"), leaseUntil).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(acquired -> acquired.getId().equals(email.getId())
+                && acquired.getAttempts() == 1
+                && acquired.getNextAttemptAt().equals(leaseUntil)
+                && acquired.getTo().equals(Collections.singletonList("user@acme.com")));
+
+        // leased and not yet due emails can not be taken
+        emailQueueRepository.acquire(Collections.singletonList("domain-id"), leaseUntil).test().assertNoValues();
+    }
+
+    @Test
+    public void testAcquire_severalDomains() throws TechnicalException {
+        QueuedEmail email = email("domain-id", new Date(System.currentTimeMillis() - 1000));
+        QueuedEmail olderEmail = email("other-domain-id", new Date(System.currentTimeMillis() - 2000));
+        QueuedEmail notServedEmail = email("not-served-domain-id", new Date(System.currentTimeMillis() - 3000));
+        emailQueueRepository.create(email).blockingGet();
+        emailQueueRepository.create(olderEmail).blockingGet();
+        emailQueueRepository.create(notServedEmail).blockingGet();
+
+        Date leaseUntil = new Date(System.currentTimeMillis() + 60000);
+        List<String> domains = Arrays.asList("domain-id", "other-domain-id");
+        // oldest email first, whatever its domain
+        assertEquals(olderEmail.getId(), emailQueueRepository.acquire(domains, leaseUntil).blockingGet().getId());
+        assertEquals(email.getId(), emailQueueRepository.acquire(domains, leaseUntil).blockingGet().getId());
+        assertNull(emailQueueRepository.acquire(domains, leaseUntil).blockingGet());
+    }
+
+    @Test
+    public void testRescheduleAndDelete() throws TechnicalException {
+        QueuedEmail email = emailQueueRepository.create(email(null, new Date(System.currentTimeMillis() + 60000))).blockingGet();
+        emailQueueRepository.acquire(Collections.singletonList(null), new Date()).test().assertNoValues();
+
+        emailQueueRepository.reschedule(email.getId(), new Date(System.currentTimeMillis() - 1000)).blockingAwait();
+        emailQueueRepository.acquire(Collections.singletonList(null), new Date()).test().assertValue(acquired -> acquired.getId().equals(email.getId()));
+
+        emailQueueRepository.delete(email.getId()).blockingAwait();
+        emailQueueRepository.reschedule(email.getId(), new Date(System.currentTimeMillis() - 1000)).blockingAwait();
+        emailQueueRepository.acquire(Collections.singletonList(null), new Date()).test().assertNoValues();
+    }
+
+    private QueuedEmail email(String domain, Date nextAttemptAt) {
+        QueuedEmail email = new QueuedEmail();
+        email.setDomain(domain);
+        email.setFrom("noreply@acme.com");
+        email.setTo(Collections.singletonList("user@acme.com"));
+        email.setSubject("subject");
+        email.setContent("<html></html>");
+        email.setNextAttemptAt(nextAttemptAt);
+        email.setCreatedAt(new Date());
+        return email;
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.management;
+
+import io.gravitee.am.model.common.event.Action;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.model.common.event.Type;
+import io.gravitee.am.repository.exceptions.TechnicalException;
+import io.gravitee.am.repository.management.api.EventRepository;
+import io.reactivex.observers.TestObserver;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class MongoEventRepositoryTest extends AbstractManagementRepositoryTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Override
+    public String collectionName() {
+        return "events";
+    }
+
+    @Test
+    public void testCreate() throws TechnicalException {
+        Event clientEvent = new Event(Type.CLIENT, new Payload("client-id", "domain-id", Action.UPDATE));
+        Event scopeEvent = new Event(Type.SCOPE, new Payload("scope-id", "domain-id", Action.DELETE));
+        long lastSequence = eventRepository.lastSequence().blockingGet();
+
+        TestObserver<List<Event>> testObserver = eventRepository.create(Arrays.asList(clientEvent, scopeEvent)).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(events -> events.get(0).getSequence() == lastSequence + 1 && events.get(1).getSequence() == lastSequence + 2);
+    }
+
+    @Test
+    public void testFindBySequenceGreaterThan() throws TechnicalException {
+        Event clientEvent = new Event(Type.CLIENT, new Payload("client-id", "domain-id", Action.UPDATE));
+        Event scopeEvent = new Event(Type.SCOPE, new Payload("scope-id", "domain-id", Action.DELETE));
+        long lastSequence = eventRepository.lastSequence().blockingGet();
+        eventRepository.create(Arrays.asList(clientEvent, scopeEvent)).blockingGet();
+
+        TestObserver<List<Event>> testObserver = eventRepository.findBySequenceGreaterThan(lastSequence + 1, 10).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(events -> events.size() == 1
+                && Type.SCOPE.equals(events.get(0).getType())
+                && Action.DELETE.equals(events.get(0).getPayload().getAction()));
+    }
+}
@@ -22,6 +22,7 @@ import io.reactivex.observers.TestObserver;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
 
@@ -56,6 +57,30 @@ public class MongoIdentityProviderRepositoryTest extends AbstractManagementRepos
         testObserver.assertValue(idps -> idps.size() == 1);
     }
 
+    @Test
+    public void testFindByIdIn() throws TechnicalException {
+        // create idps
+        IdentityProvider identityProvider = new IdentityProvider();
+        identityProvider.setName("testName");
+        IdentityProvider identityProviderCreated = identityProviderRepository.create(identityProvider).blockingGet();
+
+        IdentityProvider identityProvider2 = new IdentityProvider();
+        identityProvider2.setName("testName2");
+        IdentityProvider identityProviderCreated2 = identityProviderRepository.create(identityProvider2).blockingGet();
+
+        IdentityProvider identityProvider3 = new IdentityProvider();
+        identityProvider3.setName("testName3");
+        identityProviderRepository.create(identityProvider3).blockingGet();
+
+        // fetch idps
+        TestObserver<Set<IdentityProvider>> testObserver = identityProviderRepository.findByIdIn(Arrays.asList(identityProviderCreated.getId(), identityProviderCreated2.getId(), "unknown")).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(idps -> idps.size() == 2);
+    }
+
     @Test
     public void testFindById() throws TechnicalException {
         // create idp
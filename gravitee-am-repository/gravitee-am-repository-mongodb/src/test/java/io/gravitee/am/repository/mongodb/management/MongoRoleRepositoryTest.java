@@ -22,8 +22,12 @@ import io.reactivex.observers.TestObserver;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Set;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
@@ -130,4 +134,30 @@ public class MongoRoleRepositoryTest extends AbstractManagementRepositoryTest {
         roleRepository.findById(roleCreated.getId()).test().assertEmpty();
     }
 
+
+    @Test
+    public void testRemovePermission() throws TechnicalException {
+        // create roles
+        Role role = new Role();
+        role.setName("testName");
+        role.setDomain("testDomain");
+        role.setPermissions(Arrays.asList("read", "write"));
+        Role roleCreated = roleRepository.create(role).blockingGet();
+
+        Role otherRole = new Role();
+        otherRole.setName("otherName");
+        otherRole.setDomain("otherDomain");
+        otherRole.setPermissions(Arrays.asList("read", "write"));
+        Role otherRoleCreated = roleRepository.create(otherRole).blockingGet();
+
+        // remove permission
+        TestObserver testObserver = roleRepository.removePermission("testDomain", "write").test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+
+        // only the role of the domain has been updated
+        assertEquals(Collections.singletonList("read"), roleRepository.findById(roleCreated.getId()).blockingGet().getPermissions());
+        assertEquals(Arrays.asList("read", "write"), roleRepository.findById(otherRoleCreated.getId()).blockingGet().getPermissions());
+    }
 }
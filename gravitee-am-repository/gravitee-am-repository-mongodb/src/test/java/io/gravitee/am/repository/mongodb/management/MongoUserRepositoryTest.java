@@ -15,14 +15,19 @@
  */
 package io.gravitee.am.repository.mongodb.management;
 
+import com.mongodb.reactivestreams.client.MongoDatabase;
 import io.gravitee.am.model.User;
+import io.gravitee.am.model.common.Page;
 import io.gravitee.am.repository.exceptions.TechnicalException;
 import io.gravitee.am.repository.management.api.UserRepository;
+import io.reactivex.Observable;
 import io.reactivex.observers.TestObserver;
+import org.bson.Document;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -34,6 +39,9 @@ public class MongoUserRepositoryTest extends AbstractManagementRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MongoDatabase mongoDatabase;
+
     @Override
     public String collectionName() {
         return "users";
@@ -56,6 +64,91 @@ public class MongoUserRepositoryTest extends AbstractManagementRepositoryTest {
         testObserver.assertValue(users -> users.size() == 1);
     }
 
+    @Test
+    public void testFindByDomain_cursor() throws TechnicalException {
+        // create users, the same username may come from several identity providers
+        for (String[] user : new String[][] { { "user-3", "id-3" }, { "user-1", "id-1b" }, { "user-1", "id-1a" }, { "user-2", "id-2" } }) {
+            User user1 = new User();
+            user1.setId(user[1]);
+            user1.setUsername(user[0]);
+            user1.setDomain("testDomain");
+            userRepository.create(user1).blockingGet();
+        }
+
+        // fetch the first page
+        TestObserver<List<User>> testObserver = userRepository.findByDomain("testDomain", null, null, 1).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(users -> users.size() == 1 && users.get(0).getId().equals("id-1a"));
+
+        // fetch the next page after the last user, its homonym must not be skipped
+        TestObserver<List<User>> testObserver2 = userRepository.findByDomain("testDomain", "user-1", "id-1a", 2).test();
+        testObserver2.awaitTerminalEvent();
+        testObserver2.assertValue(users -> users.size() == 2 && users.get(0).getId().equals("id-1b") && users.get(1).getId().equals("id-2"));
+
+        TestObserver<List<User>> testObserver3 = userRepository.findByDomain("testDomain", "user-2", "id-2", 2).test();
+        testObserver3.awaitTerminalEvent();
+        testObserver3.assertValue(users -> users.size() == 1 && users.get(0).getId().equals("id-3"));
+
+        TestObserver<List<User>> testObserver4 = userRepository.findByDomain("testDomain", "user-3", "id-3", 2).test();
+        testObserver4.awaitTerminalEvent();
+        testObserver4.assertValue(List::isEmpty);
+
+        TestObserver<Long> testObserver5 = userRepository.countByDomain("testDomain").test();
+        testObserver5.awaitTerminalEvent();
+        testObserver5.assertValue(4L);
+    }
+
+    @Test
+    public void testSearch_caseInsensitivePrefix() throws TechnicalException {
+        // create users
+        for (String username : new String[] { "Alice.Smith", "alice.jones", "bob" }) {
+            User user = new User();
+            user.setUsername(username);
+            user.setDomain("testDomain");
+            userRepository.create(user).blockingGet();
+        }
+
+        // search users
+        TestObserver<Page<User>> testObserver = userRepository.search("testDomain", "ALICE", 10).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(users -> users.getTotalCount() == 2 && users.getData().size() == 2);
+
+        TestObserver<Page<User>> testObserver2 = userRepository.search("testDomain", "alice.s", 10).test();
+        testObserver2.awaitTerminalEvent();
+        testObserver2.assertValue(users -> users.getData().size() == 1 && users.getData().iterator().next().getUsername().equals("Alice.Smith"));
+
+        TestObserver<Page<User>> testObserver3 = userRepository.search("otherDomain", "alice", 10).test();
+        testObserver3.awaitTerminalEvent();
+        testObserver3.assertValue(users -> users.getData().isEmpty());
+    }
+
+    @Test
+    public void testUpgradeSearchFields() throws TechnicalException {
+        // user stored before the search fields were introduced
+        Observable.fromPublisher(mongoDatabase.getCollection(collectionName())
+                .insertOne(new Document("_id", "legacy-user").append("username", "Legacy.User").append("domain", "testDomain")))
+                .blockingFirst();
+
+        TestObserver<Long> testObserver = userRepository.upgradeSearchFields().test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertValue(1L);
+
+        TestObserver<Page<User>> searchObserver = userRepository.search("testDomain", "legacy", 10).test();
+        searchObserver.awaitTerminalEvent();
+        searchObserver.assertValue(users -> users.getData().size() == 1);
+
+        // nothing left to upgrade
+        TestObserver<Long> testObserver2 = userRepository.upgradeSearchFields().test();
+        testObserver2.awaitTerminalEvent();
+        testObserver2.assertValue(0L);
+    }
+
     @Test
     public void testFindById() throws TechnicalException {
         // create user
@@ -132,4 +225,32 @@ public class MongoUserRepositoryTest extends AbstractManagementRepositoryTest {
         userRepository.findById(userCreated.getId()).test().assertEmpty();
     }
 
+    @Test
+    public void testDeleteByDomain() throws TechnicalException {
+        // create users
+        User user = new User();
+        user.setUsername("testsUsername");
+        user.setDomain("testDomainToDelete");
+        userRepository.create(user).blockingGet();
+
+        User user2 = new User();
+        user2.setUsername("testsUsername2");
+        user2.setDomain("testDomainToDelete");
+        userRepository.create(user2).blockingGet();
+
+        User otherUser = new User();
+        otherUser.setUsername("testsUsername");
+        otherUser.setDomain("testDomainToKeep");
+        userRepository.create(otherUser).blockingGet();
+
+        // delete domain users
+        TestObserver testObserver = userRepository.deleteByDomain("testDomainToDelete").test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+
+        // fetch users
+        userRepository.findByDomain("testDomainToDelete").test().assertValue(users -> users.isEmpty());
+        userRepository.findByDomain("testDomainToKeep").test().assertValue(users -> users.size() == 1);
+    }
 }
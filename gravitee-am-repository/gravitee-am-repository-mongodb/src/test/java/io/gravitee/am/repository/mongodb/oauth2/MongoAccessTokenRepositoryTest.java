@@ -16,13 +16,17 @@
 package io.gravitee.am.repository.mongodb.oauth2;
 
 import io.gravitee.am.common.utils.RandomString;
+import io.gravitee.am.repository.exceptions.DuplicateKeyException;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.gravitee.am.repository.oauth2.model.ClientTokenCount;
+import io.reactivex.Completable;
 import io.reactivex.observers.TestObserver;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -68,6 +72,26 @@ public class MongoAccessTokenRepositoryTest extends AbstractOAuth2RepositoryTest
         observer.assertNoErrors();
     }
 
+    @Test
+    public void shouldNotCreateDuplicateToken() {
+        AccessToken token = new AccessToken();
+        token.setId(RandomString.generate());
+        token.setToken("my-duplicated-token");
+
+        AccessToken token2 = new AccessToken();
+        token2.setId(RandomString.generate());
+        token2.setToken("my-duplicated-token");
+
+        TestObserver<AccessToken> observer = accessTokenRepository
+                .create(token)
+                .flatMap(accessToken -> accessTokenRepository.create(token2))
+                .test();
+
+        observer.awaitTerminalEvent();
+
+        observer.assertError(DuplicateKeyException.class);
+    }
+
     @Test
     public void shouldFindByClientIdAndSubject() {
         AccessToken token = new AccessToken();
@@ -124,4 +148,139 @@ public class MongoAccessTokenRepositoryTest extends AbstractOAuth2RepositoryTest
         observer.assertNoErrors();
         observer.assertValue(new Long(1));
     }
+
+    @Test
+    public void shouldCountByDomain() {
+        TestObserver<Long> observer = Completable.concatArray(
+                    accessTokenRepository.create(token("domain-count", "client-1")).toCompletable(),
+                    accessTokenRepository.create(token("domain-count", "client-2")).toCompletable(),
+                    accessTokenRepository.create(token("other-domain", "client-1")).toCompletable())
+                .andThen(accessTokenRepository.countByDomain("domain-count"))
+                .test();
+
+        observer.awaitTerminalEvent();
+        observer.assertComplete();
+        observer.assertNoErrors();
+        observer.assertValue(new Long(2));
+    }
+
+    @Test
+    public void shouldCountGroupByClient() {
+        TestObserver<ClientTokenCount> observer = Completable.concatArray(
+                    accessTokenRepository.create(token("domain-group", "client-1")).toCompletable(),
+                    accessTokenRepository.create(token("domain-group", "client-2")).toCompletable(),
+                    accessTokenRepository.create(token("domain-group", "client-2")).toCompletable(),
+                    accessTokenRepository.create(token("domain-group", "client-3")).toCompletable(),
+                    accessTokenRepository.create(token("other-domain", "client-2")).toCompletable())
+                .andThen(accessTokenRepository.countGroupByClient("domain-group", 2))
+                .test();
+
+        observer.awaitTerminalEvent();
+        observer.assertComplete();
+        observer.assertNoErrors();
+        observer.assertValueCount(2);
+        observer.assertValueAt(0, count -> "domain-group".equals(count.getDomain()) && "client-2".equals(count.getClientId()) && count.getCount() == 2);
+        observer.assertValueAt(1, count -> count.getCount() == 1);
+    }
+
+    @Test
+    public void shouldCountGroupByClient_allDomains() {
+        TestObserver<ClientTokenCount> observer = Completable.concatArray(
+                    accessTokenRepository.create(token("domain-a", "client-1")).toCompletable(),
+                    accessTokenRepository.create(token("domain-b", "client-1")).toCompletable(),
+                    accessTokenRepository.create(token("domain-b", "client-1")).toCompletable())
+                .andThen(accessTokenRepository.countGroupByClient(null, 10))
+                .test();
+
+        observer.awaitTerminalEvent();
+        observer.assertComplete();
+        observer.assertNoErrors();
+        observer.assertValueCount(2);
+        observer.assertValueAt(0, count -> "domain-b".equals(count.getDomain()) && count.getCount() == 2);
+        observer.assertValueAt(1, count -> "domain-a".equals(count.getDomain()) && count.getCount() == 1);
+    }
+
+    @Test
+    public void shouldDeleteByAuthorizationCode() {
+        AccessToken token = token("domain-code", "client-1");
+        token.setAuthorizationCode("my-code");
+        AccessToken token2 = token("domain-code", "client-1");
+        token2.setAuthorizationCode("my-code");
+        AccessToken otherToken = token("domain-code", "client-1");
+        otherToken.setAuthorizationCode("other-code");
+
+        TestObserver<AccessToken> observer = Completable.concatArray(
+                    accessTokenRepository.create(token).toCompletable(),
+                    accessTokenRepository.create(token2).toCompletable(),
+                    accessTokenRepository.create(otherToken).toCompletable())
+                .andThen(accessTokenRepository.deleteByAuthorizationCode("my-code"))
+                .andThen(accessTokenRepository.findByAuthorizationCode("my-code"))
+                .test();
+
+        observer.awaitTerminalEvent();
+        observer.assertComplete();
+        observer.assertNoValues();
+
+        accessTokenRepository.findByAuthorizationCode("other-code").test().awaitDone(10, TimeUnit.SECONDS).assertValueCount(1);
+    }
+
+    @Test
+    public void shouldDeleteByDomainClientAndSubject() {
+        AccessToken token = token("my-domain", "my-client");
+        token.setSubject("my-user");
+        AccessToken otherClientToken = token("my-domain", "my-other-client");
+        otherClientToken.setSubject("my-user");
+        AccessToken otherUserToken = token("my-domain", "my-client");
+        otherUserToken.setSubject("my-other-user");
+
+        TestObserver<AccessToken> observer = Completable.concatArray(
+                    accessTokenRepository.create(token).toCompletable(),
+                    accessTokenRepository.create(otherClientToken).toCompletable(),
+                    accessTokenRepository.create(otherUserToken).toCompletable())
+                .andThen(accessTokenRepository.deleteByDomainClientAndSubject("my-domain", "my-client", "my-user"))
+                .andThen(accessTokenRepository.findByToken(token.getToken()))
+                .test();
+
+        observer.awaitTerminalEvent();
+        observer.assertComplete();
+        observer.assertNoValues();
+
+        accessTokenRepository.findByToken(otherClientToken.getToken()).test().awaitDone(10, TimeUnit.SECONDS).assertValueCount(1);
+        accessTokenRepository.findByToken(otherUserToken.getToken()).test().awaitDone(10, TimeUnit.SECONDS).assertValueCount(1);
+    }
+
+    @Test
+    public void shouldDeleteByDomainAndSubject() {
+        AccessToken token = token("my-domain", "my-client");
+        token.setSubject("my-user");
+        AccessToken otherClientToken = token("my-domain", "my-other-client");
+        otherClientToken.setSubject("my-user");
+        AccessToken otherDomainToken = token("my-other-domain", "my-client");
+        otherDomainToken.setSubject("my-user");
+
+        TestObserver<AccessToken> observer = Completable.concatArray(
+                    accessTokenRepository.create(token).toCompletable(),
+                    accessTokenRepository.create(otherClientToken).toCompletable(),
+                    accessTokenRepository.create(otherDomainToken).toCompletable())
+                .andThen(accessTokenRepository.deleteByDomainAndSubject("my-domain", "my-user"))
+                .andThen(accessTokenRepository.findByToken(token.getToken()))
+                .test();
+
+        observer.awaitTerminalEvent();
+        observer.assertComplete();
+        observer.assertNoValues();
+
+        accessTokenRepository.findByToken(otherClientToken.getToken()).test().awaitDone(10, TimeUnit.SECONDS).assertNoValues();
+
+        accessTokenRepository.findByToken(otherDomainToken.getToken()).test().awaitDone(10, TimeUnit.SECONDS).assertValueCount(1);
+    }
+
+    private AccessToken token(String domain, String clientId) {
+        AccessToken token = new AccessToken();
+        token.setId(RandomString.generate());
+        token.setToken(RandomString.generate());
+        token.setDomain(domain);
+        token.setClient(clientId);
+        return token;
+    }
 }
@@ -17,7 +17,10 @@ package io.gravitee.am.repository.mongodb.oauth2;
 
 import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
 import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
+import io.reactivex.Flowable;
 import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subscribers.TestSubscriber;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -71,4 +74,53 @@ public class MongoAuthorizationCodeRepositoryTest extends AbstractOAuth2Reposito
                 .test().assertEmpty();
     }
 
+    @Test
+    public void shouldFindAndDeleteCode() {
+        String code = "testCode";
+        AuthorizationCode authorizationCode = new AuthorizationCode();
+        authorizationCode.setCode(code);
+        authorizationCode.setClientId("testClient");
+
+        authorizationCodeRepository.create(authorizationCode).blockingGet();
+
+        // another client can not consume the code
+        TestObserver<AuthorizationCode> otherClientObserver = authorizationCodeRepository.findAndDelete(code, "otherClient").test();
+        otherClientObserver.awaitTerminalEvent();
+        otherClientObserver.assertNoValues();
+
+        TestObserver<AuthorizationCode> testObserver = authorizationCodeRepository.findAndDelete(code, "testClient").test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertComplete();
+        testObserver.assertValue(authorizationCode1 -> authorizationCode1.getCode().equals(code));
+
+        // the code can only be consumed once
+        TestObserver<AuthorizationCode> secondObserver = authorizationCodeRepository.findAndDelete(code, "testClient").test();
+        secondObserver.awaitTerminalEvent();
+        secondObserver.assertNoValues();
+
+        TestObserver<AuthorizationCode> findObserver = authorizationCodeRepository.findByCode(code).test();
+        findObserver.awaitTerminalEvent();
+        findObserver.assertNoValues();
+    }
+
+    @Test
+    public void shouldFindAndDeleteCode_onlyOnce_concurrentRedemptions() {
+        String code = "concurrentCode";
+        AuthorizationCode authorizationCode = new AuthorizationCode();
+        authorizationCode.setCode(code);
+        authorizationCode.setClientId("testClient");
+
+        authorizationCodeRepository.create(authorizationCode).blockingGet();
+
+        int redemptions = 20;
+        TestSubscriber<AuthorizationCode> testSubscriber = Flowable.range(0, redemptions)
+                .flatMapMaybe(i -> authorizationCodeRepository.findAndDelete(code, "testClient").subscribeOn(Schedulers.io()), false, redemptions)
+                .test();
+
+        testSubscriber.awaitTerminalEvent();
+        testSubscriber.assertComplete();
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertValueCount(1);
+        testSubscriber.assertValue(authorizationCode1 -> authorizationCode1.getCode().equals(code));
+    }
 }
@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.oauth2;
+
+import io.gravitee.am.repository.oauth2.api.JtiRepository;
+import io.reactivex.observers.TestObserver;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Date;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class MongoJtiRepositoryTest extends AbstractOAuth2RepositoryTest {
+
+    @Autowired
+    private JtiRepository jtiRepository;
+
+    @Override
+    public String collectionName() {
+        return "assertion_jtis";
+    }
+
+    @Test
+    public void shouldCreate() {
+        Date expireAt = new Date(System.currentTimeMillis() + 60000);
+
+        TestObserver<Boolean> observer = jtiRepository.create("domain:client:jti", expireAt)
+                .flatMap(created -> jtiRepository.exists("domain:client:jti"))
+                .test();
+
+        observer.awaitTerminalEvent();
+        observer.assertNoErrors();
+        observer.assertValue(true);
+    }
+
+    @Test
+    public void shouldNotCreate_replayed() {
+        Date expireAt = new Date(System.currentTimeMillis() + 60000);
+        jtiRepository.create("domain:client:jti", expireAt).blockingGet();
+
+        TestObserver<Boolean> observer = jtiRepository.create("domain:client:jti", expireAt).test();
+
+        observer.awaitTerminalEvent();
+        observer.assertNoErrors();
+        observer.assertValue(false);
+    }
+
+    @Test
+    public void shouldNotExist() {
+        TestObserver<Boolean> observer = jtiRepository.exists("unknown").test();
+
+        observer.awaitTerminalEvent();
+        observer.assertValue(false);
+    }
+}
@@ -81,4 +81,106 @@ public class MongoRefreshTokenRepositoryTest extends AbstractOAuth2RepositoryTes
                 .andThen(refreshTokenRepository.findByToken("my-token"))
                 .test().assertEmpty();
     }
+
+    @Test
+    public void shouldDeleteByAuthorizationCode() {
+        RefreshToken token = new RefreshToken();
+        token.setId(RandomString.generate());
+        token.setToken("my-token");
+        token.setAuthorizationCode("my-code");
+
+        RefreshToken otherToken = new RefreshToken();
+        otherToken.setId(RandomString.generate());
+        otherToken.setToken("my-other-token");
+        otherToken.setAuthorizationCode("other-code");
+
+        refreshTokenRepository
+                .create(token)
+                .toCompletable()
+                .andThen(refreshTokenRepository.create(otherToken).toCompletable())
+                .andThen(refreshTokenRepository.deleteByAuthorizationCode("my-code"))
+                .andThen(refreshTokenRepository.findByToken("my-token"))
+                .test().assertEmpty();
+
+        TestObserver<RefreshToken> observer = refreshTokenRepository.findByToken("my-other-token").test();
+        observer.awaitTerminalEvent();
+        observer.assertValue(refreshToken -> "other-code".equals(refreshToken.getAuthorizationCode()));
+    }
+
+    @Test
+    public void shouldDeleteByDomainClientAndSubject() {
+        RefreshToken token = new RefreshToken();
+        token.setId(RandomString.generate());
+        token.setToken("my-token");
+        token.setDomain("my-domain");
+        token.setClient("my-client");
+        token.setSubject("my-user");
+
+        RefreshToken otherToken = new RefreshToken();
+        otherToken.setId(RandomString.generate());
+        otherToken.setToken("my-other-token");
+        otherToken.setDomain("my-domain");
+        otherToken.setClient("my-other-client");
+        otherToken.setSubject("my-user");
+
+        TestObserver<RefreshToken> observer = refreshTokenRepository
+                .create(token)
+                .toCompletable()
+                .andThen(refreshTokenRepository.create(otherToken).toCompletable())
+                .andThen(refreshTokenRepository.deleteByDomainClientAndSubject("my-domain", "my-client", "my-user"))
+                .andThen(refreshTokenRepository.findByToken("my-token"))
+                .test();
+        observer.awaitTerminalEvent();
+        observer.assertComplete();
+        observer.assertNoValues();
+
+        TestObserver<RefreshToken> otherObserver = refreshTokenRepository.findByToken("my-other-token").test();
+        otherObserver.awaitTerminalEvent();
+        otherObserver.assertValueCount(1);
+    }
+
+    @Test
+    public void shouldDeleteByDomainAndSubject() {
+        RefreshToken token = new RefreshToken();
+        token.setId(RandomString.generate());
+        token.setToken("my-token");
+        token.setDomain("my-domain");
+        token.setClient("my-client");
+        token.setSubject("my-user");
+
+        RefreshToken otherToken = new RefreshToken();
+        otherToken.setId(RandomString.generate());
+        otherToken.setToken("my-other-token");
+        otherToken.setDomain("my-domain");
+        otherToken.setClient("my-other-client");
+        otherToken.setSubject("my-user");
+
+        RefreshToken otherUserToken = new RefreshToken();
+        otherUserToken.setId(RandomString.generate());
+        otherUserToken.setToken("my-other-user-token");
+        otherUserToken.setDomain("my-domain");
+        otherUserToken.setClient("my-client");
+        otherUserToken.setSubject("my-other-user");
+
+        TestObserver<RefreshToken> observer = refreshTokenRepository
+                .create(token)
+                .toCompletable()
+                .andThen(refreshTokenRepository.create(otherToken).toCompletable())
+                .andThen(refreshTokenRepository.create(otherUserToken).toCompletable())
+                .andThen(refreshTokenRepository.deleteByDomainAndSubject("my-domain", "my-user"))
+                .andThen(refreshTokenRepository.findByToken("my-token"))
+                .test();
+        observer.awaitTerminalEvent();
+        observer.assertComplete();
+        observer.assertNoValues();
+
+        TestObserver<RefreshToken> otherClientObserver = refreshTokenRepository.findByToken("my-other-token").test();
+        otherClientObserver.awaitTerminalEvent();
+        otherClientObserver.assertComplete();
+        otherClientObserver.assertNoValues();
+
+        TestObserver<RefreshToken> otherUserObserver = refreshTokenRepository.findByToken("my-other-user-token").test();
+        otherUserObserver.awaitTerminalEvent();
+        otherUserObserver.assertValueCount(1);
+    }
 }
@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.oauth2;
+
+import io.gravitee.am.model.oauth2.ScopeApproval;
+import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
+import io.reactivex.observers.TestObserver;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class MongoScopeApprovalRepositoryTest extends AbstractOAuth2RepositoryTest {
+
+    @Autowired
+    private ScopeApprovalRepository scopeApprovalRepository;
+
+    @Override
+    public String collectionName() {
+        return "scope_approvals";
+    }
+
+    @Test
+    public void shouldUpsertAll() {
+        Date expiresAt = new Date(System.currentTimeMillis() + 60000);
+        ScopeApproval existing = new ScopeApproval("user-id", "client-id", "read", ScopeApproval.ApprovalStatus.DENIED, expiresAt, "domain-id");
+        existing.setId("existing-id");
+        existing.setCreatedAt(new Date());
+        scopeApprovalRepository.create(existing).blockingGet();
+
+        ScopeApproval read = new ScopeApproval("user-id", "client-id", "read", ScopeApproval.ApprovalStatus.APPROVED, expiresAt, "domain-id");
+        ScopeApproval write = new ScopeApproval("user-id", "client-id", "write", ScopeApproval.ApprovalStatus.APPROVED, expiresAt, "domain-id");
+
+        TestObserver<Set<ScopeApproval>> observer = scopeApprovalRepository.upsertAll(Arrays.asList(read, write))
+                .andThen(scopeApprovalRepository.findByDomainAndUserAndClient("domain-id", "user-id", "client-id"))
+                .test();
+
+        observer.awaitTerminalEvent();
+        observer.assertComplete();
+        observer.assertNoErrors();
+        observer.assertValue(approvals -> approvals.size() == 2
+                && approvals.stream().allMatch(approval -> approval.getStatus() == ScopeApproval.ApprovalStatus.APPROVED
+                        && approval.getId() != null && approval.getCreatedAt() != null && approval.getUpdatedAt() != null)
+                && approvals.stream().anyMatch(approval -> "read".equals(approval.getScope()) && "existing-id".equals(approval.getId())));
+    }
+
+    @Test
+    public void shouldUpsertAll_empty() {
+        scopeApprovalRepository.upsertAll(Collections.emptyList()).test().assertComplete();
+    }
+}
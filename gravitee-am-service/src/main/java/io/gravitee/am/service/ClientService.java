@@ -48,9 +48,9 @@ public interface ClientService {
 
     Single<Set<Client>> findByIdentityProvider(String identityProvider);
 
-    Single<Set<TopClient>> findTopClients();
+    Single<Set<TopClient>> findTopClients(int limit);
 
-    Single<Set<TopClient>> findTopClientsByDomain(String domain);
+    Single<Set<TopClient>> findTopClientsByDomain(String domain, int limit);
 
     Single<TotalClient> findTotalClients();
 
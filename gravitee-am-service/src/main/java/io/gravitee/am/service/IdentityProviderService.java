@@ -22,7 +22,9 @@ import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -37,6 +39,8 @@ public interface IdentityProviderService {
 
     Single<List<IdentityProvider>> findByDomain(String domain);
 
+    Single<Set<IdentityProvider>> findByIdIn(Collection<String> ids);
+
     Single<IdentityProvider> create(String domain, NewIdentityProvider identityProvider);
 
     Single<IdentityProvider> update(String domain, String id, UpdateIdentityProvider updateIdentityProvider);
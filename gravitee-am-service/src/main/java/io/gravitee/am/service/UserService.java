@@ -37,6 +37,13 @@ public interface UserService {
 
     Single<Page<User>> findByDomain(String domain, int page, int size);
 
+    /**
+     * Keyset variant of {@link #findByDomain(String, int, int)}: the users are sorted by username and the page starts
+     * right after the user designated by <code>cursor</code>, the {@link Page#getNextCursor() next cursor} of the
+     * previous page or an empty value for the first page. The total count of the returned page may be cached for a short time.
+     */
+    Single<Page<User>> findByDomain(String domain, String cursor, int size);
+
     Single<Page<User>> search(String domain, String query, int limit);
 
     Single<List<User>> findByIdIn(List<String> ids);
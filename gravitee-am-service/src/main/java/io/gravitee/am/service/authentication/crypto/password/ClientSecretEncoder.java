@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.authentication.crypto.password;
+
+import io.gravitee.am.service.authentication.crypto.password.bcrypt.BCryptPasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.hmac.HmacSHA256PasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.pbkdf2.Pbkdf2PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash client secrets before they are stored and verify the secrets submitted by the clients.
+ *
+ * Encoded secrets are prefixed with the identifier of their algorithm (e.g. <code>{bcrypt}</code>) so that secrets
+ * hashed before a change of the configured algorithm can still be verified. Secrets without such a prefix are
+ * plain text secrets stored by previous versions.
+ *
+ * @author GraviteeSource Team
+ */
+public class ClientSecretEncoder {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+    public static final String HMAC_SHA256 = "hmac-sha256";
+    public static final String NONE = "none";
+
+    private static final String PREFIX = "{";
+    private static final String SUFFIX = "}";
+
+    private final Map<String, PasswordEncoder> encoders = new HashMap<>();
+
+    private final String algorithm;
+
+    public ClientSecretEncoder() {
+        this(BCRYPT);
+    }
+
+    /**
+     * @param algorithm the algorithm used to hash new secrets: bcrypt, pbkdf2, hmac-sha256 or none to keep them in plain text
+     */
+    public ClientSecretEncoder(String algorithm) {
+        encoders.put(BCRYPT, new BCryptPasswordEncoder());
+        encoders.put(PBKDF2, new Pbkdf2PasswordEncoder());
+        encoders.put(HMAC_SHA256, new HmacSHA256PasswordEncoder());
+
+        if (!NONE.equals(algorithm) && !encoders.containsKey(algorithm)) {
+            throw new IllegalArgumentException("Unsupported client secret algorithm: " + algorithm);
+        }
+        this.algorithm = algorithm;
+    }
+
+    public String encode(String rawSecret) {
+        if (NONE.equals(algorithm)) {
+            return rawSecret;
+        }
+        return PREFIX + algorithm + SUFFIX + encoders.get(algorithm).encode(rawSecret);
+    }
+
+    public boolean matches(String rawSecret, String encodedSecret) {
+        if (rawSecret == null || encodedSecret == null) {
+            return false;
+        }
+
+        String id = extractId(encodedSecret);
+        if (id == null || !encoders.containsKey(id)) {
+            return MessageDigest.isEqual(rawSecret.getBytes(StandardCharsets.UTF_8), encodedSecret.getBytes(StandardCharsets.UTF_8));
+        }
+        return encoders.get(id).matches(rawSecret, encodedSecret.substring(id.length() + PREFIX.length() + SUFFIX.length()));
+    }
+
+    /**
+     * @return true if the secret has been hashed, false for a plain text secret
+     */
+    public boolean isEncoded(String secret) {
+        String id = extractId(secret);
+        return id != null && encoders.containsKey(id);
+    }
+
+    private String extractId(String encodedSecret) {
+        if (encodedSecret == null || !encodedSecret.startsWith(PREFIX)) {
+            return null;
+        }
+        int end = encodedSecret.indexOf(SUFFIX);
+        return end < 0 ? null : encodedSecret.substring(PREFIX.length(), end);
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.authentication.crypto.password;
+
+import io.gravitee.am.service.exception.ServiceUnavailableException;
+import io.reactivex.Single;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Run password hashing and verification on a dedicated pool of worker threads so that CPU-heavy encoders (BCrypt)
+ * never stall the event loop or the database driver threads.
+ *
+ * The pool has a bounded queue: once it is full, new tasks fail fast with a {@link ServiceUnavailableException}
+ * instead of queueing unboundedly.
+ *
+ * A single instance is declared in the root context of the node and shared by all its password encoders, the size
+ * of the pool and of its queue are set by the <code>password.encoder.workers</code> (one worker per core by default)
+ * and <code>password.encoder.queueSize</code> properties.
+ *
+ * @author GraviteeSource Team
+ */
+public class PasswordEncoderScheduler {
+
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
+
+    private final ThreadPoolExecutor executor;
+
+    public PasswordEncoderScheduler(int workers, int queueSize) {
+        final AtomicInteger counter = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "gio-am-password-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Run the task on a worker thread, the result is emitted from that thread.
+     *
+     * @return the result of the task, or a {@link ServiceUnavailableException} if too many tasks are already pending
+     */
+    public <T> Single<T> submit(Callable<T> task) {
+        return Single.create(emitter -> {
+            final Future<?> future;
+            try {
+                future = executor.submit(() -> {
+                    try {
+                        emitter.onSuccess(task.call());
+                    } catch (Throwable ex) {
+                        emitter.tryOnError(ex);
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                emitter.onError(new ServiceUnavailableException("Too many pending password verifications, try again later"));
+                return;
+            }
+            emitter.setCancellable(() -> future.cancel(false));
+        });
+    }
+
+    /**
+     * @return the number of tasks waiting for a worker thread
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
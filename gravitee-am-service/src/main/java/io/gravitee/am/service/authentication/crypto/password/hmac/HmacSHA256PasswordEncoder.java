@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.authentication.crypto.password.hmac;
+
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Implementation of PasswordEncoder that computes an HMAC-SHA256 of the password keyed with a random salt.
+ * Much cheaper than BCrypt or PBKDF2, it is only suitable for high entropy values such as generated secrets.
+ * The encoded value is the Base64 encoding of the salt followed by the MAC.
+ *
+ * @author GraviteeSource Team
+ */
+public class HmacSHA256PasswordEncoder implements PasswordEncoder {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SALT_LENGTH = 16;
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        byte[] salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        byte[] mac = mac(rawPassword, salt);
+
+        byte[] encoded = Arrays.copyOf(salt, salt.length + mac.length);
+        System.arraycopy(mac, 0, encoded, salt.length, mac.length);
+        return Base64.getEncoder().encodeToString(encoded);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        byte[] encoded;
+        try {
+            encoded = Base64.getDecoder().decode(encodedPassword);
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+        if (encoded.length <= SALT_LENGTH) {
+            return false;
+        }
+
+        byte[] salt = Arrays.copyOf(encoded, SALT_LENGTH);
+        byte[] mac = Arrays.copyOfRange(encoded, SALT_LENGTH, encoded.length);
+        return MessageDigest.isEqual(mac, mac(rawPassword, salt));
+    }
+
+    private byte[] mac(CharSequence rawPassword, byte[] salt) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(salt, ALGORITHM));
+            return mac.doFinal(rawPassword.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to hash password using " + ALGORITHM, ex);
+        }
+    }
+}
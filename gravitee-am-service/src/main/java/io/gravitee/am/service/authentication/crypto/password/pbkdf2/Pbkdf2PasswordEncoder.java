@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.authentication.crypto.password.pbkdf2;
+
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoder;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Implementation of PasswordEncoder that uses PBKDF2 with HMAC-SHA256, a random salt and a configurable
+ * number of iterations. The encoded value is the Base64 encoding of the salt followed by the derived key.
+ *
+ * @author GraviteeSource Team
+ */
+public class Pbkdf2PasswordEncoder implements PasswordEncoder {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int DEFAULT_ITERATIONS = 10000;
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_WIDTH = 256;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private final int iterations;
+
+    public Pbkdf2PasswordEncoder() {
+        this(DEFAULT_ITERATIONS);
+    }
+
+    /**
+     * @param iterations the number of iterations to apply when deriving the key
+     */
+    public Pbkdf2PasswordEncoder(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Bad iterations");
+        }
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        byte[] salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        byte[] hash = hash(rawPassword, salt);
+
+        byte[] encoded = Arrays.copyOf(salt, salt.length + hash.length);
+        System.arraycopy(hash, 0, encoded, salt.length, hash.length);
+        return Base64.getEncoder().encodeToString(encoded);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        byte[] encoded;
+        try {
+            encoded = Base64.getDecoder().decode(encodedPassword);
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+        if (encoded.length <= SALT_LENGTH) {
+            return false;
+        }
+
+        byte[] salt = Arrays.copyOf(encoded, SALT_LENGTH);
+        byte[] hash = Arrays.copyOfRange(encoded, SALT_LENGTH, encoded.length);
+        return MessageDigest.isEqual(hash, hash(rawPassword, salt));
+    }
+
+    private byte[] hash(CharSequence rawPassword, byte[] salt) {
+        PBEKeySpec spec = new PBEKeySpec(rawPassword.toString().toCharArray(), salt, iterations, HASH_WIDTH);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to hash password using " + ALGORITHM, ex);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.email;
+
+import io.gravitee.am.model.QueuedEmail;
+import io.gravitee.am.repository.management.api.EmailQueueRepository;
+import io.reactivex.Completable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deliver the emails of the {@link EmailQueueRepository outbox} with a fixed number of workers.
+ *
+ * A dispatcher delivers the emails of the domains registered with their {@link Sender}: the gateway uses a single
+ * dispatcher, hence a single pool of workers polling the outbox, for all the security domains it serves.
+ *
+ * Emails are stored before being sent so they survive a restart of the node. A worker leases an email while sending
+ * it : if the node stops before the email has been sent, the email is taken again once the lease has expired.
+ * Failed deliveries are retried with an exponential backoff until the maximum number of attempts is reached.
+ *
+ * @author GraviteeSource Team
+ */
+public class EmailQueueDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmailQueueDispatcher.class);
+    public static final int DEFAULT_WORKERS = 2;
+    public static final long DEFAULT_POLL_INTERVAL = 10000;
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+    public static final long DEFAULT_RETRY_DELAY = 30000;
+    private static final long LEASE_TIME = TimeUnit.MINUTES.toMillis(5);
+    private static final long MAX_RETRY_DELAY = TimeUnit.HOURS.toMillis(1);
+
+    @FunctionalInterface
+    public interface Sender {
+        void send(QueuedEmail email) throws Exception;
+    }
+
+    private final EmailQueueRepository emailQueueRepository;
+    // null key for the emails of the management API
+    private final Map<String, Sender> senders = Collections.synchronizedMap(new HashMap<>());
+    private final Semaphore signal = new Semaphore(0);
+    private int workers = DEFAULT_WORKERS;
+    private long pollInterval = DEFAULT_POLL_INTERVAL;
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private long retryDelay = DEFAULT_RETRY_DELAY;
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    /**
+     * @param emailQueueRepository the outbox
+     */
+    public EmailQueueDispatcher(EmailQueueRepository emailQueueRepository) {
+        this.emailQueueRepository = emailQueueRepository;
+    }
+
+    /**
+     * @param emailQueueRepository the outbox
+     * @param domain the security domain of the emails to deliver, <code>null</code> for the emails of the management API
+     * @param sender the actual delivery of an email
+     */
+    public EmailQueueDispatcher(EmailQueueRepository emailQueueRepository, String domain, Sender sender) {
+        this(emailQueueRepository);
+        register(domain, sender);
+    }
+
+    /**
+     * Start delivering the emails of a security domain.
+     *
+     * @param domain the security domain of the emails to deliver, <code>null</code> for the emails of the management API
+     * @param sender the actual delivery of an email
+     */
+    public void register(String domain, Sender sender) {
+        senders.put(domain, sender);
+        signal.release();
+    }
+
+    /**
+     * Stop delivering the emails of a security domain, its queued emails are left to the other nodes serving it.
+     */
+    public void unregister(String domain) {
+        senders.remove(domain);
+    }
+
+    /**
+     * Store the email in the outbox and wake up a worker to deliver it.
+     */
+    public Completable enqueue(QueuedEmail email) {
+        return Completable.defer(() -> {
+            email.setAttempts(0);
+            email.setCreatedAt(new Date());
+            email.setNextAttemptAt(email.getCreatedAt());
+            return emailQueueRepository.create(email).toCompletable();
+        }).doOnComplete(signal::release);
+    }
+
+    public void start(String name) {
+        running = true;
+        AtomicInteger counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::work);
+        }
+    }
+
+    public void stop() {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Deliver the next email ready to be sent, if any.
+     *
+     * @return <code>true</code> if an email has been taken from the outbox
+     */
+    public boolean deliverNext() {
+        List<String> domains;
+        synchronized (senders) {
+            domains = new ArrayList<>(senders.keySet());
+        }
+        if (domains.isEmpty()) {
+            return false;
+        }
+
+        QueuedEmail email = emailQueueRepository.acquire(domains, new Date(System.currentTimeMillis() + LEASE_TIME)).blockingGet();
+        if (email == null) {
+            return false;
+        }
+
+        Sender sender = senders.get(email.getDomain());
+        if (sender == null) {
+            // the domain has been unregistered meanwhile, release the email
+            emailQueueRepository.reschedule(email.getId(), new Date()).blockingAwait();
+            return true;
+        }
+
+        try {
+            sender.send(email);
+            emailQueueRepository.delete(email.getId()).blockingAwait();
+        } catch (Exception ex) {
+            if (email.getAttempts() >= maxAttempts) {
+                LOGGER.error("Unable to send email {} after {} attempts, the email is discarded", email.getId(), email.getAttempts(), ex);
+                emailQueueRepository.delete(email.getId()).blockingAwait();
+            } else {
+                long delay = Math.min(retryDelay << (email.getAttempts() - 1), MAX_RETRY_DELAY);
+                LOGGER.warn("Unable to send email {}, next attempt in {} ms", email.getId(), delay, ex);
+                emailQueueRepository.reschedule(email.getId(), new Date(System.currentTimeMillis() + delay)).blockingAwait();
+            }
+        }
+        return true;
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                if (!deliverNext()) {
+                    // nothing to send, wait for a new email or for a retry to be due
+                    signal.tryAcquire(pollInterval, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                if (!running) {
+                    return;
+                }
+                LOGGER.error("An error occurs while reading the email queue", ex);
+                try {
+                    Thread.sleep(pollInterval);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public void setPollInterval(long pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public void setRetryDelay(long retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+}
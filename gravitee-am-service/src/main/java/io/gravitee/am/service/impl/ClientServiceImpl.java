@@ -26,7 +26,10 @@ import io.gravitee.am.model.common.event.Payload;
 import io.gravitee.am.model.common.event.Type;
 import io.gravitee.am.repository.management.api.ClientRepository;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.model.ClientTokenCount;
 import io.gravitee.am.service.*;
+import io.gravitee.am.service.authentication.crypto.password.ClientSecretEncoder;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoderScheduler;
 import io.gravitee.am.service.exception.*;
 import io.gravitee.am.service.model.*;
 import io.gravitee.am.service.utils.GrantTypeUtils;
@@ -77,6 +80,12 @@ public class ClientServiceImpl implements ClientService {
     @Autowired
     private FormService formService;
 
+    @Autowired
+    private ClientSecretEncoder clientSecretEncoder;
+
+    @Autowired
+    private PasswordEncoderScheduler passwordEncoderScheduler;
+
     @Override
     public Maybe<Client> findById(String id) {
         LOGGER.debug("Find client by ID: {}", id);
@@ -190,19 +199,12 @@ public class ClientServiceImpl implements ClientService {
     }
 
     @Override
-    public Single<Set<TopClient>> findTopClients() {
+    public Single<Set<TopClient>> findTopClients(int limit) {
         LOGGER.debug("Find top clients");
-        return clientRepository.findAll()
-                .flatMapObservable(clients -> Observable.fromIterable(clients))
-                .flatMapSingle(client -> accessTokenRepository.countByClientId(client.getId())
-                        .map(oAuth2AccessTokens -> {
-                            TopClient topClient = new TopClient();
-                            topClient.setClient(client);
-                            topClient.setAccessTokens(oAuth2AccessTokens);
-                            return topClient;
-                        }))
+        return accessTokenRepository.countGroupByClient(null, limit)
+                .flatMapMaybe(this::convert)
                 .toList()
-                .map(topClients -> topClients.stream().filter(topClient -> topClient.getAccessTokens() > 0).collect(Collectors.toSet()))
+                .map(topClients -> (Set<TopClient>) new HashSet<>(topClients))
                 .onErrorResumeNext(ex -> {
                     LOGGER.error("An error occurs while trying to find top clients", ex);
                     return Single.error(new TechnicalManagementException("An error occurs while trying to find top clients", ex));
@@ -210,19 +212,12 @@ public class ClientServiceImpl implements ClientService {
     }
 
     @Override
-    public Single<Set<TopClient>> findTopClientsByDomain(String domain) {
+    public Single<Set<TopClient>> findTopClientsByDomain(String domain, int limit) {
         LOGGER.debug("Find top clients by domain: {}", domain);
-        return clientRepository.findByDomain(domain)
-                .flatMapObservable(clients -> Observable.fromIterable(clients))
-                .flatMapSingle(client -> accessTokenRepository.countByClientId(client.getId())
-                        .map(oAuth2AccessTokens -> {
-                            TopClient topClient = new TopClient();
-                            topClient.setClient(client);
-                            topClient.setAccessTokens(oAuth2AccessTokens);
-                            return topClient;
-                        }))
+        return accessTokenRepository.countGroupByClient(domain, limit)
+                .flatMapMaybe(this::convert)
                 .toList()
-                .map(topClients -> topClients.stream().filter(topClient -> topClient.getAccessTokens() > 0).collect(Collectors.toSet()))
+                .map(topClients -> (Set<TopClient>) new HashSet<>(topClients))
                 .onErrorResumeNext(ex -> {
                     LOGGER.error("An error occurs while trying to find top clients by domain", ex);
                     return Single.error(new TechnicalManagementException("An error occurs while trying to find top clients by domain", ex));
@@ -298,6 +293,8 @@ public class ClientServiceImpl implements ClientService {
         if(client.getClientSecret()==null || client.getClientSecret().trim().isEmpty()) {
             client.setClientSecret(SecureRandomString.generate());
         }
+        // only the hash of the secret is stored, the plain secret is returned once to the creator
+        final String rawClientSecret = client.getClientSecret();
         if(client.getClientName()==null || client.getClientName().trim().isEmpty()) {
             client.setClientName("Unknown Client");
         }
@@ -311,13 +308,18 @@ public class ClientServiceImpl implements ClientService {
         client.setCreatedAt(new Date());
         client.setUpdatedAt(client.getCreatedAt());
 
-        return this.validateClientMetadata(client.getDomain(), client)
+        return passwordEncoderScheduler.submit(() -> clientSecretEncoder.encode(rawClientSecret))
+                .flatMap(encodedClientSecret -> {
+                    client.setClientSecret(encodedClientSecret);
+                    return this.validateClientMetadata(client.getDomain(), client);
+                })
                 .flatMap(clientRepository::create)
                 .flatMap(justCreatedClient -> {
                     // Reload domain to take care about client creation
                     Event event = new Event(Type.CLIENT, new Payload(justCreatedClient.getId(), justCreatedClient.getDomain(), Action.CREATE));
                     return domainService.reload(client.getDomain(), event).flatMap(domain1 -> Single.just(justCreatedClient));
                 })
+                .map(justCreatedClient -> withRawClientSecret(justCreatedClient, rawClientSecret))
                 .onErrorResumeNext(this::handleError);
         }
 
@@ -437,11 +439,16 @@ public class ClientServiceImpl implements ClientService {
         return clientRepository.findById(id)
                 .switchIfEmpty(Maybe.error(new ClientNotFoundException(id)))
                 .flatMapSingle(client -> {
-                    // update client secret
-                    client.setClientSecret(SecureRandomString.generate());
-
-                    // update client and reload domain
-                    return updateClientAndReloadDomain(domain, client);
+                    // update client secret, only its hash is stored
+                    final String rawClientSecret = SecureRandomString.generate();
+
+                    // update client and reload domain, then return the new secret once to the caller
+                    return passwordEncoderScheduler.submit(() -> clientSecretEncoder.encode(rawClientSecret))
+                            .flatMap(encodedClientSecret -> {
+                                client.setClientSecret(encodedClientSecret);
+                                return updateClientAndReloadDomain(domain, client);
+                            })
+                            .map(updatedClient -> withRawClientSecret(updatedClient, rawClientSecret));
                 })
                 .onErrorResumeNext(this::handleError);
     }
@@ -511,8 +518,21 @@ public class ClientServiceImpl implements ClientService {
     }
 
     private Single<Client> updateClientAndReloadDomain(String domain, Client client) {
-        client.setUpdatedAt(new Date());
-        return clientRepository.update(client)
+        // hash plain text secrets, either stored by previous versions or returned by create
+        final String clientSecret = client.getClientSecret();
+        final Single<Client> hashedClient = clientSecret != null && !clientSecretEncoder.isEncoded(clientSecret) ?
+                passwordEncoderScheduler.submit(() -> clientSecretEncoder.encode(clientSecret))
+                        .map(encodedClientSecret -> {
+                            client.setClientSecret(encodedClientSecret);
+                            return client;
+                        }) :
+                Single.just(client);
+
+        return hashedClient
+                .flatMap(clientToUpdate -> {
+                    clientToUpdate.setUpdatedAt(new Date());
+                    return clientRepository.update(clientToUpdate);
+                })
                 .flatMap(updatedClient -> {
                     // Reload domain to take care about client update
                     Event event = new Event(Type.CLIENT, new Payload(updatedClient.getId(), client.getDomain(), Action.UPDATE));
@@ -520,6 +540,27 @@ public class ClientServiceImpl implements ClientService {
                 });
     }
 
+    /**
+     * The stored client (and the one cached by the gateways) only carries the hash of the secret,
+     * the plain secret is returned to the caller on a copy of it.
+     */
+    private Client withRawClientSecret(Client client, String rawClientSecret) {
+        Client clientWithRawSecret = new Client(client);
+        clientWithRawSecret.setClientSecret(rawClientSecret);
+        return clientWithRawSecret;
+    }
+
+    private Maybe<TopClient> convert(ClientTokenCount clientTokenCount) {
+        // tokens of a deleted client may still be stored until they expire, skip them
+        return clientRepository.findByClientIdAndDomain(clientTokenCount.getClientId(), clientTokenCount.getDomain())
+                .map(client -> {
+                    TopClient topClient = new TopClient();
+                    topClient.setClient(client);
+                    topClient.setAccessTokens(clientTokenCount.getCount());
+                    return topClient;
+                });
+    }
+
     private Single<Client> handleError(Throwable ex) {
         if (ex instanceof AbstractManagementException || ex instanceof OAuth2Exception) {
             return Single.error(ex);
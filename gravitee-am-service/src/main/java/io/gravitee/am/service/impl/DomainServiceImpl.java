@@ -21,7 +21,10 @@ import io.gravitee.am.model.common.event.Event;
 import io.gravitee.am.model.common.event.Payload;
 import io.gravitee.am.model.common.event.Type;
 import io.gravitee.am.model.oidc.OIDCSettings;
-import io.gravitee.am.repository.management.api.DomainRepository;
+import io.gravitee.am.repository.management.api.*;
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
+import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
 import io.gravitee.am.service.*;
 import io.gravitee.am.service.exception.*;
 import io.gravitee.am.service.model.NewDomain;
@@ -38,10 +41,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.text.Normalizer;
-import java.util.Collection;
-import java.util.Date;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -59,34 +60,49 @@ public class DomainServiceImpl implements DomainService {
     private DomainRepository domainRepository;
 
     @Autowired
-    private ClientService clientService;
+    private ClientRepository clientRepository;
 
     @Autowired
-    private CertificateService certificateService;
+    private CertificateRepository certificateRepository;
 
     @Autowired
-    private IdentityProviderService identityProviderService;
+    private IdentityProviderRepository identityProviderRepository;
 
     @Autowired
-    private ExtensionGrantService extensionGrantService;
+    private ExtensionGrantRepository extensionGrantRepository;
 
     @Autowired
-    private RoleService roleService;
+    private RoleRepository roleRepository;
 
     @Autowired
-    private UserService userService;
+    private UserRepository userRepository;
 
     @Autowired
     private ScopeService scopeService;
 
     @Autowired
-    private GroupService groupService;
+    private EventService eventService;
 
     @Autowired
-    private EmailTemplateService emailTemplateService;
+    private ScopeRepository scopeRepository;
 
     @Autowired
-    private FormService formService;
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private EmailRepository emailRepository;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private AccessTokenRepository accessTokenRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private ScopeApprovalRepository scopeApprovalRepository;
 
     @Override
     public Maybe<Domain> findById(String id) {
@@ -215,11 +231,8 @@ public class DomainServiceImpl implements DomainService {
         LOGGER.debug("Reload a domain: {}", domainId);
         return domainRepository.findById(domainId)
                 .switchIfEmpty(Maybe.error(new DomainNotFoundException(domainId)))
-                .flatMapSingle(oldDomain -> {
-                    oldDomain.setUpdatedAt(new Date());
-                    oldDomain.setLastEvent(event);
-                    return domainRepository.update(oldDomain);
-                })
+                // the domain document is left untouched, gateways pick the event up from the event log
+                .flatMapSingle(domain -> eventService.create(event).toSingleDefault(domain))
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof AbstractManagementException) {
                         return Single.error(ex);
@@ -261,78 +274,15 @@ public class DomainServiceImpl implements DomainService {
                     }
                     return Single.just(domain);
                 })
-                .flatMapCompletable(domain -> {
-                    // delete clients
-                    return clientService.findByDomain(domainId)
-                            .flatMapCompletable(clients -> {
-                                List<Completable> deleteClientsCompletable = clients.stream().map(c -> clientService.delete(c.getId())).collect(Collectors.toList());
-                                return Completable.concat(deleteClientsCompletable);
-                            })
-                            // delete certificates
-                            .andThen(certificateService.findByDomain(domainId)
-                                    .flatMapCompletable(certificates -> {
-                                        List<Completable> deleteCertificatesCompletable = certificates.stream().map(c -> certificateService.delete(c.getId())).collect(Collectors.toList());
-                                        return Completable.concat(deleteCertificatesCompletable);
-                                    })
-                            )
-                            // delete identity providers
-                            .andThen(identityProviderService.findByDomain(domainId)
-                                    .flatMapCompletable(identityProviders -> {
-                                        List<Completable> deleteIdentityProvidersCompletable = identityProviders.stream().map(i -> identityProviderService.delete(domainId, i.getId())).collect(Collectors.toList());
-                                        return Completable.concat(deleteIdentityProvidersCompletable);
-                                    })
-                            )
-                            // delete extension grants
-                            .andThen(extensionGrantService.findByDomain(domainId)
-                                    .flatMapCompletable(extensionGrants -> {
-                                        List<Completable> deleteExtensionGrantsCompletable = extensionGrants.stream().map(i -> extensionGrantService.delete(domainId, i.getId())).collect(Collectors.toList());
-                                        return Completable.concat(deleteExtensionGrantsCompletable);
-                                    })
-                            )
-                            // delete roles
-                            .andThen(roleService.findByDomain(domainId)
-                                    .flatMapCompletable(roles -> {
-                                        List<Completable> deleteRolesCompletable = roles.stream().map(r -> roleService.delete(r.getId())).collect(Collectors.toList());
-                                        return Completable.concat(deleteRolesCompletable);
-                                    })
-                            )
-                            // delete users
-                            .andThen(userService.findByDomain(domainId)
-                                    .flatMapCompletable(users -> {
-                                        List<Completable> deleteUsersCompletable = users.stream().map(u -> userService.delete(u.getId())).collect(Collectors.toList());
-                                        return Completable.concat(deleteUsersCompletable);
-                                    })
-                            )
-                            // delete groups
-                            .andThen(groupService.findByDomain(domainId)
-                                    .flatMapCompletable(groups -> {
-                                        List<Completable> deleteGroupsCompletable = groups.stream().map(u -> groupService.delete(u.getId())).collect(Collectors.toList());
-                                        return Completable.concat(deleteGroupsCompletable);
-                                    })
-                            )
-                            // delete scopes
-                            .andThen(scopeService.findByDomain(domainId)
-                                    .flatMapCompletable(scopes -> {
-                                        List<Completable> deleteScopesCompletable = scopes.stream().map(s -> scopeService.delete(s.getId(), true)).collect(Collectors.toList());
-                                        return Completable.concat(deleteScopesCompletable);
-                                    })
-                            )
-                            // delete email templates
-                            .andThen(emailTemplateService.findByDomain(domainId)
-                                    .flatMapCompletable(scopes -> {
-                                        List<Completable> deleteEmailsCompletable = scopes.stream().map(e -> emailTemplateService.delete(e.getId())).collect(Collectors.toList());
-                                        return Completable.concat(deleteEmailsCompletable);
-                                    })
-                            )
-                            // delete form templates
-                            .andThen(formService.findByDomain(domainId)
-                                    .flatMapCompletable(scopes -> {
-                                        List<Completable> deleteFormsCompletable = scopes.stream().map(f -> formService.delete(f.getId())).collect(Collectors.toList());
-                                        return Completable.concat(deleteFormsCompletable);
-                                    })
-                            )
-                            .andThen(domainRepository.delete(domainId));
+                // undeploy the domain first so that gateways stop serving it while its content is removed
+                .flatMap(domain -> {
+                    domain.setEnabled(false);
+                    domain.setUpdatedAt(new Date());
+                    domain.setLastEvent(new Event(Type.DOMAIN, new Payload(domainId, domainId, Action.DELETE)));
+                    return domainRepository.update(domain);
                 })
+                // the domain itself is removed last, deleting it again resumes an interrupted cascade
+                .flatMapCompletable(domain -> deleteContent(domainId).andThen(domainRepository.delete(domainId)))
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof AbstractManagementException) {
                         return Completable.error(ex);
@@ -364,6 +314,30 @@ public class DomainServiceImpl implements DomainService {
                 });
     }
 
+    private Completable deleteContent(String domainId) {
+        Map<String, Completable> steps = new LinkedHashMap<>();
+        steps.put("access tokens", accessTokenRepository.deleteByDomain(domainId));
+        steps.put("refresh tokens", refreshTokenRepository.deleteByDomain(domainId));
+        steps.put("scope approvals", scopeApprovalRepository.deleteByDomain(domainId));
+        steps.put("clients", clientRepository.deleteByDomain(domainId));
+        steps.put("certificates", certificateRepository.deleteByDomain(domainId));
+        steps.put("identity providers", identityProviderRepository.deleteByDomain(domainId));
+        steps.put("extension grants", extensionGrantRepository.deleteByDomain(domainId));
+        steps.put("roles", roleRepository.deleteByDomain(domainId));
+        steps.put("users", userRepository.deleteByDomain(domainId));
+        steps.put("groups", groupRepository.deleteByDomain(domainId));
+        steps.put("scopes", scopeRepository.deleteByDomain(domainId));
+        steps.put("email templates", emailRepository.deleteByDomain(domainId));
+        steps.put("form templates", formRepository.deleteByDomain(domainId));
+
+        AtomicInteger done = new AtomicInteger();
+        return Completable.concat(steps.entrySet()
+                .stream()
+                .map(step -> step.getValue().doOnComplete(() ->
+                        LOGGER.info("Delete security domain {}: {} deleted ({}/{})", domainId, step.getKey(), done.incrementAndGet(), steps.size())))
+                .collect(Collectors.toList()));
+    }
+
     private Single<Domain> createSystemScopes(Domain domain) {
         return Observable.fromArray(io.gravitee.am.common.oidc.Scope.values())
                 .flatMapSingle(systemScope -> {
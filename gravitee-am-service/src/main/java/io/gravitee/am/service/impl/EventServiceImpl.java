@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.impl;
+
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.repository.management.api.EventRepository;
+import io.gravitee.am.service.EventService;
+import io.reactivex.Completable;
+import io.reactivex.subjects.CompletableSubject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class EventServiceImpl implements EventService, InitializingBean, DisposableBean {
+
+    /**
+     * Logger.
+     */
+    private final Logger LOGGER = LoggerFactory.getLogger(EventServiceImpl.class);
+
+    private static final long DEFAULT_COALESCE_WINDOW = 100;
+
+    @Value("${events.coalesce.window:" + DEFAULT_COALESCE_WINDOW + "}")
+    private long coalesceWindow = DEFAULT_COALESCE_WINDOW;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    /**
+     * Events waiting for the next flush, grouped by domain and keyed by type, target and action.
+     */
+    private final Map<String, Map<String, PendingEvent>> pendingEvents = new LinkedHashMap<>();
+
+    private boolean flushScheduled;
+
+    private ScheduledExecutorService executor;
+
+    @Override
+    public void afterPropertiesSet() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gio-am-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        // already scheduled flushes are still executed
+        executor.shutdown();
+    }
+
+    @Override
+    public Completable create(Event event) {
+        return Completable.defer(() -> {
+            LOGGER.debug("Create event {} for domain {}", event.getType(), event.getPayload().getDomain());
+            CompletableSubject stored = CompletableSubject.create();
+            String key = event.getType() + ":" + event.getPayload().getId() + ":" + event.getPayload().getAction();
+            synchronized (pendingEvents) {
+                Map<String, PendingEvent> domainEvents = pendingEvents.computeIfAbsent(event.getPayload().getDomain(), domain -> new LinkedHashMap<>());
+                // keep only the latest occurrence of the event, it will be stored after the events published before it
+                PendingEvent pendingEvent = domainEvents.remove(key);
+                if (pendingEvent == null) {
+                    pendingEvent = new PendingEvent();
+                }
+                pendingEvent.event = event;
+                pendingEvent.subscribers.add(stored);
+                domainEvents.put(key, pendingEvent);
+
+                if (!flushScheduled) {
+                    flushScheduled = true;
+                    executor.schedule(this::flush, coalesceWindow, TimeUnit.MILLISECONDS);
+                }
+            }
+            return stored;
+        });
+    }
+
+    private void flush() {
+        List<PendingEvent> batch = new ArrayList<>();
+        synchronized (pendingEvents) {
+            pendingEvents.values().forEach(domainEvents -> batch.addAll(domainEvents.values()));
+            pendingEvents.clear();
+            flushScheduled = false;
+        }
+
+        List<Event> events = batch.stream().map(pendingEvent -> pendingEvent.event).collect(Collectors.toList());
+        // flushes are executed one at a time so that events are stored in the order they have been published
+        Throwable error = eventRepository.create(events).toCompletable().blockingGet();
+        if (error == null) {
+            LOGGER.debug("{} events stored", events.size());
+            batch.forEach(pendingEvent -> pendingEvent.subscribers.forEach(CompletableSubject::onComplete));
+        } else {
+            LOGGER.error("An error occurs while trying to store {} events", events.size(), error);
+            batch.forEach(pendingEvent -> pendingEvent.subscribers.forEach(subscriber -> subscriber.onError(error)));
+        }
+    }
+
+    private static class PendingEvent {
+        private Event event;
+        private final List<CompletableSubject> subscribers = new ArrayList<>();
+    }
+}
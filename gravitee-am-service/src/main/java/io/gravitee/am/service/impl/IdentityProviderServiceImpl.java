@@ -40,8 +40,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -98,6 +100,16 @@ public class IdentityProviderServiceImpl implements IdentityProviderService {
                 });
     }
 
+    @Override
+    public Single<Set<IdentityProvider>> findByIdIn(Collection<String> ids) {
+        LOGGER.debug("Find identity providers by id in {}", ids);
+        return identityProviderRepository.findByIdIn(ids)
+                .onErrorResumeNext(ex -> {
+                    LOGGER.error("An error occurs while trying to find identity providers by id in {}", ids, ex);
+                    return Single.error(new TechnicalManagementException("An error occurs while trying to find identity providers by id in", ex));
+                });
+    }
+
     @Override
     public Single<IdentityProvider> create(String domain, NewIdentityProvider newIdentityProvider) {
         LOGGER.debug("Create a new identity provider {} for domain {}", newIdentityProvider, domain);
@@ -16,6 +16,8 @@
 package io.gravitee.am.service.impl;
 
 import io.gravitee.am.model.oauth2.ScopeApproval;
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
 import io.gravitee.am.service.ScopeApprovalService;
 import io.gravitee.am.service.exception.TechnicalManagementException;
@@ -41,6 +43,12 @@ public class ScopeApprovalServiceImpl implements ScopeApprovalService {
     @Autowired
     private ScopeApprovalRepository scopeApprovalRepository;
 
+    @Autowired
+    private AccessTokenRepository accessTokenRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
     @Override
     public Maybe<ScopeApproval> findById(String id) {
         LOGGER.debug("Find scope approval by id: {}", id);
@@ -88,7 +96,11 @@ public class ScopeApprovalServiceImpl implements ScopeApprovalService {
     @Override
     public Completable revoke(String domain, String user) {
         LOGGER.debug("Revoke approvals for domain: {} and user: {}", domain, user);
+        // the tokens issued with the revoked consents must not be used anymore
         return scopeApprovalRepository.deleteByDomainAndUser(domain, user)
+                .andThen(Completable.mergeArray(
+                        accessTokenRepository.deleteByDomainAndSubject(domain, user),
+                        refreshTokenRepository.deleteByDomainAndSubject(domain, user)))
                 .onErrorResumeNext(ex -> {
                     LOGGER.error("An error occurs while trying to revoke scope approvals for domain: {} and user : {}", domain, user);
                     return Completable.error(new TechnicalManagementException(
@@ -100,6 +112,9 @@ public class ScopeApprovalServiceImpl implements ScopeApprovalService {
     public Completable revoke(String domain, String user, String clientId) {
         LOGGER.debug("Revoke approvals for domain: {}, user: {} and client: {}", domain, user, clientId);
         return scopeApprovalRepository.deleteByDomainAndUserAndClient(domain, user, clientId)
+                .andThen(Completable.mergeArray(
+                        accessTokenRepository.deleteByDomainClientAndSubject(domain, clientId, user),
+                        refreshTokenRepository.deleteByDomainClientAndSubject(domain, clientId, user)))
                 .onErrorResumeNext(ex -> {
                     LOGGER.error("An error occurs while trying to revoke scope approvals for domain: {}, user: {} and client: {}", domain, user, clientId);
                     return Completable.error(new TechnicalManagementException(
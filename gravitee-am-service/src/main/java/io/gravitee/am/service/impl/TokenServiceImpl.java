@@ -16,11 +16,9 @@
 package io.gravitee.am.service.impl;
 
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
-import io.gravitee.am.service.ClientService;
 import io.gravitee.am.service.TokenService;
 import io.gravitee.am.service.exception.TechnicalManagementException;
 import io.gravitee.am.service.model.TotalToken;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,23 +34,17 @@ public class TokenServiceImpl implements TokenService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TokenServiceImpl.class);
 
-    @Autowired
-    private ClientService clientService;
-
     @Autowired
     private AccessTokenRepository accessTokenRepository;
 
     @Override
     public Single<TotalToken> findTotalTokensByDomain(String domain) {
         LOGGER.debug("Find total tokens by domain: {}", domain);
-        return clientService.findByDomain(domain)
-                .flatMapObservable(Observable::fromIterable)
-                .flatMapSingle(client -> accessTokenRepository.countByClientId(client.getClientId()))
-                .toList()
-                .flatMap(totalAccessTokens -> {
+        return accessTokenRepository.countByDomain(domain)
+                .map(totalAccessTokens -> {
                     TotalToken totalToken = new TotalToken();
-                    totalToken.setTotalAccessTokens(totalAccessTokens.stream().mapToLong(Long::longValue).sum());
-                    return Single.just(totalToken);
+                    totalToken.setTotalAccessTokens(totalAccessTokens);
+                    return totalToken;
                 })
                 .onErrorResumeNext(ex -> {
                     LOGGER.error("An error occurs while trying to find total tokens by domain: {}", domain, ex);
@@ -64,14 +56,11 @@ public class TokenServiceImpl implements TokenService {
     @Override
     public Single<TotalToken> findTotalTokens() {
         LOGGER.debug("Find total tokens");
-        return clientService.findAll()
-                .flatMapObservable(Observable::fromIterable)
-                .flatMapSingle(client -> accessTokenRepository.countByClientId(client.getClientId()))
-                .toList()
-                .flatMap(totalAccessTokens -> {
+        return accessTokenRepository.count()
+                .map(totalAccessTokens -> {
                     TotalToken totalToken = new TotalToken();
-                    totalToken.setTotalAccessTokens(totalAccessTokens.stream().mapToLong(Long::longValue).sum());
-                    return Single.just(totalToken);
+                    totalToken.setTotalAccessTokens(totalAccessTokens);
+                    return totalToken;
                 })
                 .onErrorResumeNext(ex -> {
                     LOGGER.error("An error occurs while trying to find total tokens", ex);
@@ -23,6 +23,7 @@ import io.gravitee.am.repository.management.api.GroupRepository;
 import io.gravitee.am.repository.management.api.UserRepository;
 import io.gravitee.am.service.UserService;
 import io.gravitee.am.service.exception.AbstractManagementException;
+import io.gravitee.am.service.exception.InvalidCursorException;
 import io.gravitee.am.service.exception.TechnicalManagementException;
 import io.gravitee.am.service.exception.UserAlreadyExistsException;
 import io.gravitee.am.service.exception.UserNotFoundException;
@@ -37,7 +38,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 /**
@@ -51,6 +55,9 @@ public class UserServiceImpl implements UserService {
     private final Logger LOGGER = LoggerFactory.getLogger(UserServiceImpl.class);
     private static final String GROUP_MAPPING_ATTRIBUTE = "_RESERVED_AM_GROUP_MAPPING_";
     private static final String SOURCE_FIELD = "source";
+    private static final long COUNT_CACHE_TTL = 60_000L;
+    private static final int MAX_CACHED_COUNTS = 1_000;
+    private static final char CURSOR_SEPARATOR = ':';
 
     @Autowired
     private UserRepository userRepository;
@@ -58,6 +65,8 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private GroupRepository groupRepository;
 
+    private final ConcurrentMap<String, CachedCount> countsByDomain = new ConcurrentHashMap<>();
+
     @Override
     public Single<Set<User>> findByDomain(String domain) {
         LOGGER.debug("Find users by domain: {}", domain);
@@ -78,6 +87,29 @@ public class UserServiceImpl implements UserService {
                 });
     }
 
+    @Override
+    public Single<Page<User>> findByDomain(String domain, String cursor, int size) {
+        LOGGER.debug("Find users by domain: {} after: {}", domain, cursor);
+        String afterUsername = null;
+        String afterId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            String decodedCursor = decodeCursor(cursor);
+            int separatorIndex = decodedCursor == null ? -1 : decodedCursor.indexOf(CURSOR_SEPARATOR);
+            if (separatorIndex <= 0) {
+                return Single.error(new InvalidCursorException(cursor));
+            }
+            afterId = decodedCursor.substring(0, separatorIndex);
+            afterUsername = decodedCursor.substring(separatorIndex + 1);
+        }
+
+        return Single.zip(userRepository.findByDomain(domain, afterUsername, afterId, size), countByDomain(domain),
+                (users, count) -> new Page<>(users, 0, count, users.size() < size ? null : encodeCursor(users.get(users.size() - 1))))
+                .onErrorResumeNext(ex -> {
+                    LOGGER.error("An error occurs while trying to find users by domain {}", domain, ex);
+                    return Single.error(new TechnicalManagementException(String.format("An error occurs while trying to find users by domain %s", domain), ex));
+                });
+    }
+
     @Override
     public Single<Page<User>> search(String domain, String query, int limit) {
         LOGGER.debug("Search users for domain {} with query {}", domain, query);
@@ -150,7 +182,7 @@ public class UserServiceImpl implements UserService {
                         user.setAdditionalInformation(newUser.getAdditionalInformation());
                         user.setCreatedAt(new Date());
                         user.setUpdatedAt(user.getCreatedAt());
-                        return userRepository.create(user);
+                        return userRepository.create(user).doOnSuccess(createdUser -> evictCount(domain));
                     }
                 })
                 .onErrorResumeNext(ex -> {
@@ -196,7 +228,7 @@ public class UserServiceImpl implements UserService {
 
         return userRepository.findById(userId)
                 .switchIfEmpty(Maybe.error(new UserNotFoundException(userId)))
-                .flatMapCompletable(user -> userRepository.delete(userId))
+                .flatMapCompletable(user -> userRepository.delete(userId).doOnComplete(() -> evictCount(user.getDomain())))
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof AbstractManagementException) {
                         return Completable.error(ex);
@@ -249,7 +281,7 @@ public class UserServiceImpl implements UserService {
 
                         Map<String, Object> additionalInformation = user.getAdditionalInformation();
                         extractAdditionalInformation(newUser, additionalInformation);
-                        return userRepository.create(newUser);
+                        return userRepository.create(newUser).doOnSuccess(createdUser -> evictCount(domain));
                     }
                     return Single.error(ex);
                 });
@@ -287,4 +319,60 @@ public class UserServiceImpl implements UserService {
             user.setAdditionalInformation(extraInformation);
         }
     }
+
+    /**
+     * Counting all the users of a large domain is as expensive as reading them, keep the result for a while when
+     * browsing the users page by page. The count of a domain is evicted when one of its users is created or deleted.
+     */
+    private Single<Long> countByDomain(String domain) {
+        CachedCount cachedCount = countsByDomain.get(domain);
+        if (cachedCount != null && cachedCount.expireAt > System.currentTimeMillis()) {
+            return Single.just(cachedCount.value);
+        }
+        return userRepository.countByDomain(domain)
+                .doOnSuccess(count -> cacheCount(domain, count));
+    }
+
+    private void cacheCount(String domain, long count) {
+        long now = System.currentTimeMillis();
+        if (countsByDomain.size() >= MAX_CACHED_COUNTS) {
+            countsByDomain.values().removeIf(cachedCount -> cachedCount.expireAt <= now);
+            if (countsByDomain.size() >= MAX_CACHED_COUNTS) {
+                return;
+            }
+        }
+        countsByDomain.put(domain, new CachedCount(count, now + COUNT_CACHE_TTL));
+    }
+
+    private void evictCount(String domain) {
+        if (domain != null) {
+            countsByDomain.remove(domain);
+        }
+    }
+
+    /**
+     * The cursor of a page is opaque to the clients: it carries the id and the username of the last user of the page.
+     */
+    private static String encodeCursor(User user) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((user.getId() + CURSOR_SEPARATOR + user.getUsername()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static final class CachedCount {
+        private final long value;
+        private final long expireAt;
+
+        private CachedCount(long value, long expireAt) {
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+    }
 }
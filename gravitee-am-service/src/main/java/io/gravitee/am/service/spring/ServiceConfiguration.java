@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.service.spring;
 
+import io.gravitee.am.service.authentication.crypto.password.ClientSecretEncoder;
 import io.gravitee.am.service.authentication.crypto.password.PasswordValidator;
 import io.gravitee.am.service.authentication.crypto.password.RegexPasswordValidator;
 import io.vertx.ext.web.client.WebClientOptions;
@@ -59,4 +60,9 @@ public class ServiceConfiguration {
     public PasswordValidator passwordValidator() {
         return new RegexPasswordValidator();
     }
+
+    @Bean
+    public ClientSecretEncoder clientSecretEncoder() {
+        return new ClientSecretEncoder(properties.getProperty("client.secret.algorithm", ClientSecretEncoder.BCRYPT));
+    }
 }
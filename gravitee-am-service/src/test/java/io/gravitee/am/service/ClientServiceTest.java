@@ -19,16 +19,23 @@ import io.gravitee.am.model.*;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.repository.exceptions.TechnicalException;
 import io.gravitee.am.repository.management.api.ClientRepository;
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.model.ClientTokenCount;
+import io.gravitee.am.service.authentication.crypto.password.ClientSecretEncoder;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoderScheduler;
 import io.gravitee.am.service.exception.*;
 import io.gravitee.am.service.impl.ClientServiceImpl;
 import io.gravitee.am.service.model.NewClient;
 import io.gravitee.am.service.model.PatchClient;
+import io.gravitee.am.service.model.TopClient;
 import io.gravitee.am.service.model.TotalClient;
 import io.gravitee.am.service.model.UpdateClient;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
+import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -36,6 +43,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.*;
@@ -67,19 +75,32 @@ public class ClientServiceTest {
     @Mock
     private ClientRepository clientRepository;
 
+    @Mock
+    private AccessTokenRepository accessTokenRepository;
+
     @Mock
     private FormService formService;
 
     @Mock
     private EmailTemplateService emailTemplateService;
 
+    @Spy
+    private ClientSecretEncoder clientSecretEncoder = new ClientSecretEncoder(ClientSecretEncoder.HMAC_SHA256);
+
+    @Spy
+    private PasswordEncoderScheduler passwordEncoderScheduler = new PasswordEncoderScheduler(1, 10);
+
+    @After
+    public void tearDown() {
+        passwordEncoderScheduler.shutdown();
+    }
+
     private final static String DOMAIN = "domain1";
 
     @Test
     public void shouldFindById() {
         when(clientRepository.findById("my-client")).thenReturn(Maybe.just(new Client()));
         TestObserver testObserver = clientService.findById("my-client").test();
-
         testObserver.awaitTerminalEvent();
         testObserver.assertComplete();
         testObserver.assertNoErrors();
@@ -109,7 +130,6 @@ public class ClientServiceTest {
     public void shouldFindByDomainAndClientId() {
         when(clientRepository.findByClientIdAndDomain("my-client", DOMAIN)).thenReturn(Maybe.just(new Client()));
         TestObserver testObserver = clientService.findByDomainAndClientId(DOMAIN, "my-client").test();
-
         testObserver.awaitTerminalEvent();
         testObserver.assertComplete();
         testObserver.assertNoErrors();
@@ -291,11 +311,62 @@ public class ClientServiceTest {
         testObserver.assertNotComplete();
     }
 
+    @Test
+    public void shouldFindTopClientsByDomain() {
+        Client client1 = new Client();
+        client1.setClientId("client1");
+        when(accessTokenRepository.countGroupByClient(DOMAIN, 10)).thenReturn(Observable.just(
+                new ClientTokenCount(DOMAIN, "client1", 2l),
+                new ClientTokenCount(DOMAIN, "deleted-client", 1l)));
+        when(clientRepository.findByClientIdAndDomain("client1", DOMAIN)).thenReturn(Maybe.just(client1));
+        when(clientRepository.findByClientIdAndDomain("deleted-client", DOMAIN)).thenReturn(Maybe.empty());
+
+        TestObserver<Set<TopClient>> testObserver = clientService.findTopClientsByDomain(DOMAIN, 10).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(topClients -> topClients.size() == 1
+                && topClients.iterator().next().getClient() == client1
+                && topClients.iterator().next().getAccessTokens() == 2l);
+        verify(clientRepository, never()).findByDomain(DOMAIN);
+    }
+
+    @Test
+    public void shouldFindTopClientsByDomain_technicalException() {
+        when(accessTokenRepository.countGroupByClient(DOMAIN, 10)).thenReturn(Observable.error(TechnicalException::new));
+
+        TestObserver<Set<TopClient>> testObserver = clientService.findTopClientsByDomain(DOMAIN, 10).test();
+
+        testObserver.assertError(TechnicalManagementException.class);
+        testObserver.assertNotComplete();
+    }
+
+    @Test
+    public void shouldFindTopClients() {
+        Client client1 = new Client();
+        client1.setClientId("client1");
+        Client client2 = new Client();
+        client2.setClientId("client1");
+        when(accessTokenRepository.countGroupByClient(null, 10)).thenReturn(Observable.just(
+                new ClientTokenCount(DOMAIN, "client1", 3l),
+                new ClientTokenCount("domain2", "client1", 1l)));
+        when(clientRepository.findByClientIdAndDomain("client1", DOMAIN)).thenReturn(Maybe.just(client1));
+        when(clientRepository.findByClientIdAndDomain("client1", "domain2")).thenReturn(Maybe.just(client2));
+
+        TestObserver<Set<TopClient>> testObserver = clientService.findTopClients(10).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(topClients -> topClients.size() == 2);
+        verify(clientRepository, never()).findAll();
+    }
+
     @Test
     public void shouldFindTotalClientsByDomain() {
         when(clientRepository.countByDomain(DOMAIN)).thenReturn(Single.just(1l));
         TestObserver<TotalClient> testObserver = clientService.findTotalClientsByDomain(DOMAIN).test();
-
         testObserver.awaitTerminalEvent();
 
         testObserver.assertComplete();
@@ -318,7 +389,6 @@ public class ClientServiceTest {
     public void shouldFindTotalClients() {
         when(clientRepository.count()).thenReturn(Single.just(1l));
         TestObserver<TotalClient> testObserver = clientService.findTotalClients().test();
-
         testObserver.awaitTerminalEvent();
 
         testObserver.assertComplete();
@@ -367,6 +437,7 @@ public class ClientServiceTest {
 
         TestObserver<Client> testObserver = new TestObserver<>();
         clientService.create(DOMAIN, newClient).subscribe(testObserver);
+        testObserver.awaitTerminalEvent();
 
         testObserver.assertError(TechnicalManagementException.class);
         testObserver.assertNotComplete();
@@ -385,6 +456,7 @@ public class ClientServiceTest {
 
         TestObserver<Client> testObserver = new TestObserver<>();
         clientService.create(DOMAIN, newClient).subscribe(testObserver);
+        testObserver.awaitTerminalEvent();
 
         testObserver.assertError(TechnicalManagementException.class);
         testObserver.assertNotComplete();
@@ -400,6 +472,7 @@ public class ClientServiceTest {
 
         TestObserver<Client> testObserver = new TestObserver<>();
         clientService.create(DOMAIN, newClient).subscribe(testObserver);
+        testObserver.awaitTerminalEvent();
 
         testObserver.assertError(ClientAlreadyExistsException.class);
         testObserver.assertNotComplete();
@@ -411,6 +484,7 @@ public class ClientServiceTest {
     @Test
     public void create_failWithNoDomain() {
         TestObserver testObserver = clientService.create(new Client()).test();
+        testObserver.awaitTerminalEvent();
         testObserver.assertNotComplete();
         testObserver.assertError(InvalidClientMetadataException.class);
     }
@@ -436,6 +510,7 @@ public class ClientServiceTest {
         verify(clientRepository, times(1)).create(captor.capture());
         Assert.assertTrue("client_id must be generated",captor.getValue().getClientId()!=null);
         Assert.assertTrue("client_secret must be generated",captor.getValue().getClientSecret()!=null);
+        Assert.assertTrue("client_secret must be hashed",clientSecretEncoder.isEncoded(captor.getValue().getClientSecret()));
     }
 
     @Test
@@ -468,6 +543,7 @@ public class ClientServiceTest {
         when(clientRepository.findById("my-client")).thenReturn(Maybe.error(TechnicalException::new));
 
         TestObserver testObserver = clientService.update(DOMAIN, "my-client", updateClient).test();
+        testObserver.awaitTerminalEvent();
         testObserver.assertError(TechnicalManagementException.class);
         testObserver.assertNotComplete();
 
@@ -484,6 +560,7 @@ public class ClientServiceTest {
         when(scopeService.validateScope(DOMAIN,Collections.emptyList())).thenReturn(Single.just(true));
 
         TestObserver testObserver = clientService.update(DOMAIN, "my-client", updateClient).test();
+        testObserver.awaitTerminalEvent();
         testObserver.assertError(TechnicalManagementException.class);
         testObserver.assertNotComplete();
 
@@ -499,6 +576,7 @@ public class ClientServiceTest {
         when(identityProviderService.findById(anyString())).thenReturn(Maybe.error(TechnicalException::new));
 
         TestObserver testObserver = clientService.update(DOMAIN, "my-client", updateClient).test();
+        testObserver.awaitTerminalEvent();
         testObserver.assertError(TechnicalManagementException.class);
         testObserver.assertNotComplete();
 
@@ -512,6 +590,7 @@ public class ClientServiceTest {
         when(clientRepository.findById("my-client")).thenReturn(Maybe.empty());
 
         TestObserver testObserver = clientService.update(DOMAIN, "my-client", updateClient).test();
+        testObserver.awaitTerminalEvent();
 
         testObserver.assertError(ClientNotFoundException.class);
         testObserver.assertNotComplete();
@@ -523,6 +602,7 @@ public class ClientServiceTest {
     @Test
     public void update_failWithNoDomain() {
         TestObserver testObserver = clientService.update(new Client()).test();
+        testObserver.awaitTerminalEvent();
         testObserver.assertNotComplete();
         testObserver.assertError(InvalidClientMetadataException.class);
     }
@@ -659,6 +739,7 @@ public class ClientServiceTest {
         when(clientRepository.findById("my-client")).thenReturn(Maybe.just(new Client()));
 
         TestObserver testObserver = clientService.update(DOMAIN, "my-client", updateClient).test();
+        testObserver.awaitTerminalEvent();
         testObserver.assertError(InvalidRedirectUriException.class);
         testObserver.assertNotComplete();
 
@@ -674,6 +755,7 @@ public class ClientServiceTest {
         when(clientRepository.findById("my-client")).thenReturn(Maybe.just(new Client()));
 
         TestObserver testObserver = clientService.update(DOMAIN, "my-client", updateClient).test();
+        testObserver.awaitTerminalEvent();
         testObserver.assertError(InvalidRedirectUriException.class);
         testObserver.assertNotComplete();
 
@@ -689,6 +771,7 @@ public class ClientServiceTest {
         when(clientRepository.findById("my-client")).thenReturn(Maybe.just(new Client()));
 
         TestObserver testObserver = clientService.update(DOMAIN, "my-client", updateClient).test();
+        testObserver.awaitTerminalEvent();
         testObserver.assertError(InvalidRedirectUriException.class);
         testObserver.assertNotComplete();
 
@@ -704,6 +787,7 @@ public class ClientServiceTest {
         when(scopeService.validateScope(DOMAIN,Collections.emptyList())).thenReturn(Single.just(false));
 
         TestObserver testObserver = clientService.update(DOMAIN, "my-client", updateClient).test();
+        testObserver.awaitTerminalEvent();
         testObserver.assertError(InvalidClientMetadataException.class);
         testObserver.assertNotComplete();
 
@@ -735,16 +819,50 @@ public class ClientServiceTest {
     public void shouldRenewSecret() {
         when(domainService.reload(eq(DOMAIN), any())).thenReturn(Single.just(new Domain()));
         when(clientRepository.findById("my-client")).thenReturn(Maybe.just(new Client()));
+        Client stored = new Client();
+        when(clientRepository.update(any(Client.class))).thenAnswer(invocation -> {
+            Client updated = (Client) invocation.getArguments()[0];
+            stored.setClientSecret(updated.getClientSecret());
+            return Single.just(stored);
+        });
+
+        TestObserver<Client> testObserver = clientService.renewClientSecret(DOMAIN, "my-client").test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+
+        ArgumentCaptor<Client> captor = ArgumentCaptor.forClass(Client.class);
+        verify(clientRepository, times(1)).findById(anyString());
+        verify(clientRepository, times(1)).update(captor.capture());
+        String storedSecret = captor.getValue().getClientSecret();
+        Assert.assertTrue(clientSecretEncoder.isEncoded(storedSecret));
+        testObserver.assertValue(client -> clientSecretEncoder.matches(client.getClientSecret(), storedSecret));
+        // the plain secret is returned on a copy, the stored client keeps the hash
+        testObserver.assertValue(client -> client != stored);
+        Assert.assertEquals(storedSecret, stored.getClientSecret());
+    }
+
+    @Test
+    public void shouldPatch_hashPlainTextSecret() {
+        Client client = new Client();
+        client.setClientSecret("my-client-secret");
+        when(domainService.findById(DOMAIN)).thenReturn(Maybe.just(new Domain()));
+        when(domainService.reload(eq(DOMAIN), any())).thenReturn(Single.just(new Domain()));
+        when(clientRepository.findById("my-client")).thenReturn(Maybe.just(client));
         when(clientRepository.update(any(Client.class))).thenReturn(Single.just(new Client()));
+        when(scopeService.validateScope(DOMAIN, null)).thenReturn(Single.just(true));
 
-        TestObserver testObserver = clientService.renewClientSecret(DOMAIN, "my-client").test();
+        TestObserver testObserver = clientService.patch(DOMAIN, "my-client", new PatchClient()).test();
         testObserver.awaitTerminalEvent();
 
         testObserver.assertComplete();
         testObserver.assertNoErrors();
 
-        verify(clientRepository, times(1)).findById(anyString());
-        verify(clientRepository, times(1)).update(any(Client.class));
+        ArgumentCaptor<Client> captor = ArgumentCaptor.forClass(Client.class);
+        verify(clientRepository, times(1)).update(captor.capture());
+        Assert.assertTrue(clientSecretEncoder.matches("my-client-secret", captor.getValue().getClientSecret()));
+        Assert.assertTrue(clientSecretEncoder.isEncoded(captor.getValue().getClientSecret()));
     }
 
     @Test
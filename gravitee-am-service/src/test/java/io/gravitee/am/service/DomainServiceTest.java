@@ -16,9 +16,16 @@
 package io.gravitee.am.service;
 
 import io.gravitee.am.model.*;
+import io.gravitee.am.model.common.event.Action;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.model.common.event.Type;
 import io.gravitee.am.model.oauth2.Scope;
 import io.gravitee.am.repository.exceptions.TechnicalException;
-import io.gravitee.am.repository.management.api.DomainRepository;
+import io.gravitee.am.repository.management.api.*;
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
+import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
 import io.gravitee.am.service.exception.DomainAlreadyExistsException;
 import io.gravitee.am.service.exception.DomainDeleteMasterException;
 import io.gravitee.am.service.exception.DomainNotFoundException;
@@ -34,6 +41,7 @@ import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -41,7 +49,6 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
 
 import static org.mockito.Matchers.anyString;
@@ -55,15 +62,6 @@ import static org.mockito.Mockito.*;
 public class DomainServiceTest {
 
     private static final String DOMAIN_ID = "id-domain";
-    private static final String IDP_ID = "id-idp";
-    private static final String CERTIFICATE_ID = "id-certificate";
-    private static final String EXTENSION_GRANT_ID = "id-extension-grant";
-    private static final String ROLE_ID = "id-role";
-    private static final String USER_ID = "id-user";
-    private static final String SCOPE_ID = "id-scope";
-    private static final String GROUP_ID = "id-group";
-    private static final String FORM_ID = "id-form";
-    private static final String EMAIL_ID = "id-email";
 
     @InjectMocks
     private DomainService domainService = new DomainServiceImpl();
@@ -72,65 +70,52 @@ public class DomainServiceTest {
     private Domain domain;
 
     @Mock
-    private Certificate certificate;
-
-    @Mock
-    private IdentityProvider identityProvider;
-
-    @Mock
-    private ExtensionGrant extensionGrant;
-
-    @Mock
-    private Role role;
-
-    @Mock
-    private User user;
+    private DomainRepository domainRepository;
 
     @Mock
-    private Scope scope;
+    private ClientRepository clientRepository;
 
     @Mock
-    private Group group;
+    private CertificateRepository certificateRepository;
 
     @Mock
-    private Form form;
+    private IdentityProviderRepository identityProviderRepository;
 
     @Mock
-    private Email email;
+    private ExtensionGrantRepository extensionGrantRepository;
 
     @Mock
-    private DomainRepository domainRepository;
+    private UserRepository userRepository;
 
     @Mock
-    private ClientService clientService;
+    private RoleRepository roleRepository;
 
     @Mock
-    private CertificateService certificateService;
+    private ScopeService scopeService;
 
     @Mock
-    private IdentityProviderService identityProviderService;
+    private EventService eventService;
 
     @Mock
-    private ExtensionGrantService extensionGrantService;
+    private ScopeRepository scopeRepository;
 
     @Mock
-    private UserService userService;
+    private GroupRepository groupRepository;
 
     @Mock
-    private RoleService roleService;
+    private FormRepository formRepository;
 
     @Mock
-    private ScopeService scopeService;
+    private EmailRepository emailRepository;
 
     @Mock
-    private GroupService groupService;
+    private AccessTokenRepository accessTokenRepository;
 
     @Mock
-    private FormService formService;
+    private RefreshTokenRepository refreshTokenRepository;
 
     @Mock
-    private EmailTemplateService emailTemplateService;
-
+    private ScopeApprovalRepository scopeApprovalRepository;
 
     @Test
     public void shouldFindById() {
@@ -372,49 +357,22 @@ public class DomainServiceTest {
 
     @Test
     public void shouldDelete() {
-        Client mockClient1 = new Client();
-        mockClient1.setId("client-1");
-        mockClient1.setClientId("client-1");
-
-        Client mockClient2 = new Client();
-        mockClient2.setId("client-2");
-        mockClient2.setClientId("client-2");
-
-        Set<Client> mockClients = new HashSet<>();
-        mockClients.add(mockClient1);
-        mockClients.add(mockClient2);
-
         when(domainRepository.findById(DOMAIN_ID)).thenReturn(Maybe.just(domain));
+        when(domainRepository.update(domain)).thenReturn(Single.just(domain));
         when(domainRepository.delete(DOMAIN_ID)).thenReturn(Completable.complete());
-        when(clientService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(mockClients));
-        when(clientService.delete(anyString())).thenReturn(Completable.complete());
-        when(certificate.getId()).thenReturn(CERTIFICATE_ID);
-        when(certificateService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.singletonList(certificate)));
-        when(certificateService.delete(anyString())).thenReturn(Completable.complete());
-        when(identityProvider.getId()).thenReturn(IDP_ID);
-        when(identityProviderService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.singletonList(identityProvider)));
-        when(identityProviderService.delete(eq(DOMAIN_ID), anyString())).thenReturn(Completable.complete());
-        when(extensionGrant.getId()).thenReturn(EXTENSION_GRANT_ID);
-        when(extensionGrantService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.singletonList(extensionGrant)));
-        when(extensionGrantService.delete(eq(DOMAIN_ID), anyString())).thenReturn(Completable.complete());
-        when(role.getId()).thenReturn(ROLE_ID);
-        when(roleService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.singleton(role)));
-        when(roleService.delete(anyString())).thenReturn(Completable.complete());
-        when(user.getId()).thenReturn(USER_ID);
-        when(userService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.singleton(user)));
-        when(userService.delete(anyString())).thenReturn(Completable.complete());
-        when(scope.getId()).thenReturn(SCOPE_ID);
-        when(scopeService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.singleton(scope)));
-        when(scopeService.delete(SCOPE_ID, true)).thenReturn(Completable.complete());
-        when(group.getId()).thenReturn(GROUP_ID);
-        when(groupService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.singletonList(group)));
-        when(groupService.delete(anyString())).thenReturn(Completable.complete());
-        when(form.getId()).thenReturn(FORM_ID);
-        when(formService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.singletonList(form)));
-        when(formService.delete(anyString())).thenReturn(Completable.complete());
-        when(email.getId()).thenReturn(EMAIL_ID);
-        when(emailTemplateService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.singletonList(email)));
-        when(emailTemplateService.delete(anyString())).thenReturn(Completable.complete());
+        when(accessTokenRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(refreshTokenRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(scopeApprovalRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(clientRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(certificateRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(identityProviderRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(extensionGrantRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(roleRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(userRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(groupRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(scopeRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(formRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(emailRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
 
         TestObserver testObserver = domainService.delete(DOMAIN_ID).test();
         testObserver.awaitTerminalEvent();
@@ -422,48 +380,29 @@ public class DomainServiceTest {
         testObserver.assertNoErrors();
         testObserver.assertComplete();
 
-        verify(clientService, times(2)).delete(anyString());
-        verify(certificateService, times(1)).delete(CERTIFICATE_ID);
-        verify(identityProviderService, times(1)).delete(DOMAIN_ID, IDP_ID);
-        verify(extensionGrantService, times(1)).delete(DOMAIN_ID, EXTENSION_GRANT_ID);
-        verify(roleService, times(1)).delete(ROLE_ID);
-        verify(userService, times(1)).delete(USER_ID);
-        verify(scopeService, times(1)).delete(SCOPE_ID, true);
-        verify(groupService, times(1)).delete(GROUP_ID);
-        verify(formService, times(1)).delete(FORM_ID);
-        verify(emailTemplateService, times(1)).delete(EMAIL_ID);
-    }
-
-    @Test
-    public void shouldDeleteWithoutRelatedData() {
-        when(domainRepository.findById(DOMAIN_ID)).thenReturn(Maybe.just(domain));
-        when(domainRepository.delete(DOMAIN_ID)).thenReturn(Completable.complete());
-        when(clientService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.emptySet()));
-        when(certificateService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.emptyList()));
-        when(identityProviderService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.emptyList()));
-        when(extensionGrantService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.emptyList()));
-        when(roleService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.emptySet()));
-        when(userService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.emptySet()));
-        when(scopeService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.emptySet()));
-        when(groupService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.emptyList()));
-        when(formService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.emptyList()));
-        when(emailTemplateService.findByDomain(DOMAIN_ID)).thenReturn(Single.just(Collections.emptyList()));
-
-        TestObserver testObserver = domainService.delete(DOMAIN_ID).test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-
-        verify(clientService, never()).delete(anyString());
-        verify(certificateService, never()).delete(anyString());
-        verify(identityProviderService, never()).delete(anyString(), anyString());
-        verify(extensionGrantService, never()).delete(anyString(), anyString());
-        verify(roleService, never()).delete(anyString());
-        verify(userService, never()).delete(anyString());
-        verify(scopeService, never()).delete(anyString(), anyBoolean());
-        verify(formService, never()).delete(anyString());
-        verify(emailTemplateService, never()).delete(anyString());
+        // domain is undeployed with a single event before its content is removed
+        InOrder inOrder = inOrder(domain, domainRepository, userRepository);
+        inOrder.verify(domain).setEnabled(false);
+        inOrder.verify(domainRepository, times(1)).update(domain);
+        inOrder.verify(userRepository, times(1)).deleteByDomain(DOMAIN_ID);
+        inOrder.verify(domainRepository, times(1)).delete(DOMAIN_ID);
+
+        verify(accessTokenRepository, times(1)).deleteByDomain(DOMAIN_ID);
+        verify(refreshTokenRepository, times(1)).deleteByDomain(DOMAIN_ID);
+        verify(scopeApprovalRepository, times(1)).deleteByDomain(DOMAIN_ID);
+        verify(clientRepository, times(1)).deleteByDomain(DOMAIN_ID);
+        verify(certificateRepository, times(1)).deleteByDomain(DOMAIN_ID);
+        verify(identityProviderRepository, times(1)).deleteByDomain(DOMAIN_ID);
+        verify(extensionGrantRepository, times(1)).deleteByDomain(DOMAIN_ID);
+        verify(roleRepository, times(1)).deleteByDomain(DOMAIN_ID);
+        verify(groupRepository, times(1)).deleteByDomain(DOMAIN_ID);
+        verify(scopeRepository, times(1)).deleteByDomain(DOMAIN_ID);
+        verify(formRepository, times(1)).deleteByDomain(DOMAIN_ID);
+        verify(emailRepository, times(1)).deleteByDomain(DOMAIN_ID);
+        verify(clientRepository, never()).findByDomain(DOMAIN_ID);
+        verify(userRepository, never()).findByDomain(DOMAIN_ID);
+        verify(clientRepository, never()).delete(anyString());
+        verify(userRepository, never()).delete(anyString());
     }
 
     @Test
@@ -499,7 +438,20 @@ public class DomainServiceTest {
     @Test
     public void shouldDelete2_technicalException() {
         when(domainRepository.findById(DOMAIN_ID)).thenReturn(Maybe.just(domain));
-        when(clientService.findByDomain(DOMAIN_ID)).thenReturn(Single.error(TechnicalException::new));
+        when(domainRepository.update(domain)).thenReturn(Single.just(domain));
+        when(accessTokenRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(refreshTokenRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(scopeApprovalRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(clientRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.error(TechnicalException::new));
+        when(certificateRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(identityProviderRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(extensionGrantRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(roleRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(userRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(groupRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(scopeRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(formRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
+        when(emailRepository.deleteByDomain(DOMAIN_ID)).thenReturn(Completable.complete());
 
         TestObserver testObserver = domainService.delete(DOMAIN_ID).test();
 
@@ -585,16 +537,18 @@ public class DomainServiceTest {
 
     @Test
     public void shouldReload() {
+        Event event = new Event(Type.CLIENT, new Payload("client-id", DOMAIN_ID, Action.UPDATE));
         when(domainRepository.findById(DOMAIN_ID)).thenReturn(Maybe.just(new Domain()));
-        when(domainRepository.update(any(Domain.class))).thenReturn(Single.just(new Domain()));
+        when(eventService.create(event)).thenReturn(Completable.complete());
 
-        TestObserver testObserver = domainService.reload(DOMAIN_ID, any()).test();
+        TestObserver testObserver = domainService.reload(DOMAIN_ID, event).test();
         testObserver.awaitTerminalEvent();
 
         testObserver.assertComplete();
         testObserver.assertNoErrors();
 
-        verify(domainRepository, times(1)).update(any(Domain.class));
+        verify(eventService, times(1)).create(event);
+        verify(domainRepository, never()).update(any(Domain.class));
     }
 
     @Test
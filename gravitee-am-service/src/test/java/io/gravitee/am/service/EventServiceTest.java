@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service;
+
+import io.gravitee.am.model.common.event.Action;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.model.common.event.Type;
+import io.gravitee.am.repository.exceptions.TechnicalException;
+import io.gravitee.am.repository.management.api.EventRepository;
+import io.gravitee.am.service.impl.EventServiceImpl;
+import io.reactivex.Completable;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EventServiceTest {
+
+    @InjectMocks
+    private EventServiceImpl eventService = new EventServiceImpl();
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private final static String DOMAIN = "domain1";
+
+    @Before
+    public void setUp() {
+        eventService.afterPropertiesSet();
+    }
+
+    @After
+    public void tearDown() {
+        eventService.destroy();
+    }
+
+    @Test
+    public void shouldCoalesceEvents() {
+        when(eventRepository.create(anyList())).thenAnswer(invocation -> Single.just(invocation.getArguments()[0]));
+
+        Completable first = eventService.create(new Event(Type.CLIENT, new Payload("client-1", DOMAIN, Action.UPDATE)));
+        Completable second = eventService.create(new Event(Type.CLIENT, new Payload("client-2", DOMAIN, Action.UPDATE)));
+        Completable third = eventService.create(new Event(Type.CLIENT, new Payload("client-1", DOMAIN, Action.UPDATE)));
+        TestObserver testObserver = Completable.merge(Arrays.asList(first, second, third)).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+
+        ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventRepository, times(1)).create(captor.capture());
+        List<Event> events = captor.getValue();
+        assertEquals(2, events.size());
+        assertEquals("client-2", events.get(0).getPayload().getId());
+        assertEquals("client-1", events.get(1).getPayload().getId());
+    }
+
+    @Test
+    public void shouldNotCoalesceEvents_differentActions() {
+        when(eventRepository.create(anyList())).thenAnswer(invocation -> Single.just(invocation.getArguments()[0]));
+
+        Completable update = eventService.create(new Event(Type.CLIENT, new Payload("client-1", DOMAIN, Action.UPDATE)));
+        Completable delete = eventService.create(new Event(Type.CLIENT, new Payload("client-1", DOMAIN, Action.DELETE)));
+        TestObserver testObserver = update.mergeWith(delete).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+
+        ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventRepository, times(1)).create(captor.capture());
+        assertEquals(2, captor.getValue().size());
+    }
+
+    @Test
+    public void shouldNotCreate_technicalException() {
+        when(eventRepository.create(anyList())).thenReturn(Single.error(TechnicalException::new));
+
+        TestObserver testObserver = eventService.create(new Event(Type.CLIENT, new Payload("client-1", DOMAIN, Action.UPDATE))).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertError(TechnicalException.class);
+        testObserver.assertNotComplete();
+    }
+}
@@ -37,8 +37,10 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
@@ -106,6 +108,28 @@ public class IdentityProviderServiceTest {
         testObserver.assertValue(identityProviders -> identityProviders.size() == 1);
     }
 
+    @Test
+    public void shouldFindByIdIn() {
+        when(identityProviderRepository.findByIdIn(Arrays.asList("idp-1", "idp-2"))).thenReturn(Single.just(Collections.singleton(new IdentityProvider())));
+        TestObserver<Set<IdentityProvider>> testObserver = identityProviderService.findByIdIn(Arrays.asList("idp-1", "idp-2")).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(identityProviders -> identityProviders.size() == 1);
+    }
+
+    @Test
+    public void shouldFindByIdIn_technicalException() {
+        when(identityProviderRepository.findByIdIn(Arrays.asList("idp-1", "idp-2"))).thenReturn(Single.error(TechnicalException::new));
+
+        TestObserver testObserver = new TestObserver();
+        identityProviderService.findByIdIn(Arrays.asList("idp-1", "idp-2")).subscribe(testObserver);
+
+        testObserver.assertError(TechnicalManagementException.class);
+        testObserver.assertNotComplete();
+    }
+
     @Test
     public void shouldFindByDomain_technicalException() {
         when(identityProviderRepository.findByDomain(DOMAIN)).thenReturn(Single.error(TechnicalException::new));
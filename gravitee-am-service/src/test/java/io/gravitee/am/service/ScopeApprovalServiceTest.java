@@ -17,6 +17,8 @@ package io.gravitee.am.service;
 
 import io.gravitee.am.model.oauth2.ScopeApproval;
 import io.gravitee.am.repository.exceptions.TechnicalException;
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
 import io.gravitee.am.service.exception.TechnicalManagementException;
 import io.gravitee.am.service.impl.ScopeApprovalServiceImpl;
@@ -49,6 +51,12 @@ public class ScopeApprovalServiceTest {
     @Mock
     private ScopeApprovalRepository scopeApprovalRepository;
 
+    @Mock
+    private AccessTokenRepository accessTokenRepository;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
     private final static String DOMAIN = "domain1";
 
     @Test
@@ -147,4 +155,50 @@ public class ScopeApprovalServiceTest {
 
         verify(scopeApprovalRepository, times(1)).delete("my-consent");
     }
+
+    @Test
+    public void shouldRevokeByDomainAndUser() {
+        when(scopeApprovalRepository.deleteByDomainAndUser(DOMAIN, "my-user")).thenReturn(Completable.complete());
+        when(accessTokenRepository.deleteByDomainAndSubject(DOMAIN, "my-user")).thenReturn(Completable.complete());
+        when(refreshTokenRepository.deleteByDomainAndSubject(DOMAIN, "my-user")).thenReturn(Completable.complete());
+
+        TestObserver testObserver = scopeApprovalService.revoke(DOMAIN, "my-user").test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+
+        verify(scopeApprovalRepository, times(1)).deleteByDomainAndUser(DOMAIN, "my-user");
+        verify(accessTokenRepository, times(1)).deleteByDomainAndSubject(DOMAIN, "my-user");
+        verify(refreshTokenRepository, times(1)).deleteByDomainAndSubject(DOMAIN, "my-user");
+    }
+
+    @Test
+    public void shouldRevokeByDomainAndUserAndClient() {
+        when(scopeApprovalRepository.deleteByDomainAndUserAndClient(DOMAIN, "my-user", "my-client")).thenReturn(Completable.complete());
+        when(accessTokenRepository.deleteByDomainClientAndSubject(DOMAIN, "my-client", "my-user")).thenReturn(Completable.complete());
+        when(refreshTokenRepository.deleteByDomainClientAndSubject(DOMAIN, "my-client", "my-user")).thenReturn(Completable.complete());
+
+        TestObserver testObserver = scopeApprovalService.revoke(DOMAIN, "my-user", "my-client").test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+
+        verify(accessTokenRepository, times(1)).deleteByDomainClientAndSubject(DOMAIN, "my-client", "my-user");
+        verify(refreshTokenRepository, times(1)).deleteByDomainClientAndSubject(DOMAIN, "my-client", "my-user");
+        verify(accessTokenRepository, never()).deleteByDomainAndSubject(anyString(), anyString());
+    }
+
+    @Test
+    public void shouldRevokeByDomainAndUser_tokensTechnicalException() {
+        when(scopeApprovalRepository.deleteByDomainAndUser(DOMAIN, "my-user")).thenReturn(Completable.complete());
+        when(accessTokenRepository.deleteByDomainAndSubject(DOMAIN, "my-user")).thenReturn(Completable.error(TechnicalException::new));
+        when(refreshTokenRepository.deleteByDomainAndSubject(DOMAIN, "my-user")).thenReturn(Completable.complete());
+
+        TestObserver testObserver = scopeApprovalService.revoke(DOMAIN, "my-user").test();
+
+        testObserver.assertError(TechnicalManagementException.class);
+        testObserver.assertNotComplete();
+    }
 }
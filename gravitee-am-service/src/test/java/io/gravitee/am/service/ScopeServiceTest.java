@@ -15,18 +15,19 @@
  */
 package io.gravitee.am.service;
 
-import io.gravitee.am.model.Client;
 import io.gravitee.am.model.Domain;
-import io.gravitee.am.model.Role;
+import io.gravitee.am.model.common.event.Action;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Type;
 import io.gravitee.am.model.oauth2.Scope;
 import io.gravitee.am.repository.exceptions.TechnicalException;
+import io.gravitee.am.repository.management.api.ClientRepository;
+import io.gravitee.am.repository.management.api.RoleRepository;
 import io.gravitee.am.repository.management.api.ScopeRepository;
 import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
 import io.gravitee.am.service.exception.*;
 import io.gravitee.am.service.impl.ScopeServiceImpl;
 import io.gravitee.am.service.model.NewScope;
-import io.gravitee.am.service.model.PatchClient;
-import io.gravitee.am.service.model.UpdateRole;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
@@ -41,7 +42,6 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.Set;
 
 import static org.mockito.Matchers.any;
@@ -60,10 +60,10 @@ public class ScopeServiceTest {
     private ScopeService scopeService = new ScopeServiceImpl();
 
     @Mock
-    private RoleService roleService;
+    private RoleRepository roleRepository;
 
     @Mock
-    private ClientService clientService;
+    private ClientRepository clientRepository;
 
     @Mock
     private ScopeRepository scopeRepository;
@@ -226,8 +226,15 @@ public class ScopeServiceTest {
 
     @Test
     public void shouldDelete2_technicalException() {
-        when(scopeRepository.findById("my-scope")).thenReturn(Maybe.just(new Scope()));
-        when(roleService.findByDomain(DOMAIN)).thenReturn(Single.error(TechnicalException::new));
+        Scope scope = new Scope();
+        scope.setDomain(DOMAIN);
+        scope.setKey("my-scope");
+        when(scopeRepository.findById("my-scope")).thenReturn(Maybe.just(scope));
+        when(roleRepository.removePermission(DOMAIN, "my-scope")).thenReturn(Completable.error(TechnicalException::new));
+        when(clientRepository.removeScope(DOMAIN, "my-scope")).thenReturn(Completable.complete());
+        when(scopeApprovalRepository.deleteByDomainAndScopeKey(DOMAIN, "my-scope")).thenReturn(Completable.complete());
+        when(scopeRepository.delete("my-scope")).thenReturn(Completable.complete());
+        when(domainService.reload(any(), any())).thenReturn(Single.just(new Domain()));
 
         TestObserver testObserver = new TestObserver();
         scopeService.delete("my-scope", false).subscribe(testObserver);
@@ -238,9 +245,15 @@ public class ScopeServiceTest {
 
     @Test
     public void shouldDelete3_technicalException() {
-        when(scopeRepository.findById("my-scope")).thenReturn(Maybe.just(new Scope()));
-        when(roleService.findByDomain(DOMAIN)).thenReturn(Single.just(Collections.emptySet()));
-        when(clientService.findByDomain(DOMAIN)).thenReturn(Single.error(TechnicalException::new));
+        Scope scope = new Scope();
+        scope.setDomain(DOMAIN);
+        scope.setKey("my-scope");
+        when(scopeRepository.findById("my-scope")).thenReturn(Maybe.just(scope));
+        when(roleRepository.removePermission(DOMAIN, "my-scope")).thenReturn(Completable.complete());
+        when(clientRepository.removeScope(DOMAIN, "my-scope")).thenReturn(Completable.error(TechnicalException::new));
+        when(scopeApprovalRepository.deleteByDomainAndScopeKey(DOMAIN, "my-scope")).thenReturn(Completable.complete());
+        when(scopeRepository.delete("my-scope")).thenReturn(Completable.complete());
+        when(domainService.reload(any(), any())).thenReturn(Single.just(new Domain()));
 
         TestObserver testObserver = new TestObserver();
         scopeService.delete("my-scope", false).subscribe(testObserver);
@@ -250,49 +263,17 @@ public class ScopeServiceTest {
     }
 
     @Test
-    public void shouldDelete_light() {
-        Scope scope = mock(Scope.class);
-        when(scope.getDomain()).thenReturn(DOMAIN);
-        when(roleService.findByDomain(DOMAIN)).thenReturn(Single.just(Collections.emptySet()));
-        when(clientService.findByDomain(DOMAIN)).thenReturn(Single.just(Collections.emptySet()));
-        when(scopeRepository.findById("my-scope")).thenReturn(Maybe.just(scope));
-        when(scopeRepository.delete("my-scope")).thenReturn(Completable.complete());
-        when(scopeApprovalRepository.deleteByDomainAndScopeKey(scope.getDomain(), scope.getKey())).thenReturn(Completable.complete());
-        when(domainService.reload(any(), any())).thenReturn(Single.just(new Domain()));
-
-        TestObserver testObserver = scopeService.delete("my-scope", false).test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-
-        verify(roleService, times(1)).findByDomain(DOMAIN);
-        verify(clientService, times(1)).findByDomain(DOMAIN);
-        verify(scopeRepository, times(1)).delete("my-scope");
-        verify(domainService, times(1)).reload(any(), any());
-    }
+    public void shouldDelete() {
+        Scope scope = new Scope();
+        scope.setId("my-scope");
+        scope.setDomain(DOMAIN);
+        scope.setKey("my-scope");
 
-    @Test
-    public void shouldDelete_full() {
-        Scope scope = mock(Scope.class);
-        when(scope.getDomain()).thenReturn(DOMAIN);
-        when(scope.getKey()).thenReturn("my-scope");
-
-        Role role = mock(Role.class);
-        when(role.getId()).thenReturn("role-1");
-        when(role.getPermissions()).thenReturn(new LinkedList<>(Arrays.asList("my-scope")));
-
-        Client client = mock(Client.class);
-        when(client.getId()).thenReturn("client-1");
-        when(client.getScopes()).thenReturn(new LinkedList<>(Arrays.asList("my-scope")));
-
-        when(roleService.findByDomain(DOMAIN)).thenReturn(Single.just(Collections.singleton(role)));
-        when(clientService.findByDomain(DOMAIN)).thenReturn(Single.just(Collections.singleton(client)));
-        when(roleService.update(anyString(), anyString(), any(UpdateRole.class))).thenReturn(Single.just(new Role()));
-        when(clientService.patch(anyString(),anyString(),any(PatchClient.class))).thenReturn(Single.just(new Client()));
         when(scopeRepository.findById("my-scope")).thenReturn(Maybe.just(scope));
+        when(roleRepository.removePermission(DOMAIN, "my-scope")).thenReturn(Completable.complete());
+        when(clientRepository.removeScope(DOMAIN, "my-scope")).thenReturn(Completable.complete());
+        when(scopeApprovalRepository.deleteByDomainAndScopeKey(DOMAIN, "my-scope")).thenReturn(Completable.complete());
         when(scopeRepository.delete("my-scope")).thenReturn(Completable.complete());
-        when(scopeApprovalRepository.deleteByDomainAndScopeKey(scope.getDomain(), scope.getKey())).thenReturn(Completable.complete());
         when(domainService.reload(any(), any())).thenReturn(Single.just(new Domain()));
 
         TestObserver testObserver = scopeService.delete("my-scope", false).test();
@@ -301,12 +282,18 @@ public class ScopeServiceTest {
         testObserver.assertComplete();
         testObserver.assertNoErrors();
 
-        verify(roleService, times(1)).findByDomain(DOMAIN);
-        verify(clientService, times(1)).findByDomain(DOMAIN);
-        verify(roleService, times(1)).update(anyString(), anyString(), any(UpdateRole.class));
-        verify(clientService, times(1)).patch(anyString(), anyString(), any(PatchClient.class));
+        verify(roleRepository, times(1)).removePermission(DOMAIN, "my-scope");
+        verify(clientRepository, times(1)).removeScope(DOMAIN, "my-scope");
+        verify(scopeApprovalRepository, times(1)).deleteByDomainAndScopeKey(DOMAIN, "my-scope");
         verify(scopeRepository, times(1)).delete("my-scope");
-        verify(domainService, times(1)).reload(any(), any());
+        verify(domainService, times(1)).reload(eq(DOMAIN), argThat(new ArgumentMatcher<Event>() {
+            @Override
+            public boolean matches(Object argument) {
+                Event event = (Event) argument;
+                return Type.SCOPE.equals(event.getType()) && Action.DELETE.equals(event.getPayload().getAction());
+            }
+        }));
+        verifyNoMoreInteractions(domainService);
     }
 
     @Test
@@ -15,7 +15,6 @@
  */
 package io.gravitee.am.service;
 
-import io.gravitee.am.model.Client;
 import io.gravitee.am.repository.exceptions.TechnicalException;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.service.exception.TechnicalManagementException;
@@ -29,10 +28,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
-
 import static org.mockito.Mockito.when;
 
 /**
@@ -48,24 +43,11 @@ public class TokenServiceTest {
     @Mock
     private AccessTokenRepository accessTokenRepository;
 
-    @Mock
-    private ClientService clientService;
-
     private final static String DOMAIN = "domain1";
 
     @Test
     public void shouldFindTotalTokensByDomain() {
-        Client client1 = new Client();
-        client1.setId("client1");
-        client1.setClientId(client1.getId());
-        Client client2 = new Client();
-        client2.setId("client2");
-        client2.setClientId(client2.getId());
-        Set<Client> clients = new HashSet<>(Arrays.asList(client1, client2));
-
-        when(clientService.findByDomain(DOMAIN)).thenReturn(Single.just(clients));
-        when(accessTokenRepository.countByClientId("client1")).thenReturn(Single.just(2l));
-        when(accessTokenRepository.countByClientId("client2")).thenReturn(Single.just(1l));
+        when(accessTokenRepository.countByDomain(DOMAIN)).thenReturn(Single.just(3l));
 
         TestObserver<TotalToken> testObserver = tokenService.findTotalTokensByDomain(DOMAIN).test();
         testObserver.awaitTerminalEvent();
@@ -77,7 +59,7 @@ public class TokenServiceTest {
 
     @Test
     public void shouldFindTotalTokensByDomain_technicalException() {
-        when(clientService.findByDomain(DOMAIN)).thenReturn(Single.error(TechnicalException::new));
+        when(accessTokenRepository.countByDomain(DOMAIN)).thenReturn(Single.error(TechnicalException::new));
 
         TestObserver<TotalToken> testObserver = tokenService.findTotalTokensByDomain(DOMAIN).test();
 
@@ -85,34 +67,9 @@ public class TokenServiceTest {
         testObserver.assertNotComplete();
     }
 
-    @Test
-    public void shouldFindTotalTokensByDomain2_technicalException() {
-        Client client1 = new Client();
-        client1.setClientId("client1");
-        Client client2 = new Client();
-        client2.setClientId("client2");
-        Set<Client> clients = new HashSet<>(Arrays.asList(client1, client2));
-        when(clientService.findByDomain(DOMAIN)).thenReturn(Single.just(clients));
-        when(accessTokenRepository.countByClientId("client1")).thenReturn(Single.error(TechnicalException::new));
-
-        TestObserver<TotalToken> testObserver = tokenService.findTotalTokensByDomain(DOMAIN).test();
-        testObserver.assertError(TechnicalManagementException.class);
-        testObserver.assertNotComplete();
-    }
-
     @Test
     public void shouldFindTotalTokens() {
-        Client client1 = new Client();
-        client1.setId("client1");
-        client1.setClientId(client1.getId());
-        Client client2 = new Client();
-        client2.setId("client2");
-        client2.setClientId(client2.getId());
-        Set<Client> clients = new HashSet<>(Arrays.asList(client1, client2));
-
-        when(clientService.findAll()).thenReturn(Single.just(clients));
-        when(accessTokenRepository.countByClientId("client1")).thenReturn(Single.just(2l));
-        when(accessTokenRepository.countByClientId("client2")).thenReturn(Single.just(1l));
+        when(accessTokenRepository.count()).thenReturn(Single.just(3l));
 
         TestObserver<TotalToken> testObserver = tokenService.findTotalTokens().test();
         testObserver.awaitTerminalEvent();
@@ -124,7 +81,7 @@ public class TokenServiceTest {
 
     @Test
     public void shouldFindTotalTokens_technicalException() {
-        when(clientService.findAll()).thenReturn(Single.error(TechnicalException::new));
+        when(accessTokenRepository.count()).thenReturn(Single.error(TechnicalException::new));
 
         TestObserver<TotalToken> testObserver = tokenService.findTotalTokens().test();
 
@@ -132,19 +89,4 @@ public class TokenServiceTest {
         testObserver.assertNotComplete();
     }
 
-    @Test
-    public void shouldFindTotalTokens2_technicalException() {
-        Client client1 = new Client();
-        client1.setClientId("client1");
-        Client client2 = new Client();
-        client2.setClientId("client2");
-        Set<Client> clients = new HashSet<>(Arrays.asList(client1, client2));
-        when(clientService.findAll()).thenReturn(Single.just(clients));
-        when(accessTokenRepository.countByClientId("client1")).thenReturn(Single.error(TechnicalException::new));
-
-        TestObserver<TotalToken> testObserver = tokenService.findTotalTokens().test();
-        testObserver.assertError(TechnicalManagementException.class);
-        testObserver.assertNotComplete();
-    }
-
 }
@@ -19,6 +19,7 @@ import io.gravitee.am.model.User;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.repository.exceptions.TechnicalException;
 import io.gravitee.am.repository.management.api.UserRepository;
+import io.gravitee.am.service.exception.InvalidCursorException;
 import io.gravitee.am.service.exception.TechnicalManagementException;
 import io.gravitee.am.service.exception.UserAlreadyExistsException;
 import io.gravitee.am.service.exception.UserNotFoundException;
@@ -133,6 +134,97 @@ public class UserServiceTest {
         testObserver.assertNotComplete();
     }
 
+    @Test
+    public void shouldFindByDomainCursor() {
+        User user = new User();
+        user.setId("user-id-2");
+        user.setUsername("user-2");
+        when(userRepository.findByDomain(DOMAIN, null, null, 1)).thenReturn(Single.just(Collections.singletonList(user)));
+        when(userRepository.countByDomain(DOMAIN)).thenReturn(Single.just(2L));
+        TestObserver<Page<User>> testObserver = userService.findByDomain(DOMAIN, "", 1).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(users -> users.getData().size() == 1 && users.getTotalCount() == 2L && users.getNextCursor() != null);
+        verify(userRepository, never()).findByDomain(anyString(), anyInt(), anyInt());
+
+        // the next cursor designates the last user of the page
+        String nextCursor = testObserver.values().get(0).getNextCursor();
+        when(userRepository.findByDomain(DOMAIN, "user-2", "user-id-2", 1)).thenReturn(Single.just(Collections.emptyList()));
+        TestObserver<Page<User>> testObserver2 = userService.findByDomain(DOMAIN, nextCursor, 1).test();
+        testObserver2.awaitTerminalEvent();
+
+        testObserver2.assertComplete();
+        testObserver2.assertValue(users -> users.getData().isEmpty() && users.getNextCursor() == null);
+    }
+
+    @Test
+    public void shouldFindByDomainCursor_lastPage() {
+        when(userRepository.findByDomain(DOMAIN, null, null, 2)).thenReturn(Single.just(Collections.singletonList(new User())));
+        when(userRepository.countByDomain(DOMAIN)).thenReturn(Single.just(1L));
+        TestObserver<Page<User>> testObserver = userService.findByDomain(DOMAIN, "", 2).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertValue(users -> users.getData().size() == 1 && users.getNextCursor() == null);
+    }
+
+    @Test
+    public void shouldNotFindByDomainCursor_invalidCursor() {
+        TestObserver testObserver = userService.findByDomain(DOMAIN, "user-1", 1).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertError(InvalidCursorException.class);
+        verify(userRepository, never()).findByDomain(anyString(), anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    public void shouldFindByDomainCursor_cachedCount() {
+        when(userRepository.findByDomain(eq(DOMAIN), any(), any(), anyInt())).thenReturn(Single.just(Collections.singletonList(new User())));
+        when(userRepository.countByDomain(DOMAIN)).thenReturn(Single.just(2L));
+
+        userService.findByDomain(DOMAIN, "", 2).test().awaitTerminalEvent();
+        TestObserver<Page<User>> testObserver = userService.findByDomain(DOMAIN, "", 2).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertValue(users -> users.getTotalCount() == 2L);
+        verify(userRepository, times(1)).countByDomain(DOMAIN);
+    }
+
+    @Test
+    public void shouldFindByDomainCursor_countEvictedOnCreate() {
+        NewUser newUser = Mockito.mock(NewUser.class);
+        when(newUser.getUsername()).thenReturn("username");
+        when(newUser.getSource()).thenReturn("source");
+        when(userRepository.create(any(User.class))).thenReturn(Single.just(new User()));
+        when(userRepository.findByDomainAndUsernameAndSource(DOMAIN, newUser.getUsername(), newUser.getSource())).thenReturn(Maybe.empty());
+        when(userRepository.findByDomain(eq(DOMAIN), any(), any(), anyInt())).thenReturn(Single.just(Collections.singletonList(new User())));
+        when(userRepository.countByDomain(DOMAIN)).thenReturn(Single.just(1L), Single.just(2L));
+
+        userService.findByDomain(DOMAIN, "", 2).test().awaitTerminalEvent();
+        userService.create(DOMAIN, newUser).test().awaitTerminalEvent();
+        TestObserver<Page<User>> testObserver = userService.findByDomain(DOMAIN, "", 2).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertValue(users -> users.getTotalCount() == 2L);
+        verify(userRepository, times(2)).countByDomain(DOMAIN);
+    }
+
+    @Test
+    public void shouldFindByDomainCursor_technicalException() {
+        when(userRepository.findByDomain(DOMAIN, null, null, 1)).thenReturn(Single.error(TechnicalException::new));
+        when(userRepository.countByDomain(DOMAIN)).thenReturn(Single.just(2L));
+
+        TestObserver testObserver = new TestObserver<>();
+        userService.findByDomain(DOMAIN, "", 1).subscribe(testObserver);
+
+        testObserver.assertError(TechnicalManagementException.class);
+        testObserver.assertNotComplete();
+    }
+
     @Test
     public void shouldLoadUserByUsernameAndDomain() {
         when(userRepository.findByUsernameAndDomain(DOMAIN, "my-user")).thenReturn(Maybe.just(new User()));
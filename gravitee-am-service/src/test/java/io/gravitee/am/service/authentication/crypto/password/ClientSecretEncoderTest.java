@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.authentication.crypto.password;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ClientSecretEncoderTest {
+
+    @Test
+    public void testEncode_bcrypt() {
+        assertEncoded(new ClientSecretEncoder(ClientSecretEncoder.BCRYPT), "{bcrypt}");
+    }
+
+    @Test
+    public void testEncode_pbkdf2() {
+        assertEncoded(new ClientSecretEncoder(ClientSecretEncoder.PBKDF2), "{pbkdf2}");
+    }
+
+    @Test
+    public void testEncode_hmacSha256() {
+        assertEncoded(new ClientSecretEncoder(ClientSecretEncoder.HMAC_SHA256), "{hmac-sha256}");
+    }
+
+    @Test
+    public void testEncode_none() {
+        ClientSecretEncoder clientSecretEncoder = new ClientSecretEncoder(ClientSecretEncoder.NONE);
+
+        Assert.assertEquals("my-client-secret", clientSecretEncoder.encode("my-client-secret"));
+        Assert.assertFalse(clientSecretEncoder.isEncoded("my-client-secret"));
+    }
+
+    @Test
+    public void testMatches_plainTextSecret() {
+        ClientSecretEncoder clientSecretEncoder = new ClientSecretEncoder();
+
+        Assert.assertTrue(clientSecretEncoder.matches("my-client-secret", "my-client-secret"));
+        Assert.assertFalse(clientSecretEncoder.matches("my-other-client-secret", "my-client-secret"));
+        Assert.assertFalse(clientSecretEncoder.matches(null, "my-client-secret"));
+    }
+
+    @Test
+    public void testMatches_afterAlgorithmChange() {
+        String encodedSecret = new ClientSecretEncoder(ClientSecretEncoder.PBKDF2).encode("my-client-secret");
+
+        Assert.assertTrue(new ClientSecretEncoder(ClientSecretEncoder.HMAC_SHA256).matches("my-client-secret", encodedSecret));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedAlgorithm() {
+        new ClientSecretEncoder("md5");
+    }
+
+    private void assertEncoded(ClientSecretEncoder clientSecretEncoder, String prefix) {
+        String encodedSecret = clientSecretEncoder.encode("my-client-secret");
+
+        Assert.assertTrue(encodedSecret.startsWith(prefix));
+        Assert.assertTrue(clientSecretEncoder.isEncoded(encodedSecret));
+        Assert.assertNotEquals(encodedSecret, clientSecretEncoder.encode("my-client-secret"));
+        Assert.assertTrue(clientSecretEncoder.matches("my-client-secret", encodedSecret));
+        Assert.assertFalse(clientSecretEncoder.matches("my-other-client-secret", encodedSecret));
+    }
+}
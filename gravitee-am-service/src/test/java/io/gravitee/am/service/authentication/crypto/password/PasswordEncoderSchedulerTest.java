@@ -0,0 +1,85 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.authentication.crypto.password;
+
+import io.gravitee.am.service.exception.ServiceUnavailableException;
+import io.reactivex.observers.TestObserver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class PasswordEncoderSchedulerTest {
+
+    private PasswordEncoderScheduler scheduler;
+
+    @After
+    public void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldRunOnWorkerThread() {
+        scheduler = new PasswordEncoderScheduler(1, 10);
+
+        TestObserver<String> testObserver = scheduler.submit(() -> Thread.currentThread().getName()).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertValue("gio-am-password-1");
+    }
+
+    @Test
+    public void shouldPropagateError() {
+        scheduler = new PasswordEncoderScheduler(1, 10);
+
+        TestObserver<Boolean> testObserver = scheduler.<Boolean>submit(() -> {
+            throw new IllegalArgumentException("Encoded password does not look like BCrypt");
+        }).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertError(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldFailFast_queueFull() throws Exception {
+        scheduler = new PasswordEncoderScheduler(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+
+        // occupy the single worker then the single queue slot
+        TestObserver<Boolean> first = scheduler.submit(() -> {
+            running.countDown();
+            return release.await(10, TimeUnit.SECONDS);
+        }).test();
+        running.await(10, TimeUnit.SECONDS);
+        TestObserver<Boolean> second = scheduler.submit(() -> true).test();
+        Assert.assertEquals(1, scheduler.getQueueDepth());
+
+        TestObserver<Boolean> rejected = scheduler.submit(() -> true).test();
+        rejected.assertError(ServiceUnavailableException.class);
+
+        release.countDown();
+        first.awaitTerminalEvent();
+        first.assertValue(true);
+        second.awaitTerminalEvent();
+        second.assertValue(true);
+    }
+}
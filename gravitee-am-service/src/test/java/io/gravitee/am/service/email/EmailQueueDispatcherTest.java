@@ -0,0 +1,246 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.email;
+
+import io.gravitee.am.model.QueuedEmail;
+import io.gravitee.am.repository.management.api.EmailQueueRepository;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EmailQueueDispatcherTest {
+
+    private static final String DOMAIN = "domain";
+
+    @Mock
+    private EmailQueueRepository emailQueueRepository;
+
+    @Mock
+    private EmailQueueDispatcher.Sender sender;
+
+    @Test
+    public void shouldEnqueue() {
+        when(emailQueueRepository.create(any())).thenAnswer(invocation -> Single.just(invocation.getArguments()[0]));
+
+        EmailQueueDispatcher dispatcher = new EmailQueueDispatcher(emailQueueRepository, DOMAIN, sender);
+        dispatcher.enqueue(email(DOMAIN, 3)).test().assertComplete();
+
+        verify(emailQueueRepository, times(1)).create(argThat(new ArgumentMatcher<QueuedEmail>() {
+            @Override
+            public boolean matches(Object argument) {
+                QueuedEmail email = (QueuedEmail) argument;
+                return email.getAttempts() == 0 && email.getCreatedAt() != null && email.getNextAttemptAt() != null;
+            }
+        }));
+    }
+
+    @Test
+    public void shouldNotDeliver_emptyQueue() throws Exception {
+        when(emailQueueRepository.acquire(eq(Collections.singletonList(DOMAIN)), any())).thenReturn(Maybe.empty());
+
+        EmailQueueDispatcher dispatcher = new EmailQueueDispatcher(emailQueueRepository, DOMAIN, sender);
+
+        assertFalse(dispatcher.deliverNext());
+        verify(sender, never()).send(any());
+    }
+
+    @Test
+    public void shouldDeliver() throws Exception {
+        QueuedEmail email = email(DOMAIN, 1);
+        when(emailQueueRepository.acquire(eq(Collections.singletonList(DOMAIN)), any())).thenReturn(Maybe.just(email));
+        when(emailQueueRepository.delete(email.getId())).thenReturn(Completable.complete());
+
+        EmailQueueDispatcher dispatcher = new EmailQueueDispatcher(emailQueueRepository, DOMAIN, sender);
+
+        assertTrue(dispatcher.deliverNext());
+        verify(sender, times(1)).send(email);
+        verify(emailQueueRepository, times(1)).delete(email.getId());
+        verify(emailQueueRepository, never()).reschedule(anyString(), any());
+    }
+
+    @Test
+    public void shouldReschedule_deliveryError() throws Exception {
+        QueuedEmail email = email(DOMAIN, 2);
+        when(emailQueueRepository.acquire(eq(Collections.singletonList(DOMAIN)), any())).thenReturn(Maybe.just(email));
+        when(emailQueueRepository.reschedule(eq(email.getId()), any())).thenReturn(Completable.complete());
+        doThrow(new IllegalStateException()).when(sender).send(email);
+
+        EmailQueueDispatcher dispatcher = new EmailQueueDispatcher(emailQueueRepository, DOMAIN, sender);
+        dispatcher.setRetryDelay(1000);
+        long now = System.currentTimeMillis();
+
+        assertTrue(dispatcher.deliverNext());
+        // second attempt failed, the next one is delayed twice the retry delay
+        verify(emailQueueRepository, times(1)).reschedule(eq(email.getId()), argThat(new ArgumentMatcher<Date>() {
+            @Override
+            public boolean matches(Object argument) {
+                long delay = ((Date) argument).getTime() - now;
+                return delay >= 2000 && delay < 3000;
+            }
+        }));
+        verify(emailQueueRepository, never()).delete(anyString());
+    }
+
+    @Test
+    public void shouldDiscard_maxAttemptsReached() throws Exception {
+        QueuedEmail email = email(DOMAIN, 3);
+        when(emailQueueRepository.acquire(eq(Collections.singletonList(DOMAIN)), any())).thenReturn(Maybe.just(email));
+        when(emailQueueRepository.delete(email.getId())).thenReturn(Completable.complete());
+        doThrow(new IllegalStateException()).when(sender).send(email);
+
+        EmailQueueDispatcher dispatcher = new EmailQueueDispatcher(emailQueueRepository, DOMAIN, sender);
+        dispatcher.setMaxAttempts(3);
+
+        assertTrue(dispatcher.deliverNext());
+        verify(emailQueueRepository, times(1)).delete(email.getId());
+        verify(emailQueueRepository, never()).reschedule(anyString(), any());
+    }
+
+    @Test
+    public void shouldNotPoll_noDomainRegistered() {
+        EmailQueueDispatcher dispatcher = new EmailQueueDispatcher(emailQueueRepository);
+
+        assertFalse(dispatcher.deliverNext());
+        verify(emailQueueRepository, never()).acquire(any(), any());
+    }
+
+    @Test
+    public void shouldDeliver_severalDomains() throws Exception {
+        EmailQueueDispatcher.Sender otherSender = mock(EmailQueueDispatcher.Sender.class);
+        QueuedEmail email = email("other-domain", 1);
+        when(emailQueueRepository.acquire(argThat(new ArgumentMatcher<Collection<String>>() {
+            @Override
+            public boolean matches(Object argument) {
+                return new HashSet<>((Collection<?>) argument).equals(new HashSet<>(Arrays.asList(DOMAIN, "other-domain")));
+            }
+        }), any())).thenReturn(Maybe.just(email));
+        when(emailQueueRepository.delete(email.getId())).thenReturn(Completable.complete());
+
+        EmailQueueDispatcher dispatcher = new EmailQueueDispatcher(emailQueueRepository);
+        dispatcher.register(DOMAIN, sender);
+        dispatcher.register("other-domain", otherSender);
+
+        // a single poll for both domains, the email is delivered by the sender of its domain
+        assertTrue(dispatcher.deliverNext());
+        verify(emailQueueRepository, times(1)).acquire(any(), any());
+        verify(otherSender, times(1)).send(email);
+        verify(sender, never()).send(any());
+    }
+
+    @Test
+    public void shouldRelease_domainUnregistered() throws Exception {
+        QueuedEmail email = email(DOMAIN, 1);
+        when(emailQueueRepository.reschedule(eq(email.getId()), any())).thenReturn(Completable.complete());
+
+        EmailQueueDispatcher dispatcher = new EmailQueueDispatcher(emailQueueRepository, DOMAIN, sender);
+        // the domain is undeployed while its email is taken from the outbox
+        doAnswer(invocation -> {
+            dispatcher.unregister(DOMAIN);
+            return Maybe.just(email);
+        }).when(emailQueueRepository).acquire(eq(Collections.singletonList(DOMAIN)), any());
+
+        assertTrue(dispatcher.deliverNext());
+        verify(sender, never()).send(any());
+        verify(emailQueueRepository, times(1)).reschedule(eq(email.getId()), any());
+        assertFalse(dispatcher.deliverNext());
+    }
+
+    @Test
+    public void shouldDeliverBurst_boundedWorkers() throws Exception {
+        int emails = 200;
+        Deque<QueuedEmail> queue = new ArrayDeque<>();
+        EmailQueueRepository inMemoryRepository = new EmailQueueRepository() {
+            @Override
+            public Single<QueuedEmail> create(QueuedEmail email) {
+                synchronized (queue) {
+                    queue.add(email);
+                }
+                return Single.just(email);
+            }
+
+            @Override
+            public Maybe<QueuedEmail> acquire(Collection<String> domains, Date leaseUntil) {
+                synchronized (queue) {
+                    QueuedEmail email = queue.poll();
+                    return email == null ? Maybe.empty() : Maybe.just(email);
+                }
+            }
+
+            @Override
+            public Completable reschedule(String id, Date nextAttemptAt) {
+                return Completable.complete();
+            }
+
+            @Override
+            public Completable delete(String id) {
+                return Completable.complete();
+            }
+        };
+
+        CountDownLatch delivered = new CountDownLatch(emails);
+        Set<String> threads = Collections.synchronizedSet(new HashSet<>());
+        EmailQueueDispatcher dispatcher = new EmailQueueDispatcher(inMemoryRepository, DOMAIN, email -> {
+            threads.add(Thread.currentThread().getName());
+            delivered.countDown();
+        });
+        dispatcher.setWorkers(2);
+        dispatcher.start("test-email");
+        try {
+            for (int i = 0; i < emails; i++) {
+                dispatcher.enqueue(email(DOMAIN, 0)).blockingAwait();
+            }
+            assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        } finally {
+            dispatcher.stop();
+        }
+
+        assertTrue(threads.size() <= 2);
+    }
+
+    private QueuedEmail email(String domain, int attempts) {
+        QueuedEmail email = new QueuedEmail();
+        email.setId("email-" + attempts);
+        email.setDomain(domain);
+        email.setAttempts(attempts);
+        return email;
+    }
+}
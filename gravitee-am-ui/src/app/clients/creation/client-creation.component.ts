@@ -26,6 +26,7 @@ import { SnackbarService } from "../../services/snackbar.service";
 export class ClientCreationComponent implements OnInit {
   selectedDomainId: string;
   client: any = {};
+  createdClient: any;
   domains: any[];
 
   constructor(private clientService: ClientService, private router: Router, private route: ActivatedRoute,
@@ -39,8 +40,17 @@ export class ClientCreationComponent implements OnInit {
   create() {
     this.clientService.create(this.selectedDomainId, this.client).map(res => res.json()).subscribe(data => {
       this.snackbarService.open("Client " + data.clientId + " created");
-      this.router.navigate(['/domains', this.selectedDomainId, 'clients', data.id]);
+      // the client secret is only returned by the creation call, keep it on screen until the user moves on
+      this.createdClient = data;
     });
   }
 
+  continue() {
+    this.router.navigate(['/domains', this.selectedDomainId, 'clients', this.createdClient.id]);
+  }
+
+  valueCopied(message: string) {
+    this.snackbarService.open(message);
+  }
+
 }